@@ -0,0 +1,241 @@
+package com.sims.apigateway.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.sims.apigateway.cache.CachedResponse;
+import com.sims.apigateway.cache.ResponseCacheStore;
+import com.sims.apigateway.resilience.BulkheadFilter;
+import com.sims.apigateway.resilience.RouteBulkhead;
+import com.sims.apigateway.security.PublicPathMatcher;
+import com.sims.apigateway.security.service.RateLimiterService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static com.sims.common.constants.AppConstants.*;
+
+/**
+ * Batch Dispatch Service
+ * Sends the GET sub-requests of an already authenticated batch to core-service concurrently
+ * (load-balanced, pooled connections) and collects one result per sub-request, in request order.
+ *
+ * Each sub-request goes through the same limits as a direct call to its route: the caller's rate limit
+ * bucket, the route's response cache (fresh hits only), bulkhead and circuit breaker.
+ *
+ * A failing or rejected sub-request only fails its own item; the batch always completes.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchDispatchService {
+
+    // Read endpoints that may be batched (dashboard widgets), with the route (GatewayConfig) each belongs to
+    private static final List<BatchRoute> ROUTES = List.of(
+            new BatchRoute("products-service", BASE_PRODUCTS_PATH + "/**"),
+            new BatchRoute("inventory-service", BASE_INVENTORY_PATH + "/**"),
+            new BatchRoute("orders-service", BASE_ORDER_MANAGEMENT_PATH + "/**"),
+            new BatchRoute("supplier-service", BASE_SUPPLIERS_PATH + "/**"),
+            new BatchRoute("report-analytics-service", BASE_ANALYTICS_PATH + "/**")
+    );
+
+    private final WebClient.Builder webClientBuilder;
+    private final ObjectMapper objectMapper;
+    private final RateLimiterService rateLimiterService;
+    private final ResponseCacheStore cacheStore;
+    private final BulkheadFilter bulkheadFilter;
+    private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+    private WebClient webClient;
+
+    @Value("${gateway.batch.item-timeout-ms:10000}")
+    private long itemTimeoutMs;
+
+    @Value("${gateway.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${gateway.rate-limit.capacity:100}")
+    private int rateLimitCapacity;
+
+    @Value("${gateway.rate-limit.refill-per-second:20}")
+    private int rateLimitRefillPerSecond;
+
+    @PostConstruct
+    public void init() {
+        this.webClient = webClientBuilder.build();
+    }
+
+    /**
+     * @return null if the path may be batched, otherwise the reason it may not
+     */
+    public String rejectReason(SubRequest subRequest) {
+        if (subRequest.path() == null || !subRequest.path().startsWith("/")) {
+            return "Path must start with '/'";
+        }
+        if (subRequest.method() != null && !"GET".equalsIgnoreCase(subRequest.method())) {
+            return "Only GET sub-requests can be batched";
+        }
+        return routeOf(pathOnly(subRequest.path())) == null
+                ? "Path is not allowed in a batch: " + pathOnly(subRequest.path())
+                : null;
+    }
+
+    public Mono<List<ItemResult>> dispatch(List<SubRequest> subRequests, String authHeader,
+                                           String username, String roles) {
+        return Flux.fromIterable(subRequests)
+                .flatMapSequential(subRequest -> send(subRequest, authHeader, username, roles), subRequests.size())
+                .collectList();
+    }
+
+    private Mono<ItemResult> send(SubRequest subRequest, String authHeader, String username, String roles) {
+        String reason = rejectReason(subRequest);
+        if (reason != null) {
+            return Mono.just(error(subRequest, HttpStatus.BAD_REQUEST, reason, 0));
+        }
+
+        String rawPath = pathOnly(subRequest.path());
+        String routeId = routeOf(rawPath);
+        if (rateLimitEnabled && !rateLimiterService.tryAcquire(routeId, "user:" + username,
+                rateLimitCapacity, rateLimitRefillPerSecond)) {
+            return Mono.just(error(subRequest, HttpStatus.TOO_MANY_REQUESTS, "Too many requests", 0));
+        }
+
+        int query = subRequest.path().indexOf('?');
+        CachedResponse cached = cacheStore.get(ResponseCacheStore.key(routeId, rawPath,
+                query >= 0 ? subRequest.path().substring(query + 1) : null, "roles=" + roles));
+        if (cached != null) {
+            return Mono.just(new ItemResult(subRequest.id(), HttpStatus.OK.value(), toJson(cached.body()), 0));
+        }
+
+        long start = System.nanoTime();
+        Mono<ItemResult> call = Mono.defer(() -> {
+            URI target = UriComponentsBuilder.fromUriString("lb://" + SIMS_CORE_SERVICE + subRequest.path())
+                    .build(true)
+                    .toUri();
+
+            return webClient.get()
+                    .uri(target)
+                    .header(HttpHeaders.AUTHORIZATION, authHeader)
+                    .header(USER_ID_HEADER, username)
+                    .header(USER_ROLES_HEADER, roles)
+                    .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .map(body -> new ItemResult(subRequest.id(), response.statusCode().value(), toJson(body), elapsedMs(start))))
+                    .timeout(Duration.ofMillis(itemTimeoutMs));
+        });
+
+        return withBulkhead(routeId, circuitBreakerFactory.create(routeId).run(call, Mono::error))
+                .onErrorResume(e -> {
+                    HttpStatus status = statusOf(e);
+                    log.warn("[BATCH] Sub-request {} {} failed: {}", subRequest.id(), subRequest.path(), e.getMessage());
+                    return Mono.just(error(subRequest, status, status.getReasonPhrase(), elapsedMs(start)));
+                });
+    }
+
+    private <T> Mono<T> withBulkhead(String routeId, Mono<T> call) {
+        RouteBulkhead bulkhead = bulkheadFilter.bulkhead(routeId);
+        if (bulkhead == null) {
+            return call;
+        }
+        return Mono.usingWhen(
+                bulkhead.acquire().thenReturn(Boolean.TRUE),
+                permit -> call,
+                permit -> Mono.fromRunnable(bulkhead::release));
+    }
+
+    /**
+     * Route of a raw (still encoded) path; the path is decoded and must already be normalized,
+     * so encoded dot segments or separators cannot escape the allowed prefixes
+     *
+     * @return route ID, or null if the path may not be batched
+     */
+    private static String routeOf(String rawPath) {
+        String decoded;
+        try {
+            decoded = UriUtils.decode(rawPath, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (decoded.contains("//") || !StringUtils.cleanPath(decoded).equals(decoded)) {
+            return null;
+        }
+        return ROUTES.stream()
+                .filter(route -> route.matcher().matches(decoded))
+                .map(BatchRoute::id)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static HttpStatus statusOf(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
+        }
+        if (e instanceof RouteBulkhead.BulkheadFullException || e instanceof CallNotPermittedException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return HttpStatus.BAD_GATEWAY;
+    }
+
+    private static ItemResult error(SubRequest subRequest, HttpStatus status, String message, long durationMs) {
+        return new ItemResult(subRequest.id(), status.value(), TextNode.valueOf(message), durationMs);
+    }
+
+    private JsonNode toJson(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            return TextNode.valueOf(new String(body));
+        }
+    }
+
+    private static String pathOnly(String path) {
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    private record BatchRoute(String id, PublicPathMatcher matcher) {
+        BatchRoute(String id, String pattern) {
+            this(id, PublicPathMatcher.compile(List.of(pattern)));
+        }
+    }
+
+    /**
+     * One sub-request (path may include a query string)
+     */
+    public record SubRequest(String id, String method, String path) {}
+
+    /**
+     * Result of one sub-request: downstream status and body
+     */
+    public record ItemResult(String id, int status, JsonNode body, long durationMs) {}
+}
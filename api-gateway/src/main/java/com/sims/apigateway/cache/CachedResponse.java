@@ -0,0 +1,33 @@
+package com.sims.apigateway.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Cached downstream GET response
+ *
+ * @param body        response body
+ * @param contentType content type of the body (may be null)
+ * @param eTag        strong ETag computed from the body
+ * @param storedAt    epoch millis when the response was stored
+ * @param ttlMillis   time to live of this entry
+ * @param staleMillis how long after the TTL the entry may still be served when the service fails
+ */
+public record CachedResponse(byte[] body, MediaType contentType, String eTag, long storedAt, long ttlMillis,
+                             long staleMillis) {
+
+    public boolean isFresh(long nowMillis) {
+        return nowMillis - storedAt < ttlMillis;
+    }
+
+    public boolean isUsableIfError(long nowMillis) {
+        return nowMillis - storedAt < ttlMillis + staleMillis;
+    }
+
+    public long retentionMillis() {
+        return ttlMillis + staleMillis;
+    }
+
+    public long ageSeconds(long nowMillis) {
+        return Math.max(0, (nowMillis - storedAt) / 1000);
+    }
+}
@@ -0,0 +1,336 @@
+package com.sims.apigateway.cache;
+
+import com.sims.apigateway.security.PublicPathMatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.sims.common.constants.AppConstants.USER_ID_HEADER;
+import static com.sims.common.constants.AppConstants.USER_ROLES_HEADER;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Response Cache Filter for API Gateway
+ * Opt-in, per-route cache for GET responses that many users request within seconds
+ *
+ * - Key: route + path + query + roles (or user, when the route varies by user)
+ * - TTL per route, ETag / If-None-Match revalidation (304 without a body)
+ * - Concurrent misses for the same key are collapsed into one downstream call
+ * - Successful writes through the route drop its cached entries, and those of the routes it lists
+ *   (writes through routes without a cache use invalidateOnWrite)
+ * - Only 200 JSON bodies within the entry size limit are cached; larger bodies stream through after
+ *   at most that many bytes were buffered, other content types (e.g. Excel reports) are never buffered
+ * - Optional stale-if-error: when the call fails (circuit open, bulkhead full, timeout), the last good
+ *   response is served with a Warning header. A TTL of 0 keeps entries for this purpose only; such
+ *   routes never collapse concurrent reads, so callers only share a response when the service is failing.
+ * - Excluded paths (e.g. report exports) bypass the cache entirely
+ *
+ * Must run after JwtAuthenticationFilter, which sets the user and role headers.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Slf4j
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String CACHE_HEADER = "X-Cache";
+    private static final Duration COLLAPSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ResponseCacheStore cacheStore;
+    private final MeterRegistry meterRegistry;
+
+    // Key -> leader's pending result; followers wait on it instead of calling downstream
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(ResponseCacheStore cacheStore, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.cacheStore = cacheStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long ttlMillis = Duration.ofSeconds(config.getTtlSeconds()).toMillis();
+        long staleMillis = Duration.ofSeconds(config.getStaleIfErrorSeconds()).toMillis();
+        PublicPathMatcher excludedPaths = PublicPathMatcher.compile(config.getExcludedPaths());
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String routeId = routeId(exchange);
+
+            if (request.getMethod() == HttpMethod.GET && excludedPaths.matches(request.getPath().value())) {
+                return chain.filter(exchange);
+            }
+
+            if (request.getMethod() != HttpMethod.GET) {
+                // Writes through this route make its cached reads stale
+                return chain.filter(exchange)
+                        .doOnSuccess(done -> invalidateIfSuccessful(exchange, routeId, config.getInvalidatesRoutes()));
+            }
+
+            String key = cacheKey(routeId, request, config);
+
+            CachedResponse cached = cacheStore.get(key);
+            if (cached != null) {
+                record(routeId, "hit");
+                return writeCached(exchange, cached, "HIT");
+            }
+
+            Sinks.One<CachedResponse> leader = Sinks.one();
+            Sinks.One<CachedResponse> existing = ttlMillis > 0 ? inFlight.putIfAbsent(key, leader) : null;
+            if (existing != null) {
+                // Another request is already fetching this key
+                record(routeId, "collapsed");
+                return existing.asMono()
+                        .timeout(COLLAPSE_TIMEOUT)
+                        .flatMap(entry -> writeCached(exchange, entry, "HIT"))
+                        .switchIfEmpty(Mono.defer(() -> chain.filter(exchange)))
+                        .onErrorResume(e -> chain.filter(exchange))
+                        .onErrorResume(e -> serveStale(exchange, key, routeId, staleMillis, e));
+            }
+
+            record(routeId, "miss");
+            ServerWebExchange cachingExchange = exchange.mutate()
+                    .response(new CachingResponseDecorator(exchange, key, ttlMillis, staleMillis, leader))
+                    .build();
+
+            return chain.filter(cachingExchange)
+                    .onErrorResume(e -> serveStale(exchange, key, routeId, staleMillis, e))
+                    .doFinally(signal -> {
+                        inFlight.remove(key, leader);
+                        leader.tryEmitEmpty(); // Not cacheable or failed: followers go downstream themselves
+                    });
+        };
+    }
+
+    /**
+     * Filter for routes without a response cache whose writes change data cached by other routes
+     * (e.g. order and inventory writes change the product catalog)
+     */
+    public GatewayFilter invalidateOnWrite(List<String> routeIds) {
+        return (exchange, chain) -> exchange.getRequest().getMethod() == HttpMethod.GET
+                ? chain.filter(exchange)
+                : chain.filter(exchange).doOnSuccess(done -> invalidateIfSuccessful(exchange, null, routeIds));
+    }
+
+    private void invalidateIfSuccessful(ServerWebExchange exchange, String routeId, List<String> otherRouteIds) {
+        HttpStatus status = HttpStatus.resolve(statusCode(exchange.getResponse()));
+        if (status == null || !status.is2xxSuccessful()) {
+            return;
+        }
+        if (routeId != null) {
+            cacheStore.invalidateRoute(routeId);
+        }
+        otherRouteIds.forEach(cacheStore::invalidateRoute);
+    }
+
+    /**
+     * Answer a failed call with the last good response, if it is still within its stale-if-error window
+     */
+    private Mono<Void> serveStale(ServerWebExchange exchange, String key, String routeId, long staleMillis, Throwable error) {
+        CachedResponse stale = staleMillis > 0 ? cacheStore.getStale(key) : null;
+        if (stale == null || exchange.getResponse().isCommitted()) {
+            return Mono.error(error);
+        }
+
+        log.warn("[RESPONSE-CACHE] Serving stale response for {} after error: {}", routeId, error.getMessage());
+        record(routeId, "stale");
+        exchange.getResponse().getHeaders().remove(HttpHeaders.RETRY_AFTER);
+        exchange.getResponse().getHeaders().set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+        return writeCached(exchange, stale, "STALE");
+    }
+
+    /**
+     * Write a cached response, or 304 when the client already has it
+     */
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse entry, String cacheResult) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(entry.eTag());
+        headers.set(CACHE_HEADER, cacheResult);
+        headers.set(HttpHeaders.AGE, String.valueOf(entry.ageSeconds(System.currentTimeMillis())));
+
+        if (matchesIfNoneMatch(exchange.getRequest(), entry.eTag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (entry.contentType() != null) {
+            headers.setContentType(entry.contentType());
+        }
+        headers.setContentLength(entry.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(entry.body())));
+    }
+
+    private String cacheKey(String routeId, ServerHttpRequest request, Config config) {
+        HttpHeaders headers = request.getHeaders();
+        String identity = config.isVaryByUser()
+                ? "user=" + headers.getFirst(USER_ID_HEADER)
+                : "roles=" + headers.getFirst(USER_ROLES_HEADER);
+        return ResponseCacheStore.key(routeId, request.getPath().value(), request.getURI().getRawQuery(), identity);
+    }
+
+    /**
+     * If-None-Match uses weak comparison over a comma separated list of (possibly weak) ETags, or "*"
+     */
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String eTag) {
+        List<String> values = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (values == null) {
+            return false;
+        }
+        ETag current = ETag.create(eTag);
+        return values.stream()
+                .flatMap(value -> ETag.parse(value).stream())
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "default";
+    }
+
+    private static int statusCode(ServerHttpResponse response) {
+        return response.getStatusCode() != null ? response.getStatusCode().value() : 200;
+    }
+
+    private void record(String routeId, String result) {
+        meterRegistry.counter("sims.gateway.response.cache", "route", routeId, "result", result).increment();
+    }
+
+    /**
+     * Captures a cacheable downstream body, stores it and hands it to collapsed followers
+     */
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final long ttlMillis;
+        private final long staleMillis;
+        private final Sinks.One<CachedResponse> leader;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key, long ttlMillis, long staleMillis,
+                                 Sinks.One<CachedResponse> leader) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.ttlMillis = ttlMillis;
+            this.staleMillis = staleMillis;
+            this.leader = leader;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+
+            // Buffer until the body completes or outgrows the entry limit; then stream the rest through
+            long[] buffered = {0};
+            return Flux.<DataBuffer>from(body)
+                    .bufferUntil(buffer -> !cacheStore.fits(buffered[0] += buffer.readableByteCount()))
+                    .switchOnFirst((first, chunks) -> first.hasValue() && cacheStore.fits(buffered[0])
+                            ? store(first.get())
+                            : super.writeWith(chunks.concatMapIterable(buffers -> buffers)))
+                    .then();
+        }
+
+        private Mono<Void> store(List<DataBuffer> buffers) {
+            DataBuffer joined = bufferFactory().join(buffers);
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+
+            String eTag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+            CachedResponse entry = new CachedResponse(bytes, getHeaders().getContentType(), eTag,
+                    System.currentTimeMillis(), ttlMillis, staleMillis);
+            cacheStore.put(key, entry);
+            leader.tryEmitValue(entry);
+
+            getHeaders().setETag(eTag);
+            getHeaders().set(CACHE_HEADER, "MISS");
+
+            if (matchesIfNoneMatch(exchange.getRequest(), eTag)) {
+                getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                return getDelegate().setComplete();
+            }
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            String cacheControl = headers.getCacheControl();
+            MediaType contentType = headers.getContentType();
+            return statusCode(getDelegate()) == HttpStatus.OK.value()
+                    && contentType != null && isJson(contentType)
+                    && cacheStore.fits(Math.max(0, headers.getContentLength()))
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                    && (cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private")));
+        }
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        return MediaType.APPLICATION_JSON.isCompatibleWith(contentType) || contentType.getSubtype().endsWith("+json");
+    }
+
+    /**
+     * Configuration class for per-route cache settings
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * How long a cached response is served without calling the service
+         */
+        private long ttlSeconds = 30;
+
+        /**
+         * Cache per user instead of per role (for responses that depend on the caller)
+         */
+        private boolean varyByUser = false;
+
+        /**
+         * How long past the TTL the last good response may answer failed calls (0 = disabled)
+         */
+        private long staleIfErrorSeconds = 0;
+
+        /**
+         * Other routes whose cached responses a successful write through this route makes stale
+         */
+        private List<String> invalidatesRoutes = List.of();
+
+        /**
+         * GET paths (Ant-style patterns) that are never cached or buffered
+         */
+        private List<String> excludedPaths = List.of();
+    }
+}
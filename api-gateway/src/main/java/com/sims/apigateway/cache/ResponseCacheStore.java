@@ -0,0 +1,98 @@
+package com.sims.apigateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response Cache Store
+ * Byte-bounded in-memory store for gateway GET responses; each entry expires after its own TTL,
+ * but is retained for its stale-if-error window so it can still answer while the service is failing.
+ * Keys start with "routeId|" so a route's entries can be dropped after a write on that route.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Slf4j
+public class ResponseCacheStore {
+
+    // Rough per-entry overhead (key, headers, object headers)
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private Cache<String, CachedResponse> cache;
+
+    @Value("${gateway.response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${gateway.response-cache.max-entry-bytes:1048576}")
+    private int maxEntryBytes;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse value) ->
+                        value.body().length + key.length() * 2 + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(value.retentionMillis());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(value.retentionMillis());
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Cache key of a GET: route + path + query + identity (roles=... or user=...)
+     */
+    public static String key(String routeId, String path, String rawQuery, String identity) {
+        return routeId + "|" + path + (rawQuery != null ? "?" + rawQuery : "") + "|" + identity;
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse entry = cache.getIfPresent(key);
+        return entry != null && entry.isFresh(System.currentTimeMillis()) ? entry : null;
+    }
+
+    /**
+     * Last good response, even past its TTL (stale-if-error)
+     */
+    public CachedResponse getStale(String key) {
+        CachedResponse entry = cache.getIfPresent(key);
+        return entry != null && entry.isUsableIfError(System.currentTimeMillis()) ? entry : null;
+    }
+
+    public void put(String key, CachedResponse entry) {
+        cache.put(key, entry);
+    }
+
+    public boolean fits(long bodyBytes) {
+        return bodyBytes <= maxEntryBytes;
+    }
+
+    /**
+     * Drop all entries of a route (after a successful write through that route)
+     */
+    public void invalidateRoute(String routeId) {
+        String prefix = routeId + "|";
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        log.debug("[RESPONSE-CACHE] Invalidated cached responses for route: {}", routeId);
+    }
+}
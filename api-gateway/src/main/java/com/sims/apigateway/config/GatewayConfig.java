@@ -1,18 +1,25 @@
 package com.sims.apigateway.config;
 
+import com.sims.apigateway.cache.ResponseCacheFilter;
+import com.sims.apigateway.loadbalancer.HedgedRequestFilter;
+import com.sims.apigateway.resilience.BulkheadFilter;
 import com.sims.apigateway.security.filter.JwtAuthenticationFilter;
 import com.sims.common.constants.AppConstants;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 import static com.sims.common.constants.AppConstants.*;
 
 /**
  * Gateway Configuration
  * Applies custom JWT filter to protected routes
+ * Core-service routes get their own bulkhead and circuit breaker, so one slow route cannot starve the others
  *
  * @author LastCoderBoy
  * @since 2025-01-17
@@ -22,6 +29,51 @@ import static com.sims.common.constants.AppConstants.*;
 public class GatewayConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ResponseCacheFilter responseCacheFilter;
+    private final HedgedRequestFilter hedgedRequestFilter;
+    private final BulkheadFilter bulkheadFilter;
+
+    @Value("${gateway.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${gateway.rate-limit.capacity:100}")
+    private int rateLimitCapacity;
+
+    @Value("${gateway.rate-limit.refill-per-second:20}")
+    private int rateLimitRefillPerSecond;
+
+    @Value("${gateway.response-cache.catalog-ttl-seconds:30}")
+    private long catalogCacheTtlSeconds;
+
+    @Value("${gateway.response-cache.analytics-ttl-seconds:60}")
+    private long analyticsCacheTtlSeconds;
+
+    @Value("${gateway.response-cache.stale-if-error-seconds:600}")
+    private long staleIfErrorSeconds;
+
+    @Value("${gateway.response-cache.inventory-stale-if-error-seconds:120}")
+    private long inventoryStaleIfErrorSeconds;
+
+    @Value("${gateway.load-balancer.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    @Value("${gateway.load-balancer.hedging.delay-ms:200}")
+    private long hedgeDelayMs;
+
+    @Value("${gateway.bulkhead.max-concurrent:100}")
+    private int bulkheadMaxConcurrent;
+
+    @Value("${gateway.bulkhead.max-queued:200}")
+    private int bulkheadMaxQueued;
+
+    @Value("${gateway.bulkhead.max-wait-ms:2000}")
+    private long bulkheadMaxWaitMs;
+
+    @Value("${gateway.bulkhead.analytics.max-concurrent:20}")
+    private int analyticsMaxConcurrent;
+
+    @Value("${gateway.bulkhead.analytics.max-queued:40}")
+    private int analyticsMaxQueued;
 
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
@@ -40,7 +92,7 @@ public class GatewayConfig {
                 .route("auth-protected", r -> r
                         .path(BASE_AUTH_PATH + "/**")
                         .filters(f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig())))
                         .uri("lb://" + AUTH_SERVICE))
 
                 // ==========================================
@@ -51,48 +103,70 @@ public class GatewayConfig {
                 .route("products-service", r -> r
                         .path(BASE_PRODUCTS_PATH + "/**")
                         .filters(f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(responseCacheFilter.apply(cacheConfig(catalogCacheTtlSeconds, "inventory-service")))
+                                .filter(bulkheadFilter.apply(bulkheadConfig("products-service")))
+                                .circuitBreaker(c -> c.setName("products-service"))
+                                .filter(hedgedRequestFilter.apply(hedgeConfig())))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
-                // Inventory Management Route
+                // Inventory Management Route (small JSON reads kept for stale-if-error only, reports excluded)
                 .route("inventory-service", r -> r
                         .path(BASE_INVENTORY_PATH + "/**")
                         .filters(f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(responseCacheFilter.apply(inventoryCacheConfig()))
+                                .filter(bulkheadFilter.apply(bulkheadConfig("inventory-service")))
+                                .circuitBreaker(c -> c.setName("inventory-service"))
+                                .filter(hedgedRequestFilter.apply(hedgeConfig())))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
                 // Order Management Route
                 .route("orders-service", r -> r
                         .path( BASE_ORDER_MANAGEMENT_PATH +"/**")
                         .filters(f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(responseCacheFilter.invalidateOnWrite(List.of("products-service", "inventory-service")))
+                                .filter(bulkheadFilter.apply(bulkheadConfig("orders-service")))
+                                .circuitBreaker(c -> c.setName("orders-service")))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
                 // QR Code Module Route
                 .route("qr-code-service", r -> r
                         .path( API_VERSION_V1 + "/sales-orders/qrcode" +"/**")
                         .filters(f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(bulkheadFilter.apply(bulkheadConfig("qr-code-service")))
+                                .circuitBreaker(c -> c.setName("qr-code-service")))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
                 // Admin Management Route
                 .route("admin-service", r -> r
                         .path(BASE_ADMIN_PATH + "/**")
                         .filters( f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(bulkheadFilter.apply(bulkheadConfig("admin-service")))
+                                .circuitBreaker(c -> c.setName("admin-service")))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
                 .route("supplier-service", r -> r
                         .path(BASE_SUPPLIERS_PATH + "/**")
                         .filters( f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(responseCacheFilter.apply(cacheConfig(catalogCacheTtlSeconds)))
+                                .filter(bulkheadFilter.apply(bulkheadConfig("supplier-service")))
+                                .circuitBreaker(c -> c.setName("supplier-service"))
+                                .filter(hedgedRequestFilter.apply(hedgeConfig())))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
-                // Report & Analytics Management Route
+                // Report & Analytics Management Route (smaller bulkhead: heavy queries)
                 .route("report-analytics-service", r -> r
                         .path(BASE_ANALYTICS_PATH + "/**")
                         .filters( f -> f
-                                .filter(jwtAuthenticationFilter.apply(new JwtAuthenticationFilter.Config())))
+                                .filter(jwtAuthenticationFilter.apply(protectedRouteConfig()))
+                                .filter(responseCacheFilter.apply(cacheConfig(analyticsCacheTtlSeconds)))
+                                .filter(bulkheadFilter.apply(analyticsBulkheadConfig()))
+                                .circuitBreaker(c -> c.setName("report-analytics-service")))
                         .uri("lb://" + SIMS_CORE_SERVICE))
 
                 // ==========================================
@@ -104,4 +178,68 @@ public class GatewayConfig {
 
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * JWT filter config for protected routes (per-user rate limit included)
+     */
+    private JwtAuthenticationFilter.Config protectedRouteConfig() {
+        JwtAuthenticationFilter.Config config = new JwtAuthenticationFilter.Config();
+        config.setRateLimitEnabled(rateLimitEnabled);
+        config.setRateLimitCapacity(rateLimitCapacity);
+        config.setRateLimitRefillPerSecond(rateLimitRefillPerSecond);
+        return config;
+    }
+
+    /**
+     * Response cache config for read-heavy routes (runs after the JWT filter)
+     *
+     * @param invalidatesRoutes routes whose cached data a write through this route changes
+     */
+    private ResponseCacheFilter.Config cacheConfig(long ttlSeconds, String... invalidatesRoutes) {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setTtlSeconds(ttlSeconds);
+        config.setStaleIfErrorSeconds(staleIfErrorSeconds);
+        config.setInvalidatesRoutes(List.of(invalidatesRoutes));
+        return config;
+    }
+
+    /**
+     * Inventory levels change quickly: no fresh hits and a short stale-if-error window; report exports
+     * are never buffered
+     */
+    private ResponseCacheFilter.Config inventoryCacheConfig() {
+        ResponseCacheFilter.Config config = cacheConfig(0, "products-service");
+        config.setStaleIfErrorSeconds(inventoryStaleIfErrorSeconds);
+        config.setExcludedPaths(List.of(BASE_INVENTORY_PATH + "/**/report"));
+        return config;
+    }
+
+    /**
+     * Bulkhead config for a core-service route
+     */
+    private BulkheadFilter.Config bulkheadConfig(String routeId) {
+        BulkheadFilter.Config config = new BulkheadFilter.Config();
+        config.setName(routeId);
+        config.setMaxConcurrent(bulkheadMaxConcurrent);
+        config.setMaxQueued(bulkheadMaxQueued);
+        config.setMaxWaitMs(bulkheadMaxWaitMs);
+        return config;
+    }
+
+    private BulkheadFilter.Config analyticsBulkheadConfig() {
+        BulkheadFilter.Config config = bulkheadConfig("report-analytics-service");
+        config.setMaxConcurrent(analyticsMaxConcurrent);
+        config.setMaxQueued(analyticsMaxQueued);
+        return config;
+    }
+
+    /**
+     * Hedging config for idempotent GETs on core-service routes (must be the last route filter)
+     */
+    private HedgedRequestFilter.Config hedgeConfig() {
+        HedgedRequestFilter.Config config = new HedgedRequestFilter.Config();
+        config.setEnabled(hedgingEnabled);
+        config.setHedgeDelayMs(hedgeDelayMs);
+        return config;
+    }
+}
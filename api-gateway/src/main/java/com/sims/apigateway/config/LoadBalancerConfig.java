@@ -0,0 +1,19 @@
+package com.sims.apigateway.config;
+
+import com.sims.apigateway.loadbalancer.LatencyAwareLoadBalancerConfig;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+import static com.sims.common.constants.AppConstants.SIMS_CORE_SERVICE;
+
+/**
+ * Load Balancer Configuration
+ * Core-service instances are chosen by latency and in-flight requests instead of round-robin
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Configuration
+@LoadBalancerClient(name = SIMS_CORE_SERVICE, configuration = LatencyAwareLoadBalancerConfig.class)
+public class LoadBalancerConfig {
+}
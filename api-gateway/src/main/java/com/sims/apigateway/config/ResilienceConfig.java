@@ -0,0 +1,50 @@
+package com.sims.apigateway.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Resilience Configuration
+ * Default circuit breaker for core-service routes (one breaker per route id)
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Value("${gateway.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${gateway.circuit-breaker.open-state-seconds:10}")
+    private long openStateSeconds;
+
+    @Value("${gateway.circuit-breaker.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> defaultCircuitBreakerCustomizer() {
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(50)
+                        .minimumNumberOfCalls(20)
+                        .failureRateThreshold(failureRateThreshold)
+                        .slowCallDurationThreshold(Duration.ofSeconds(timeoutSeconds))
+                        .waitDurationInOpenState(Duration.ofSeconds(openStateSeconds))
+                        .permittedNumberOfCallsInHalfOpenState(5)
+                        .build())
+                // Generous: Excel exports are slow but legitimate
+                .timeLimiterConfig(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofSeconds(timeoutSeconds))
+                        .build())
+                .build());
+    }
+}
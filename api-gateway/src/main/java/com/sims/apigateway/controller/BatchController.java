@@ -0,0 +1,125 @@
+package com.sims.apigateway.controller;
+
+import com.sims.apigateway.batch.BatchDispatchService;
+import com.sims.apigateway.security.JwtTokenProvider;
+import com.sims.apigateway.security.service.RateLimiterService;
+import com.sims.apigateway.security.service.TokenValidationService;
+import com.sims.common.models.ApiResponse;
+import com.sims.common.utils.TokenUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.sims.common.constants.AppConstants.API_VERSION_V1;
+
+/**
+ * Batch Controller
+ * Lets the dashboard fetch many read endpoints in one call: the token is validated once,
+ * sub-requests run concurrently under their routes' limits and the response holds one status/body per sub-request.
+ *
+ * Endpoint: POST /api/v1/batch
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@RestController
+@RequestMapping(API_VERSION_V1 + "/batch")
+@RequiredArgsConstructor
+@Slf4j
+public class BatchController {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenValidationService tokenValidationService;
+    private final RateLimiterService rateLimiterService;
+    private final BatchDispatchService batchDispatchService;
+
+    @Value("${gateway.batch.max-requests:20}")
+    private int maxRequests;
+
+    @Value("${gateway.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${gateway.rate-limit.capacity:100}")
+    private int rateLimitCapacity;
+
+    @Value("${gateway.rate-limit.refill-per-second:20}")
+    private int rateLimitRefillPerSecond;
+
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<BatchResponse>>> batch(@RequestBody BatchRequest batchRequest,
+                                                                  ServerHttpRequest request) {
+        List<BatchDispatchService.SubRequest> subRequests = batchRequest.requests();
+        if (subRequests == null || subRequests.isEmpty()) {
+            return Mono.just(error(HttpStatus.BAD_REQUEST, "Batch must contain at least one request"));
+        }
+        if (subRequests.size() > maxRequests) {
+            return Mono.just(error(HttpStatus.BAD_REQUEST, "Batch cannot contain more than " + maxRequests + " requests"));
+        }
+
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String token;
+        try {
+            token = TokenUtils.extractToken(authHeader);
+        } catch (Exception e) {
+            return Mono.just(error(HttpStatus.UNAUTHORIZED, "Missing or malformed Authorization header"));
+        }
+
+        // One token for the batch itself (checked before any JWT work); each sub-request also takes a token
+        // from the caller's bucket on its own route
+        if (rateLimitEnabled && !rateLimiterService.tryAcquire("batch", rateLimiterService.resolveCallerKey(token, RateLimiterService.clientIp(request)),
+                rateLimitCapacity, rateLimitRefillPerSecond)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error("Too many requests")));
+        }
+
+        if (!jwtTokenProvider.validateToken(token)) {
+            return Mono.just(error(HttpStatus.UNAUTHORIZED, "Invalid or expired token"));
+        }
+
+        long start = System.nanoTime();
+        return tokenValidationService.isTokenValid(token)
+                .flatMap(isValid -> {
+                    if (!isValid) {
+                        return Mono.just(error(HttpStatus.UNAUTHORIZED, "Token has been revoked"));
+                    }
+
+                    String username = jwtTokenProvider.getUsernameFromToken(token);
+                    String roles = String.join(",", jwtTokenProvider.getRolesFromToken(token));
+                    if (rateLimitEnabled) {
+                        rateLimiterService.rememberTokenOwner(token, username);
+                    }
+
+                    return batchDispatchService.dispatch(subRequests, authHeader, username, roles)
+                            .map(results -> {
+                                long durationMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                                log.debug("[BATCH] {} sub-requests for user {} in {} ms", results.size(), username, durationMs);
+                                return ResponseEntity.ok(ApiResponse.success("Batch processed",
+                                        new BatchResponse(results.size(), durationMs, results)));
+                            });
+                });
+    }
+
+    private static ResponseEntity<ApiResponse<BatchResponse>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(ApiResponse.error(message));
+    }
+
+    /**
+     * Request DTO
+     */
+    public record BatchRequest(List<BatchDispatchService.SubRequest> requests) {}
+
+    /**
+     * Response DTO (results are in the same order as the sub-requests)
+     */
+    public record BatchResponse(int count, long durationMs, List<BatchDispatchService.ItemResult> responses) {}
+}
@@ -0,0 +1,142 @@
+package com.sims.apigateway.loadbalancer;
+
+import com.sims.apigateway.security.PublicPathMatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/**
+ * Hedged Request Filter for API Gateway
+ * For idempotent GETs: if the first attempt has not answered within the hedge delay, a second attempt
+ * is sent through the load balancer (which will usually pick another instance) and the first response wins.
+ * The losing attempt is cancelled.
+ *
+ * Responses are buffered, so only enable it on routes that return small JSON bodies (no exports).
+ * Must be the last route filter: it performs the downstream call itself.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+public class HedgedRequestFilter extends AbstractGatewayFilterFactory<HedgedRequestFilter.Config> {
+
+    // Not forwarded as-is: set by the HTTP client per connection
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.HOST.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.CONNECTION.toLowerCase(), "keep-alive");
+
+    private final WebClient.Builder webClientBuilder;
+    private final MeterRegistry meterRegistry;
+
+    public HedgedRequestFilter(WebClient.Builder webClientBuilder, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.webClientBuilder = webClientBuilder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        WebClient webClient = webClientBuilder.build();
+        Duration hedgeDelay = Duration.ofMillis(config.getHedgeDelayMs());
+        PublicPathMatcher excludedPaths = PublicPathMatcher.compile(config.getExcludedPaths());
+
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            if (!config.isEnabled() || route == null || exchange.getRequest().getMethod() != HttpMethod.GET
+                    || excludedPaths.matches(exchange.getRequest().getPath().value())) {
+                return chain.filter(exchange);
+            }
+
+            URI target = downstreamUri(route, exchange.getRequest());
+            Mono<Attempt> primary = send(webClient, target, exchange.getRequest()).map(e -> new Attempt(e, "primary"));
+            Mono<Attempt> hedge = send(webClient, target, exchange.getRequest()).map(e -> new Attempt(e, "hedge"))
+                    .delaySubscription(hedgeDelay);
+
+            setAlreadyRouted(exchange);
+            return Mono.firstWithValue(primary, hedge)
+                    .flatMap(attempt -> {
+                        meterRegistry.counter("sims.gateway.hedge", "route", route.getId(), "winner", attempt.winner())
+                                .increment();
+                        return write(exchange.getResponse(), attempt.entity());
+                    });
+        };
+    }
+
+    private Mono<ResponseEntity<byte[]>> send(WebClient webClient, URI target, ServerHttpRequest request) {
+        return webClient.get()
+                .uri(target)
+                .headers(headers -> request.getHeaders().forEach((name, values) -> {
+                    if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                        headers.addAll(name, values);
+                    }
+                }))
+                .exchangeToMono(response -> response.toEntity(byte[].class));
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, ResponseEntity<byte[]> entity) {
+        response.setStatusCode(entity.getStatusCode());
+        entity.getHeaders().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                response.getHeaders().addAll(name, values);
+            }
+        });
+
+        byte[] body = entity.getBody();
+        if (body == null) {
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static URI downstreamUri(Route route, ServerHttpRequest request) {
+        return UriComponentsBuilder.fromUri(route.getUri())
+                .replacePath(request.getPath().value())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+    }
+
+    private record Attempt(ResponseEntity<byte[]> entity, String winner) {}
+
+    /**
+     * Configuration class for per-route hedging
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        private boolean enabled = false;
+
+        /**
+         * Time to wait for the first attempt before sending the hedge
+         */
+        private long hedgeDelayMs = 200;
+
+        /**
+         * Ant patterns never hedged (large or streamed responses, e.g. Excel reports)
+         */
+        private List<String> excludedPaths = List.of("/**/report");
+    }
+}
@@ -0,0 +1,167 @@
+package com.sims.apigateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.*;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Instance Latency Tracker
+ * Load balancer lifecycle hook that records, per service instance, the number of in-flight requests
+ * and a time-decayed EWMA of response latency. Used by LatencyAwareLoadBalancer to score instances.
+ *
+ * Called for routed gateway requests and for lb:// WebClient calls alike.
+ * Failed requests count with at least the failure penalty, so an erroring instance drains quickly.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Slf4j
+public class InstanceLatencyTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    @Value("${gateway.load-balancer.ewma-decay-ms:10000}")
+    private long decayMs;
+
+    @Value("${gateway.load-balancer.failure-penalty-ms:1000}")
+    private long failurePenaltyMs;
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+        // Nothing to do before an instance is chosen
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext timed) {
+            timed.setRequestStartTime(System.nanoTime());
+        }
+        statsFor(lbResponse.getServer()).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        InstanceStats instance = statsFor(lbResponse.getServer());
+        instance.inFlight.updateAndGet(count -> Math.max(0, count - 1));
+
+        Object context = completionContext.getLoadBalancerRequest() != null
+                ? completionContext.getLoadBalancerRequest().getContext()
+                : null;
+        if (!(context instanceof TimedRequestContext timed) || timed.getRequestStartTime() == 0) {
+            return;
+        }
+
+        double latencyMs = (System.nanoTime() - timed.getRequestStartTime()) / 1_000_000.0;
+        if (isFailure(completionContext)) {
+            latencyMs = Math.max(latencyMs, failurePenaltyMs);
+        }
+        instance.record(latencyMs, decayMs);
+    }
+
+    /**
+     * Lower is better: expected latency weighted by the queue already waiting on the instance
+     */
+    public double score(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        if (instanceStats == null) {
+            return 0; // Unknown instance: probe it
+        }
+        return (instanceStats.ewmaMs + 1) * (instanceStats.inFlight.get() + 1);
+    }
+
+    /**
+     * Current scores per instance (for the actuator endpoint)
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        stats.forEach((key, instanceStats) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("ewmaLatencyMs", Math.round(instanceStats.ewmaMs * 10) / 10.0);
+            values.put("inFlight", instanceStats.inFlight.get());
+            values.put("score", Math.round((instanceStats.ewmaMs + 1) * (instanceStats.inFlight.get() + 1) * 10) / 10.0);
+            values.put("samples", instanceStats.samples);
+            snapshot.put(key, values);
+        });
+        return snapshot;
+    }
+
+    /**
+     * Drop stats of instances that are no longer registered
+     */
+    public void retainInstances(String serviceId, Iterable<ServiceInstance> instances) {
+        String prefix = serviceId + "|";
+        Set<String> live = new HashSet<>();
+        instances.forEach(instance -> live.add(key(instance)));
+        stats.keySet().removeIf(key -> key.startsWith(prefix) && !live.contains(key));
+    }
+
+    private boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        Object clientResponse = completionContext.getClientResponse();
+        return clientResponse instanceof ResponseData response
+                && response.getHttpStatus() != null
+                && response.getHttpStatus().is5xxServerError();
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> new InstanceStats());
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "|" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * Per-instance counters; the EWMA is updated under the object's lock (cheap, uncontended per instance)
+     */
+    private static final class InstanceStats {
+        // Every sample moves the average by at least 10%, even under high request rates
+        private static final double MAX_WEIGHT = 0.9;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double ewmaMs;
+        private volatile long lastUpdateNanos;
+        private volatile long samples;
+
+        private synchronized void record(double latencyMs, long decayMs) {
+            long now = System.nanoTime();
+            if (samples == 0) {
+                ewmaMs = latencyMs;
+            } else {
+                // Time-based decay: older samples weigh less the longer ago they were taken
+                double elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - lastUpdateNanos);
+                double weight = Math.min(MAX_WEIGHT, Math.exp(-elapsedMs / decayMs));
+                ewmaMs = ewmaMs * weight + latencyMs * (1 - weight);
+            }
+            lastUpdateNanos = now;
+            samples++;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sims.apigateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency Aware Load Balancer
+ * Power-of-two-choices: picks two random instances and routes to the one with the lower score
+ * (EWMA latency x in-flight requests, see InstanceLatencyTracker).
+ *
+ * A stuck or slow instance keeps accumulating in-flight requests and latency, so it quickly loses
+ * every comparison, while the random pair avoids the herding of always picking the single best instance.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceLatencyTracker latencyTracker;
+    private final String serviceId;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                    InstanceLatencyTracker latencyTracker, String serviceId) {
+        this.supplierProvider = supplierProvider;
+        this.latencyTracker = latencyTracker;
+        this.serviceId = serviceId;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = chooseInstance(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    private Response<ServiceInstance> chooseInstance(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("[LOAD-BALANCER] No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        latencyTracker.retainInstances(serviceId, instances);
+
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        // Two distinct random candidates
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(latencyTracker.score(a) <= latencyTracker.score(b) ? a : b);
+    }
+}
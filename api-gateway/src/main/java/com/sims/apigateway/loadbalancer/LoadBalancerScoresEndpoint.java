@@ -0,0 +1,28 @@
+package com.sims.apigateway.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing per-instance load balancer scores
+ * Endpoint: GET /actuator/loadbalancer
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Endpoint(id = "loadbalancer")
+@RequiredArgsConstructor
+public class LoadBalancerScoresEndpoint {
+
+    private final InstanceLatencyTracker latencyTracker;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> scores() {
+        return latencyTracker.snapshot();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sims.apigateway.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bulkhead Filter for API Gateway
+ * Gives each route its own concurrency limit with a bounded wait queue, so a storm of slow requests
+ * on one route (e.g. analytics) cannot take all downstream connections from the others (e.g. inventory).
+ *
+ * Rejected calls fail with 503 + Retry-After; GET routes with a stale-if-error cache can still answer them.
+ * Bulkheads are registered by route name so other entry points (batch dispatch) share the same permits.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Slf4j
+public class BulkheadFilter extends AbstractGatewayFilterFactory<BulkheadFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        RouteBulkhead bulkhead = bulkheads.computeIfAbsent(config.getName(), name -> register(config));
+
+        return (exchange, chain) -> Mono.usingWhen(
+                        bulkhead.acquire().thenReturn(Boolean.TRUE),
+                        permit -> chain.filter(exchange),
+                        permit -> Mono.fromRunnable(bulkhead::release))
+                .onErrorMap(RouteBulkhead.BulkheadFullException.class, e -> {
+                    log.warn("[BULKHEAD] Route {} at capacity ({} active, {} queued): {}",
+                            config.getName(), bulkhead.active(), bulkhead.queued(), e.getMessage());
+                    meterRegistry.counter("sims.gateway.bulkhead.rejected", "route", config.getName()).increment();
+                    exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                    return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+                });
+    }
+
+    /**
+     * Bulkhead of a route, or null if the route has none
+     */
+    public RouteBulkhead bulkhead(String routeId) {
+        return bulkheads.get(routeId);
+    }
+
+    private RouteBulkhead register(Config config) {
+        RouteBulkhead bulkhead = new RouteBulkhead(config.getMaxConcurrent(), config.getMaxQueued(),
+                Duration.ofMillis(config.getMaxWaitMs()));
+
+        Gauge.builder("sims.gateway.bulkhead.active", bulkhead, RouteBulkhead::active)
+                .tag("route", config.getName())
+                .register(meterRegistry);
+        Gauge.builder("sims.gateway.bulkhead.queued", bulkhead, RouteBulkhead::queued)
+                .tag("route", config.getName())
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    /**
+     * Configuration class for per-route bulkhead limits
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * Route name (used for metrics and logs)
+         */
+        private String name = "default";
+
+        private int maxConcurrent = 100;
+
+        /**
+         * Callers allowed to wait for a permit; beyond this they are rejected immediately
+         */
+        private int maxQueued = 200;
+
+        private long maxWaitMs = 2000;
+    }
+}
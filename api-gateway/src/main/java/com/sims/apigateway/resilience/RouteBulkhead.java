@@ -0,0 +1,106 @@
+package com.sims.apigateway.resilience;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Route Bulkhead
+ * Caps concurrent downstream calls of one route. Callers beyond the limit wait in a bounded FIFO queue
+ * (without blocking a thread) for at most maxWait; when the queue is full they are rejected immediately.
+ *
+ * A released permit is handed straight to the oldest waiter, so queued callers cannot be overtaken.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public class RouteBulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Duration maxWait;
+
+    private final ArrayDeque<Sinks.Empty<Void>> waiters = new ArrayDeque<>();
+    private int active;
+
+    public RouteBulkhead(int maxConcurrent, int maxQueued, Duration maxWait) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Completes when a permit is held; errors with BulkheadFullException if the queue is full or the wait times out.
+     * Every successful acquire must be paired with release().
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> waiter;
+            synchronized (this) {
+                if (active < maxConcurrent) {
+                    active++;
+                    return Mono.empty();
+                }
+                if (waiters.size() >= maxQueued) {
+                    return Mono.error(new BulkheadFullException("queue full"));
+                }
+                waiter = Sinks.empty();
+                waiters.addLast(waiter);
+            }
+
+            return waiter.asMono()
+                    .timeout(maxWait)
+                    .onErrorMap(TimeoutException.class, e -> {
+                        abandon(waiter);
+                        return new BulkheadFullException("wait timed out");
+                    })
+                    .doOnCancel(() -> abandon(waiter));
+        });
+    }
+
+    public void release() {
+        Sinks.Empty<Void> next;
+        synchronized (this) {
+            next = waiters.pollFirst();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        // Permit passes to the waiter; active stays the same
+        next.tryEmitEmpty();
+    }
+
+    public synchronized int active() {
+        return active;
+    }
+
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    /**
+     * Waiter gave up: leave the queue, or pass on the permit if it was granted concurrently
+     */
+    private void abandon(Sinks.Empty<Void> waiter) {
+        boolean removed;
+        synchronized (this) {
+            removed = waiters.remove(waiter);
+        }
+        if (!removed) {
+            release();
+        }
+    }
+
+    /**
+     * Raised when a call is rejected by the bulkhead
+     */
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException(String reason) {
+            super("Bulkhead rejected call: " + reason);
+        }
+    }
+}
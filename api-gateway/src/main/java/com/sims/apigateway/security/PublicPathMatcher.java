@@ -0,0 +1,207 @@
+package com.sims.apigateway.security;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Public Path Matcher
+ * Compiles Ant-style public path patterns once into a segment trie, so matching a request path
+ * walks the path a single time without tokenizing it or allocating.
+ *
+ * Literal segments, "*" (one segment) and "**" (any number of segments) are compiled into the trie.
+ * Patterns with partial wildcards ("*.json", "?", "{id}") keep AntPathMatcher semantics via a fallback list.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-17
+ */
+public final class PublicPathMatcher {
+
+    private static final String SEPARATOR = "/";
+    private static final AntPathMatcher FALLBACK_MATCHER = new AntPathMatcher();
+
+    private final Node root = new Node(null);
+    private final List<String> fallbackPatterns = new ArrayList<>();
+
+    private PublicPathMatcher() {
+    }
+
+    /**
+     * Compile all given pattern groups into one matcher (null groups are ignored)
+     */
+    @SafeVarargs
+    public static PublicPathMatcher compile(Collection<String>... patternGroups) {
+        PublicPathMatcher matcher = new PublicPathMatcher();
+        for (Collection<String> patterns : patternGroups) {
+            if (patterns == null) {
+                continue;
+            }
+            for (String pattern : patterns) {
+                if (pattern != null && !pattern.isEmpty()) {
+                    matcher.add(pattern);
+                }
+            }
+        }
+        return matcher;
+    }
+
+    public boolean matches(String path) {
+        if (path == null || !path.startsWith(SEPARATOR)) {
+            return matchesFallback(path);
+        }
+        return match(root, path, 0) || matchesFallback(path);
+    }
+
+    private void add(String pattern) {
+        if (!pattern.startsWith(SEPARATOR) || hasPartialWildcard(pattern)) {
+            fallbackPatterns.add(pattern);
+            return;
+        }
+
+        Node node = root;
+        for (String segment : pattern.split(SEPARATOR)) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**")) {
+                node = node.doubleWildcard != null ? node.doubleWildcard : (node.doubleWildcard = new Node(null));
+            } else if (segment.equals("*")) {
+                node = node.wildcard != null ? node.wildcard : (node.wildcard = new Node(null));
+            } else {
+                node = node.literalChild(segment);
+            }
+        }
+
+        if (pattern.endsWith(SEPARATOR)) {
+            node.terminalWithSlash = true;
+        } else {
+            node.terminal = true;
+        }
+    }
+
+    /**
+     * Match path[pos..] against the subtree of node
+     */
+    private static boolean match(Node node, String path, int pos) {
+        int length = path.length();
+
+        // Skip separators (empty segments are ignored, like AntPathMatcher)
+        int start = pos;
+        while (start < length && path.charAt(start) == '/') {
+            start++;
+        }
+
+        if (node.doubleWildcard != null && matchDoubleWildcard(node.doubleWildcard, path, start)) {
+            return true;
+        }
+
+        if (start == length) {
+            boolean trailingSlash = length > 0 && path.charAt(length - 1) == '/';
+            if (trailingSlash) {
+                // AntPathMatcher lets a final "*" match the empty segment after a trailing slash
+                return node.terminalWithSlash || (node.wildcard != null && node.wildcard.terminal);
+            }
+            return node.terminal;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - start;
+
+        Node[] literals = node.literals;
+        for (int i = 0; i < node.literalCount; i++) {
+            Node child = literals[i];
+            if (child.segment.length() == segmentLength && path.regionMatches(start, child.segment, 0, segmentLength)
+                    && match(child, path, end)) {
+                return true;
+            }
+        }
+
+        return node.wildcard != null && match(node.wildcard, path, end);
+    }
+
+    /**
+     * "**" consumes zero or more segments, then the rest of the pattern must match
+     */
+    private static boolean matchDoubleWildcard(Node node, String path, int pos) {
+        if (node.terminal && node.literalCount == 0 && node.wildcard == null && node.doubleWildcard == null) {
+            // Trailing "**" matches any remainder
+            return true;
+        }
+
+        int length = path.length();
+        int segmentStart = pos;
+        while (true) {
+            if (match(node, path, segmentStart)) {
+                return true;
+            }
+            if (segmentStart >= length) {
+                return false;
+            }
+            int next = path.indexOf('/', segmentStart);
+            if (next < 0) {
+                segmentStart = length;
+            } else {
+                segmentStart = next + 1;
+            }
+        }
+    }
+
+    private boolean matchesFallback(String path) {
+        for (String pattern : fallbackPatterns) {
+            if (FALLBACK_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasPartialWildcard(String pattern) {
+        for (String segment : pattern.split(SEPARATOR)) {
+            if (segment.equals("*") || segment.equals("**")) {
+                continue;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Trie node; literal children are kept in a small array and compared in place against the path
+     */
+    private static final class Node {
+        private final String segment;
+        private Node[] literals = new Node[0];
+        private int literalCount;
+        private Node wildcard;
+        private Node doubleWildcard;
+        private boolean terminal;
+        private boolean terminalWithSlash;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node literalChild(String segment) {
+            for (int i = 0; i < literalCount; i++) {
+                if (literals[i].segment.equals(segment)) {
+                    return literals[i];
+                }
+            }
+            if (literalCount == literals.length) {
+                Node[] grown = new Node[Math.max(4, literals.length * 2)];
+                System.arraycopy(literals, 0, grown, 0, literalCount);
+                literals = grown;
+            }
+            Node child = new Node(segment);
+            literals[literalCount++] = child;
+            return child;
+        }
+    }
+}
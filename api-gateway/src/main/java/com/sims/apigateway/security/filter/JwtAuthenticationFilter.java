@@ -1,12 +1,15 @@
 package com.sims.apigateway.security.filter;
 
 import com.sims.apigateway.security.JwtTokenProvider;
+import com.sims.apigateway.security.PublicPathMatcher;
+import com.sims.apigateway.security.service.RateLimiterService;
 import com.sims.apigateway.security.service.TokenValidationService;
 import com.sims.common.utils.TokenUtils;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
@@ -14,8 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -24,8 +25,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.sims.common.constants.AppConstants.BEARER_PREFIX;
+import static com.sims.common.constants.AppConstants.BEARER_PREFIX_LENGTH;
 import static com.sims.common.constants.AppConstants.USER_ID_HEADER;
 import static com.sims.common.constants.AppConstants.USER_ROLES_HEADER;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
 
 /**
  * JWT Authentication Filter for API Gateway
@@ -50,27 +54,38 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             "/actuator/info"
     );
 
-    private final PathMatcher pathMatcher;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenValidationService tokenValidationService;
+    private final RateLimiterService rateLimiterService;
     @Autowired
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenValidationService tokenValidationService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenValidationService tokenValidationService,
+                                   RateLimiterService rateLimiterService) {
         super(Config.class);
         this.tokenValidationService = tokenValidationService;
-        this.pathMatcher = new AntPathMatcher();
+        this.rateLimiterService = rateLimiterService;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
+        // Compiled once per route: global + route-specific public paths
+        PublicPathMatcher publicPathMatcher = PublicPathMatcher.compile(PUBLIC_PATHS, config.getPublicPaths());
+
         return (exchange, chain) -> {
             ServerHttpRequest request = exchange.getRequest();
             String path = request.getPath().toString();
 
             log.debug("[JWT-FILTER] Processing request: {} {}", request.getMethod(), path);
 
+            // Rate limit first, so rejected requests cost no JWT parsing or auth-service calls
+            if (config.isRateLimitEnabled() && !isWithinRateLimit(exchange, config)) {
+                log.warn("[JWT-FILTER] Rate limit exceeded for path: {}", path);
+                exchange.getResponse().getHeaders().add(HttpHeaders.RETRY_AFTER, "1");
+                return onError(exchange, "Too many requests", HttpStatus.TOO_MANY_REQUESTS);
+            }
+
             // Skip authentication for public paths
-            if (isPublicPath(path, config)) {
+            if (publicPathMatcher.matches(path)) {
                 log.debug("[JWT-FILTER] Public path, skipping authentication: {}", path);
                 return chain.filter(exchange);
             }
@@ -106,6 +121,10 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
                             log.debug("[JWT-FILTER] Token validated for user: {} with roles: {}", username, roles);
 
+                            if (config.isRateLimitEnabled()) {
+                                rateLimiterService.rememberTokenOwner(token, username);
+                            }
+
                             // Add user info to request headers for downstream services
                             ServerHttpRequest modifiedRequest = request.mutate()
                                     .header(USER_ID_HEADER, username)
@@ -124,19 +143,23 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
     }
 
     /**
-     * Check if path is public (no authentication required)
+     * Check the caller's token bucket for this route
      */
-    private boolean isPublicPath(String path, Config config) {
-        // Check global public paths
-        boolean isGlobalPublic = PUBLIC_PATHS.stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+    private boolean isWithinRateLimit(ServerWebExchange exchange, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String token = authHeader != null && authHeader.startsWith(BEARER_PREFIX)
+                ? authHeader.substring(BEARER_PREFIX_LENGTH).trim()
+                : null;
 
-        // Check route-specific public paths
-        boolean isRoutePublic = config.getPublicPaths() != null &&
-                config.getPublicPaths().stream()
-                        .anyMatch(pattern -> pathMatcher.match(pattern, path));
+        String clientIp = RateLimiterService.clientIp(request);
 
-        return isGlobalPublic || isRoutePublic;
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "default";
+
+        return rateLimiterService.tryAcquire(routeId, rateLimiterService.resolveCallerKey(token, clientIp),
+                config.getRateLimitCapacity(), config.getRateLimitRefillPerSecond());
     }
 
     /**
@@ -193,5 +216,20 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
          * Custom forbidden message
          */
         private String forbiddenMessage = "Insufficient permissions";
+
+        /**
+         * Enable per-user token bucket rate limiting for this route
+         */
+        private boolean rateLimitEnabled = false;
+
+        /**
+         * Bucket size: requests a caller may burst on this route
+         */
+        private int rateLimitCapacity = 100;
+
+        /**
+         * Sustained requests per second a caller may make on this route
+         */
+        private int rateLimitRefillPerSecond = 20;
     }
 }
@@ -0,0 +1,147 @@
+package com.sims.apigateway.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Service;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate Limiter Service
+ * In-memory token buckets per route and caller, no external store required.
+ *
+ * Buckets live in a size-bounded Caffeine cache and are updated with a single CAS,
+ * so the check is lock-free. Buckets idle for longer than the idle eviction window are dropped;
+ * the window should exceed capacity / refill rate so a dropped bucket would have refilled anyway.
+ *
+ * Callers are identified before any JWT work: by username once their token has been validated,
+ * otherwise by client IP. Unvalidated tokens are never part of the key, so sending a fresh
+ * (forged) token per request does not get a fresh bucket.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+public class RateLimiterService {
+
+    // Bucket state: [40 bits: last refill, ms since start][24 bits: milli-tokens]
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+    public static final int MAX_CAPACITY = (int) (TOKEN_MASK / MILLI);
+
+    private final Ticker ticker;
+    private final long startNanos;
+    private final Cache<String, TokenBucket> buckets;
+    private final Cache<String, String> tokenOwners;
+
+    @Autowired
+    public RateLimiterService(@Value("${gateway.rate-limit.idle-eviction-seconds:300}") long idleEvictionSeconds,
+                              @Value("${gateway.rate-limit.max-buckets:100000}") long maxBuckets) {
+        this(idleEvictionSeconds, maxBuckets, Ticker.systemTicker());
+    }
+
+    public RateLimiterService(long idleEvictionSeconds, long maxBuckets, Ticker ticker) {
+        this.ticker = ticker;
+        this.startNanos = ticker.read();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleEvictionSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxBuckets)
+                .ticker(ticker)
+                .build();
+        // Access tokens live 15 minutes
+        this.tokenOwners = Caffeine.newBuilder()
+                .expireAfterWrite(15, TimeUnit.MINUTES)
+                .maximumSize(10000)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Take one token from the caller's bucket on this route
+     *
+     * @return true if the request may proceed
+     */
+    public boolean tryAcquire(String routeId, String callerKey, int capacity, int refillPerSecond) {
+        TokenBucket bucket = buckets.get(routeId + '|' + callerKey,
+                key -> new TokenBucket(capacity, refillPerSecond, nowMillis()));
+        return bucket.tryAcquire(nowMillis());
+    }
+
+    /**
+     * Resolve the rate limit identity of a request before authentication
+     */
+    public String resolveCallerKey(String token, String clientIp) {
+        String username = token != null ? tokenOwners.getIfPresent(token) : null;
+        return username != null ? "user:" + username : "ip:" + clientIp;
+    }
+
+    /**
+     * Client IP of the request as seen by the gateway
+     */
+    public static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null ? remoteAddress.getHostString() : "unknown";
+    }
+
+    /**
+     * Remember the owner of a validated token so later requests are limited per user
+     */
+    public void rememberTokenOwner(String token, String username) {
+        tokenOwners.put(token, username);
+    }
+
+    /**
+     * Number of live buckets (runs pending evictions first)
+     */
+    public long activeBuckets() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(ticker.read() - startNanos);
+    }
+
+    /**
+     * Lock-free token bucket; tokens are kept in thousandths so slow refill rates stay exact
+     */
+    private static final class TokenBucket {
+        private final long capacityMilli;
+        private final long refillMilliPerMs;
+        private final AtomicLong state;
+
+        private TokenBucket(int capacity, int refillPerSecond, long nowMillis) {
+            this.capacityMilli = Math.min(capacity, MAX_CAPACITY) * MILLI;
+            this.refillMilliPerMs = refillPerSecond; // n tokens/s == n milli-tokens/ms
+            this.state = new AtomicLong(pack(nowMillis, capacityMilli));
+        }
+
+        private boolean tryAcquire(long nowMillis) {
+            while (true) {
+                long current = state.get();
+                long last = current >>> TOKEN_BITS;
+                long tokens = current & TOKEN_MASK;
+
+                long elapsed = Math.max(0, nowMillis - last);
+                long available = Math.min(capacityMilli, tokens + elapsed * refillMilliPerMs);
+                boolean allowed = available >= MILLI;
+                long next = pack(elapsed > 0 ? nowMillis : last, allowed ? available - MILLI : available);
+
+                if (state.compareAndSet(current, next)) {
+                    return allowed;
+                }
+            }
+        }
+
+        private static long pack(long millis, long milliTokens) {
+            return (millis << TOKEN_BITS) | milliTokens;
+        }
+    }
+}
@@ -2,22 +2,31 @@ package com.sims.apigateway.security.service;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sims.common.utils.TokenUtils;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Token Validation Service
  * Only caches VALID tokens (not blacklisted ones)
  *
+ * Cache misses are micro-batched: lookups arriving within a short window are coalesced
+ * (duplicates share one slot) and sent to Auth Service as a single batch of token hashes.
+ *
  * @author LastCoderBoy
  * @since 2025-01-23
  */
@@ -29,9 +38,19 @@ public class TokenValidationService {
     private final WebClient.Builder webClientBuilder;
     private Cache<String, Boolean> tokenCache;
 
+    // token hash -> waiting callers, drained by flush()
+    private final Map<String, Sinks.One<Boolean>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    @Value("${gateway.token-validation.batch-window-ms:2}")
+    private long batchWindowMs;
+
+    @Value("${gateway.token-validation.max-batch-size:256}")
+    private int maxBatchSize;
+
     @PostConstruct
     public void init() {
-        // Cache valid tokens for 30 seconds
+        // Cache valid tokens for 30 seconds (keyed by token hash)
         this.tokenCache = Caffeine.newBuilder()
                 .expireAfterWrite(30, TimeUnit.SECONDS)
                 .maximumSize(10000)
@@ -44,55 +63,102 @@ public class TokenValidationService {
      * Always checks Auth Service for potentially blacklisted tokens
      */
     public Mono<Boolean> isTokenValid(String token) {
+        String tokenHash = TokenUtils.hashToken(token);
+
         // Check cache first
-        Boolean cachedResult = tokenCache.getIfPresent(token);
+        Boolean cachedResult = tokenCache.getIfPresent(tokenHash);
         if (cachedResult != null && cachedResult) { // Only use cache if token was VALID
             log.debug("[TOKEN-VALIDATION] Cache hit: token is valid");
             return Mono.just(true);
         }
 
-        // Not in cache or was invalid → Check Auth Service
-        log.debug("[TOKEN-VALIDATION] Cache miss or invalid token, calling Auth Service");
+        // Not in cache or was invalid → queue for the next batch call to Auth Service
+        log.debug("[TOKEN-VALIDATION] Cache miss or invalid token, queueing for batch validation");
 
-        return webClientBuilder.build()
-                .post()
-                .uri("lb://auth-service/internal/token/validate")
-                .bodyValue(new TokenValidationRequest(token))
-                .retrieve()
-                .bodyToMono(TokenValidationResponse.class)
-                .map(TokenValidationResponse::valid)
-                .timeout(Duration.ofSeconds(2))
-                .retryWhen(Retry.fixedDelay(1, Duration.ofMillis(500)))
-                .doOnNext(isValid -> {
-                    if (isValid) {
-                        tokenCache.put(token, true);
-                        log.debug("[TOKEN-VALIDATION] Token is valid, cached result");
-                    } else {
-                        // Don't cache invalid/blacklisted tokens
-                        tokenCache.invalidate(token); // Remove from cache if present
-                        log.debug("[TOKEN-VALIDATION] Token is invalid/blacklisted, NOT caching");
-                    }
-                })
-                .doOnError(error -> log.error("[TOKEN-VALIDATION] Error: {}", error.getMessage()))
-                .onErrorReturn(false); // Fail-safe: deny if Auth Service unreachable
+        Sinks.One<Boolean> sink = pending.computeIfAbsent(tokenHash, hash -> Sinks.one());
+        scheduleFlush(batchWindowMs);
+        return sink.asMono();
     }
 
     /**
      * Evict token from cache (called when user logs out)
      */
     public void evictToken(String token) {
-        tokenCache.invalidate(token);
+        tokenCache.invalidate(TokenUtils.hashToken(token));
         log.info("[TOKEN-VALIDATION] Token evicted from cache: {}...",
                 token.substring(0, Math.min(20, token.length())));
     }
 
+    private void scheduleFlush(long delayMs) {
+        if (flushScheduled.compareAndSet(false, true)) {
+            Schedulers.parallel().schedule(this::flush, delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Drain pending lookups into batches of at most maxBatchSize and send each as one upstream call
+     */
+    private void flush() {
+        flushScheduled.set(false);
+
+        Map<String, Sinks.One<Boolean>> batch = new LinkedHashMap<>();
+        for (String tokenHash : pending.keySet()) {
+            Sinks.One<Boolean> sink = pending.remove(tokenHash);
+            if (sink != null) {
+                batch.put(tokenHash, sink);
+            }
+            if (batch.size() == maxBatchSize) {
+                validateBatch(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            validateBatch(batch);
+        }
+    }
+
+    private void validateBatch(Map<String, Sinks.One<Boolean>> batch) {
+        List<String> tokenHashes = new ArrayList<>(batch.keySet());
+
+        webClientBuilder.build()
+                .post()
+                .uri("lb://auth-service/internal/token/validate-batch")
+                .bodyValue(new TokenBatchValidationRequest(tokenHashes))
+                .retrieve()
+                .bodyToMono(TokenBatchValidationResponse.class)
+                .timeout(Duration.ofSeconds(2))
+                .retryWhen(Retry.fixedDelay(1, Duration.ofMillis(500)))
+                .subscribe(
+                        response -> {
+                            BitSet valid = BitSet.valueOf(response.validBitmap() != null ? response.validBitmap() : new byte[0]);
+                            for (int i = 0; i < tokenHashes.size(); i++) {
+                                String tokenHash = tokenHashes.get(i);
+                                boolean isValid = valid.get(i);
+                                if (isValid) {
+                                    tokenCache.put(tokenHash, true);
+                                } else {
+                                    // Don't cache invalid/blacklisted tokens
+                                    tokenCache.invalidate(tokenHash);
+                                }
+                                batch.get(tokenHash).tryEmitValue(isValid);
+                            }
+                            log.debug("[TOKEN-VALIDATION] Batch of {} tokens validated, {} valid",
+                                    tokenHashes.size(), valid.cardinality());
+                        },
+                        error -> {
+                            log.error("[TOKEN-VALIDATION] Error: {}", error.getMessage());
+                            // Fail-safe: deny if Auth Service unreachable
+                            batch.values().forEach(sink -> sink.tryEmitValue(false));
+                        });
+    }
+
     /**
      * Request DTO
      */
-    private record TokenValidationRequest(String token) {}
+    private record TokenBatchValidationRequest(List<String> tokenHashes) {}
 
     /**
      * Response DTO
      */
-    private record TokenValidationResponse(boolean valid, String message) {}
-}
\ No newline at end of file
+    private record TokenBatchValidationResponse(int count, byte[] validBitmap) {}
+}
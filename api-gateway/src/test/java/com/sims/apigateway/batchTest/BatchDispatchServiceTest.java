@@ -0,0 +1,159 @@
+package com.sims.apigateway.batchTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sims.apigateway.batch.BatchDispatchService;
+import com.sims.apigateway.batch.BatchDispatchService.ItemResult;
+import com.sims.apigateway.batch.BatchDispatchService.SubRequest;
+import com.sims.apigateway.cache.CachedResponse;
+import com.sims.apigateway.cache.ResponseCacheStore;
+import com.sims.apigateway.resilience.BulkheadFilter;
+import com.sims.apigateway.security.service.RateLimiterService;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BatchDispatchServiceTest {
+
+    private static final String AUTH = "Bearer token";
+    private static final String ROLES = "ROLE_MANAGER";
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private ResponseCacheStore cacheStore;
+    private BulkheadFilter bulkheadFilter;
+    private BatchDispatchService service;
+
+    @BeforeEach
+    void setUp() {
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            downstreamCalls.incrementAndGet();
+            if (request.url().getPath().endsWith("/boom")) {
+                return Mono.error(new IllegalStateException("Connection refused"));
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"path\":\"" + request.url().getPath() + "\"}")
+                    .build());
+        });
+
+        cacheStore = new ResponseCacheStore();
+        ReflectionTestUtils.setField(cacheStore, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(cacheStore, "maxEntryBytes", 100_000);
+        cacheStore.init();
+
+        bulkheadFilter = new BulkheadFilter(new SimpleMeterRegistry());
+
+        service = new BatchDispatchService(webClientBuilder, new ObjectMapper(),
+                new RateLimiterService(300, 1000, Ticker.systemTicker()), cacheStore, bulkheadFilter,
+                new ReactiveResilience4JCircuitBreakerFactory(CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(),
+                        new Resilience4JConfigurationProperties()));
+        ReflectionTestUtils.setField(service, "itemTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(service, "rateLimitEnabled", true);
+        ReflectionTestUtils.setField(service, "rateLimitCapacity", 100);
+        ReflectionTestUtils.setField(service, "rateLimitRefillPerSecond", 1);
+        service.init();
+    }
+
+    private List<ItemResult> dispatch(SubRequest... subRequests) {
+        return service.dispatch(List.of(subRequests), AUTH, "alice", ROLES).block();
+    }
+
+    private static SubRequest get(String id, String path) {
+        return new SubRequest(id, "GET", path);
+    }
+
+    @Test
+    void failingItemsDoNotFailTheBatch() {
+        List<ItemResult> results = dispatch(
+                get("a", "/api/v1/products/PRD001"),
+                get("b", "/api/v1/inventory/boom"),
+                get("c", "/api/v1/products/invalid uri"),
+                get("d", "/api/v1/analytics/dashboard"));
+
+        assertEquals(List.of("a", "b", "c", "d"), results.stream().map(ItemResult::id).toList());
+        assertEquals(200, results.get(0).status());
+        assertEquals("/api/v1/products/PRD001", results.get(0).body().get("path").asText());
+        assertEquals(502, results.get(1).status());
+        assertEquals(400, results.get(2).status());
+        assertEquals(200, results.get(3).status());
+    }
+
+    @Test
+    void rejectsPathsOutsideTheAllowedRoutes() {
+        assertNull(service.rejectReason(get("ok", "/api/v1/products/PRD001?page=0")));
+
+        assertNotNull(service.rejectReason(get("auth", "/api/v1/auth/users")));
+        assertNotNull(service.rejectReason(new SubRequest("post", "POST", "/api/v1/products")));
+        assertNotNull(service.rejectReason(get("dots", "/api/v1/products/../admin/users")));
+        assertNotNull(service.rejectReason(get("encoded-dots", "/api/v1/products/%2e%2e/admin/users")));
+        assertNotNull(service.rejectReason(get("encoded-slash", "/api/v1/products%2f..%2fadmin/users")));
+        assertNotNull(service.rejectReason(get("double-slash", "/api/v1/products//PRD001")));
+        assertNotNull(service.rejectReason(get("bad-escape", "/api/v1/products/%zz")));
+
+        List<ItemResult> results = dispatch(get("encoded-dots", "/api/v1/products/%2e%2e/admin/users"));
+        assertEquals(400, results.get(0).status());
+        assertEquals(0, downstreamCalls.get());
+    }
+
+    @Test
+    void eachItemTakesARouteToken() {
+        ReflectionTestUtils.setField(service, "rateLimitCapacity", 2);
+
+        List<ItemResult> results = dispatch(
+                get("a", "/api/v1/products/PRD001"),
+                get("b", "/api/v1/products/PRD002"),
+                get("c", "/api/v1/products/PRD003"),
+                get("d", "/api/v1/suppliers"));
+
+        assertEquals(List.of(200, 200, 429, 200), results.stream().map(ItemResult::status).toList());
+        assertEquals(3, downstreamCalls.get());
+    }
+
+    @Test
+    void fullBulkheadRejectsItemsOfItsRouteOnly() {
+        BulkheadFilter.Config config = new BulkheadFilter.Config();
+        config.setName("report-analytics-service");
+        config.setMaxConcurrent(0);
+        config.setMaxQueued(0);
+        bulkheadFilter.apply(config);
+
+        List<ItemResult> results = dispatch(
+                get("a", "/api/v1/analytics/dashboard"),
+                get("b", "/api/v1/products/PRD001"));
+
+        assertEquals(503, results.get(0).status());
+        assertEquals(200, results.get(1).status());
+        assertEquals(0, bulkheadFilter.bulkhead("report-analytics-service").active());
+    }
+
+    @Test
+    void freshCachedResponseIsServedWithoutDownstreamCall() {
+        byte[] body = "{\"cached\":true}".getBytes(StandardCharsets.UTF_8);
+        cacheStore.put(ResponseCacheStore.key("products-service", "/api/v1/products", "page=0", "roles=" + ROLES),
+                new CachedResponse(body, MediaType.APPLICATION_JSON, "\"etag\"", System.currentTimeMillis(), 30_000, 0));
+
+        List<ItemResult> results = dispatch(get("a", "/api/v1/products?page=0"));
+
+        assertEquals(200, results.get(0).status());
+        assertEquals(true, results.get(0).body().get("cached").asBoolean());
+        assertEquals(0, downstreamCalls.get());
+    }
+}
@@ -0,0 +1,224 @@
+package com.sims.apigateway.cacheTest;
+
+import com.sims.apigateway.cache.CachedResponse;
+import com.sims.apigateway.cache.ResponseCacheFilter;
+import com.sims.apigateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/api/v1/products/catalog";
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private ResponseCacheStore cacheStore;
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        cacheStore = new ResponseCacheStore();
+        ReflectionTestUtils.setField(cacheStore, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(cacheStore, "maxEntryBytes", 100);
+        cacheStore.init();
+        filter = new ResponseCacheFilter(cacheStore, new SimpleMeterRegistry());
+    }
+
+    private GatewayFilter cachingFilter(String... invalidatesRoutes) {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setTtlSeconds(30);
+        config.setInvalidatesRoutes(List.of(invalidatesRoutes));
+        return filter.apply(config);
+    }
+
+    /**
+     * Downstream that answers with the given content type and body chunks (no Content-Length, like a chunked response)
+     */
+    private GatewayFilterChain downstream(MediaType contentType, String... chunks) {
+        return exchange -> {
+            downstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(contentType);
+            Flux<DataBuffer> body = Flux.fromArray(chunks)
+                    .map(chunk -> exchange.getResponse().bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+            return exchange.getResponse().writeWith(body);
+        };
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request, String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request.header("X-User-Roles", "ROLE_MANAGER"));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri("lb://sims-core-service")
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    private static MockServerWebExchange get(String routeId, String... ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(PATH);
+        if (ifNoneMatch.length > 0) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return exchange(request, routeId);
+    }
+
+    private static CachedResponse entry() {
+        return new CachedResponse("{}".getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON, "\"e\"",
+                System.currentTimeMillis(), 30_000, 0);
+    }
+
+    // ==== CACHING TESTS ====
+
+    @Test
+    void secondReadIsServedFromCache() {
+        GatewayFilter cache = cachingFilter();
+
+        MockServerWebExchange first = get("products-service");
+        cache.filter(first, downstream(MediaType.APPLICATION_JSON, "{\"items\":", "[1,2]}")).block();
+        MockServerWebExchange second = get("products-service");
+        cache.filter(second, downstream(MediaType.APPLICATION_JSON, "{}")).block();
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("{\"items\":[1,2]}", second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void oversizedBodyStreamsThroughWithoutBeingCached() {
+        GatewayFilter cache = cachingFilter();
+        String chunk = "x".repeat(60);
+
+        MockServerWebExchange first = get("products-service");
+        cache.filter(first, downstream(MediaType.APPLICATION_JSON, chunk, chunk, chunk)).block();
+        cache.filter(get("products-service"), downstream(MediaType.APPLICATION_JSON, "{}")).block();
+
+        assertEquals(chunk.repeat(3), first.getResponse().getBodyAsString().block());
+        assertNull(first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void nonJsonResponsesAreNotCached() {
+        GatewayFilter cache = cachingFilter();
+        MediaType excel = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        MockServerWebExchange first = get("products-service");
+        cache.filter(first, downstream(excel, "PK")).block();
+        cache.filter(get("products-service"), downstream(excel, "PK")).block();
+
+        assertEquals("PK", first.getResponse().getBodyAsString().block());
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void excludedPathsBypassTheCache() {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setExcludedPaths(List.of("/api/v1/inventory/**/report"));
+        GatewayFilter cache = filter.apply(config);
+
+        for (int i = 0; i < 2; i++) {
+            MockServerWebExchange report = exchange(MockServerHttpRequest.get("/api/v1/inventory/low-stock/report"), "inventory-service");
+            cache.filter(report, downstream(MediaType.APPLICATION_JSON, "{}")).block();
+            assertNull(report.getResponse().getHeaders().getFirst("X-Cache"));
+        }
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void staleOnlyRouteServesStoredResponseOnlyOnError() {
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setTtlSeconds(0);
+        config.setStaleIfErrorSeconds(120);
+        GatewayFilter cache = filter.apply(config);
+
+        cache.filter(get("inventory-service"), downstream(MediaType.APPLICATION_JSON, "{\"level\":5}")).block();
+        cache.filter(get("inventory-service"), downstream(MediaType.APPLICATION_JSON, "{\"level\":4}")).block();
+        assertEquals(2, downstreamCalls.get());
+
+        MockServerWebExchange failed = get("inventory-service");
+        cache.filter(failed, exchange -> Mono.error(new IllegalStateException("circuit open"))).block();
+
+        assertEquals("STALE", failed.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("{\"level\":4}", failed.getResponse().getBodyAsString().block());
+    }
+
+    // ==== ETAG TESTS ====
+
+    @Test
+    void ifNoneMatchListWithWeakTagReturnsNotModified() {
+        GatewayFilter cache = cachingFilter();
+        MockServerWebExchange first = get("products-service");
+        cache.filter(first, downstream(MediaType.APPLICATION_JSON, "{\"a\":1}")).block();
+        String eTag = first.getResponse().getHeaders().getETag();
+        assertNotNull(eTag);
+
+        MockServerWebExchange revalidation = get("products-service", "\"other\", W/" + eTag);
+        cache.filter(revalidation, downstream(MediaType.APPLICATION_JSON, "{}")).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+    }
+
+    @Test
+    void ifNoneMatchWithoutCurrentTagReturnsBody() {
+        GatewayFilter cache = cachingFilter();
+        cache.filter(get("products-service"), downstream(MediaType.APPLICATION_JSON, "{\"a\":1}")).block();
+
+        MockServerWebExchange revalidation = get("products-service", "\"other\", \"another\"");
+        cache.filter(revalidation, downstream(MediaType.APPLICATION_JSON, "{}")).block();
+
+        assertEquals(HttpStatus.OK, revalidation.getResponse().getStatusCode());
+        assertEquals("{\"a\":1}", revalidation.getResponse().getBodyAsString().block());
+    }
+
+    // ==== INVALIDATION TESTS ====
+
+    @Test
+    void writeDropsOwnAndListedRoutes() {
+        cacheStore.put("products-service|/api/v1/products|roles=ROLE_MANAGER", entry());
+        cacheStore.put("inventory-service|/api/v1/inventory|roles=ROLE_MANAGER", entry());
+        cacheStore.put("supplier-service|/api/v1/suppliers|roles=ROLE_MANAGER", entry());
+
+        MockServerWebExchange write = exchange(MockServerHttpRequest.patch("/api/v1/products/bulk/status"), "products-service");
+        cachingFilter("inventory-service").filter(write, downstream(MediaType.APPLICATION_JSON, "{}")).block();
+
+        assertNull(cacheStore.get("products-service|/api/v1/products|roles=ROLE_MANAGER"));
+        assertNull(cacheStore.get("inventory-service|/api/v1/inventory|roles=ROLE_MANAGER"));
+        assertNotNull(cacheStore.get("supplier-service|/api/v1/suppliers|roles=ROLE_MANAGER"));
+    }
+
+    @Test
+    void writeThroughUncachedRouteDropsListedRoutes() {
+        cacheStore.put("products-service|/api/v1/products|roles=ROLE_MANAGER", entry());
+
+        GatewayFilter invalidation = filter.invalidateOnWrite(List.of("products-service"));
+        invalidation.filter(get("orders-service"), downstream(MediaType.APPLICATION_JSON, "{}")).block();
+        assertNotNull(cacheStore.get("products-service|/api/v1/products|roles=ROLE_MANAGER"));
+
+        MockServerWebExchange write = exchange(MockServerHttpRequest.put("/api/v1/order-management/purchase-orders/1/receive"), "orders-service");
+        invalidation.filter(write, downstream(MediaType.APPLICATION_JSON, "{}")).block();
+        assertNull(cacheStore.get("products-service|/api/v1/products|roles=ROLE_MANAGER"));
+    }
+}
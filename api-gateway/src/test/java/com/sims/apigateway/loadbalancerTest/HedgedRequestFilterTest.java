@@ -0,0 +1,128 @@
+package com.sims.apigateway.loadbalancerTest;
+
+import com.sims.apigateway.loadbalancer.HedgedRequestFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class HedgedRequestFilterTest {
+
+    private static final String ROUTE_ID = "products-service";
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicBoolean primaryCancelled = new AtomicBoolean();
+    private final AtomicInteger chainCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+
+    // Attempt number -> delay before that attempt answers
+    private List<Duration> attemptDelays;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private GatewayFilter hedgingFilter() {
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            int attempt = attempts.getAndIncrement();
+            Mono<ClientResponse> response = Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"attempt\":" + attempt + "}")
+                    .build());
+            return response.delayElement(attemptDelays.get(attempt))
+                    .doOnCancel(() -> {
+                        if (attempt == 0) {
+                            primaryCancelled.set(true);
+                        }
+                    });
+        });
+
+        HedgedRequestFilter.Config config = new HedgedRequestFilter.Config();
+        config.setEnabled(true);
+        config.setHedgeDelayMs(50);
+        return new HedgedRequestFilter(webClientBuilder, meterRegistry).apply(config);
+    }
+
+    private GatewayFilterChain chain() {
+        return exchange -> {
+            chainCalls.incrementAndGet();
+            return Mono.empty();
+        };
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE_ID)
+                .uri("http://sims-core-service:8080")
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    private double winnerCount(String winner) {
+        return meterRegistry.counter("sims.gateway.hedge", "route", ROUTE_ID, "winner", winner).count();
+    }
+
+    // ==== HEDGING TESTS ====
+
+    @Test
+    void hedgeWinsAndSlowPrimaryIsCancelled() {
+        attemptDelays = List.of(Duration.ofSeconds(5), Duration.ZERO);
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/products/PRD001").build());
+
+        hedgingFilter().filter(exchange, chain()).block(Duration.ofSeconds(2));
+
+        assertEquals(2, attempts.get());
+        assertTrue(primaryCancelled.get());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("{\"attempt\":1}", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, winnerCount("hedge"));
+        assertEquals(0, chainCalls.get());
+    }
+
+    @Test
+    void fastPrimaryAnswersWithoutSendingTheHedge() {
+        attemptDelays = List.of(Duration.ZERO, Duration.ZERO);
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/products/PRD001").build());
+
+        hedgingFilter().filter(exchange, chain()).block(Duration.ofSeconds(2));
+
+        assertEquals(1, attempts.get());
+        assertFalse(primaryCancelled.get());
+        assertEquals("{\"attempt\":0}", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, winnerCount("primary"));
+    }
+
+    @Test
+    void nonGetAndExcludedPathsGoThroughTheChain() {
+        attemptDelays = List.of();
+        GatewayFilter filter = hedgingFilter();
+
+        filter.filter(exchange(MockServerHttpRequest.post("/api/v1/products").build()), chain()).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/api/v1/inventory/report").build()), chain()).block();
+
+        assertEquals(2, chainCalls.get());
+        assertEquals(0, attempts.get());
+    }
+}
@@ -0,0 +1,145 @@
+package com.sims.apigateway.loadbalancerTest;
+
+import com.sims.apigateway.loadbalancer.InstanceLatencyTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceLatencyTrackerTest {
+
+    private static final String SERVICE_ID = "sims-core-service";
+
+    private final ServiceInstance instance = instance(SERVICE_ID, 8081);
+    private InstanceLatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InstanceLatencyTracker();
+        ReflectionTestUtils.setField(tracker, "decayMs", 10_000L);
+        ReflectionTestUtils.setField(tracker, "failurePenaltyMs", 1000L);
+    }
+
+    private static ServiceInstance instance(String serviceId, int port) {
+        return new DefaultServiceInstance(serviceId + "-" + port, serviceId, "10.0.0.1", port, false);
+    }
+
+    /**
+     * Run one request through the lifecycle hooks, backdating its start so it took the given latency
+     */
+    private void complete(ServiceInstance target, long latencyMs, CompletionContext.Status status, Object clientResponse) {
+        DefaultRequestContext context = new DefaultRequestContext();
+        Request<Object> request = new DefaultRequest<>(context);
+        Response<ServiceInstance> response = new DefaultResponse(target);
+
+        tracker.onStartRequest(request, response);
+        context.setRequestStartTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(latencyMs));
+        tracker.onComplete(new CompletionContext<>(status, request, response, clientResponse));
+    }
+
+    private double ewma(ServiceInstance target) {
+        Map<String, Object> stats = tracker.snapshot().get(SERVICE_ID + "|10.0.0.1:" + target.getPort());
+        return (double) stats.get("ewmaLatencyMs");
+    }
+
+    // ==== EWMA TESTS ====
+
+    @Test
+    void firstSampleSetsTheAverage() {
+        complete(instance, 100, CompletionContext.Status.SUCCESS, null);
+
+        assertEquals(100, ewma(instance), 5);
+        assertEquals(101, tracker.score(instance), 5);
+    }
+
+    @Test
+    void backToBackSamplesMoveTheAverageByTheMinimumWeight() {
+        complete(instance, 100, CompletionContext.Status.SUCCESS, null);
+        complete(instance, 600, CompletionContext.Status.SUCCESS, null);
+
+        // No time has passed, so the old average keeps its maximum weight of 0.9
+        assertEquals(150, ewma(instance), 5);
+    }
+
+    @Test
+    void oldSamplesDecayOverTime() throws InterruptedException {
+        ReflectionTestUtils.setField(tracker, "decayMs", 5L);
+        complete(instance, 100, CompletionContext.Status.SUCCESS, null);
+        Thread.sleep(100);
+        complete(instance, 600, CompletionContext.Status.SUCCESS, null);
+
+        // After 20 decay periods the old sample is practically gone
+        assertEquals(600, ewma(instance), 5);
+    }
+
+    // ==== FAILURE PENALTY TESTS ====
+
+    @Test
+    void failedRequestCountsAsAtLeastThePenalty() {
+        complete(instance, 10, CompletionContext.Status.FAILED, null);
+
+        assertEquals(1000, ewma(instance), 5);
+    }
+
+    @Test
+    void serverErrorCountsAsAtLeastThePenalty() {
+        ResponseData serverError = new ResponseData(HttpStatus.SERVICE_UNAVAILABLE, new HttpHeaders(),
+                new LinkedMultiValueMap<>(), null);
+        ResponseData ok = new ResponseData(HttpStatus.OK, new HttpHeaders(), new LinkedMultiValueMap<>(), null);
+        ServiceInstance healthy = instance(SERVICE_ID, 8082);
+
+        complete(instance, 10, CompletionContext.Status.SUCCESS, serverError);
+        complete(healthy, 10, CompletionContext.Status.SUCCESS, ok);
+
+        assertEquals(1000, ewma(instance), 5);
+        assertEquals(10, ewma(healthy), 5);
+    }
+
+    @Test
+    void discardedRequestIsIgnored() {
+        complete(instance, 50, CompletionContext.Status.SUCCESS, null);
+        tracker.onComplete(new CompletionContext<>(CompletionContext.Status.DISCARD,
+                new DefaultRequest<>(new DefaultRequestContext()), new DefaultResponse(instance)));
+
+        Map<String, Object> stats = tracker.snapshot().get(SERVICE_ID + "|10.0.0.1:8081");
+        assertEquals(1L, stats.get("samples"));
+        assertEquals(0, stats.get("inFlight"));
+        assertEquals(50, ewma(instance), 5);
+    }
+
+    // ==== PRUNING TESTS ====
+
+    @Test
+    void retainInstancesDropsOnlyDeregisteredInstancesOfTheService() {
+        ServiceInstance removed = instance(SERVICE_ID, 8082);
+        ServiceInstance otherService = instance("auth-service", 8081);
+        complete(instance, 10, CompletionContext.Status.SUCCESS, null);
+        complete(removed, 10, CompletionContext.Status.SUCCESS, null);
+        complete(otherService, 10, CompletionContext.Status.SUCCESS, null);
+
+        tracker.retainInstances(SERVICE_ID, List.of(instance));
+
+        assertEquals(2, tracker.snapshot().size());
+        assertTrue(tracker.snapshot().containsKey(SERVICE_ID + "|10.0.0.1:8081"));
+        assertTrue(tracker.snapshot().containsKey("auth-service|10.0.0.1:8081"));
+        assertEquals(0, tracker.score(removed));
+    }
+}
@@ -0,0 +1,114 @@
+package com.sims.apigateway.loadbalancerTest;
+
+import com.sims.apigateway.loadbalancer.InstanceLatencyTracker;
+import com.sims.apigateway.loadbalancer.LatencyAwareLoadBalancer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "sims-core-service";
+
+    private final ServiceInstance fast = instance(8081);
+    private final ServiceInstance slow = instance(8082);
+    private final ServiceInstance other = instance(8083);
+    private InstanceLatencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InstanceLatencyTracker();
+        ReflectionTestUtils.setField(tracker, "decayMs", 10_000L);
+        ReflectionTestUtils.setField(tracker, "failurePenaltyMs", 1000L);
+    }
+
+    private LatencyAwareLoadBalancer loadBalancer(ServiceInstance... instances) {
+        return new LatencyAwareLoadBalancer(ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances),
+                tracker, SERVICE_ID);
+    }
+
+    private static ServiceInstance instance(int port) {
+        return new DefaultServiceInstance(SERVICE_ID + "-" + port, SERVICE_ID, "10.0.0.1", port, false);
+    }
+
+    private static Request<Object> request() {
+        return new DefaultRequest<>(new DefaultRequestContext());
+    }
+
+    /**
+     * Leave the given number of requests in flight on the instance, raising its score
+     */
+    private void keepBusy(ServiceInstance instance, int inFlight) {
+        for (int i = 0; i < inFlight; i++) {
+            tracker.onStartRequest(request(), new DefaultResponse(instance));
+        }
+    }
+
+    private ServiceInstance choose(LatencyAwareLoadBalancer loadBalancer) {
+        Response<ServiceInstance> response = loadBalancer.choose(request()).block();
+        assertTrue(response.hasServer());
+        return response.getServer();
+    }
+
+    // ==== SELECTION TESTS ====
+
+    @Test
+    void lowerScoreWinsBetweenTwoInstances() {
+        keepBusy(slow, 3);
+        LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+
+        // Both instances are always the candidate pair, so the lower score must win every time
+        for (int i = 0; i < 50; i++) {
+            assertSame(fast, choose(loadBalancer));
+        }
+    }
+
+    @Test
+    void candidatesAreTwoDistinctInstances() {
+        keepBusy(slow, 3);
+        LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow, other);
+
+        // The worst instance could only win if it were compared with itself
+        Set<ServiceInstance> chosen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            ServiceInstance instance = choose(loadBalancer);
+            assertNotEquals(slow, instance);
+            chosen.add(instance);
+        }
+        assertEquals(Set.of(fast, other), chosen);
+    }
+
+    @Test
+    void singleInstanceIsReturnedDirectly() {
+        keepBusy(slow, 5);
+
+        assertSame(slow, choose(loadBalancer(slow)));
+    }
+
+    @Test
+    void noInstancesGiveEmptyResponse() {
+        Response<ServiceInstance> response = loadBalancer().choose(request()).block();
+
+        assertInstanceOf(EmptyResponse.class, response);
+        assertFalse(response.hasServer());
+    }
+}
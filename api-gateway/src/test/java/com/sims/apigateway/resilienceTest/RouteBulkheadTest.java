@@ -0,0 +1,56 @@
+package com.sims.apigateway.resilienceTest;
+
+import com.sims.apigateway.resilience.RouteBulkhead;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteBulkheadTest {
+
+    @Test
+    void queuedCallerGetsReleasedPermit() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 1, Duration.ofSeconds(5));
+        bulkhead.acquire().block();
+
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        Disposable waiter = bulkhead.acquire().subscribe(null, e -> {}, () -> acquired.set(true));
+        assertFalse(acquired.get());
+        assertEquals(1, bulkhead.queued());
+
+        bulkhead.release();
+        assertTrue(acquired.get());
+        assertEquals(1, bulkhead.active());
+        assertEquals(0, bulkhead.queued());
+        waiter.dispose();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 1, Duration.ofSeconds(5));
+        bulkhead.acquire().block();
+        Disposable waiter = bulkhead.acquire().subscribe(null, e -> {});
+
+        assertThrows(RouteBulkhead.BulkheadFullException.class, () -> bulkhead.acquire().block());
+        waiter.dispose();
+    }
+
+    @Test
+    void timedOutWaiterLeavesQueue() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 1, Duration.ofMillis(50));
+        bulkhead.acquire().block();
+
+        assertThrows(RouteBulkhead.BulkheadFullException.class, () -> bulkhead.acquire().block(Duration.ofSeconds(2)));
+        assertEquals(0, bulkhead.queued());
+
+        // Permit goes back to the pool, not to the timed-out caller
+        bulkhead.release();
+        assertEquals(0, bulkhead.active());
+    }
+}
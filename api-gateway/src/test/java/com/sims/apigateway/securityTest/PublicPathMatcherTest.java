@@ -0,0 +1,134 @@
+package com.sims.apigateway.securityTest;
+
+import com.sims.apigateway.security.PublicPathMatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PublicPathMatcherTest {
+
+    private static final List<String> GLOBAL_PATTERNS = List.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/refresh",
+            "/api/v1/internal/**",
+            "/api/v1/email/**",
+            "/actuator/health",
+            "/actuator/info"
+    );
+
+    private static final List<String> ROUTE_PATTERNS = List.of(
+            "/api/v1/products/catalog/**",
+            "/api/v1/products/search",
+            "/api/v1/products/*/image",
+            "/api/v1/docs/**/index.html",
+            "/api/v1/files/*.pdf",
+            "/api/v1/reports/{year}/summary",
+            "/api/v1/public/"
+    );
+
+    private static final List<String> PATHS = List.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/login/",
+            "/api/v1/auth/logout",
+            "/api/v1/internal",
+            "/api/v1/internal/",
+            "/api/v1/internal/cache/evict-token",
+            "/api/v1/email/purchase-order/confirm",
+            "/api/v1/emails",
+            "/actuator/health",
+            "/actuator/health/liveness",
+            "/actuator/infos",
+            "/api/v1/products/catalog",
+            "/api/v1/products/catalog/shoes/42",
+            "/api/v1/products/search",
+            "/api/v1/products/PRD-001/image",
+            "/api/v1/products/PRD-001/image/thumb",
+            "/api/v1/products/image",
+            "/api/v1/docs/index.html",
+            "/api/v1/docs/a/b/c/index.html",
+            "/api/v1/docs/a/b/c/index.htm",
+            "/api/v1/files/report.pdf",
+            "/api/v1/files/report.txt",
+            "/api/v1/reports/2025/summary",
+            "/api/v1/public/",
+            "/api/v1/public",
+            "//api//v1//auth//login",
+            "/api/v1/inventory/low-stock",
+            "/"
+    );
+
+    @Test
+    void testMatchesLikeAntPathMatcher() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        PublicPathMatcher matcher = PublicPathMatcher.compile(GLOBAL_PATTERNS, ROUTE_PATTERNS);
+
+        for (String path : PATHS) {
+            boolean expected = GLOBAL_PATTERNS.stream().anyMatch(p -> antPathMatcher.match(p, path))
+                    || ROUTE_PATTERNS.stream().anyMatch(p -> antPathMatcher.match(p, path));
+            assertEquals(expected, matcher.matches(path), "Mismatch for path " + path);
+        }
+    }
+
+    @Test
+    void testNullRoutePatterns() {
+        PublicPathMatcher matcher = PublicPathMatcher.compile(GLOBAL_PATTERNS, null);
+
+        assertEquals(true, matcher.matches("/api/v1/auth/login"));
+        assertEquals(false, matcher.matches("/api/v1/inventory"));
+    }
+
+    /**
+     * Micro-benchmark against the previous stream + AntPathMatcher implementation.
+     * Run with: mvn -pl api-gateway test -Dtest=PublicPathMatcherTest -Dgateway.benchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "gateway.benchmark", matches = "true")
+    void benchmarkAgainstAntPathMatcher() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+        for (int routePatternCount : new int[]{0, 10, 50}) {
+            List<String> routePatterns = new ArrayList<>(ROUTE_PATTERNS);
+            for (int i = routePatterns.size(); i < routePatternCount; i++) {
+                routePatterns.add("/api/v1/module" + i + "/public/**");
+            }
+            List<String> patterns = routePatternCount == 0 ? List.of() : routePatterns;
+            PublicPathMatcher matcher = PublicPathMatcher.compile(GLOBAL_PATTERNS, patterns);
+
+            int iterations = 200_000;
+            long sink = 0;
+            // Warm up both implementations
+            for (int i = 0; i < iterations; i++) {
+                String path = PATHS.get(i % PATHS.size());
+                sink += matcher.matches(path) ? 1 : 0;
+                sink += antMatch(antPathMatcher, patterns, path) ? 1 : 0;
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += antMatch(antPathMatcher, patterns, PATHS.get(i % PATHS.size())) ? 1 : 0;
+            }
+            long antNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += matcher.matches(PATHS.get(i % PATHS.size())) ? 1 : 0;
+            }
+            long trieNanos = System.nanoTime() - start;
+
+            System.out.printf("patterns=%d  AntPathMatcher: %.1f ns/op  PublicPathMatcher: %.1f ns/op  speedup: %.1fx  (%d)%n",
+                    GLOBAL_PATTERNS.size() + patterns.size(),
+                    (double) antNanos / iterations, (double) trieNanos / iterations,
+                    (double) antNanos / trieNanos, sink);
+        }
+    }
+
+    private static boolean antMatch(AntPathMatcher antPathMatcher, List<String> routePatterns, String path) {
+        return GLOBAL_PATTERNS.stream().anyMatch(p -> antPathMatcher.match(p, path))
+                || routePatterns.stream().anyMatch(p -> antPathMatcher.match(p, path));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sims.apigateway.securityTest;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sims.apigateway.security.service.RateLimiterService;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static int drain(RateLimiterService limiter, String callerKey, int capacity, int refill) {
+        int allowed = 0;
+        while (limiter.tryAcquire("products", callerKey, capacity, refill)) {
+            allowed++;
+        }
+        return allowed;
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        RateLimiterService limiter = new RateLimiterService(300, 1000, ticker);
+
+        assertEquals(5, drain(limiter, "ip:10.0.0.1", 5, 10));
+
+        // 10 tokens/s -> one token every 100 ms
+        advanceMillis(99);
+        assertFalse(limiter.tryAcquire("products", "ip:10.0.0.1", 5, 10));
+        advanceMillis(1);
+        assertTrue(limiter.tryAcquire("products", "ip:10.0.0.1", 5, 10));
+
+        // Never refills beyond capacity
+        advanceMillis(60_000);
+        assertEquals(5, drain(limiter, "ip:10.0.0.1", 5, 10));
+    }
+
+    @Test
+    void callersAndRoutesHaveSeparateBuckets() {
+        RateLimiterService limiter = new RateLimiterService(300, 1000, ticker);
+
+        assertEquals(3, drain(limiter, "user:alice", 3, 1));
+        assertEquals(3, drain(limiter, "user:bob", 3, 1));
+        assertTrue(limiter.tryAcquire("inventory", "user:alice", 3, 1));
+    }
+
+    @Test
+    void unvalidatedTokensAreKeyedByClientIp() {
+        RateLimiterService limiter = new RateLimiterService(300, 1000, ticker);
+
+        // A fresh (forged) token per request must not get a fresh bucket
+        assertEquals("ip:10.0.0.1", limiter.resolveCallerKey("forged-1", "10.0.0.1"));
+        assertEquals("ip:10.0.0.1", limiter.resolveCallerKey("forged-2", "10.0.0.1"));
+        assertEquals("ip:10.0.0.1", limiter.resolveCallerKey(null, "10.0.0.1"));
+
+        limiter.rememberTokenOwner("valid", "alice");
+        assertEquals("user:alice", limiter.resolveCallerKey("valid", "10.0.0.1"));
+        assertEquals("user:alice", limiter.resolveCallerKey("valid", "10.0.0.2"));
+    }
+
+    @Test
+    void idleBucketsExpire() {
+        RateLimiterService limiter = new RateLimiterService(300, 1000, ticker);
+        drain(limiter, "ip:10.0.0.1", 5, 1);
+        assertEquals(1, limiter.activeBuckets());
+
+        advanceMillis(TimeUnit.SECONDS.toMillis(301));
+        assertEquals(0, limiter.activeBuckets());
+    }
+
+    @Test
+    void bucketCountIsBounded() {
+        RateLimiterService limiter = new RateLimiterService(300, 100, ticker);
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("products", "ip:10.0." + (i / 256) + "." + (i % 256), 5, 1);
+        }
+
+        assertTrue(limiter.activeBuckets() <= 100);
+    }
+}
@@ -0,0 +1,174 @@
+package com.sims.apigateway.securityTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sims.apigateway.security.service.TokenValidationService;
+import com.sims.common.utils.TokenUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenValidationServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<List<String>> upstreamBatches = new CopyOnWriteArrayList<>();
+    private final Set<String> blacklistedHashes = Collections.synchronizedSet(new HashSet<>());
+    private volatile boolean authServiceDown;
+    private TokenValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            if (authServiceDown) {
+                return Mono.error(new IllegalStateException("Connection refused"));
+            }
+            assertEquals("/internal/token/validate-batch", request.url().getPath());
+            return readTokenHashes(request).map(this::respond);
+        });
+
+        service = new TokenValidationService(webClientBuilder);
+        ReflectionTestUtils.setField(service, "batchWindowMs", 20L);
+        ReflectionTestUtils.setField(service, "maxBatchSize", 256);
+        service.init();
+    }
+
+    private static Mono<List<String>> readTokenHashes(ClientRequest request) {
+        MockClientHttpRequest httpRequest = new MockClientHttpRequest(HttpMethod.POST, request.url());
+        return request.body().insert(httpRequest, new BodyInserter.Context() {
+                    @Override
+                    public List<HttpMessageWriter<?>> messageWriters() {
+                        return ExchangeStrategies.withDefaults().messageWriters();
+                    }
+
+                    @Override
+                    public Optional<ServerHttpRequest> serverRequest() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Map<String, Object> hints() {
+                        return Map.of();
+                    }
+                })
+                .then(Mono.defer(httpRequest::getBodyAsString))
+                .map(body -> {
+                    try {
+                        List<String> hashes = new ArrayList<>();
+                        MAPPER.readTree(body).get("tokenHashes").forEach(hash -> hashes.add(hash.asText()));
+                        return hashes;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+
+    private ClientResponse respond(List<String> hashes) {
+        upstreamBatches.add(hashes);
+
+        BitSet valid = new BitSet(hashes.size());
+        for (int i = 0; i < hashes.size(); i++) {
+            if (!blacklistedHashes.contains(hashes.get(i))) {
+                valid.set(i);
+            }
+        }
+        String body = "{\"count\":" + hashes.size() + ",\"validBitmap\":\""
+                + Base64.getEncoder().encodeToString(valid.toByteArray()) + "\"}";
+        return ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    @Test
+    void coalescesLookupsWithinWindowIntoOneCall() {
+        blacklistedHashes.add(TokenUtils.hashToken("revoked"));
+
+        Mono<Boolean> first = service.isTokenValid("alice");
+        Mono<Boolean> duplicate = service.isTokenValid("alice");
+        Mono<Boolean> revoked = service.isTokenValid("revoked");
+        Mono<Boolean> other = service.isTokenValid("bob");
+
+        assertTrue(first.block(TIMEOUT));
+        assertTrue(duplicate.block(TIMEOUT));
+        assertFalse(revoked.block(TIMEOUT));
+        assertTrue(other.block(TIMEOUT));
+
+        // Three distinct hashes, one upstream call
+        assertEquals(1, upstreamBatches.size());
+        assertEquals(3, upstreamBatches.get(0).size());
+        assertTrue(upstreamBatches.get(0).contains(TokenUtils.hashToken("alice")));
+    }
+
+    @Test
+    void cachesOnlyValidTokens() {
+        blacklistedHashes.add(TokenUtils.hashToken("revoked"));
+
+        assertTrue(service.isTokenValid("alice").block(TIMEOUT));
+        assertFalse(service.isTokenValid("revoked").block(TIMEOUT));
+        int callsAfterFirstLookups = upstreamBatches.size();
+
+        // Valid token is served from cache, the blacklisted one is checked again
+        assertTrue(service.isTokenValid("alice").block(TIMEOUT));
+        assertFalse(service.isTokenValid("revoked").block(TIMEOUT));
+        assertEquals(callsAfterFirstLookups + 1, upstreamBatches.size());
+        assertEquals(List.of(TokenUtils.hashToken("revoked")), upstreamBatches.get(upstreamBatches.size() - 1));
+    }
+
+    @Test
+    void evictedTokenIsCheckedAgain() {
+        assertTrue(service.isTokenValid("alice").block(TIMEOUT));
+
+        service.evictToken("alice");
+        assertTrue(service.isTokenValid("alice").block(TIMEOUT));
+
+        assertEquals(2, upstreamBatches.size());
+    }
+
+    @Test
+    void splitsLargeBatches() {
+        ReflectionTestUtils.setField(service, "maxBatchSize", 2);
+
+        List<Mono<Boolean>> lookups = List.of(
+                service.isTokenValid("t1"), service.isTokenValid("t2"), service.isTokenValid("t3"),
+                service.isTokenValid("t4"), service.isTokenValid("t5"));
+
+        lookups.forEach(lookup -> assertTrue(lookup.block(TIMEOUT)));
+        assertEquals(3, upstreamBatches.size());
+        assertTrue(upstreamBatches.stream().allMatch(batch -> batch.size() <= 2));
+    }
+
+    @Test
+    void failsClosedWhenAuthServiceIsUnreachable() {
+        authServiceDown = true;
+
+        Mono<Boolean> first = service.isTokenValid("alice");
+        Mono<Boolean> second = service.isTokenValid("bob");
+
+        assertFalse(first.block(TIMEOUT));
+        assertFalse(second.block(TIMEOUT));
+
+        // Denials are not cached, the next lookup goes upstream again
+        authServiceDown = false;
+        assertTrue(service.isTokenValid("alice").block(TIMEOUT));
+        assertEquals(1, upstreamBatches.size());
+    }
+}
@@ -15,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.sims.common.constants.AppConstants.AUTHORIZATION_HEADER;
 import static com.sims.common.constants.AppConstants.BASE_AUTH_PATH;
 
@@ -53,23 +55,23 @@ public class AuthenticationController {
      * @param loginRequest Login credentials (username/email + password)
      * @param response HTTP response (for setting cookie)
      * @param request HTTP request (for IP tracking)
-     * @return TokenResponse with access token
+     * @return TokenResponse with access token (completed off the request thread)
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(
+    public CompletableFuture<ResponseEntity<ApiResponse<TokenResponse>>> login(
             @Valid @RequestBody LoginRequest loginRequest,
             HttpServletResponse response,
             HttpServletRequest request) {
 
         log.info("[AUTH-CONTROLLER] Login attempt for user: {}", loginRequest.getLogin());
 
-        TokenResponse tokenResponse = userService.verify(loginRequest, response, request);
-
-        log.info("[AUTH-CONTROLLER] User '{}' logged in successfully", loginRequest.getLogin());
-
-        return ResponseEntity.ok(
-                ApiResponse.success("User logged in successfully", tokenResponse)
-        );
+        return userService.verify(loginRequest, response, request)
+                .thenApply(tokenResponse -> {
+                    log.info("[AUTH-CONTROLLER] User '{}' logged in successfully", loginRequest.getLogin());
+                    return ResponseEntity.ok(
+                            ApiResponse.success("User logged in successfully", tokenResponse)
+                    );
+                });
     }
 
     /**
@@ -149,20 +151,21 @@ public class AuthenticationController {
      *
      * @param userRequest User data to update
      * @param token Authorization header with access token
-     * @return Success message
+     * @return Success message (completed off the request thread when a password is hashed)
      */
     @PutMapping("/update")
-    public ResponseEntity<ApiResponse<Void>> updateUser(
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> updateUser(
             @RequestBody UpdateUserRequest userRequest,
             @RequestHeader(AUTHORIZATION_HEADER) String token) {
 
         String jwtToken = TokenUtils.extractToken(token);
-        userService.updateUser(userRequest, jwtToken);
-
-        log.info("[AUTH-CONTROLLER] User updated successfully");
 
-        return ResponseEntity.ok(
-                ApiResponse.success("User updated successfully. Please re-login if you updated your password.")
-        );
+        return userService.updateUser(userRequest, jwtToken)
+                .thenApply(ignored -> {
+                    log.info("[AUTH-CONTROLLER] User updated successfully");
+                    return ResponseEntity.ok(
+                            ApiResponse.success("User updated successfully. Please re-login if you updated your password.")
+                    );
+                });
     }
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.sims.authservice.controller;
 
+import com.sims.authservice.dto.TokenBatchValidationRequest;
+import com.sims.authservice.dto.TokenBatchValidationResponse;
 import com.sims.authservice.dto.TokenValidationRequest;
 import com.sims.authservice.dto.TokenValidationResponse;
-import com.sims.authservice.service.impl.JWTService;
+import com.sims.authservice.service.impl.TokenBlacklistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 import static com.sims.common.constants.AppConstants.BASE_AUTH_PATH;
 
 /**
@@ -23,7 +30,9 @@ import static com.sims.common.constants.AppConstants.BASE_AUTH_PATH;
 @Slf4j
 public class TokenValidationController {
 
-    private final JWTService jwtService;
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private final TokenBlacklistService tokenBlacklistService;
 
     /**
      * Validate token (check blacklist)
@@ -35,7 +44,7 @@ public class TokenValidationController {
             String token = request.token();
 
             // Check if token is blacklisted
-            boolean isBlacklisted = jwtService.isTokenBlacklisted(token);
+            boolean isBlacklisted = tokenBlacklistService.isTokenBlacklisted(token);
 
             if (isBlacklisted) {
                 log.debug("[TOKEN-VALIDATION] Token is blacklisted");
@@ -49,4 +58,31 @@ public class TokenValidationController {
             return ResponseEntity.ok(new TokenValidationResponse(false, "Invalid token"));
         }
     }
+
+    /**
+     * Validate a batch of token hashes in one call
+     * Lets the gateway coalesce concurrent validations instead of sending one request per token
+     */
+    @PostMapping("/validate-batch")
+    public ResponseEntity<TokenBatchValidationResponse> validateTokens(@RequestBody TokenBatchValidationRequest request) {
+        List<String> hashes = request.tokenHashes();
+        if (hashes == null || hashes.isEmpty() || hashes.size() > MAX_BATCH_SIZE) {
+            log.warn("[TOKEN-VALIDATION] Rejected batch of {} hashes", hashes == null ? 0 : hashes.size());
+            return ResponseEntity.badRequest().build();
+        }
+
+        Set<String> blacklisted = tokenBlacklistService.findBlacklistedHashes(
+                hashes.stream().filter(Objects::nonNull).distinct().toList());
+
+        BitSet valid = new BitSet(hashes.size());
+        for (int i = 0; i < hashes.size(); i++) {
+            String hash = hashes.get(i);
+            if (hash != null && !blacklisted.contains(hash)) {
+                valid.set(i);
+            }
+        }
+
+        log.debug("[TOKEN-VALIDATION] Validated batch of {} tokens, {} valid", hashes.size(), valid.cardinality());
+        return ResponseEntity.ok(new TokenBatchValidationResponse(hashes.size(), valid.toByteArray()));
+    }
 }
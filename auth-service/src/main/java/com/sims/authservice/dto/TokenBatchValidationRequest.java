@@ -0,0 +1,8 @@
+package com.sims.authservice.dto;
+
+import java.util.List;
+
+/**
+ * SHA-256 hashes of the tokens to check (see TokenUtils.hashToken)
+ */
+public record TokenBatchValidationRequest(List<String> tokenHashes) {}
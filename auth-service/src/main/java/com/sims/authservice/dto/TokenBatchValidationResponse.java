@@ -0,0 +1,6 @@
+package com.sims.authservice.dto;
+
+/**
+ * Bit i of validBitmap (BitSet.toByteArray order, Base64 in JSON) is set when tokenHashes[i] is not blacklisted
+ */
+public record TokenBatchValidationResponse(int count, byte[] validBitmap) {}
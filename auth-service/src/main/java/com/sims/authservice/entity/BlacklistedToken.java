@@ -4,26 +4,41 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 
+/**
+ * Blacklisted access token, keyed by the SHA-256 hash of the JWT.
+ * expiresAt comes from the token's own exp claim; expiryDay buckets rows so cleanup is one range delete.
+ */
 @Data
 @Entity
-@Table(name = "BlacklistedTokens")
+@Table(name = "blacklisted_token_hashes",
+        indexes = {
+                @Index(name = "idx_blacklisted_token_expiry_day", columnList = "expiry_day"),
+                @Index(name = "idx_blacklisted_token_blacklisted_at", columnList = "blacklisted_at")
+        })
 @NoArgsConstructor
 public class BlacklistedToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(name = "token_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
-    @Column(name = "token", unique = true, nullable = false, length = 500)
-    private String token;
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
 
-    @Column(name = "blacklistedAt")
-    private Date blacklistedAt;
+    @Column(name = "expiry_day", nullable = false)
+    private LocalDate expiryDay;
 
-    public BlacklistedToken(String token, Date blacklistedAt) {
-        this.token = token;
+    @Column(name = "blacklisted_at", nullable = false)
+    private Instant blacklistedAt;
+
+    public BlacklistedToken(String tokenHash, Instant expiresAt, Instant blacklistedAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.expiryDay = LocalDate.ofInstant(expiresAt, ZoneOffset.UTC);
         this.blacklistedAt = blacklistedAt;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.sims.authservice.exception.AuthenticationFailedException;
 import com.sims.authservice.exception.JwtAuthenticationException;
 import com.sims.authservice.exception.PasswordValidationException;
 import com.sims.authservice.exception.TokenRefreshException;
+import com.sims.authservice.exception.TooManyRequestsException;
 import com.sims.common.exceptions.InvalidTokenException;
 import com.sims.common.exceptions.ResourceNotFoundException;
 import com.sims.common.exceptions.ServiceException;
@@ -11,6 +12,7 @@ import com.sims.common.exceptions.ValidationException;
 import com.sims.common.models.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -67,6 +69,19 @@ public class AuthExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    /**
+     * Handle load shedding (password hashing queue full)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("[AUTH-SERVICE] Too many requests: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * Handle bad credentials (wrong username/password)
      */
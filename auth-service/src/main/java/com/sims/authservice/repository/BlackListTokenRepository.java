@@ -2,9 +2,28 @@ package com.sims.authservice.repository;
 
 import com.sims.authservice.entity.BlacklistedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
 
 @Repository
-public interface BlackListTokenRepository extends JpaRepository<BlacklistedToken, Long> {
-    boolean existsByToken(String token);
-}
\ No newline at end of file
+public interface BlackListTokenRepository extends JpaRepository<BlacklistedToken, String> {
+
+    List<BlacklistedToken> findAllByExpiresAtAfter(Instant now);
+
+    List<BlacklistedToken> findAllByBlacklistedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    /**
+     * Drop whole day buckets whose tokens have all expired
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BlacklistedToken b WHERE b.expiryDay < :day")
+    int deleteAllByExpiryDayBefore(@Param("day") LocalDate day);
+}
@@ -2,8 +2,10 @@ package com.sims.authservice.security;
 
 import com.sims.authservice.exception.JwtAuthenticationException;
 import com.sims.authservice.service.impl.JWTService;
+import com.sims.authservice.service.impl.TokenBlacklistService;
 import com.sims.authservice.service.impl.UserDetailsServiceImpl;
 import com.sims.common.utils.TokenUtils;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -12,7 +14,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationContext;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -36,7 +37,8 @@ import java.io.IOException;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTService jwtService;
-    private final ApplicationContext context;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -44,19 +46,21 @@ public class JWTFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String authHeader = request.getHeader("Authorization");
-            String token = null;
+            Claims claims = null;
             String userInfo = null;
 
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 try {
-                    token = TokenUtils.extractToken(authHeader);
+                    String token = TokenUtils.extractToken(authHeader);
 
                     // if Token is blacklisted throw exception
-                    if (jwtService.isTokenBlacklisted(token)) {
+                    if (tokenBlacklistService.isTokenBlacklisted(token)) {
                         throw new JwtAuthenticationException("Token has been blacklisted");
                     }
 
-                    userInfo = jwtService.extractUsername(token);
+                    // Parse once; the claims are reused for validation below
+                    claims = jwtService.extractAllClaims(token);
+                    userInfo = claims.getSubject();
 
                 } catch (ExpiredJwtException e) {
                     setErrorMessage(request, "Token has expired");
@@ -74,10 +78,9 @@ public class JWTFilter extends OncePerRequestFilter {
 
             if (userInfo != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 try {
-                    UserDetails userDetails = context.getBean(UserDetailsServiceImpl.class)
-                            .loadUserByUsername(userInfo);
+                    UserDetails userDetails = userDetailsService.loadCachedUserByUsername(userInfo);
 
-                    if (jwtService.validateToken(token, userDetails)) {
+                    if (jwtService.validateClaims(claims, userDetails)) {
                         UsernamePasswordAuthenticationToken authToken =
                                 new UsernamePasswordAuthenticationToken(
                                         userDetails,
@@ -0,0 +1,107 @@
+package com.sims.authservice.security;
+
+import com.sims.authservice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Password Hashing Executor
+ * Runs BCrypt work on a small dedicated pool with a bounded queue, so a login burst
+ * cannot exhaust request threads and starve cheap calls like token validation.
+ * When the queue is full the request is shed with 429 instead of waiting.
+ * Work chained after a hash (token issuance, database writes) continues on a separate
+ * completion pool so BCrypt threads are never held by I/O.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor completionExecutor;
+    private Counter rejectedCounter;
+
+    @Value("${auth.password-hashing.threads:4}")
+    private int threads;
+
+    @Value("${auth.password-hashing.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${auth.password-hashing.completion-threads:8}")
+    private int completionThreads;
+
+    @Value("${auth.password-hashing.completion-queue-capacity:500}")
+    private int completionQueueCapacity;
+
+    @PostConstruct
+    public void init() {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // Overflow runs on the submitting thread, which only degrades to the old single-pool behaviour
+        this.completionExecutor = new ThreadPoolExecutor(completionThreads, completionThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(completionQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-completion");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.rejectedCounter = meterRegistry.counter("sims.auth.password.hashing.rejected");
+        Gauge.builder("sims.auth.password.hashing.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        completionExecutor.shutdown();
+    }
+
+    /**
+     * Queue password work
+     *
+     * @throws TooManyRequestsException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[PASSWORD-HASHING] Queue full ({} waiting), shedding request", executor.getQueue().size());
+            throw new TooManyRequestsException("Too many login attempts in progress. Please retry shortly.");
+        }
+    }
+
+    /**
+     * Executor for stages chained after {@link #submit}, keeps the hashing threads free for BCrypt
+     */
+    public Executor completionExecutor() {
+        return completionExecutor;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+}
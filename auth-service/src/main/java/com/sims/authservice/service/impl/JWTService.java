@@ -1,17 +1,15 @@
 package com.sims.authservice.service.impl;
 
-import com.sims.authservice.repository.BlackListTokenRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
@@ -29,15 +27,23 @@ import static com.sims.common.constants.AppConstants.ACCESS_TOKEN_DURATION_MS;
  * @since 2025-01-20
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JWTService {
 
     @Value("${jwt.secret}")
     private String secretKey;
 
-    private final BlackListTokenRepository blackListTokenRepository;
+    // Decoded once; the parser is immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
 
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
 
     public String generateAccessToken(String username, String role) {
         Map<String, Object> claims = new HashMap<>();
@@ -56,40 +62,11 @@ public class JWTService {
     }
 
 
-    public boolean isTokenBlacklisted(String token) {
-        if (token != null && !token.isEmpty()) {
-            return blackListTokenRepository.existsByToken(token);
-        }
-        return false;
-    }
-
-    /**
-     * Cleanup expired blacklisted tokens
-     * Runs every 2 hours
-     */
-    @Scheduled(fixedRate = 7200000)
-    @Transactional
-    public void cleanBlacklistedTokens() {
-        try {
-            Date currentTime = new Date();
-            Date expirationThreshold = new Date(currentTime.getTime() - (1000 * 60 * 60 * 8));
-
-            blackListTokenRepository.findAll().stream()
-                    .filter(token -> token.getBlacklistedAt().before(expirationThreshold))
-                    .forEach(blackListTokenRepository::delete);
-
-            log.info("[JWT-SERVICE] Cleaned up expired blacklisted tokens");
-        } catch (Exception e) {
-            log.error("[JWT-SERVICE] Error during blacklisted tokens cleanup: {}", e.getMessage());
-        }
-    }
-
     /**
      * Get signing key
      */
     private SecretKey getKey() {
-        byte[] keys = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keys);
+        return signingKey;
     }
 
     public String extractUsername(String token) {
@@ -97,10 +74,12 @@ public class JWTService {
     }
 
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
+    /**
+     * Verify the signature and parse all claims once
+     * Throws ExpiredJwtException / JwtException for expired or malformed tokens
+     */
+    public Claims extractAllClaims(String token) {
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -108,7 +87,7 @@ public class JWTService {
     /**
      * Extract expiration date from token
      */
-    private Date extractExpiration(String token) {
+    public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
 
@@ -131,4 +110,12 @@ public class JWTService {
         final String userName = extractUsername(token);
         return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
-}
\ No newline at end of file
+
+    /**
+     * Validate already parsed claims against user details (no second parse)
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject())
+                && !claims.getExpiration().before(new Date());
+    }
+}
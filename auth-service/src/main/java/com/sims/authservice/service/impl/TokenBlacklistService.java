@@ -0,0 +1,210 @@
+package com.sims.authservice.service.impl;
+
+import com.sims.authservice.entity.BlacklistedToken;
+import com.sims.authservice.repository.BlackListTokenRepository;
+import com.sims.common.utils.TokenUtils;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token Blacklist Service
+ * Keeps an exact in-memory set of blacklisted token hashes in front of the table,
+ * so checking a token is a hash plus a map lookup with no database round trip.
+ * Entries blacklisted by other instances are picked up by a periodic incremental sync.
+ *
+ * A token enters the local set only once its row has committed. Tokens issued within the last sync
+ * window are checked against the table on a local miss, since another instance may have blacklisted
+ * them after the last sync; older tokens accept up to one sync interval of lag across instances.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklistService {
+
+    // Re-read a little before the last sync to catch rows committed late by other instances
+    private static final long SYNC_OVERLAP_MS = 30_000;
+
+    // token hash -> expiry (epoch millis)
+    private final Map<String, Long> blacklistedHashes = new ConcurrentHashMap<>();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    private final JWTService jwtService;
+    private final BlackListTokenRepository blackListTokenRepository;
+
+    @Value("${auth.blacklist.sync-interval-ms:5000}")
+    private long syncIntervalMs;
+
+    @PostConstruct
+    public void init() {
+        Instant now = Instant.now();
+        blackListTokenRepository.findAllByExpiresAtAfter(now).forEach(this::remember);
+        lastSync = now;
+        log.info("[TOKEN-BLACKLIST] Loaded {} blacklisted tokens", blacklistedHashes.size());
+    }
+
+    public boolean isTokenBlacklisted(String token) {
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+        String tokenHash = TokenUtils.hashToken(token);
+        if (isHashBlacklisted(tokenHash)) {
+            return true;
+        }
+        return isRecentlyIssued(token) && isBlacklistedInDatabase(tokenHash);
+    }
+
+    public boolean isHashBlacklisted(String tokenHash) {
+        Long expiresAt = blacklistedHashes.get(tokenHash);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Blacklisted subset of a batch of token hashes.
+     * The gateway sends hashes only, so issue time is unknown here: every local miss is checked
+     * against the table in one query, which also covers tokens blacklisted by other instances since the last sync.
+     */
+    public Set<String> findBlacklistedHashes(Collection<String> tokenHashes) {
+        Set<String> blacklisted = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String tokenHash : tokenHashes) {
+            if (isHashBlacklisted(tokenHash)) {
+                blacklisted.add(tokenHash);
+            } else {
+                misses.add(tokenHash);
+            }
+        }
+        if (misses.isEmpty()) {
+            return blacklisted;
+        }
+
+        Instant now = Instant.now();
+        for (BlacklistedToken entry : blackListTokenRepository.findAllById(misses)) {
+            if (entry.getExpiresAt().isAfter(now)) {
+                remember(entry);
+                blacklisted.add(entry.getTokenHash());
+            }
+        }
+        return blacklisted;
+    }
+
+    /**
+     * Blacklist a token until its own expiry. Already expired tokens are ignored.
+     */
+    @Transactional
+    public void blacklist(String token) {
+        Instant expiresAt;
+        try {
+            expiresAt = jwtService.extractExpiration(token).toInstant();
+        } catch (ExpiredJwtException e) {
+            log.debug("[TOKEN-BLACKLIST] Token already expired, nothing to blacklist");
+            return;
+        }
+
+        BlacklistedToken entry = new BlacklistedToken(TokenUtils.hashToken(token), expiresAt, Instant.now());
+        blackListTokenRepository.save(entry);
+        rememberAfterCommit(entry);
+    }
+
+    /**
+     * Pick up tokens blacklisted by other instances
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.sync-interval-ms:5000}")
+    public void syncBlacklistedTokens() {
+        try {
+            Instant now = Instant.now();
+            List<BlacklistedToken> recent = blackListTokenRepository
+                    .findAllByBlacklistedAtAfterAndExpiresAtAfter(lastSync.minusMillis(SYNC_OVERLAP_MS), now);
+            recent.forEach(this::remember);
+            lastSync = now;
+        } catch (Exception e) {
+            log.error("[TOKEN-BLACKLIST] Error syncing blacklisted tokens: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cleanup expired blacklisted tokens
+     * Runs every 2 hours: one range delete of expired day buckets, then an in-memory sweep
+     */
+    @Scheduled(fixedRate = 7200000)
+    public void cleanBlacklistedTokens() {
+        try {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            int deleted = blackListTokenRepository.deleteAllByExpiryDayBefore(today);
+
+            long now = System.currentTimeMillis();
+            blacklistedHashes.values().removeIf(expiresAt -> expiresAt <= now);
+
+            log.info("[TOKEN-BLACKLIST] Cleaned up {} expired blacklisted tokens", deleted);
+        } catch (Exception e) {
+            log.error("[TOKEN-BLACKLIST] Error during blacklisted tokens cleanup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Issued within the last sync window, so other instances' blacklisting may not be synced yet
+     */
+    private boolean isRecentlyIssued(String token) {
+        try {
+            Date issuedAt = jwtService.extractAllClaims(token).getIssuedAt();
+            return issuedAt != null
+                    && issuedAt.getTime() > System.currentTimeMillis() - syncIntervalMs - SYNC_OVERLAP_MS;
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired or invalid tokens are rejected by validation anyway
+            return false;
+        }
+    }
+
+    private boolean isBlacklistedInDatabase(String tokenHash) {
+        return blackListTokenRepository.findById(tokenHash)
+                .filter(entry -> entry.getExpiresAt().isAfter(Instant.now()))
+                .map(entry -> {
+                    remember(entry);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Add to the local set once the row is committed (immediately without a transaction)
+     */
+    private void rememberAfterCommit(BlacklistedToken entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(entry);
+            }
+        });
+    }
+
+    private void remember(BlacklistedToken entry) {
+        blacklistedHashes.put(entry.getTokenHash(), entry.getExpiresAt().toEpochMilli());
+    }
+}
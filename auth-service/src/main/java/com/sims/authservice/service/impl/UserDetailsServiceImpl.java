@@ -4,24 +4,43 @@ import com.sims.authservice.entity.Users;
 import com.sims.authservice.repository.UserRepository;
 import com.sims.authservice.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * User Details Service Implementation
  * Loads user from database for Spring Security
  *
+ * Token-authenticated requests go through a short-TTL principal cache keyed by username,
+ * so steady-state requests do not query the database. Login always reads the database.
+ *
  * @author LastCoderBoy
  * @since 2025-01-20
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    private final Map<String, CachedPrincipal> principalCache = new ConcurrentHashMap<>();
+
+    @Value("${auth.user-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${auth.user-cache.max-size:10000}")
+    private int maxSize;
+
     @Override
     public UserDetails loadUserByUsername(String login) throws UsernameNotFoundException {
         Users user = userRepository.findByUsernameOrEmail(login)
@@ -29,4 +48,54 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new UserPrincipal(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * Load user for an already authenticated token subject, served from cache while fresh
+     */
+    public UserDetails loadCachedUserByUsername(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principalCache.get(username);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.principal();
+        }
+
+        UserDetails principal = loadUserByUsername(username);
+        if (principalCache.size() >= maxSize) {
+            principalCache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (principalCache.size() >= maxSize) {
+                principalCache.clear();
+            }
+        }
+        principalCache.put(username, new CachedPrincipal(principal, now + ttlSeconds * 1000));
+        return principal;
+    }
+
+    /**
+     * Drop a cached principal after the user's profile, password or role changed.
+     * Inside a transaction the eviction waits for the commit, so a concurrent request cannot re-cache
+     * the old row in between. Only this instance's cache is evicted; others expire theirs by TTL.
+     */
+    public void evictUser(String username) {
+        if (username == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(username);
+            }
+        });
+    }
+
+    private void evictNow(String username) {
+        if (principalCache.remove(username) != null) {
+            log.debug("[USER-DETAILS] Evicted cached principal for user: {}", username);
+        }
+    }
+
+    private record CachedPrincipal(UserDetails principal, long expiresAt) {}
+}
@@ -1,15 +1,14 @@
 package com.sims.authservice.service.impl;
 
 import com.sims.authservice.dto.*;
-import com.sims.authservice.entity.BlacklistedToken;
 import com.sims.authservice.entity.RefreshToken;
 import com.sims.authservice.entity.Users;
 import com.sims.authservice.exception.AuthenticationFailedException;
 import com.sims.authservice.exception.JwtAuthenticationException;
 import com.sims.authservice.exception.PasswordValidationException;
 import com.sims.authservice.exception.TokenRefreshException;
-import com.sims.authservice.repository.BlackListTokenRepository;
 import com.sims.authservice.repository.UserRepository;
+import com.sims.authservice.security.PasswordHashingExecutor;
 import com.sims.authservice.security.UserPrincipal;
 import com.sims.authservice.service.RefreshTokenService;
 import com.sims.common.exceptions.DatabaseException;
@@ -34,11 +33,13 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * User Service - Authentication Business Logic
@@ -62,14 +63,17 @@ public class UserService {
     // Dependencies
     private final AuthenticationManager authManager;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     // Services
     private final JWTService jwtService;
     private final RefreshTokenService refreshTokenService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     // Repositories
-    private final BlackListTokenRepository blackListTokenRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
 
     @Transactional(readOnly = true)
@@ -104,52 +108,66 @@ public class UserService {
 
     /**
      * Login - Authenticate user and generate tokens
+     * Password verification runs on the bounded hashing executor, so the request thread is released
+     * while BCrypt works and a full queue is shed with 429 instead of piling up request threads.
+     * Token issuance hops to the completion pool so the hashing threads never wait on the database.
      */
-    public TokenResponse verify(LoginRequest loginRequest, HttpServletResponse response, HttpServletRequest request) {
-        try {
-            Authentication authentication = authManager
-                    .authenticate(new UsernamePasswordAuthenticationToken(
-                            loginRequest.getLogin(),
-                            loginRequest.getPassword()
-                    ));
-
-            if (authentication.isAuthenticated()) {
-                // Generate Access Token
-                UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-                String username = userPrincipal.getUsername();
-                String role = userPrincipal.getAuthorities().stream()
-                        .findFirst()
-                        .map(GrantedAuthority::getAuthority)
-                        .orElse("ROLE_STAFF");
-
-                String accessToken = jwtService.generateAccessToken(username, role);
-
-                // Generate Refresh Token
-                String userAgent = request.getHeader("User-Agent");
-                String ipAddress = extractClientIp(request);
-                RefreshToken refreshToken = refreshTokenService.createRefreshToken(
-                        username,
-                        ipAddress,
-                        userAgent
-                );
-
-                // Set refresh token in HttpOnly cookie
-                setRefreshTokenCookie(response, refreshToken.getToken());
-
-                log.info("[USER-SERVICE] User '{}' logged in successfully from IP: {}", username, ipAddress);
-                return new TokenResponse(accessToken, "Bearer", 3600L, username, role);
-            }
+    public CompletableFuture<TokenResponse> verify(LoginRequest loginRequest, HttpServletResponse response, HttpServletRequest request) {
+        // Read request data up front, the rest runs on the hashing executor
+        String userAgent = request.getHeader("User-Agent");
+        String ipAddress = extractClientIp(request);
+
+        return passwordHashingExecutor
+                .submit(() -> authManager.authenticate(new UsernamePasswordAuthenticationToken(
+                        loginRequest.getLogin(),
+                        loginRequest.getPassword()
+                )))
+                .thenApplyAsync(authentication -> issueTokens(authentication, response, ipAddress, userAgent),
+                        passwordHashingExecutor.completionExecutor())
+                .exceptionally(e -> {
+                    throw toLoginFailure(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e,
+                            loginRequest.getLogin());
+                });
+    }
 
+    private TokenResponse issueTokens(Authentication authentication, HttpServletResponse response,
+                                      String ipAddress, String userAgent) {
+        if (!authentication.isAuthenticated()) {
             throw new BadCredentialsException("Invalid credentials");
+        }
 
-        } catch (BadCredentialsException e) {
-            log.warn("[USER-SERVICE] Invalid credentials for user: {}", loginRequest.getLogin());
-            throw new AuthenticationFailedException("Invalid credentials");
-        } catch (Exception e) {
-            log.error("[USER-SERVICE] Unexpected authentication error for user: {}. Reason: {}",
-                    loginRequest.getLogin(), e.getMessage(), e);
-            throw new AuthenticationFailedException("Unexpected authentication error");
+        // Generate Access Token
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        String username = userPrincipal.getUsername();
+        String role = userPrincipal.getAuthorities().stream()
+                .findFirst()
+                .map(GrantedAuthority::getAuthority)
+                .orElse("ROLE_STAFF");
+
+        String accessToken = jwtService.generateAccessToken(username, role);
+
+        // Generate Refresh Token
+        RefreshToken refreshToken = refreshTokenService.createRefreshToken(
+                username,
+                ipAddress,
+                userAgent
+        );
+
+        // Set refresh token in HttpOnly cookie
+        setRefreshTokenCookie(response, refreshToken.getToken());
+
+        log.info("[USER-SERVICE] User '{}' logged in successfully from IP: {}", username, ipAddress);
+        return new TokenResponse(accessToken, "Bearer", 3600L, username, role);
+    }
+
+    private RuntimeException toLoginFailure(Throwable e, String login) {
+        if (e instanceof BadCredentialsException) {
+            log.warn("[USER-SERVICE] Invalid credentials for user: {}", login);
+            return new AuthenticationFailedException("Invalid credentials");
         }
+        log.error("[USER-SERVICE] Unexpected authentication error for user: {}. Reason: {}",
+                login, e.getMessage(), e);
+        return new AuthenticationFailedException("Unexpected authentication error");
     }
 
     /**
@@ -218,13 +236,13 @@ public class UserService {
         try {
             String username = jwtService.extractUsername(jwtToken);
 
-            if (jwtService.isTokenBlacklisted(jwtToken)) {
+            if (tokenBlacklistService.isTokenBlacklisted(jwtToken)) {
                 log.warn("[USER-SERVICE] Token already blacklisted");
                 return;
             }
 
             // Blacklist access token
-            blackListTokenRepository.save(new BlacklistedToken(jwtToken, new Date()));
+            tokenBlacklistService.blacklist(jwtToken);
 
             // Notify API Gateway to evict from cache (async, fire-and-forget)
             notifyGatewayToEvictToken(jwtToken);
@@ -263,6 +281,7 @@ public class UserService {
             Users user = refreshToken.getUser();
 
             refreshTokenService.revokeAllUserTokens(user);
+            userDetailsService.evictUser(user.getUsername());
             clearRefreshTokenCookie(response);
 
             log.info("[USER-SERVICE] User '{}' logged out from all devices", user.getUsername());
@@ -280,49 +299,65 @@ public class UserService {
 
     /**
      * Update User - Update newUserInfo profile
-     * If password is updated, access token is blacklisted (re-login required)
+     * If password is updated, access token is blacklisted (re-login required).
+     * A new password is hashed on the hashing executor before the transaction starts,
+     * so neither a request thread nor a database connection waits on BCrypt.
      */
-    @Transactional
-    public void updateUser(UpdateUserRequest userRequest, String currentAccessToken) {
+    public CompletableFuture<Void> updateUser(UpdateUserRequest userRequest, String currentAccessToken) {
         if (currentAccessToken == null || currentAccessToken.isEmpty()) {
             throw new InvalidTokenException("Invalid token provided");
         }
 
+        String username;
         try {
-            String username = jwtService.extractUsername(currentAccessToken);
-            if (username == null) {
-                throw new InvalidTokenException("Could not extract username from token");
-            }
-
-            Users currentUser = userRepository.findByUsernameOrEmail(username)
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-            updateUserFields(currentUser, userRequest, currentAccessToken);
-            userRepository.save(currentUser);
-
-            log.info("[USER-SERVICE] User '{}' updated successfully", username);
-
+            username = jwtService.extractUsername(currentAccessToken);
         } catch (ExpiredJwtException e) {
             throw new InvalidTokenException("Token is expired");
         } catch (JwtException e) {
             throw new InvalidTokenException("Invalid token format");
         }
+        if (username == null) {
+            throw new InvalidTokenException("Could not extract username from token");
+        }
+
+        String newPassword = userRequest.getPassword();
+        if (newPassword == null) {
+            applyUserUpdate(username, userRequest, null, currentAccessToken);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (!isValidPassword(newPassword)) {
+            log.warn("[USER-SERVICE] Invalid password format");
+            throw new PasswordValidationException(
+                    "Password must contain at least 8 characters, including 1 uppercase, " +
+                            "1 lowercase, 1 number and 1 special character (@#$%^&*()-_+)."
+            );
+        }
+
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(newPassword))
+                .thenAcceptAsync(encodedPassword -> applyUserUpdate(username, userRequest, encodedPassword, currentAccessToken),
+                        passwordHashingExecutor.completionExecutor());
     }
 
-    private void updateUserFields(Users currentUser, UpdateUserRequest userRequest, String currentAccessToken) {
-        if (userRequest.getPassword() != null) {
-            String newPassword = userRequest.getPassword();
+    private void applyUserUpdate(String username, UpdateUserRequest userRequest,
+                                 @Nullable String encodedPassword, String currentAccessToken) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Users currentUser = userRepository.findByUsernameOrEmail(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+            updateUserFields(currentUser, userRequest, encodedPassword, currentAccessToken);
+            userRepository.save(currentUser);
+            userDetailsService.evictUser(currentUser.getUsername());
+        });
 
-            if (!isValidPassword(newPassword)) {
-                log.warn("[USER-SERVICE] Invalid password format");
-                throw new PasswordValidationException(
-                        "Password must contain at least 8 characters, including 1 uppercase, " +
-                                "1 lowercase, 1 number and 1 special character (@#$%^&*()-_+)."
-                );
-            }
+        log.info("[USER-SERVICE] User '{}' updated successfully", username);
+    }
 
-            currentUser.setPassword(passwordEncoder.encode(newPassword));
-            blackListTokenRepository.save(new BlacklistedToken(currentAccessToken, new Date()));
+    private void updateUserFields(Users currentUser, UpdateUserRequest userRequest,
+                                  @Nullable String encodedPassword, String currentAccessToken) {
+        if (encodedPassword != null) {
+            currentUser.setPassword(encodedPassword);
+            tokenBlacklistService.blacklist(currentAccessToken);
 
             log.info("[USER-SERVICE] User '{}' password updated. Token invalidated.", currentUser.getUsername());
         }
@@ -0,0 +1,105 @@
+package com.sims.authservice.controller;
+
+import com.sims.authservice.dto.TokenBatchValidationRequest;
+import com.sims.authservice.dto.TokenBatchValidationResponse;
+import com.sims.authservice.service.impl.TokenBlacklistService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Token Validation Controller Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Validation Controller Tests")
+class TokenValidationControllerTest {
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @InjectMocks
+    private TokenValidationController controller;
+
+    // ==== BATCH VALIDATION TESTS ====
+
+    @Test
+    @DisplayName("Bit i is set only when hash i is not blacklisted")
+    void bitmapFollowsRequestOrder() {
+        // Arrange
+        when(tokenBlacklistService.findBlacklistedHashes(anyCollection())).thenReturn(Set.of("hash-1"));
+
+        // Act
+        ResponseEntity<TokenBatchValidationResponse> response = controller.validateTokens(
+                new TokenBatchValidationRequest(Arrays.asList("hash-0", "hash-1", null, "hash-3")));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().count()).isEqualTo(4);
+        BitSet valid = BitSet.valueOf(response.getBody().validBitmap());
+        assertThat(valid.get(0)).isTrue();
+        assertThat(valid.get(1)).isFalse();
+        assertThat(valid.get(2)).isFalse();
+        assertThat(valid.get(3)).isTrue();
+        verify(tokenBlacklistService).findBlacklistedHashes(List.of("hash-0", "hash-1", "hash-3"));
+    }
+
+    @Test
+    @DisplayName("Bits beyond the first byte are kept")
+    void bitmapSpansSeveralBytes() {
+        // Arrange
+        List<String> hashes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            hashes.add("hash-" + i);
+        }
+        when(tokenBlacklistService.findBlacklistedHashes(anyCollection())).thenReturn(hashes.stream()
+                .filter(hash -> !hash.equals("hash-17"))
+                .collect(Collectors.toSet()));
+
+        // Act
+        ResponseEntity<TokenBatchValidationResponse> response =
+                controller.validateTokens(new TokenBatchValidationRequest(hashes));
+
+        // Assert
+        BitSet valid = BitSet.valueOf(response.getBody().validBitmap());
+        assertThat(valid.cardinality()).isEqualTo(1);
+        assertThat(valid.get(17)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Empty and oversized batches are rejected without a lookup")
+    void invalidBatchSizesAreRejected() {
+        // Act
+        ResponseEntity<TokenBatchValidationResponse> empty =
+                controller.validateTokens(new TokenBatchValidationRequest(List.of()));
+        ResponseEntity<TokenBatchValidationResponse> missing =
+                controller.validateTokens(new TokenBatchValidationRequest(null));
+        ResponseEntity<TokenBatchValidationResponse> oversized =
+                controller.validateTokens(new TokenBatchValidationRequest(Collections.nCopies(513, "hash")));
+
+        // Assert
+        assertThat(empty.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(oversized.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(tokenBlacklistService);
+    }
+}
@@ -0,0 +1,163 @@
+package com.sims.authservice.security;
+
+import com.sims.authservice.exception.TooManyRequestsException;
+import com.sims.authservice.repository.BlackListTokenRepository;
+import com.sims.authservice.service.impl.JWTService;
+import com.sims.authservice.service.impl.TokenBlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Login / token validation load harness
+ *
+ * Simulates a shift-change login burst on request threads while a separate set of threads
+ * keeps calling token validation, and reports throughput and latency for each BCrypt cost.
+ *
+ * Disabled by default. Run with:
+ * mvn -pl auth-service test -Dtest=PasswordHashingLoadTest -Dauth.loadtest=true
+ * Optional: -Dauth.loadtest.costs=4,8,10,12 -Dauth.loadtest.logins=800 -Dauth.loadtest.request-threads=200
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@EnabledIfSystemProperty(named = "auth.loadtest", matches = "true")
+class PasswordHashingLoadTest {
+
+    private static final String SECRET = "sDIWTw49KIYrSsxHzYQpkMtQYQGSTbpwXcwOJIdAcIo=";
+    private static final String PASSWORD = "Warehouse@2025";
+    private static final int VALIDATE_THREADS = 16;
+
+    private final int logins = Integer.getInteger("auth.loadtest.logins", 800);
+    private final int requestThreads = Integer.getInteger("auth.loadtest.request-threads", 200);
+    private final int hashingThreads = Integer.getInteger("auth.loadtest.hashing-threads", 4);
+    private final int queueCapacity = Integer.getInteger("auth.loadtest.queue-capacity", 200);
+
+    @Test
+    @DisplayName("Report login and validate throughput/latency per BCrypt cost")
+    void loginBurstWithConcurrentValidation() throws Exception {
+        // Arrange
+        JWTService jwtService = new JWTService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        jwtService.init();
+        TokenBlacklistService blacklistService = new TokenBlacklistService(jwtService, mock(BlackListTokenRepository.class));
+        String token = jwtService.generateAccessToken("loadtest", "ROLE_STAFF");
+
+        System.out.printf("%n%-6s %10s %8s %10s %10s %12s %12s %12s%n",
+                "cost", "login/s", "shed", "login p50", "login p99", "validate/s", "validate p50", "validate p99");
+
+        for (String cost : System.getProperty("auth.loadtest.costs", "4,8,10,12").split(",")) {
+            // Act
+            Result result = runBurst(Integer.parseInt(cost.trim()), jwtService, blacklistService, token);
+
+            // Assert
+            assertThat(result.completed + result.shed).isEqualTo(logins);
+            System.out.printf("%-6s %10.1f %8d %8.1fms %8.1fms %12.0f %10.3fms %10.3fms%n",
+                    cost.trim(), result.loginsPerSecond, result.shed,
+                    result.loginP50Ms, result.loginP99Ms,
+                    result.validatesPerSecond, result.validateP50Ms, result.validateP99Ms);
+        }
+    }
+
+    private Result runBurst(int cost, JWTService jwtService, TokenBlacklistService blacklistService, String token)
+            throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        String hash = encoder.encode(PASSWORD);
+
+        PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hashingExecutor, "threads", hashingThreads);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(hashingExecutor, "completionThreads", 8);
+        ReflectionTestUtils.setField(hashingExecutor, "completionQueueCapacity", 500);
+        hashingExecutor.init();
+
+        ExecutorService requestPool = Executors.newFixedThreadPool(requestThreads);
+        ExecutorService validatePool = Executors.newFixedThreadPool(VALIDATE_THREADS);
+        AtomicBoolean burstRunning = new AtomicBoolean(true);
+        AtomicInteger shed = new AtomicInteger();
+        List<Long> loginLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> validateLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            // Fast lane: token validation keeps running during the burst
+            List<Future<?>> validators = new ArrayList<>();
+            for (int i = 0; i < VALIDATE_THREADS; i++) {
+                validators.add(validatePool.submit(() -> {
+                    List<Long> local = new ArrayList<>();
+                    while (burstRunning.get()) {
+                        long start = System.nanoTime();
+                        jwtService.extractAllClaims(token);
+                        blacklistService.isTokenBlacklisted(token);
+                        local.add(System.nanoTime() - start);
+                    }
+                    validateLatencies.addAll(local);
+                }));
+            }
+
+            // Login requests hand BCrypt to the hashing executor and return, like the async login endpoint
+            long burstStart = System.nanoTime();
+            CountDownLatch finished = new CountDownLatch(logins);
+            for (int i = 0; i < logins; i++) {
+                requestPool.execute(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        hashingExecutor.submit(() -> encoder.matches(PASSWORD, hash))
+                                .whenComplete((matched, error) -> {
+                                    loginLatencies.add(System.nanoTime() - start);
+                                    finished.countDown();
+                                });
+                    } catch (TooManyRequestsException e) {
+                        shed.incrementAndGet();
+                        finished.countDown();
+                    }
+                });
+            }
+            finished.await();
+            double burstSeconds = (System.nanoTime() - burstStart) / 1e9;
+
+            burstRunning.set(false);
+            for (Future<?> validator : validators) {
+                validator.get();
+            }
+
+            return new Result(
+                    loginLatencies.size(),
+                    shed.get(),
+                    loginLatencies.size() / burstSeconds,
+                    percentileMs(loginLatencies, 0.50),
+                    percentileMs(loginLatencies, 0.99),
+                    validateLatencies.size() / burstSeconds,
+                    percentileMs(validateLatencies, 0.50),
+                    percentileMs(validateLatencies, 0.99));
+        } finally {
+            requestPool.shutdownNow();
+            validatePool.shutdownNow();
+            hashingExecutor.shutdown();
+        }
+    }
+
+    private static double percentileMs(List<Long> latencies, double percentile) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0)) / 1e6;
+    }
+
+    private record Result(int completed, int shed,
+                          double loginsPerSecond, double loginP50Ms, double loginP99Ms,
+                          double validatesPerSecond, double validateP50Ms, double validateP99Ms) {}
+}
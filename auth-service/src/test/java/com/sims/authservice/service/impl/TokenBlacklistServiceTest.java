@@ -0,0 +1,219 @@
+package com.sims.authservice.service.impl;
+
+import com.sims.authservice.entity.BlacklistedToken;
+import com.sims.authservice.repository.BlackListTokenRepository;
+import com.sims.common.utils.TokenUtils;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Token Blacklist Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Blacklist Service Tests")
+class TokenBlacklistServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String TOKEN_HASH = TokenUtils.hashToken(TOKEN);
+
+    @Mock
+    private JWTService jwtService;
+
+    @Mock
+    private BlackListTokenRepository blackListTokenRepository;
+
+    @Mock
+    private Claims claims;
+
+    @InjectMocks
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenBlacklistService, "syncIntervalMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    private void tokenIssuedAt(Instant issuedAt) {
+        when(jwtService.extractAllClaims(TOKEN)).thenReturn(claims);
+        when(claims.getIssuedAt()).thenReturn(Date.from(issuedAt));
+    }
+
+    // ==== BLACKLIST TESTS ====
+
+    @Test
+    @DisplayName("Blacklisted token becomes visible locally only after commit")
+    void blacklistIsRememberedAfterCommit() {
+        // Arrange
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(10, ChronoUnit.MINUTES)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tokenBlacklistService.blacklist(TOKEN);
+
+        // Assert
+        verify(blackListTokenRepository).save(any(BlacklistedToken.class));
+        assertThat(tokenBlacklistService.isHashBlacklisted(TOKEN_HASH)).isFalse();
+
+        completeTransaction(true);
+        assertThat(tokenBlacklistService.isHashBlacklisted(TOKEN_HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Rolled back blacklist entry never reaches the local set")
+    void rolledBackBlacklistIsNotRemembered() {
+        // Arrange
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(10, ChronoUnit.MINUTES)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tokenBlacklistService.blacklist(TOKEN);
+        completeTransaction(false);
+
+        // Assert
+        assertThat(tokenBlacklistService.isHashBlacklisted(TOKEN_HASH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Without a transaction the token is remembered immediately")
+    void blacklistWithoutTransactionIsImmediate() {
+        // Arrange
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(10, ChronoUnit.MINUTES)));
+
+        // Act
+        tokenBlacklistService.blacklist(TOKEN);
+
+        // Assert
+        assertThat(tokenBlacklistService.isTokenBlacklisted(TOKEN)).isTrue();
+        verifyNoMoreInteractions(claims);
+    }
+
+    // ==== LOOKUP TESTS ====
+
+    @Test
+    @DisplayName("Local miss for a recently issued token falls back to the database")
+    void recentTokenFallsBackToDatabase() {
+        // Arrange
+        tokenIssuedAt(Instant.now().minusSeconds(2));
+        BlacklistedToken entry = new BlacklistedToken(TOKEN_HASH, Instant.now().plus(10, ChronoUnit.MINUTES), Instant.now());
+        when(blackListTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.of(entry));
+
+        // Act & Assert
+        assertThat(tokenBlacklistService.isTokenBlacklisted(TOKEN)).isTrue();
+        assertThat(tokenBlacklistService.isTokenBlacklisted(TOKEN)).isTrue();
+        verify(blackListTokenRepository, times(1)).findById(TOKEN_HASH);
+    }
+
+    @Test
+    @DisplayName("Recently issued token that is not in the database is allowed")
+    void recentTokenNotInDatabase() {
+        // Arrange
+        tokenIssuedAt(Instant.now().minusSeconds(2));
+        when(blackListTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(tokenBlacklistService.isTokenBlacklisted(TOKEN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Local miss for an older token does not query the database")
+    void olderTokenUsesLocalSetOnly() {
+        // Arrange
+        tokenIssuedAt(Instant.now().minus(5, ChronoUnit.MINUTES));
+
+        // Act & Assert
+        assertThat(tokenBlacklistService.isTokenBlacklisted(TOKEN)).isFalse();
+        verify(blackListTokenRepository, never()).findById(anyString());
+    }
+
+    // ==== BATCH LOOKUP TESTS ====
+
+    @Test
+    @DisplayName("Batch lookup checks local misses against the database in one query")
+    void batchLocalMissFallsBackToDatabase() {
+        // Arrange - blacklisted on another instance, not yet synced here
+        String otherHash = TokenUtils.hashToken("other.token.value");
+        BlacklistedToken entry = new BlacklistedToken(TOKEN_HASH, Instant.now().plus(10, ChronoUnit.MINUTES), Instant.now());
+        when(blackListTokenRepository.findAllById(List.of(TOKEN_HASH, otherHash))).thenReturn(List.of(entry));
+
+        // Act
+        Set<String> blacklisted = tokenBlacklistService.findBlacklistedHashes(List.of(TOKEN_HASH, otherHash));
+
+        // Assert
+        assertThat(blacklisted).containsExactly(TOKEN_HASH);
+        assertThat(tokenBlacklistService.isHashBlacklisted(TOKEN_HASH)).isTrue();
+        verify(blackListTokenRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Batch lookup skips the database when every hash hits the local set")
+    void batchLocalHitsSkipDatabase() {
+        // Arrange
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(Date.from(Instant.now().plus(10, ChronoUnit.MINUTES)));
+        tokenBlacklistService.blacklist(TOKEN);
+
+        // Act
+        Set<String> blacklisted = tokenBlacklistService.findBlacklistedHashes(List.of(TOKEN_HASH));
+
+        // Assert
+        assertThat(blacklisted).containsExactly(TOKEN_HASH);
+        verify(blackListTokenRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Batch lookup ignores expired database rows")
+    void batchIgnoresExpiredRows() {
+        // Arrange
+        BlacklistedToken expired = new BlacklistedToken(TOKEN_HASH, Instant.now().minusSeconds(1), Instant.now().minusSeconds(60));
+        when(blackListTokenRepository.findAllById(List.of(TOKEN_HASH))).thenReturn(List.of(expired));
+
+        // Act
+        Set<String> blacklisted = tokenBlacklistService.findBlacklistedHashes(List.of(TOKEN_HASH));
+
+        // Assert
+        assertThat(blacklisted).isEmpty();
+        assertThat(tokenBlacklistService.isHashBlacklisted(TOKEN_HASH)).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sims.authservice.service.impl;
+
+import com.sims.authservice.entity.Users;
+import com.sims.authservice.enums.Roles;
+import com.sims.authservice.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * User Details Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Details Service Tests")
+class UserDetailsServiceImplTest {
+
+    private static final String USERNAME = "manager";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDetailsService, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(userDetailsService, "maxSize", 100);
+
+        Users user = new Users(1L, USERNAME, "hash", Roles.ROLE_MANAGER, "manager@sims.com", "Jane", "Doe");
+        when(userRepository.findByUsernameOrEmail(USERNAME)).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+    }
+
+    @Test
+    @DisplayName("Cached principal is reused while fresh")
+    void cachedPrincipalIsReused() {
+        // Act
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+
+        // Assert
+        verify(userRepository, times(1)).findByUsernameOrEmail(USERNAME);
+    }
+
+    @Test
+    @DisplayName("Eviction inside a transaction waits for the commit")
+    void evictionWaitsForCommit() {
+        // Arrange
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        userDetailsService.evictUser(USERNAME);
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+
+        // Assert - still served from cache before the commit
+        verify(userRepository, times(1)).findByUsernameOrEmail(USERNAME);
+
+        completeTransaction(true);
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+        verify(userRepository, times(2)).findByUsernameOrEmail(USERNAME);
+    }
+
+    @Test
+    @DisplayName("Rolled back change keeps the cached principal")
+    void rollbackKeepsCachedPrincipal() {
+        // Arrange
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        userDetailsService.evictUser(USERNAME);
+        completeTransaction(false);
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+
+        // Assert
+        verify(userRepository, times(1)).findByUsernameOrEmail(USERNAME);
+    }
+
+    @Test
+    @DisplayName("Eviction without a transaction is immediate")
+    void evictionWithoutTransactionIsImmediate() {
+        // Arrange
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+
+        // Act
+        userDetailsService.evictUser(USERNAME);
+        userDetailsService.loadCachedUserByUsername(USERNAME);
+
+        // Assert
+        verify(userRepository, times(2)).findByUsernameOrEmail(USERNAME);
+    }
+}
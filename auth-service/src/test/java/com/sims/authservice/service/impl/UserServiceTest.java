@@ -0,0 +1,192 @@
+package com.sims.authservice.service.impl;
+
+import com.sims.authservice.dto.LoginRequest;
+import com.sims.authservice.dto.TokenResponse;
+import com.sims.authservice.dto.UpdateUserRequest;
+import com.sims.authservice.entity.RefreshToken;
+import com.sims.authservice.entity.Users;
+import com.sims.authservice.enums.Roles;
+import com.sims.authservice.exception.PasswordValidationException;
+import com.sims.authservice.repository.UserRepository;
+import com.sims.authservice.security.PasswordHashingExecutor;
+import com.sims.authservice.security.UserPrincipal;
+import com.sims.authservice.service.RefreshTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * User Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-20
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Service Tests")
+class UserServiceTest {
+
+    private static final String USERNAME = "manager";
+    private static final String ACCESS_TOKEN = "header.payload.signature";
+    private static final String NEW_PASSWORD = "Warehouse@2025";
+
+    @Mock
+    private AuthenticationManager authManager;
+
+    @Mock
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Mock
+    private JWTService jwtService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private UserService userService;
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingExecutor = new PasswordHashingExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(passwordHashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "queueCapacity", 10);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "completionThreads", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "completionQueueCapacity", 10);
+        passwordHashingExecutor.init();
+
+        userService = new UserService(WebClient.builder(), authManager, passwordEncoder, passwordHashingExecutor,
+                jwtService, refreshTokenService, tokenBlacklistService, userDetailsService, userRepository,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(userService, "refreshTokenCookieName", "refresh_token");
+        ReflectionTestUtils.setField(userService, "refreshTokenCookieMaxAge", 3600);
+
+        user = new Users(1L, USERNAME, "old-hash", Roles.ROLE_MANAGER, "manager@sims.com", "Jane", "Doe");
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    // ==== LOGIN TESTS ====
+
+    @Test
+    @DisplayName("Tokens are issued on the completion pool, not on a hashing thread")
+    void tokensAreIssuedOffTheHashingPool() {
+        // Arrange
+        UserPrincipal principal = new UserPrincipal(user);
+        AtomicReference<String> authenticateThread = new AtomicReference<>();
+        AtomicReference<String> issueThread = new AtomicReference<>();
+        when(authManager.authenticate(any())).thenAnswer(invocation -> {
+            authenticateThread.set(Thread.currentThread().getName());
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        });
+        when(jwtService.generateAccessToken(USERNAME, "ROLE_MANAGER")).thenAnswer(invocation -> {
+            issueThread.set(Thread.currentThread().getName());
+            return ACCESS_TOKEN;
+        });
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setToken("refresh");
+        refreshToken.setExpiryDate(Instant.now().plusSeconds(3600));
+        when(refreshTokenService.createRefreshToken(eq(USERNAME), anyString(), any())).thenReturn(refreshToken);
+
+        // Act
+        TokenResponse tokenResponse = userService.verify(new LoginRequest(USERNAME, NEW_PASSWORD),
+                new MockHttpServletResponse(), new MockHttpServletRequest()).join();
+
+        // Assert
+        assertThat(tokenResponse.getAccessToken()).isEqualTo(ACCESS_TOKEN);
+        assertThat(authenticateThread.get()).isEqualTo("password-hashing");
+        assertThat(issueThread.get()).isEqualTo("password-hashing-completion");
+    }
+
+    // ==== UPDATE TESTS ====
+
+    @Test
+    @DisplayName("New password is hashed before the update transaction starts")
+    void passwordIsHashedBeforeTransaction() {
+        // Arrange
+        when(jwtService.extractUsername(ACCESS_TOKEN)).thenReturn(USERNAME);
+        when(passwordEncoder.encode(NEW_PASSWORD)).thenReturn("new-hash");
+        when(userRepository.findByUsernameOrEmail(USERNAME)).thenReturn(Optional.of(user));
+
+        // Act
+        CompletableFuture<Void> update = userService.updateUser(new UpdateUserRequest(null, null, NEW_PASSWORD), ACCESS_TOKEN);
+        update.join();
+
+        // Assert
+        assertThat(user.getPassword()).isEqualTo("new-hash");
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager);
+        inOrder.verify(passwordEncoder).encode(NEW_PASSWORD);
+        inOrder.verify(transactionManager).getTransaction(any());
+        verify(tokenBlacklistService).blacklist(ACCESS_TOKEN);
+        verify(userDetailsService).evictUser(USERNAME);
+    }
+
+    @Test
+    @DisplayName("Profile update without a password skips the hashing executor")
+    void profileUpdateWithoutPassword() {
+        // Arrange
+        when(jwtService.extractUsername(ACCESS_TOKEN)).thenReturn(USERNAME);
+        when(userRepository.findByUsernameOrEmail(USERNAME)).thenReturn(Optional.of(user));
+
+        // Act
+        CompletableFuture<Void> update = userService.updateUser(new UpdateUserRequest("Janet", null, null), ACCESS_TOKEN);
+
+        // Assert
+        assertThat(update).isCompleted();
+        assertThat(user.getFirstName()).isEqualTo("Janet");
+        assertThat(user.getPassword()).isEqualTo("old-hash");
+        verifyNoInteractions(passwordEncoder, tokenBlacklistService);
+    }
+
+    @Test
+    @DisplayName("Invalid password is rejected before any hashing or database work")
+    void invalidPasswordIsRejectedUpFront() {
+        // Arrange
+        when(jwtService.extractUsername(ACCESS_TOKEN)).thenReturn(USERNAME);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.updateUser(new UpdateUserRequest(null, null, "weak"), ACCESS_TOKEN))
+                .isInstanceOf(PasswordValidationException.class);
+        verifyNoInteractions(passwordEncoder, transactionManager, userRepository);
+    }
+}
@@ -3,8 +3,12 @@ package com.sims.common.utils;
 import com.sims.common.exceptions.InvalidTokenException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HexFormat;
 
 import static com.sims.common.constants.AppConstants.BEARER_PREFIX;
 import static com.sims.common.constants.AppConstants.BEARER_PREFIX_LENGTH;
@@ -76,4 +80,18 @@ public final class TokenUtils {
         secureRandom.nextBytes(tokenBytes);
         return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
     }
-}
\ No newline at end of file
+
+    /**
+     * Hash a token to a fixed-width key (64 hex chars of SHA-256)
+     * Used to store and look up tokens without keeping the raw JWT
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
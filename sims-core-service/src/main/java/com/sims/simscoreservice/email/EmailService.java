@@ -1,25 +1,19 @@
 package com.sims.simscoreservice.email;
 
+import com.sims.common.exceptions.ServiceException;
 import com.sims.simscoreservice.email.confirmationToken.entity.ConfirmationToken;
+import com.sims.simscoreservice.email.outbox.service.EmailOutboxService;
+import com.sims.simscoreservice.email.template.EmailTemplateRegistry;
+import com.sims.simscoreservice.email.template.EmailTemplateType;
 import com.sims.simscoreservice.purchaseOrder.entity.PurchaseOrder;
 import com.sims.simscoreservice.email.dto.LowStockAlertDto;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StreamUtils;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
+import java.time.Clock;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +23,7 @@ import static com.sims.common.constants.AppConstants.BASE_URL;
 
 /**
  * Email Service
- * Handles all email operations using plain HTML templates
+ * Renders precompiled HTML templates and queues the result in the email outbox
  *
  * @author LastCoderBoy
  * @since 2025-01-23
@@ -39,7 +33,9 @@ import static com.sims.common.constants.AppConstants.BASE_URL;
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final Clock clock;
+    private final EmailTemplateRegistry templateRegistry;
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${spring.mail.alert.username}")
     private String lowStockReceiver;
@@ -50,55 +46,44 @@ public class EmailService {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /**
-     * Send purchase order request email to supplier
+     * Queue purchase order request email to supplier (sent once the PO transaction commits)
      */
-    @Async
     public void sendPurchaseOrderRequest(String supplierEmail, PurchaseOrder order, ConfirmationToken confirmationToken) {
         try {
-            // Load HTML template
-            String htmlTemplate = loadHtmlTemplate("templates/email/purchase-order-request.html");
-            String cssStyles = loadCssStyles("static/email/css/email-styles.css");
-
             // Prepare data
             String token = confirmationToken.getToken();
             Map<String, String> placeholders = Map.ofEntries(
-                    Map.entry("{{SUPPLIER_NAME}}", order.getSupplier().getName()),
-                    Map.entry("{{PO_NUMBER}}", order.getPoNumber()),
-                    Map.entry("{{ORDER_DATE}}", order.getOrderDate().format(DATE_FORMATTER)),
-                    Map.entry("{{PRODUCT_NAME}}", order.getProduct().getName()),
-                    Map.entry("{{PRODUCT_CATEGORY}}", order.getProduct().getCategory().toString()),
-                    Map.entry("{{ORDERED_QUANTITY}}", String.valueOf(order.getOrderedQuantity())),
-                    Map.entry("{{NOTES}}", order.getNotes() != null && !order.getNotes().isEmpty() ? order.getNotes() : "N/A"),
-                    Map.entry("{{CONFIRM_URL}}", buildConfirmUrl(token)),
-                    Map.entry("{{CANCEL_URL}}", buildCancelUrl(token)),
-                    Map.entry("{{SENDER_EMAIL}}", senderEmail)
+                    Map.entry("SUPPLIER_NAME", order.getSupplier().getName()),
+                    Map.entry("PO_NUMBER", order.getPoNumber()),
+                    Map.entry("ORDER_DATE", order.getOrderDate().format(DATE_FORMATTER)),
+                    Map.entry("PRODUCT_NAME", order.getProduct().getName()),
+                    Map.entry("PRODUCT_CATEGORY", order.getProduct().getCategory().toString()),
+                    Map.entry("ORDERED_QUANTITY", String.valueOf(order.getOrderedQuantity())),
+                    Map.entry("NOTES", order.getNotes() != null && !order.getNotes().isEmpty() ? order.getNotes() : "N/A"),
+                    Map.entry("CONFIRM_URL", buildConfirmUrl(token)),
+                    Map.entry("CANCEL_URL", buildCancelUrl(token)),
+                    Map.entry("SENDER_EMAIL", senderEmail)
             );
 
-            // Replace placeholders
-            String htmlContent = replacePlaceholders(htmlTemplate, placeholders);
-
-            // Inline CSS (for better email client compatibility)
-            htmlContent = inlineCss(htmlContent, cssStyles);
+            String htmlContent = templateRegistry.render(EmailTemplateType.PURCHASE_ORDER_REQUEST, placeholders);
 
-            // Send email
-            sendEmail(
+            emailOutboxService.enqueue(
                     supplierEmail,
                     "Purchase Order Request: " + order.getPoNumber() + " - " + order.getProduct().getName(),
                     htmlContent
             );
 
-            log.info("[EMAIL-SERVICE] PO request sent to: {} for PO: {}", supplierEmail, order.getPoNumber());
+            log.info("[EMAIL-SERVICE] PO request queued for: {} for PO: {}", supplierEmail, order.getPoNumber());
 
         } catch (Exception e) {
-            log.error("[EMAIL-SERVICE] Failed to send PO request email: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to send purchase order request email", e);
+            log.error("[EMAIL-SERVICE] Failed to queue PO request email: {}", e.getMessage(), e);
+            throw new ServiceException("Failed to queue purchase order request email", e);
         }
     }
 
     /**
-     * Send low stock alert email with multiple products
+     * Queue low stock alert email with multiple products
      */
-    @Async
     public void sendLowStockAlert(List<LowStockAlertDto> lowStockProducts) {
         try {
             if (lowStockProducts == null || lowStockProducts.isEmpty()) {
@@ -106,36 +91,32 @@ public class EmailService {
                 return;
             }
 
-            String htmlTemplate = loadHtmlTemplate("templates/email/low-stock-alert.html");
-            String cssStyles = loadCssStyles("static/email/css/email-styles.css");
-
             // Build table rows
             String tableRows = buildLowStockTableRows(lowStockProducts);
 
             // Prepare placeholders
             Map<String, String> placeholders = Map.of(
-                    "{{TOTAL_COUNT}}", String.valueOf(lowStockProducts.size()),
-                    "{{REPORT_DATE}}", LocalDate.now().format(DATE_FORMATTER),
-                    "{{LOW_STOCK_ROWS}}", tableRows,
-                    "{{DASHBOARD_URL}}", BASE_URL + BASE_INVENTORY_PATH + "/low-stock",
-                    "{{SENDER_EMAIL}}", senderEmail
+                    "TOTAL_COUNT", String.valueOf(lowStockProducts.size()),
+                    "REPORT_DATE", GlobalServiceHelper.now(clock).toLocalDate().format(DATE_FORMATTER),
+                    "LOW_STOCK_ROWS", tableRows,
+                    "DASHBOARD_URL", BASE_URL + BASE_INVENTORY_PATH + "/low-stock",
+                    "SENDER_EMAIL", senderEmail
             );
 
-            String htmlContent = replacePlaceholders(htmlTemplate, placeholders);
-            htmlContent = inlineCss(htmlContent, cssStyles);
+            String htmlContent = templateRegistry.render(EmailTemplateType.LOW_STOCK_ALERT, placeholders);
 
             // TODO: Send email to all Managers.
-            sendEmail(
+            emailOutboxService.enqueue(
                     lowStockReceiver,
                     "⚠️ Daily Low Stock Alert - " + lowStockProducts.size() + " Products",
                     htmlContent
             );
 
-            log.info("[EMAIL-SERVICE] Low stock alert sent for {} products", lowStockProducts. size());
+            log.info("[EMAIL-SERVICE] Low stock alert queued for {} products", lowStockProducts.size());
 
         } catch (Exception e) {
-            log.error("[EMAIL-SERVICE] Failed to send low stock alert: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to send low stock alert", e);
+            log.error("[EMAIL-SERVICE] Failed to queue low stock alert: {}", e.getMessage(), e);
+            throw new ServiceException("Failed to queue low stock alert", e);
         }
     }
 
@@ -193,60 +174,6 @@ public class EmailService {
         );
     }
 
-    /**
-     * Load HTML template from resources
-     */
-    private String loadHtmlTemplate(String templatePath) throws IOException {
-        ClassPathResource resource = new ClassPathResource(templatePath);
-        try (InputStream inputStream = resource.getInputStream()) {
-            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
-        }
-    }
-
-    /**
-     * Load CSS styles from resources
-     */
-    private String loadCssStyles(String cssPath) throws IOException {
-        ClassPathResource resource = new ClassPathResource(cssPath);
-        try (InputStream inputStream = resource.getInputStream()) {
-            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
-        }
-    }
-
-    /**
-     * Replace placeholders in template
-     */
-    private String replacePlaceholders(String template, Map<String, String> placeholders) {
-        String result = template;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
-        }
-        return result;
-    }
-
-    /**
-     * Inline CSS into HTML (for better email client compatibility)
-     */
-    private String inlineCss(String html, String css) {
-        // Simple approach: Add CSS in <style> tag in <head>
-        return html.replace("</head>", "<style>" + css + "</style></head>");
-    }
-
-    /**
-     * Send email
-     */
-    private void sendEmail(String to, String subject, String htmlContent) throws MessagingException, UnsupportedEncodingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        helper.setFrom(senderEmail, "SIMS Inventory System");
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(htmlContent, true);
-
-        mailSender.send(message);
-    }
-
     /**
      * Build confirmation URL for the Supplier
      */
@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
  * @since 2025-01-23
  */
 @Entity
-@Table(name = "confirmation_tokens")
+@Table(name = "confirmation_tokens", indexes = @Index(name = "idx_confirmation_token_expires_at", columnList = "expires_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,7 @@ package com.sims.simscoreservice.email.confirmationToken.repository;
 
 import com.sims.simscoreservice.email.confirmationToken.entity.ConfirmationToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,8 +26,22 @@ public interface ConfirmationTokenRepository extends JpaRepository<ConfirmationT
     Optional<ConfirmationToken> findByToken(String token);
 
     /**
-     * Find all expired tokens that haven't been clicked
+     * Lock the next chunk of expired, unused token IDs
+     * SKIP LOCKED lets several instances expire disjoint chunks concurrently
      */
-    @Query("SELECT ct FROM ConfirmationToken ct WHERE ct.expiresAt < :now AND ct.clickedAt IS NULL")
-    List<ConfirmationToken> findAllExpiredAndUnused(@Param("now") LocalDateTime now);
+    @Query(value = """
+        SELECT ct.id FROM confirmation_tokens ct
+        WHERE ct.expires_at < :now AND ct.clicked_at IS NULL
+        ORDER BY ct.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockExpiredAndUnusedIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Bulk delete tokens by ID
+     */
+    @Modifying
+    @Query("DELETE FROM ConfirmationToken ct WHERE ct.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
@@ -5,14 +5,16 @@ import com.sims.simscoreservice.email.confirmationToken.entity.ConfirmationToken
 import com.sims.simscoreservice.email.confirmationToken.enums.ConfirmationTokenStatus;
 import com.sims.simscoreservice.email.confirmationToken.repository.ConfirmationTokenRepository;
 import com.sims.simscoreservice.purchaseOrder.entity.PurchaseOrder;
-import com.sims.simscoreservice.purchaseOrder.enums.PurchaseOrderStatus;
 import com.sims.simscoreservice.purchaseOrder.repository.PurchaseOrderRepository;
 import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -32,10 +34,17 @@ import java.util.Map;
 @Slf4j
 public class ConfirmationTokenService {
 
+    private static final String EXPIRED_BY = "System - Token Expired";
+
     private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
     private final ConfirmationTokenRepository tokenRepository;
     private final PurchaseOrderRepository purchaseOrderRepository;
 
+    @Value("${confirmation-token.expiry.chunk-size:500}")
+    private int expiryChunkSize;
+
     /**
      * Create confirmation token for purchase order
      */
@@ -102,33 +111,57 @@ public class ConfirmationTokenService {
 
     /**
      * Expire old tokens and mark associated POs as FAILED
+     * Works in bounded chunks, each in its own short transaction:
+     * lock a chunk of token IDs (SKIP LOCKED), bulk-update their POs, bulk-delete the tokens
      */
-    @Transactional
     public void expireTokens() {
-        List<ConfirmationToken> expiredTokens = tokenRepository.findAllExpiredAndUnused(LocalDateTime.now());
+        LocalDateTime now = GlobalServiceHelper.now(clock);
+        int totalTokens = 0;
+        int totalOrders = 0;
+        int chunks = 0;
+
+        while (true) {
+            ExpiryChunkResult result = transactionTemplate.execute(status -> expireTokenChunk(now));
+            if (result == null || result.tokens() == 0) {
+                break;
+            }
+
+            chunks++;
+            totalTokens += result.tokens();
+            totalOrders += result.orders();
+            meterRegistry.counter("sims.confirmation.tokens.expired").increment(result.tokens());
+            meterRegistry.counter("sims.purchase.orders.failed", "reason", "token_expired").increment(result.orders());
+
+            log.info("[TOKEN-SERVICE] Expiry chunk {}: {} tokens deleted, {} POs failed (total so far: {})",
+                    chunks, result.tokens(), result.orders(), totalTokens);
 
-        if (expiredTokens.isEmpty()) {
+            if (result.tokens() < expiryChunkSize) {
+                break;
+            }
+        }
+
+        if (totalTokens == 0) {
             log.info("[TOKEN-SERVICE] No expired tokens found");
             return;
         }
 
-        for (ConfirmationToken token : expiredTokens) {
-            PurchaseOrder order = token.getOrder();
-
-            // Set PO status to FAILED
-            order.setStatus(PurchaseOrderStatus.FAILED);
-            order.setUpdatedBy("System - Token Expired");
-            purchaseOrderRepository.save(order);
-
-            // Delete expired token
-            tokenRepository.delete(token);
+        log.info("[TOKEN-SERVICE] Expired {} confirmation tokens and failed {} POs in {} chunk(s)",
+                totalTokens, totalOrders, chunks);
+    }
 
-            log.info("[TOKEN-SERVICE] Expired token deleted for PO: {}", order.getPoNumber());
+    private ExpiryChunkResult expireTokenChunk(LocalDateTime now) {
+        List<Long> tokenIds = tokenRepository.lockExpiredAndUnusedIds(now, expiryChunkSize);
+        if (tokenIds.isEmpty()) {
+            return new ExpiryChunkResult(0, 0);
         }
 
-        log.info("[TOKEN-SERVICE] Expired {} confirmation tokens", expiredTokens.size());
+        int orders = purchaseOrderRepository.markFailedByConfirmationTokenIds(tokenIds, EXPIRED_BY, now);
+        int tokens = tokenRepository.deleteAllByIdIn(tokenIds);
+        return new ExpiryChunkResult(tokens, orders);
     }
 
+    private record ExpiryChunkResult(int tokens, int orders) {}
+
     /**
      * Get confirmation status for display
      */
@@ -0,0 +1,89 @@
+package com.sims.simscoreservice.email.lowStockAlert;
+
+import com.sims.simscoreservice.email.EmailService;
+import com.sims.simscoreservice.email.dto.LowStockAlertDto;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.event.LowStockTransitionEvent;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Low Stock Alert Aggregator
+ * Collects IN_STOCK -> LOW_STOCK transitions after their transactions commit and sends
+ * one digest email per window, instead of a full scan and an email per transition.
+ *
+ * Items restocked before the digest goes out are dropped; the daily LowStockScheduler scan
+ * remains as the reconciliation pass.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LowStockAlertAggregator {
+
+    private final InventoryRepository inventoryRepository;
+    private final EmailService emailService;
+
+    // productId -> latest transition in the current window (repeated transitions collapse)
+    private final Map<String, LowStockTransitionEvent> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLowStockTransition(LowStockTransitionEvent event) {
+        pending.put(event.productId(), event);
+        log.debug("[LOW-STOCK-ALERT] Queued transition for product {} (SKU {}), {} pending",
+                event.productId(), event.sku(), pending.size());
+    }
+
+    /**
+     * Send one digest for all transitions collected during the last window
+     */
+    @Scheduled(fixedDelayString = "${inventory.low-stock-alert.digest-window-ms:300000}")
+    public void sendDigest() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<LowStockTransitionEvent> drained = new ArrayList<>();
+        for (String productId : pending.keySet()) {
+            LowStockTransitionEvent event = pending.remove(productId);
+            if (event != null) {
+                drained.add(event);
+            }
+        }
+        List<String> productIds = drained.stream().map(LowStockTransitionEvent::productId).toList();
+
+        try {
+            // Re-read: only alert for items that are still low
+            List<LowStockAlertDto> alerts = inventoryRepository.findLowStockByProductIds(productIds).stream()
+                    .map(LowStockAlertDto::from)
+                    .toList();
+
+            if (alerts.isEmpty()) {
+                log.info("[LOW-STOCK-ALERT] {} transitions in window, all restocked since. Skipping digest.",
+                        productIds.size());
+                return;
+            }
+
+            emailService.sendLowStockAlert(alerts);
+            log.info("[LOW-STOCK-ALERT] Digest sent for {} products ({} transitions in window)",
+                    alerts.size(), productIds.size());
+
+        } catch (Exception e) {
+            log.error("[LOW-STOCK-ALERT] Error sending low stock digest: {}", e.getMessage(), e);
+            // Keep the transitions for the next window
+            drained.forEach(event -> pending.putIfAbsent(event.productId(), event));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sims.simscoreservice.email.outbox.enums;
+
+import lombok.Getter;
+
+/**
+ * Email Outbox Status Enum
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Getter
+public enum EmailOutboxStatus {
+    PENDING("Waiting to be sent"),
+    SENDING("Claimed by a sender"),
+    SENT("Delivered to the SMTP server"),
+    FAILED("Gave up after the maximum number of attempts");
+
+    private final String description;
+
+    EmailOutboxStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,49 @@
+package com.sims.simscoreservice.email.outbox.repository;
+
+import com.sims.simscoreservice.email.outbox.entity.EmailOutbox;
+import com.sims.simscoreservice.email.outbox.enums.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Email Outbox Repository
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Lock the next due emails: pending ones whose retry time has come,
+     * and ones stuck in SENDING (claimed by an instance that died)
+     */
+    @Query(value = """
+        SELECT eo.id FROM email_outbox eo
+        WHERE (eo.status = 'PENDING' AND eo.next_attempt_at <= :now)
+           OR (eo.status = 'SENDING' AND eo.claimed_at < :staleBefore)
+        ORDER BY eo.next_attempt_at, eo.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox eo SET eo.status = 'SENDING', eo.claimedAt = :now WHERE eo.id IN :ids")
+    int markSending(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutbox eo WHERE eo.status = :status AND eo.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") EmailOutboxStatus status,
+                                      @Param("before") LocalDateTime before);
+}
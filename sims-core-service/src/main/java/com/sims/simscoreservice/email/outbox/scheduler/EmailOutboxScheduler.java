@@ -0,0 +1,53 @@
+package com.sims.simscoreservice.email.outbox.scheduler;
+
+import com.sims.simscoreservice.email.outbox.service.EmailOutboxService;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Email Outbox Scheduler
+ * Polls the outbox for due emails and purges old sent ones once a day
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxScheduler {
+
+    private final Clock clock;
+    private final EmailOutboxService emailOutboxService;
+
+    @Value("${email.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public void dispatchDueEmails() {
+        try {
+            int dispatched = emailOutboxService.dispatchDueEmails();
+            if (dispatched > 0) {
+                log.debug("[EMAIL-OUTBOX-SCHEDULER] Dispatched {} emails", dispatched);
+            }
+        } catch (Exception e) {
+            log.error("[EMAIL-OUTBOX-SCHEDULER] Error dispatching emails: {}", e.getMessage());
+        }
+    }
+
+    // @Scheduled(cron = "*/30 * * * * ?")
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void purgeSentEmails() {
+        try {
+            int purged = emailOutboxService.purgeSentBefore(GlobalServiceHelper.now(clock).minusDays(retentionDays));
+            log.info("[EMAIL-OUTBOX-SCHEDULER] Purged {} sent emails older than {} days", purged, retentionDays);
+        } catch (Exception e) {
+            log.error("[EMAIL-OUTBOX-SCHEDULER] Error purging sent emails: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.sims.simscoreservice.email.outbox.service;
+
+import com.sims.simscoreservice.email.outbox.entity.EmailOutbox;
+import com.sims.simscoreservice.email.outbox.enums.EmailOutboxStatus;
+import com.sims.simscoreservice.email.outbox.repository.EmailOutboxRepository;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Email Outbox Service
+ * Emails are rendered and stored in the outbox inside the caller's transaction,
+ * then delivered by a bounded pool of senders. Each sender pushes a whole batch
+ * over one SMTP connection and retries failed messages with exponential backoff.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final String SENDER_NAME = "SIMS Inventory System";
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final Clock clock;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private ExecutorService senderPool;
+    private Semaphore freeSenders;
+
+    @Value("${spring.mail.username}")
+    private String senderEmail;
+
+    @Value("${email.outbox.sender-threads:2}")
+    private int senderThreads;
+
+    @Value("${email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${email.outbox.sending-timeout-minutes:10}")
+    private long sendingTimeoutMinutes;
+
+    // ========== Repositories ==========
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @PostConstruct
+    public void init() {
+        this.freeSenders = new Semaphore(senderThreads);
+        this.senderPool = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderPool.shutdownNow();
+    }
+
+    /**
+     * Queue a rendered email; joins the caller's transaction if there is one,
+     * so the email is only sent when the business change commits
+     */
+    @Transactional
+    public void enqueue(String recipient, String subject, String htmlBody) {
+        emailOutboxRepository.save(new EmailOutbox(recipient, subject, htmlBody, GlobalServiceHelper.now(clock)));
+    }
+
+    /**
+     * Claim due emails for every idle sender and hand them over.
+     * Never claims more than the senders can take, so the backlog stays in the table, not in memory.
+     *
+     * @return number of emails handed to senders
+     */
+    public int dispatchDueEmails() {
+        int idle = 0;
+        while (idle < senderThreads && freeSenders.tryAcquire()) {
+            idle++;
+        }
+        if (idle == 0) {
+            return 0;
+        }
+
+        List<EmailOutbox> claimed;
+        try {
+            claimed = claimDueEmails(idle * batchSize);
+        } catch (RuntimeException e) {
+            freeSenders.release(idle);
+            throw e;
+        }
+
+        int dispatched = 0;
+        for (int i = 0; i < idle; i++) {
+            int from = i * batchSize;
+            if (from >= claimed.size()) {
+                freeSenders.release(idle - i);
+                break;
+            }
+            List<EmailOutbox> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            dispatched += batch.size();
+            senderPool.execute(() -> {
+                try {
+                    sendBatch(batch);
+                } catch (Exception e) {
+                    // Rows stay in SENDING and are reclaimed after the sending timeout
+                    log.error("[EMAIL-OUTBOX] Failed to record batch result: {}", e.getMessage());
+                } finally {
+                    freeSenders.release();
+                }
+            });
+        }
+        return dispatched;
+    }
+
+    /**
+     * Remove sent emails older than the given time
+     */
+    public int purgeSentBefore(LocalDateTime before) {
+        return emailOutboxRepository.deleteByStatusAndSentAtBefore(EmailOutboxStatus.SENT, before);
+    }
+
+    /**
+     * Lock due rows with SKIP LOCKED and mark them SENDING, so multiple instances never send the same email
+     */
+    private List<EmailOutbox> claimDueEmails(int limit) {
+        LocalDateTime now = GlobalServiceHelper.now(clock);
+        LocalDateTime staleBefore = now.minusMinutes(sendingTimeoutMinutes);
+
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = emailOutboxRepository.lockDueIds(now, staleBefore, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            emailOutboxRepository.markSending(ids, now);
+            return emailOutboxRepository.findAllById(ids);
+        });
+        return claimed != null ? new ArrayList<>(claimed) : List.of();
+    }
+
+    /**
+     * Send one batch over a single SMTP connection and record the outcome of every message
+     */
+    private void sendBatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        // Identity map: entities are mutated below and @Data hashCode depends on their fields
+        Map<EmailOutbox, String> failures = new IdentityHashMap<>();
+
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(buildMessage(email), email);
+            } catch (Exception e) {
+                failures.put(email, e.getMessage());
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                if (failedMessages.isEmpty()) {
+                    messages.values().forEach(email -> failures.put(email, e.getMessage()));
+                } else {
+                    failedMessages.forEach((message, error) -> {
+                        EmailOutbox email = messages.get(message);
+                        if (email != null) {
+                            failures.put(email, error.getMessage());
+                        }
+                    });
+                }
+            } catch (MailException e) {
+                // Connection or authentication failure: nothing in the batch went out
+                messages.values().forEach(email -> failures.put(email, e.getMessage()));
+            }
+        }
+
+        LocalDateTime now = GlobalServiceHelper.now(clock);
+        int sent = 0, retried = 0, failed = 0;
+        for (EmailOutbox email : batch) {
+            if (!failures.containsKey(email)) {
+                email.setStatus(EmailOutboxStatus.SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+                sent++;
+                continue;
+            }
+
+            int attempts = email.getAttempts() + 1;
+            email.setAttempts(attempts);
+            email.setLastError(truncate(failures.get(email)));
+            if (attempts >= maxAttempts) {
+                email.setStatus(EmailOutboxStatus.FAILED);
+                failed++;
+                log.error("[EMAIL-OUTBOX] Giving up on email {} to {} after {} attempts: {}",
+                        email.getId(), email.getRecipient(), attempts, email.getLastError());
+            } else {
+                email.setStatus(EmailOutboxStatus.PENDING);
+                email.setNextAttemptAt(now.plusSeconds(backoffFor(attempts)));
+                retried++;
+            }
+        }
+        emailOutboxRepository.saveAll(batch);
+
+        meterRegistry.counter("sims.email.outbox.sent").increment(sent);
+        meterRegistry.counter("sims.email.outbox.retried").increment(retried);
+        meterRegistry.counter("sims.email.outbox.failed").increment(failed);
+        log.info("[EMAIL-OUTBOX] Batch of {} emails: {} sent, {} retrying, {} failed", batch.size(), sent, retried, failed);
+    }
+
+    private MimeMessage buildMessage(EmailOutbox email) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(senderEmail, SENDER_NAME);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+        return message;
+    }
+
+    /**
+     * backoff * 2^(attempts - 1), capped at one hour
+     */
+    private long backoffFor(int attempts) {
+        long delay = backoffSeconds << Math.min(attempts - 1, 20);
+        return Math.min(delay, MAX_BACKOFF_SECONDS);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
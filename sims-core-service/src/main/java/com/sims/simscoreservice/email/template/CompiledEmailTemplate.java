@@ -0,0 +1,79 @@
+package com.sims.simscoreservice.email.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled Email Template
+ * The HTML is split once into literal segments and {{PLACEHOLDER}} keys,
+ * so rendering is a single pass that appends segments and looks up each key once
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public final class CompiledEmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // Even indexes are literal text, odd indexes are placeholder keys
+    private final String[] parts;
+    private final int literalLength;
+
+    private CompiledEmailTemplate(String[] parts, int literalLength) {
+        this.parts = parts;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compile a template; unterminated "{{" is kept as literal text
+     */
+    public static CompiledEmailTemplate compile(String html) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int position = 0;
+
+        while (position < html.length()) {
+            int open = html.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : html.indexOf(CLOSE, open + OPEN.length());
+            if (open < 0 || close < 0) {
+                literal.append(html, position, html.length());
+                break;
+            }
+
+            literal.append(html, position, open);
+            parts.add(literal.toString());
+            literalLength += literal.length();
+            literal.setLength(0);
+
+            parts.add(html.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+
+        parts.add(literal.toString());
+        literalLength += literal.length();
+        return new CompiledEmailTemplate(parts.toArray(String[]::new), literalLength);
+    }
+
+    /**
+     * Render with the given values; unknown keys are left as {{KEY}}
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder html = new StringBuilder(literalLength + 64 * (parts.length / 2));
+        for (int i = 0; i < parts.length; i++) {
+            if (i % 2 == 0) {
+                html.append(parts[i]);
+            } else {
+                String value = values.get(parts[i]);
+                if (value != null) {
+                    html.append(value);
+                } else {
+                    html.append(OPEN).append(parts[i]).append(CLOSE);
+                }
+            }
+        }
+        return html.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.sims.simscoreservice.email.template;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Email Template Registry
+ * Loads every template, inlines the shared CSS and compiles it once at startup
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Slf4j
+public class EmailTemplateRegistry {
+
+    private static final String EMAIL_CSS_PATH = "static/email/css/email-styles.css";
+
+    private final Map<EmailTemplateType, CompiledEmailTemplate> templates = new EnumMap<>(EmailTemplateType.class);
+
+    @PostConstruct
+    public void init() {
+        try {
+            String css = loadResource(EMAIL_CSS_PATH);
+            for (EmailTemplateType type : EmailTemplateType.values()) {
+                String html = inlineCss(loadResource(type.getPath()), css);
+                templates.put(type, CompiledEmailTemplate.compile(html));
+            }
+            log.info("[EMAIL-TEMPLATES] Compiled {} email templates", templates.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load email templates", e);
+        }
+    }
+
+    /**
+     * Render a template with the given placeholder values (keys without braces)
+     */
+    public String render(EmailTemplateType type, Map<String, String> values) {
+        return templates.get(type).render(values);
+    }
+
+    /**
+     * Inline CSS into HTML (for better email client compatibility)
+     */
+    private String inlineCss(String html, String css) {
+        // Simple approach: Add CSS in <style> tag in <head>
+        return html.replace("</head>", "<style>" + css + "</style></head>");
+    }
+
+    private String loadResource(String path) throws IOException {
+        ClassPathResource resource = new ClassPathResource(path);
+        try (InputStream inputStream = resource.getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+}
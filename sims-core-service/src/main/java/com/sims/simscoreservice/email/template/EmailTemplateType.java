@@ -0,0 +1,21 @@
+package com.sims.simscoreservice.email.template;
+
+import lombok.Getter;
+
+/**
+ * Email templates known to the system, compiled once at startup
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Getter
+public enum EmailTemplateType {
+    PURCHASE_ORDER_REQUEST("templates/email/purchase-order-request.html"),
+    LOW_STOCK_ALERT("templates/email/low-stock-alert.html");
+
+    private final String path;
+
+    EmailTemplateType(String path) {
+        this.path = path;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sims.simscoreservice.inventory.cache;
+
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inventory Cache Invalidation Listener
+ * JPA entity listener on Inventory: every insert, update and delete (reservations, fulfillment, receiving,
+ * manual adjustments, reconciliation) marks the SKU, and the marked SKUs are invalidated once the
+ * transaction commits, locally and on the other instances.
+ *
+ * Invalidating after commit (not at flush) keeps a concurrent reader from re-caching the old row
+ * between the flush and the commit.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryCacheInvalidationListener {
+
+    private final InventoryLevelCache inventoryLevelCache;
+    private final InventoryCacheBroadcaster inventoryCacheBroadcaster;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onInventoryChanged(Inventory inventory) {
+        invalidateAfterCommit(inventory.getSku());
+    }
+
+    /**
+     * Invalidate the SKU when the current transaction commits (immediately if there is none).
+     * Also used by bulk JPQL writes, which bypass entity callbacks.
+     */
+    public void invalidateAfterCommit(String sku) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(List.of(sku));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> skus = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (skus == null) {
+            Set<String> pendingSkus = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pendingSkus);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InventoryCacheInvalidationListener.this);
+                    if (status == STATUS_COMMITTED) {
+                        invalidate(pendingSkus);
+                    }
+                }
+            });
+            skus = pendingSkus;
+        }
+        skus.add(sku);
+    }
+
+    private void invalidate(Collection<String> skus) {
+        inventoryLevelCache.invalidateAll(skus);
+        inventoryCacheBroadcaster.broadcast(skus);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sims.simscoreservice.inventory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Inventory Level Cache
+ * Read-through cache of per-SKU stock levels, invalidated after commit by InventoryCacheInvalidationListener
+ * (this instance) and InventoryCacheBroadcaster (other instances). The TTL is only a safety net.
+ *
+ * Invalidation replaces the entry with a tombstone stamped from a global counter, and a load only stores its
+ * result if no invalidation newer than its start is recorded for the SKU, so a slow read can never overwrite
+ * a newer invalidation with stale data. Tombstones live in the same bounded cache as the levels and expire
+ * with them; if one is evicted while a load is in flight, that load simply isn't cached.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@Slf4j
+public class InventoryLevelCache {
+
+    private final AtomicLong stamps = new AtomicLong();
+    private final AtomicLong evictedTombstoneStamp = new AtomicLong();
+    private Cache<String, CachedLevel> levels;
+
+    @Value("${inventory.level-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${inventory.level-cache.max-size:50000}")
+    private long maxSize;
+
+    @PostConstruct
+    public void init() {
+        this.levels = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxSize)
+                // Maintenance runs on the writing thread, so the size bound holds as soon as a write returns
+                .executor(Runnable::run)
+                .<String, CachedLevel>evictionListener((sku, entry, cause) -> {
+                    if (entry != null && entry.level() == null) {
+                        evictedTombstoneStamp.accumulateAndGet(entry.stamp(), Math::max);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Cached stock level of the SKU, loaded with the given loader on a miss
+     */
+    public StockLevelResponse get(String sku, Supplier<StockLevelResponse> loader) {
+        CachedLevel cached = levels.getIfPresent(sku);
+        if (cached != null && cached.level() != null) {
+            return cached.level();
+        }
+
+        long start = stamps.get();
+        StockLevelResponse loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+
+        // Store only if nothing was invalidated while loading
+        levels.asMap().compute(sku, (key, existing) ->
+                (existing != null && existing.stamp() > start) || evictedTombstoneStamp.get() > start
+                        ? existing
+                        : new CachedLevel(loaded, start));
+        return loaded;
+    }
+
+    public void invalidate(String sku) {
+        levels.put(sku, new CachedLevel(null, stamps.incrementAndGet()));
+    }
+
+    public void invalidateAll(Collection<String> skus) {
+        skus.forEach(this::invalidate);
+        log.debug("[INVENTORY-CACHE] Invalidated {} SKUs", skus.size());
+    }
+
+    public long estimatedSize() {
+        return levels.estimatedSize();
+    }
+
+    /**
+     * Cached level, or a tombstone (level == null) recording when the SKU was last invalidated
+     */
+    private record CachedLevel(StockLevelResponse level, long stamp) {}
+}
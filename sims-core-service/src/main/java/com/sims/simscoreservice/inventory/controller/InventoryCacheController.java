@@ -0,0 +1,45 @@
+package com.sims.simscoreservice.inventory.controller;
+
+import com.sims.common.models.ApiResponse;
+import com.sims.simscoreservice.exceptions.ForbiddenException;
+import com.sims.simscoreservice.inventory.cache.InventoryCacheBroadcaster;
+import com.sims.simscoreservice.inventory.cache.InventoryCacheBroadcaster.InventoryCacheEvictRequest;
+import com.sims.simscoreservice.inventory.cache.InventoryLevelCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Inventory Cache Controller
+ * Instance-to-instance endpoint, not routed by the API Gateway.
+ * Callers must present the shared evict secret, since the instance port itself is reachable.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@RestController
+@RequiredArgsConstructor
+public class InventoryCacheController {
+
+    private final InventoryLevelCache inventoryLevelCache;
+    private final InventoryCacheBroadcaster inventoryCacheBroadcaster;
+
+    /**
+     * Evict SKUs written on another instance
+     */
+    @PostMapping(InventoryCacheBroadcaster.EVICT_PATH)
+    public ResponseEntity<ApiResponse<Void>> evict(
+            @RequestHeader(value = InventoryCacheBroadcaster.SECRET_HEADER, required = false) String secret,
+            @RequestBody InventoryCacheEvictRequest request) {
+        if (!inventoryCacheBroadcaster.isTrustedPeer(secret)) {
+            throw new ForbiddenException("Untrusted inventory cache eviction");
+        }
+        if (request.skus() != null) {
+            inventoryLevelCache.invalidateAll(request.skus());
+        }
+        return ResponseEntity.ok(ApiResponse.success("Evicted"));
+    }
+}
@@ -6,6 +6,8 @@ import com.sims.simscoreservice.analytics.dto.PurchaseOrderSummary;
 import com.sims.simscoreservice.analytics.service.OrderSummaryService;
 import com.sims.simscoreservice.inventory.service.POServiceInInventory;
 import com.sims.simscoreservice.product.enums.ProductCategories;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveRequest;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveResponse;
 import com.sims.simscoreservice.purchaseOrder.dto.ReceiveStockRequest;
 import com.sims.simscoreservice.purchaseOrder.dto.SummaryPurchaseOrderView;
 import com.sims.simscoreservice.purchaseOrder.enums.PurchaseOrderStatus;
@@ -157,6 +159,27 @@ public class POControllerInInventory {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * BULK STOCK IN - Receive many Purchase Orders at once
+     * Each line succeeds or fails on its own; see per-line results
+     * Only ADMIN/MANAGER can receive
+     */
+    @PutMapping("/receive")
+    public ResponseEntity<ApiResponse<BulkReceiveResponse>> receivePurchaseOrders(
+            @Valid @RequestBody BulkReceiveRequest request,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[PO-INVENTORY-CONTROLLER] Bulk receive of {} POs by user: {}", request.getItems().size(), userId);
+
+        // Check authorization
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        ApiResponse<BulkReceiveResponse> response = poServiceInInventory.receivePurchaseOrders(request, userId);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * CANCEL - Cancel Purchase Order
      * Cancels pending order and updates product/inventory status
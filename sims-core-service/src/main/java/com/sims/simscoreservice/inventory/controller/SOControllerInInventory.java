@@ -9,8 +9,12 @@ import com.sims.simscoreservice.analytics.dto.OrderSummaryMetrics;
 import com.sims.simscoreservice.analytics.dto.SalesOrderSummary;
 import com.sims.simscoreservice.analytics.service.OrderSummaryService;
 import com.sims.simscoreservice.inventory.service.SOServiceInInventory;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderRequest;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderResponse;
 import com.sims.simscoreservice.salesOrder.dto.DetailedSalesOrderView;
 import com.sims.simscoreservice.salesOrder.dto.ProcessSalesOrderRequestDto;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveRequest;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse;
 import com.sims.simscoreservice.salesOrder.dto.SummarySalesOrderView;
 import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
 import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
@@ -125,6 +129,27 @@ public class SOControllerInInventory {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * STOCK OUT WAVE - Process a pick wave of many Sales Orders
+     * Each order succeeds or fails on its own; see per-order results
+     * Only ADMIN/MANAGER can process
+     */
+    @PutMapping("/stocks/out/wave")
+    public ResponseEntity<ApiResponse<SalesOrderWaveResponse>> processStockOutWave(
+            @Valid @RequestBody SalesOrderWaveRequest request,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[SO-INVENTORY-CONTROLLER] Stock out wave of {} orders by user: {}", request.getOrders().size(), userId);
+
+        // Check authorization
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        ApiResponse<SalesOrderWaveResponse> response = soServiceInInventory.processSalesOrderWave(request, userId);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * CANCEL - Cancel Sales Order
      * Releases reserved stock when order is cancelled
@@ -146,6 +171,27 @@ public class SOControllerInInventory {
         return ResponseEntity.ok(apiResponse);
     }
 
+    /**
+     * BULK CANCEL - Cancel many Sales Orders at once
+     * Orders are selected by ID list or by filter; with dryRun the impact is reported without changes
+     * Only ADMIN/MANAGER can cancel
+     */
+    @PutMapping("/cancel")
+    public ResponseEntity<ApiResponse<BulkCancelSalesOrderResponse>> bulkCancelSalesOrders(
+            @Valid @RequestBody BulkCancelSalesOrderRequest request,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[SO-INVENTORY-CONTROLLER] Bulk cancel (dryRun: {}) by user: {}", request.isDryRun(), userId);
+
+        // Check authorization
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        ApiResponse<BulkCancelSalesOrderResponse> apiResponse = soServiceInInventory.bulkCancelSalesOrders(request, userId);
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     /**
      * Search pending sales orders
      * Searches by: Order Reference, Customer Name
@@ -5,6 +5,7 @@ import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.inventory.dto.InventoryRequest;
 import com.sims.simscoreservice.inventory.dto.InventoryResponse;
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
 import com.sims.simscoreservice.inventory.service.TotalItemsService;
 import com.sims.simscoreservice.shared.util.RoleValidator;
 import jakarta.servlet.http.HttpServletResponse;
@@ -58,6 +59,29 @@ public class TotalItemsController {
         return ResponseEntity.ok(inventoryResponse);
     }
 
+    /**
+     * Get current stock levels of a single SKU
+     * Served from the inventory level cache (scanners and dashboards poll this)
+     *
+     * @param sku Stock Keeping Unit
+     * @return StockLevelResponse with current, reserved and available stock
+     */
+    @GetMapping("/{sku}/level")
+    public ResponseEntity<ApiResponse<StockLevelResponse>> getStockLevel(
+            @PathVariable String sku,
+            @RequestHeader(USER_ID_HEADER) String userId) throws BadRequestException {
+
+        log.debug("[TOTAL-ITEMS-CONTROLLER] Get stock level of {} by user: {}", sku, userId);
+
+        if (sku == null || sku.trim().isEmpty()) {
+            throw new BadRequestException("SKU cannot be null or empty");
+        }
+
+        StockLevelResponse stockLevel = totalItemsService.getStockLevel(sku.toUpperCase());
+
+        return ResponseEntity.ok(ApiResponse.success("Stock level retrieved", stockLevel));
+    }
+
     /**
      * Update inventory stock levels (current stock and min level)
      * Only ADMIN/MANAGER can update
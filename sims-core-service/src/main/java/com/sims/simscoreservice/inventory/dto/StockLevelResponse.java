@@ -0,0 +1,24 @@
+package com.sims.simscoreservice.inventory.dto;
+
+import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stock levels of a single SKU (scanner polling)
+ *
+ * @param lastUpdate version stamp: time of the last write to the inventory row
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record StockLevelResponse(
+        String sku,
+        String productId,
+        Integer currentStock,
+        Integer reservedStock,
+        Integer availableStock,
+        Integer minLevel,
+        InventoryStatus status,
+        LocalDateTime lastUpdate
+) {}
@@ -20,7 +20,7 @@ import java.time.LocalDateTime;
  * @since 2025-01-23
  */
 @Entity
-@Table(name = "damage_losses")
+@Table(name = "damage_losses", indexes = @Index(name = "idx_damage_loss_created_at", columnList = "created_at"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.sims.simscoreservice.inventory.entity;
 
+import com.sims.simscoreservice.inventory.cache.InventoryCacheInvalidationListener;
 import com.sims.simscoreservice.inventory.enums.InventoryStatus;
 import com.sims.simscoreservice.product.entity.Product;
 import jakarta.persistence.*;
@@ -18,7 +19,10 @@ import java.time.LocalDateTime;
  * @since 2025-01-23
  */
 @Entity
-@Table(name = "inventory")
+@EntityListeners(InventoryCacheInvalidationListener.class)
+@Table(name = "inventory", indexes = {
+        @Index(name = "idx_inventory_low_stock", columnList = "low_stock, stock_ratio")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -48,6 +52,20 @@ public class Inventory {
     @Column(name = "status", nullable = false, length = 20)
     private InventoryStatus status;
 
+    // ===== Low stock index (derived, refreshed on every insert/update) =====
+
+    @Column(name = "low_stock")
+    private Boolean lowStockFlag;
+
+    @Column(name = "critical_stock")
+    private Boolean criticalStockFlag;
+
+    /**
+     * current / min level in percent, only set for low stock items with a min level
+     */
+    @Column(name = "stock_ratio")
+    private Double stockRatio;
+
     @UpdateTimestamp
     @Column(name = "last_update")
     private LocalDateTime lastUpdate;
@@ -69,4 +87,17 @@ public class Inventory {
     public boolean isOutOfStock() {
         return currentStock == 0;
     }
+
+    /**
+     * Keep the persisted low stock columns in line with stock, min level and status,
+     * so low stock lists and metrics can use the index instead of comparing columns row by row
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshLowStockIndex() {
+        boolean low = isLowStock();
+        this.lowStockFlag = low;
+        this.criticalStockFlag = low && currentStock <= 0.25 * minLevel;
+        this.stockRatio = low && minLevel > 0 ? currentStock * 100.0 / minLevel : null;
+    }
 }
\ No newline at end of file
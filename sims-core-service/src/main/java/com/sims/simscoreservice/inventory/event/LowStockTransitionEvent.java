@@ -0,0 +1,20 @@
+package com.sims.simscoreservice.inventory.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an inventory item drops from IN_STOCK to LOW_STOCK
+ * Delivered to listeners only after the stock transaction commits
+ *
+ * @param productId   product that crossed its minimum level
+ * @param sku         inventory SKU
+ * @param currentStock stock at the time of the transition
+ * @param minLevel    configured minimum level
+ * @param occurredAt  time of the transition
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record LowStockTransitionEvent(String productId, String sku, int currentStock, int minLevel,
+                                      LocalDateTime occurredAt) {
+}
@@ -3,6 +3,8 @@ package com.sims.simscoreservice.inventory.queryService;
 import com.sims.common.exceptions.DatabaseException;
 import com.sims.common.exceptions.ResourceNotFoundException;
 import com.sims.common.exceptions.ServiceException;
+import com.sims.simscoreservice.inventory.cache.InventoryLevelCache;
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
 import com.sims.simscoreservice.inventory.dto.lowStock.LowStockMetrics;
 import com.sims.simscoreservice.inventory.entity.Inventory;
 import com.sims.simscoreservice.inventory.repository.InventoryRepository;
@@ -34,6 +36,7 @@ public class InventoryQueryService {
 
     private final InventoryRepository inventoryRepository;
     private final GlobalServiceHelper globalServiceHelper;
+    private final InventoryLevelCache inventoryLevelCache;
 
     /**
      * Get inventory by SKU
@@ -44,6 +47,21 @@ public class InventoryQueryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Inventory not found with SKU: " + sku));
     }
 
+    /**
+     * Get stock levels by SKU (read-through cache, invalidated on every inventory write)
+     */
+    public StockLevelResponse getStockLevel(String sku) {
+        try {
+            return inventoryLevelCache.get(sku, () -> inventoryRepository.findStockLevelBySku(sku)
+                    .orElseThrow(() -> new ResourceNotFoundException("Inventory not found with SKU: " + sku)));
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (DataAccessException da) {
+            log.error("[INVENTORY-QUERY] Database error retrieving stock level for {}: {}", sku, da.getMessage());
+            throw new DatabaseException("Failed to retrieve stock level", da);
+        }
+    }
+
     /**
      * Get inventory by Product ID (optional)
      */
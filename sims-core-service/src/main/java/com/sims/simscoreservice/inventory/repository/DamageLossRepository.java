@@ -4,6 +4,7 @@ package com.sims.simscoreservice.inventory.repository;
 import com.sims.simscoreservice.inventory.dto.damageLoss.DamageLossMetrics;
 import com.sims.simscoreservice.inventory.entity.DamageLoss;
 import com.sims.simscoreservice.inventory.enums.LossReason;
+import com.sims.simscoreservice.stockMovement.dto.ProductLossTotal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Damage/Loss Repository
@@ -66,4 +68,52 @@ public interface DamageLossRepository extends JpaRepository<DamageLoss, Integer>
     """)
     BigDecimal sumLossValueBetween(@Param("startDate") LocalDateTime startDate,
                                    @Param("endDate") LocalDateTime endDate);
+
+
+    // ******* Inventory Snapshot related methods *******
+
+    /**
+     * Sum quantity lost per product recorded in [start, end)
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockMovement.dto.ProductLossTotal(
+            dl.inventory.product.productId,
+            CAST(COALESCE(SUM(dl.quantityLost), 0) AS Long)
+        )
+        FROM DamageLoss dl
+        WHERE dl.createdAt >= :start AND dl.createdAt < :end
+        GROUP BY dl.inventory.product.productId
+    """)
+    List<ProductLossTotal> sumQuantityLostByProductBetween(@Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+
+    /**
+     * Sum quantity lost of a single product recorded in [start, end)
+     */
+    @Query("""
+        SELECT CAST(COALESCE(SUM(dl.quantityLost), 0) AS Long)
+        FROM DamageLoss dl
+        WHERE dl.inventory.product.productId = :productId
+          AND dl.createdAt >= :start AND dl.createdAt < :end
+    """)
+    Long sumQuantityLostForProductBetween(@Param("productId") String productId,
+                                          @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    /**
+     * Sum quantity lost per product of the given products recorded in [start, end)
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockMovement.dto.ProductLossTotal(
+            dl.inventory.product.productId,
+            CAST(COALESCE(SUM(dl.quantityLost), 0) AS Long)
+        )
+        FROM DamageLoss dl
+        WHERE dl.inventory.product.productId IN :productIds
+          AND dl.createdAt >= :start AND dl.createdAt < :end
+        GROUP BY dl.inventory.product.productId
+    """)
+    List<ProductLossTotal> sumQuantityLostForProductsBetween(@Param("productIds") List<String> productIds,
+                                                             @Param("start") LocalDateTime start,
+                                                             @Param("end") LocalDateTime end);
 }
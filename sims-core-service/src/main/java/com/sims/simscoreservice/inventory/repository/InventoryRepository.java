@@ -3,8 +3,11 @@ package com.sims.simscoreservice.inventory.repository;
 import com.sims.simscoreservice.analytics.dto.InventoryReportMetrics;
 import com.sims.simscoreservice.inventory.dto.InventoryMetrics;
 import com.sims.simscoreservice.inventory.dto.lowStock.LowStockMetrics;
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
 import com.sims.simscoreservice.inventory.entity.Inventory;
 import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.InventoryBalance;
+import com.sims.simscoreservice.stockMovement.dto.ProductStockLevel;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,7 +46,7 @@ public interface InventoryRepository extends JpaRepository<Inventory, String>,
     @Query("""
         SELECT new com.sims.simscoreservice.inventory.dto.InventoryMetrics(
             COUNT(*),
-            COUNT(CASE WHEN i.currentStock <= i.minLevel AND i.status != 'INVALID' THEN 1 ELSE NULL END)
+            COUNT(CASE WHEN i.lowStockFlag = true THEN 1 ELSE NULL END)
         )
         FROM Inventory i
     """)
@@ -76,11 +80,27 @@ public interface InventoryRepository extends JpaRepository<Inventory, String>,
     @Query("SELECT i FROM Inventory i WHERE i.product.productId = :productId")
     Inventory findByProductIdWithLock(@Param("productId") String productId);
 
+    /**
+     * Find by product IDs with pessimistic write lock, in ascending product ID order
+     * Sorted so concurrent bulk operations always lock rows in the same order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product WHERE i.product.productId IN :productIds " +
+            "ORDER BY i.product.productId")
+    List<Inventory> findAllByProductIdsWithLock(@Param("productIds") Collection<String> productIds);
+
+    /**
+     * Find by SKUs with pessimistic write lock, in ascending SKU order (stock count uploads)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.sku IN :skus ORDER BY i.sku")
+    List<Inventory> findAllBySkusWithLock(@Param("skus") Collection<String> skus);
+
 
     // *********** Low Stock Related ***********
 
     @Query("SELECT i FROM Inventory i WHERE " +
-            "i.status != 'INVALID' AND i.currentStock <= i.minLevel AND (" +
+            "i.lowStockFlag = true AND (" +
             "LOWER(i.sku) LIKE CONCAT('%', :text, '%') OR " +
             "LOWER(i.location) LIKE CONCAT('%', :text, '%') OR " +
             "LOWER(i.product.productId) LIKE CONCAT('%', :text, '%') OR " +
@@ -92,26 +112,53 @@ public interface InventoryRepository extends JpaRepository<Inventory, String>,
     /**
      * Get low stock items (list)
      */
-    @Query("SELECT i FROM Inventory i WHERE i.status != 'INVALID' AND i.currentStock <= i.minLevel")
+    @Query("SELECT i FROM Inventory i WHERE i.lowStockFlag = true")
     List<Inventory> getLowStockItems(Sort sort);
 
+    /**
+     * Items of the given products that are currently LOW_STOCK (product fetched for alerts)
+     */
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product WHERE i.product.productId IN :productIds " +
+            "AND i.status = 'LOW_STOCK'")
+    List<Inventory> findLowStockByProductIds(@Param("productIds") Collection<String> productIds);
+
     /**
      * Get low stock items (paginated)
      */
-    @Query("SELECT i FROM Inventory i WHERE i.status != 'INVALID' AND i.currentStock <= i.minLevel")
+    @Query("SELECT i FROM Inventory i WHERE i.lowStockFlag = true")
     Page<Inventory> getLowStockItems(Pageable pageable);
 
 
+    /**
+     * Low stock metrics, read from the low stock index (touches only low stock rows)
+     */
     @Query("""
     SELECT new com.sims.simscoreservice.inventory.dto.lowStock.LowStockMetrics (
-        COUNT(CASE WHEN i.currentStock <= i.minLevel AND i.status != 'INVALID' THEN 1 ELSE NULL END),
-        COUNT(CASE WHEN i.currentStock <= (0.25 * i.minLevel) AND i.status != 'INVALID' THEN 1 ELSE NULL END),
-        AVG(CASE WHEN i.currentStock <= i.minLevel AND i.status != 'INVALID' THEN (i.currentStock * 100.0 / i.minLevel) ELSE NULL END)
+        COUNT(i),
+        COUNT(CASE WHEN i.criticalStockFlag = true THEN 1 ELSE NULL END),
+        COALESCE(AVG(i.stockRatio), 0.0)
         )
     FROM Inventory i
+    WHERE i.lowStockFlag = true
     """)
     LowStockMetrics getLowStockMetrics();
 
+    /**
+     * Fill the low stock index for rows written before it existed
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+    UPDATE Inventory i SET
+        i.lowStockFlag = CASE WHEN i.status <> 'INVALID' AND i.currentStock <= i.minLevel THEN true ELSE false END,
+        i.criticalStockFlag = CASE WHEN i.status <> 'INVALID' AND i.currentStock <= i.minLevel
+            AND i.currentStock <= 0.25 * i.minLevel THEN true ELSE false END,
+        i.stockRatio = CASE WHEN i.status <> 'INVALID' AND i.currentStock <= i.minLevel AND i.minLevel > 0
+            THEN i.currentStock * 100.0 / i.minLevel END
+    WHERE i.lowStockFlag IS NULL
+    """)
+    int backfillLowStockIndex();
+
 
     // ******* Report & Analytics related methods *******
 
@@ -139,4 +186,30 @@ public interface InventoryRepository extends JpaRepository<Inventory, String>,
     WHERE ic.status != 'INVALID'
     """, nativeQuery = true)
     BigDecimal getInventoryStockValueAtRetail();
+
+
+    // ******* Inventory Snapshot related methods *******
+
+    @Query("SELECT new com.sims.simscoreservice.stockMovement.dto.ProductStockLevel(i.product.productId, i.currentStock) " +
+            "FROM Inventory i")
+    List<ProductStockLevel> getProductStockLevels();
+
+    // ******* Reconciliation related methods *******
+
+    @Query("SELECT i.product.productId FROM Inventory i ORDER BY i.product.productId")
+    List<String> findAllProductIds();
+
+    @Query("SELECT new com.sims.simscoreservice.stockManagement.reconciliation.dto.InventoryBalance(" +
+            "i.product.productId, i.sku, i.currentStock, i.reservedStock) " +
+            "FROM Inventory i WHERE i.product.productId IN :productIds")
+    List<InventoryBalance> findBalancesByProductIds(@Param("productIds") List<String> productIds);
+
+    // ******* Stock level cache *******
+
+    @Query("SELECT new com.sims.simscoreservice.inventory.dto.StockLevelResponse(" +
+            "i.sku, i.product.productId, i.currentStock, i.reservedStock, " +
+            "CASE WHEN i.currentStock > i.reservedStock THEN i.currentStock - i.reservedStock ELSE 0 END, " +
+            "i.minLevel, i.status, i.lastUpdate) " +
+            "FROM Inventory i WHERE i.sku = :sku")
+    Optional<StockLevelResponse> findStockLevelBySku(@Param("sku") String sku);
 }
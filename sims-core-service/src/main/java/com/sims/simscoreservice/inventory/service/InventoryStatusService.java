@@ -1,16 +1,21 @@
 package com.sims.simscoreservice.inventory.service;
 
-import com.sims.simscoreservice.email.lowStockAlert.LowStockScheduler;
 import com.sims.simscoreservice.inventory.entity.Inventory;
 import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import com.sims.simscoreservice.inventory.event.LowStockTransitionEvent;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+
 /**
  * Inventory Status Service
  * Updates inventory status based on stock levels
+ * IN_STOCK -> LOW_STOCK transitions are published as events (handled after commit by LowStockAlertAggregator)
  *
  * @author LastCoderBoy
  * @since 2025-01-23
@@ -20,7 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class InventoryStatusService {
 
-    private final LowStockScheduler lowStockScheduler;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Update inventory status based on current stock levels
@@ -31,9 +37,14 @@ public class InventoryStatusService {
     public void updateInventoryStatus(Inventory inventory) {
         if (inventory.getStatus() != InventoryStatus.INVALID) {
             if (inventory.getCurrentStock() <= inventory.getMinLevel()) {
+                InventoryStatus previous = inventory.getStatus();
                 inventory.setStatus(InventoryStatus.LOW_STOCK);
 
-                lowStockScheduler.sendDailyLowStockAlert();
+                if (previous == InventoryStatus.IN_STOCK) {
+                    eventPublisher.publishEvent(new LowStockTransitionEvent(
+                            inventory.getProduct().getProductId(), inventory.getSku(),
+                            inventory.getCurrentStock(), inventory.getMinLevel(), GlobalServiceHelper.now(clock)));
+                }
 
                 log.warn("[INVENTORY-STATUS] Product {} is now LOW_STOCK.  Current: {}, Min: {}",
                         inventory.getProduct().getProductId(),
@@ -0,0 +1,36 @@
+package com.sims.simscoreservice.inventory.service;
+
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Low Stock Index Initializer
+ * Fills the low stock columns of inventory rows written before the index existed.
+ * Afterwards the columns are maintained by the Inventory entity on every write.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LowStockIndexInitializer {
+
+    private final InventoryRepository inventoryRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = inventoryRepository.backfillLowStockIndex();
+            if (updated > 0) {
+                log.info("[LOW-STOCK-INDEX] Backfilled low stock index for {} inventory rows", updated);
+            }
+        } catch (Exception e) {
+            log.error("[LOW-STOCK-INDEX] Failed to backfill low stock index: {}", e.getMessage());
+        }
+    }
+}
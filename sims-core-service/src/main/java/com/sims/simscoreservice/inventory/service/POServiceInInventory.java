@@ -4,6 +4,8 @@ package com.sims.simscoreservice.inventory.service;
 import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.product.enums.ProductCategories;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveRequest;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveResponse;
 import com.sims.simscoreservice.purchaseOrder.dto.ReceiveStockRequest;
 import com.sims.simscoreservice.purchaseOrder.dto.SummaryPurchaseOrderView;
 import com.sims.simscoreservice.purchaseOrder.enums.PurchaseOrderStatus;
@@ -30,6 +32,12 @@ public interface POServiceInInventory {
      */
     ApiResponse<Void> receivePurchaseOrder(Long orderId, ReceiveStockRequest receiveRequest, String username) throws BadRequestException;
 
+    /**
+     * Receive many purchase orders in one transaction (bulk Stock IN)
+     * Lines that fail validation are reported and skipped, the rest are applied
+     */
+    ApiResponse<BulkReceiveResponse> receivePurchaseOrders(BulkReceiveRequest request, String username);
+
     /**
      * Cancel purchase order
      */
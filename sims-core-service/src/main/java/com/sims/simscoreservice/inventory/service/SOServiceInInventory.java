@@ -3,8 +3,12 @@ package com.sims.simscoreservice.inventory.service;
 
 import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderRequest;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderResponse;
 import com.sims.simscoreservice.salesOrder.dto.DetailedSalesOrderView;
 import com.sims.simscoreservice.salesOrder.dto.ProcessSalesOrderRequestDto;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveRequest;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse;
 import com.sims.simscoreservice.salesOrder.dto.SummarySalesOrderView;
 import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
 import jakarta.validation.constraints.Max;
@@ -35,8 +39,18 @@ public interface SOServiceInInventory {
      */
     ApiResponse<Void> processSalesOrder(ProcessSalesOrderRequestDto requestDto, String username);
 
+    /**
+     * Process a pick wave of many sales orders (Stock OUT), with per-order results
+     */
+    ApiResponse<SalesOrderWaveResponse> processSalesOrderWave(SalesOrderWaveRequest request, String username);
+
     ApiResponse<Void> cancelSalesOrder(Long orderId, String username);
 
+    /**
+     * Cancel many sales orders at once (by ID list or filter), optionally as a dry run
+     */
+    ApiResponse<BulkCancelSalesOrderResponse> bulkCancelSalesOrders(BulkCancelSalesOrderRequest request, String username);
+
     PaginatedResponse<SummarySalesOrderView> searchInWaitingSalesOrders(String text, int page, int size,
                                                                         String sortBy, String sortDir);
 
@@ -4,6 +4,7 @@ import com.sims.common.models.ApiResponse;
 import com. sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.inventory.dto.InventoryRequest;
 import com.sims.simscoreservice.inventory.dto.InventoryResponse;
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
@@ -16,6 +17,7 @@ import jakarta.servlet.http.HttpServletResponse;
 public interface TotalItemsService {
 
     PaginatedResponse<InventoryResponse> getAllInventoryProducts(String sortBy, String sortDirection, int page, int size);
+    StockLevelResponse getStockLevel(String sku);
     ApiResponse<Void> updateInventoryStockLevels(String sku, InventoryRequest request);
     PaginatedResponse<InventoryResponse> searchInventoryProducts(String text, String sortBy, String sortDirection, int page, int size);
     PaginatedResponse<InventoryResponse> filterInventoryProducts(String filterBy, String sortBy, String sortDirection, int page, int size);
@@ -4,6 +4,7 @@ import com.sims.common.exceptions.DatabaseException;
 import com.sims.common.exceptions.ServiceException;
 import com.sims.common.exceptions.ValidationException;
 import com.sims.common.models.PaginatedResponse;
+import com.sims.simscoreservice.inventory.cache.InventoryCacheInvalidationListener;
 import com.sims.simscoreservice.inventory.dto.InventoryMetrics;
 import com.sims.simscoreservice.inventory.dto.InventoryPageResponse;
 import com.sims.simscoreservice.inventory.dto.PendingOrderResponse;
@@ -53,6 +54,7 @@ public class InventoryServiceImpl implements InventoryService {
     // ========== Components ==========
     private final InventoryHelper inventoryHelper;
     private final GlobalServiceHelper globalServiceHelper;
+    private final InventoryCacheInvalidationListener inventoryCacheInvalidationListener;
 
     // =========== Services ===========
     private final InventorySearchService inventorySearchService;
@@ -187,6 +189,9 @@ public class InventoryServiceImpl implements InventoryService {
     @Transactional(propagation = Propagation. MANDATORY)
     public void deleteByProductId(String productId) {
         try {
+            // Bulk delete skips entity callbacks, so invalidate the cached level explicitly
+            inventoryRepository.findByProductId(productId)
+                    .ifPresent(inventory -> inventoryCacheInvalidationListener.invalidateAfterCommit(inventory.getSku()));
             inventoryRepository.deleteByProductId(productId);
             log.info("[INVENTORY-SERVICE] Deleted inventory for product: {}", productId);
         } catch (DataAccessException da) {
@@ -8,20 +8,21 @@ import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.analytics.dto.PurchaseOrderSummary;
 import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
 import com.sims.simscoreservice.inventory.queryService.InventoryQueryService;
 import com.sims.simscoreservice.inventory.service.InventoryStatusService;
 import com.sims.simscoreservice.inventory.service.POServiceInInventory;
 import com.sims.simscoreservice.stockManagement.StockManagementService;
 import com.sims.simscoreservice.product.enums.ProductCategories;
 import com.sims.simscoreservice.product.helper.ProductStatusModifier;
-import com.sims.simscoreservice.purchaseOrder.dto.ReceiveStockRequest;
-import com.sims.simscoreservice.purchaseOrder.dto.SummaryPurchaseOrderView;
+import com.sims.simscoreservice.purchaseOrder.dto.*;
 import com.sims.simscoreservice.purchaseOrder.entity.PurchaseOrder;
 import com.sims.simscoreservice.purchaseOrder.enums.PurchaseOrderStatus;
 import com.sims.simscoreservice.purchaseOrder.queryService.PurchaseOrderQueryService;
 import com.sims.simscoreservice.purchaseOrder.repository.PurchaseOrderRepository;
 import com.sims.simscoreservice.purchaseOrder.strategy.PurchaseOrderSearchService;
 import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import com.sims.simscoreservice.stockMovement.entity.StockMovement;
 import com.sims.simscoreservice.stockMovement.enums.StockMovementReferenceType;
 import com.sims.simscoreservice.stockMovement.enums.StockMovementType;
 import com.sims.simscoreservice.stockMovement.service.StockMovementService;
@@ -35,7 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Purchase Order Service in Inventory Implementation
@@ -62,6 +63,7 @@ public class POServiceInInventoryImpl implements POServiceInInventory {
 
     // ========== Repositories ==========
     private final PurchaseOrderRepository purchaseOrderRepository;
+    private final InventoryRepository inventoryRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -114,6 +116,97 @@ public class POServiceInInventoryImpl implements POServiceInInventory {
         }
     }
 
+    @Override
+    @Transactional
+    public ApiResponse<BulkReceiveResponse> receivePurchaseOrders(BulkReceiveRequest request, String username) {
+        try {
+            List<BulkReceiveItem> items = request.getItems();
+            ReceiveLineResult[] results = new ReceiveLineResult[items.size()];
+
+            // 1. Lock all referenced orders at once (sorted by ID)
+            List<Long> orderIds = items.stream()
+                    .map(BulkReceiveItem::getOrderId)
+                    .filter(id -> id != null && id > 0)
+                    .distinct()
+                    .sorted()
+                    .toList();
+
+            Map<Long, PurchaseOrder> ordersById = new HashMap<>();
+            if (!orderIds.isEmpty()) {
+                purchaseOrderRepository.findAllByIdInWithLock(orderIds)
+                        .forEach(order -> ordersById.put(order.getId(), order));
+            }
+
+            // 2. Lock the inventory rows of the receivable orders (sorted by product ID)
+            Set<String> productIds = new TreeSet<>();
+            ordersById.values().stream()
+                    .filter(order -> !order.isFinalized())
+                    .forEach(order -> productIds.add(order.getProduct().getProductId()));
+
+            Map<String, Inventory> inventoryByProduct = new HashMap<>();
+            if (!productIds.isEmpty()) {
+                inventoryRepository.findAllByProductIdsWithLock(productIds)
+                        .forEach(inventory -> inventoryByProduct.put(inventory.getProduct().getProductId(), inventory));
+            }
+
+            // 3. Validate and apply each line to its order and inventory; failures are recorded, not thrown
+            Set<Long> seenOrderIds = new HashSet<>();
+            Map<String, Inventory> touchedInventories = new LinkedHashMap<>();
+            List<StockMovement> movements = new ArrayList<>();
+
+            for (int i = 0; i < items.size(); i++) {
+                BulkReceiveItem item = items.get(i);
+                PurchaseOrder order = ordersById.get(item.getOrderId());
+
+                String error = validateReceiveLine(item, order, seenOrderIds);
+                Inventory inventory = error == null ? inventoryByProduct.get(order.getProduct().getProductId()) : null;
+                if (error == null && inventory == null) {
+                    error = "No inventory record for product " + order.getProduct().getProductId();
+                }
+                if (error != null) {
+                    results[i] = ReceiveLineResult.failed(item.getOrderId(),
+                            order != null ? order.getPoNumber() : null, error);
+                    continue;
+                }
+
+                updateOrderWithReceivedStock(order,
+                        new ReceiveStockRequest(item.getReceivedQuantity(), item.getActualArrivalDate()));
+                order.setUpdatedBy(username);
+
+                if (item.getReceivedQuantity() > 0) {
+                    inventory.setCurrentStock(inventory.getCurrentStock() + item.getReceivedQuantity());
+                    touchedInventories.put(order.getProduct().getProductId(), inventory);
+                    movements.add(new StockMovement(order.getProduct(), item.getReceivedQuantity(), StockMovementType.IN,
+                            order.getPoNumber(), StockMovementReferenceType.PURCHASE_ORDER, username));
+                }
+
+                results[i] = new ReceiveLineResult(order.getId(), order.getPoNumber(), true, order.getStatus(),
+                        "Received " + item.getReceivedQuantity() + " units");
+            }
+
+            touchedInventories.values().forEach(inventoryStatusService::updateInventoryStatus);
+
+            // 4. Flush order/inventory updates as JDBC batches, then insert all movements in one batch
+            purchaseOrderRepository.flush();
+            stockMovementService.logMovements(movements);
+
+            int received = (int) Arrays.stream(results).filter(ReceiveLineResult::isSuccess).count();
+            BulkReceiveResponse response = new BulkReceiveResponse(items.size(), received,
+                    items.size() - received, Arrays.asList(results));
+
+            log.info("[PO-INVENTORY] Bulk receive by {}: {} of {} lines received", username, received, items.size());
+
+            return ApiResponse.success("Received " + received + " of " + items.size() + " purchase orders", response);
+
+        } catch (DataAccessException e) {
+            log.error("[PO-INVENTORY] Database error in bulk receive: {}", e.getMessage());
+            throw new DatabaseException("Failed to receive purchase orders", e);
+        } catch (Exception e) {
+            log.error("[PO-INVENTORY] Error in bulk receive: {}", e.getMessage());
+            throw new ServiceException("Failed to receive purchase orders", e);
+        }
+    }
+
     @Override
     @Transactional
     public ApiResponse<Void> cancelPurchaseOrder(Long orderId, String username){
@@ -209,6 +302,33 @@ public class POServiceInInventoryImpl implements POServiceInInventory {
         updateOrderStatus(order);
     }
 
+    /**
+     * Validate a single bulk receive line before anything is applied to the order
+     *
+     * @return error message, or null if the line can be received
+     */
+    private String validateReceiveLine(BulkReceiveItem item, PurchaseOrder order, Set<Long> seenOrderIds) {
+        if (item.getOrderId() == null || item.getOrderId() < 1) {
+            return "Invalid order ID: " + item.getOrderId();
+        }
+        if (!seenOrderIds.add(item.getOrderId())) {
+            return "Duplicate order ID in request";
+        }
+        if (order == null) {
+            return "Purchase order not found";
+        }
+        if (order.isFinalized()) {
+            return "Cannot receive stock for finalized order with status: " + order.getStatus();
+        }
+        if (item.getActualArrivalDate() != null && item.getActualArrivalDate().isAfter(LocalDate.now())) {
+            return "Actual arrival date cannot be in the future";
+        }
+        if (item.getReceivedQuantity() > order.getOrderedQuantity()) {
+            return "Cannot receive more than ordered quantity";
+        }
+        return null;
+    }
+
     /**
      * Update order status based on received quantity
      */
@@ -1,34 +1,51 @@
 package com.sims.simscoreservice.inventory.service.impl;
 
+import com.sims.common.exceptions.DatabaseException;
 import com.sims.common.exceptions.ResourceNotFoundException;
 import com.sims.common.exceptions.ServiceException;
 import com.sims.common.exceptions.ValidationException;
 import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.exceptions.InventoryException;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
 import com.sims.simscoreservice.inventory.service.SOServiceInInventory;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderRequest;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderResponse;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderResponse.StockRelease;
 import com.sims.simscoreservice.salesOrder.dto.DetailedSalesOrderView;
 import com.sims.simscoreservice.salesOrder.dto.ProcessSalesOrderRequestDto;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveRequest;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse;
 import com.sims.simscoreservice.salesOrder.dto.SummarySalesOrderView;
 import com.sims.simscoreservice.salesOrder.entity.OrderItem;
 import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
 import com.sims.simscoreservice.salesOrder.enums.OrderItemStatus;
 import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
 import com.sims.simscoreservice.salesOrder.processor.StockOutProcessor;
+import com.sims.simscoreservice.salesOrder.processor.WaveStockOutProcessor;
 import com.sims.simscoreservice.salesOrder.queryService.SalesOrderQueryService;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
 import com.sims.simscoreservice.salesOrder.repository.SalesOrderRepository;
 import com.sims.simscoreservice.salesOrder.strategy.SalesOrderSearchService;
 import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
 import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.InventoryBalance;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ProductReservedTotal;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
 
 /**
  * Sales Order Service in Inventory Implementation
@@ -41,8 +58,12 @@ import java.time.LocalDate;
 @Slf4j
 public class SOServiceInInventoryImpl implements SOServiceInInventory {
 
+    private static final List<SalesOrderStatus> CANCELLABLE_STATUSES =
+            List.of(SalesOrderStatus.PENDING, SalesOrderStatus.PARTIALLY_APPROVED);
+
     private final Clock clock;
     private final StockOutProcessor stockOutProcessor;
+    private final WaveStockOutProcessor waveStockOutProcessor;
 
     // =========== Services ===========
     private final StockManagementService stockManagementService;
@@ -51,6 +72,11 @@ public class SOServiceInInventoryImpl implements SOServiceInInventory {
 
     // =========== Repositories ===========
     private final SalesOrderRepository salesOrderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final InventoryRepository inventoryRepository;
+
+    @Value("${sales-order.bulk-cancel.max-orders:5000}")
+    private int bulkCancelMaxOrders;
 
     @Override
     @Transactional(readOnly = true)
@@ -101,6 +127,17 @@ public class SOServiceInInventoryImpl implements SOServiceInInventory {
         }
     }
 
+    /**
+     * Not transactional: each partition of the wave runs in its own transaction
+     */
+    @Override
+    public ApiResponse<SalesOrderWaveResponse> processSalesOrderWave(SalesOrderWaveRequest request, String username) {
+        SalesOrderWaveResponse response = waveStockOutProcessor.processWave(request.getOrders(), username);
+
+        return ApiResponse.success("Processed " + response.getProcessed() + " of " + response.getTotalOrders()
+                + " sales orders", response);
+    }
+
     @Override
     @Transactional
     public ApiResponse<Void> cancelSalesOrder(Long orderId, String username) {
@@ -146,6 +183,163 @@ public class SOServiceInInventoryImpl implements SOServiceInInventory {
         }
     }
 
+    /**
+     * Bulk cancel instead of cancelSalesOrder per order:
+     * 1. Lock the cancellable orders (sorted by ID)
+     * 2. Sum the open reservations of their items per product
+     * 3. Lock the affected inventory rows once (sorted by product ID) and release the sums
+     * 4. Cancel items and orders with set-based updates
+     */
+    @Override
+    @Transactional
+    public ApiResponse<BulkCancelSalesOrderResponse> bulkCancelSalesOrders(BulkCancelSalesOrderRequest request,
+                                                                           String username) {
+        try {
+            List<Long> candidateIds = findBulkCancelCandidates(request);
+
+            List<Long> orderIds = request.isDryRun() || candidateIds.isEmpty()
+                    ? candidateIds
+                    : salesOrderRepository.findAllByIdInAndStatusInWithLock(candidateIds, CANCELLABLE_STATUSES)
+                            .stream().map(SalesOrder::getId).toList();
+
+            List<Long> skippedOrderIds = new ArrayList<>();
+            if (request.getOrderIds() != null && !request.getOrderIds().isEmpty()) {
+                Set<Long> cancellable = new HashSet<>(orderIds);
+                request.getOrderIds().stream()
+                        .distinct()
+                        .filter(id -> !cancellable.contains(id))
+                        .forEach(skippedOrderIds::add);
+            }
+
+            if (orderIds.isEmpty()) {
+                return ApiResponse.success("No sales orders to cancel", BulkCancelSalesOrderResponse.builder()
+                        .dryRun(request.isDryRun())
+                        .cancelledOrderIds(List.of())
+                        .skippedOrderIds(skippedOrderIds)
+                        .releases(List.of())
+                        .build());
+            }
+
+            Map<String, Integer> releaseByProduct = new TreeMap<>();
+            for (ProductReservedTotal total : orderItemRepository.sumOpenReservedBySalesOrderIds(orderIds)) {
+                if (total.reservedQuantity() > 0) {
+                    releaseByProduct.put(total.productId(), total.reservedQuantity().intValue());
+                }
+            }
+
+            List<StockRelease> releases;
+            int cancelledItems;
+            if (request.isDryRun()) {
+                releases = previewReleases(releaseByProduct);
+                cancelledItems = (int) orderItemRepository.countOpenBySalesOrderIds(orderIds);
+            } else {
+                releases = applyReleases(releaseByProduct);
+                cancelledItems = orderItemRepository.updateOpenItemsStatus(orderIds, OrderItemStatus.CANCELLED);
+                salesOrderRepository.updateStatusForCancel(orderIds, SalesOrderStatus.CANCELLED, username,
+                        GlobalServiceHelper.now(clock));
+            }
+
+            BulkCancelSalesOrderResponse response = BulkCancelSalesOrderResponse.builder()
+                    .dryRun(request.isDryRun())
+                    .cancelledOrders(orderIds.size())
+                    .cancelledItems(cancelledItems)
+                    .cancelledOrderIds(orderIds)
+                    .skippedOrderIds(skippedOrderIds)
+                    .releases(releases)
+                    .build();
+
+            log.info("[SO-INVENTORY] Bulk cancel by {}{}: {} orders, {} items, {} SKUs released",
+                    username, request.isDryRun() ? " (dry run)" : "", orderIds.size(), cancelledItems, releases.size());
+
+            String message = request.isDryRun()
+                    ? orderIds.size() + " sales orders would be cancelled"
+                    : orderIds.size() + " sales orders cancelled successfully";
+            return ApiResponse.success(message, response);
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            log.error("[SO-INVENTORY] Database error in bulk cancel: {}", e.getMessage());
+            throw new DatabaseException("Failed to cancel sales orders", e);
+        } catch (Exception e) {
+            log.error("[SO-INVENTORY] Error in bulk cancel: {}", e.getMessage());
+            throw new ServiceException("Failed to cancel sales orders", e);
+        }
+    }
+
+    private List<Long> findBulkCancelCandidates(BulkCancelSalesOrderRequest request) {
+        if (request.getOrderIds() != null && !request.getOrderIds().isEmpty()) {
+            return salesOrderRepository.findIdsByIdInAndStatusIn(request.getOrderIds(), CANCELLABLE_STATUSES);
+        }
+
+        boolean hasFilter = request.getCustomerName() != null || request.getProductId() != null
+                || request.getStatus() != null || request.getStartDate() != null || request.getEndDate() != null;
+        if (!hasFilter) {
+            throw new ValidationException("Either order IDs or at least one filter is required");
+        }
+        if (request.getStatus() != null && !CANCELLABLE_STATUSES.contains(request.getStatus())) {
+            throw new ValidationException("Only pending or partially approved orders can be cancelled");
+        }
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getStartDate().isAfter(request.getEndDate())) {
+            throw new ValidationException("Start date must be before end date");
+        }
+
+        List<SalesOrderStatus> statuses = request.getStatus() != null
+                ? List.of(request.getStatus())
+                : CANCELLABLE_STATUSES;
+        LocalDateTime from = request.getStartDate() != null ? request.getStartDate().atStartOfDay() : null;
+        LocalDateTime to = request.getEndDate() != null ? request.getEndDate().plusDays(1).atStartOfDay() : null;
+        String productId = request.getProductId() != null ? request.getProductId().toUpperCase() : null;
+        String customerName = request.getCustomerName() != null ? request.getCustomerName().trim() : null;
+
+        // Fetch one more than allowed to detect a filter that is too broad
+        List<Long> ids = salesOrderRepository.findIdsForBulkCancel(statuses, customerName, productId, from, to,
+                PageRequest.of(0, bulkCancelMaxOrders + 1));
+        if (ids.size() > bulkCancelMaxOrders) {
+            throw new ValidationException("Filter matches more than " + bulkCancelMaxOrders
+                    + " sales orders, please narrow it down");
+        }
+        return ids;
+    }
+
+    private List<StockRelease> applyReleases(Map<String, Integer> releaseByProduct) {
+        if (releaseByProduct.isEmpty()) {
+            return List.of();
+        }
+
+        List<StockRelease> releases = new ArrayList<>(releaseByProduct.size());
+        for (Inventory inventory : inventoryRepository.findAllByProductIdsWithLock(releaseByProduct.keySet())) {
+            int released = releaseByProduct.get(inventory.getProduct().getProductId());
+            int reservedBefore = inventory.getReservedStock();
+            if (reservedBefore < released) {
+                log.warn("[SO-INVENTORY] Attempting to release {} but only {} reserved for product {}",
+                        released, reservedBefore, inventory.getProduct().getProductId());
+            }
+
+            // Release reservation (don't go below 0), flushed with the order updates
+            inventory.setReservedStock(Math.max(0, reservedBefore - released));
+            releases.add(new StockRelease(inventory.getProduct().getProductId(), inventory.getSku(),
+                    released, reservedBefore, inventory.getReservedStock()));
+        }
+        return releases;
+    }
+
+    private List<StockRelease> previewReleases(Map<String, Integer> releaseByProduct) {
+        if (releaseByProduct.isEmpty()) {
+            return List.of();
+        }
+
+        return inventoryRepository.findBalancesByProductIds(new ArrayList<>(releaseByProduct.keySet())).stream()
+                .sorted(Comparator.comparing(InventoryBalance::productId))
+                .map(balance -> {
+                    int released = releaseByProduct.get(balance.productId());
+                    return new StockRelease(balance.productId(), balance.sku(), released,
+                            balance.reservedStock(), Math.max(0, balance.reservedStock() - released));
+                })
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginatedResponse<SummarySalesOrderView> searchInWaitingSalesOrders(String text, int page, int size,
@@ -9,6 +9,7 @@ import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.inventory.dto.InventoryRequest;
 import com.sims.simscoreservice.inventory.dto.InventoryResponse;
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
 import com.sims.simscoreservice.inventory.entity.Inventory;
 import com.sims.simscoreservice.inventory.helper.InventoryHelper;
 import com.sims.simscoreservice.inventory.repository.InventoryRepository;
@@ -68,6 +69,11 @@ public class TotalItemsServiceImpl implements TotalItemsService {
         }
     }
 
+    @Override
+    public StockLevelResponse getStockLevel(String sku) {
+        return inventoryQueryService.getStockLevel(sku);
+    }
+
     @Override
     @Transactional
     public ApiResponse<Void> updateInventoryStockLevels(String sku, InventoryRequest request) {
@@ -38,16 +38,10 @@ public class InventorySpecification {
     }
 
     /**
-     * Filter low stock items (current <= min level, status != INVALID)
+     * Filter low stock items (indexed flag: current <= min level, status != INVALID)
      */
     public static Specification<Inventory> hasLowStock() {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
-                criteriaBuilder.notEqual(root.get("status"), InventoryStatus.INVALID),
-                criteriaBuilder.lessThanOrEqualTo(
-                        root.get("currentStock"),
-                        root.get("minLevel")
-                )
-        );
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isTrue(root.get("lowStockFlag"));
     }
 
     /**
@@ -320,8 +320,12 @@ public class SalesOrderServiceImpl implements SalesOrderService {
      * Populate sales order with items (reserves stock)
      */
     private void populateSalesOrderWithItems(SalesOrder salesOrder, List<OrderItemRequest> itemRequests) {
+        // One cache lookup for the whole order (misses are loaded with a single query)
+        Map<String, Product> products = productQueryService.findAllCachedByIds(
+                itemRequests.stream().map(OrderItemRequest::getProductId).toList());
+
         for (OrderItemRequest itemDto : itemRequests) {
-            Product product = productQueryService.findById(itemDto.getProductId());
+            Product product = products.get(itemDto.getProductId());
 
             // Validate product status
             if (!product.isValidForSale()) {
@@ -334,7 +338,9 @@ public class SalesOrderServiceImpl implements SalesOrderService {
             log.debug("[SO-SERVICE] Reserved {} units of product {}", itemDto.getQuantity(), product.getProductId());
 
             // Create and add order item
-            OrderItem orderItem = new OrderItem(product, itemDto.getQuantity());
+            // Cached product is detached, associate a reference so the flush does not re-read it
+            OrderItem orderItem = new OrderItem(
+                    productQueryService.getReference(product.getProductId()), itemDto.getQuantity(), product.getPrice());
             salesOrder.addOrderItem(orderItem);
         }
     }
@@ -0,0 +1,133 @@
+package com.sims.simscoreservice.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sims.simscoreservice.product.entity.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Product Cache
+ * Near-cache of product rows for order entry; products change rarely compared with how often they are read.
+ *
+ * Entries are detached snapshots, copied from the loaded entity before they are stored, and every caller
+ * gets its own copy, so neither the persistence context nor a caller mutating a product can leak a change
+ * into the cache. Invalidated after commit by ProductCacheInvalidationListener, here and on the other instances
+ * (ProductCacheBroadcaster); a product loaded inside a transaction that rolls back is dropped as well, since it
+ * may hold that transaction's uncommitted changes. The TTL is only a safety net for lost broadcasts: order entry
+ * reads price and status from here, so keep it short.
+ *
+ * Hit ratio is exported as the "cache.gets" / "cache.puts" meters tagged cache=products.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCache {
+
+    private final MeterRegistry meterRegistry;
+    private Cache<String, Product> products;
+
+    @Value("${product.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${product.cache.max-size:10000}")
+    private long maxSize;
+
+    @PostConstruct
+    public void init() {
+        this.products = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "products");
+    }
+
+    /**
+     * Cached copy of the product, loaded with the given loader on a miss (null results are not cached)
+     */
+    public Product get(String productId, Function<String, Product> loader) {
+        Product product = products.get(productId, id -> {
+            Product loaded = loader.apply(id);
+            if (loaded == null) {
+                return null;
+            }
+            invalidateOnRollback(List.of(id));
+            return copyOf(loaded);
+        });
+        return product != null ? copyOf(product) : null;
+    }
+
+    /**
+     * Copies of all cached products; misses are loaded together with a single call of the loader.
+     * Ids the loader does not return are absent from the result.
+     */
+    public Map<String, Product> getAll(Collection<String> productIds,
+                                       Function<Set<String>, Map<String, Product>> loader) {
+        Map<String, Product> found = products.getAll(new LinkedHashSet<>(productIds), missing -> {
+            Map<String, Product> loaded = new LinkedHashMap<>();
+            loader.apply(new LinkedHashSet<>(missing)).forEach((productId, product) -> loaded.put(productId, copyOf(product)));
+            invalidateOnRollback(loaded.keySet());
+            return loaded;
+        });
+
+        Map<String, Product> copies = new LinkedHashMap<>(found.size());
+        found.forEach((productId, product) -> copies.put(productId, copyOf(product)));
+        return copies;
+    }
+
+    public void invalidate(String productId) {
+        products.invalidate(productId);
+        log.debug("[PRODUCT-CACHE] Invalidated product {}", productId);
+    }
+
+    public void invalidateAll(Collection<String> productIds) {
+        products.invalidateAll(productIds);
+        log.debug("[PRODUCT-CACHE] Invalidated {} products", productIds.size());
+    }
+
+    /**
+     * Drop products loaded inside a transaction if it rolls back
+     */
+    private void invalidateOnRollback(Collection<String> productIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || productIds.isEmpty()) {
+            return;
+        }
+        List<String> loaded = List.copyOf(productIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    loaded.forEach(ProductCache.this::invalidate);
+                }
+            }
+        });
+    }
+
+    private static Product copyOf(Product product) {
+        return new Product(
+                product.getProductId(),
+                product.getName(),
+                product.getLocation(),
+                product.getCategory(),
+                product.getPrice(),
+                product.getStatus(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
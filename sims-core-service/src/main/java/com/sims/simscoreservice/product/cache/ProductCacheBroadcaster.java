@@ -0,0 +1,133 @@
+package com.sims.simscoreservice.product.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Product Cache Broadcaster
+ * Sends committed product invalidations to the other sims-core-service instances registered in Eureka,
+ * so order entry on another instance does not keep using an old price or status.
+ *
+ * Same contract as InventoryCacheBroadcaster: fire-and-forget on one background thread, authenticated
+ * with the shared evict secret; a lost message leaves the peer on the old row until the TTL expires.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCacheBroadcaster {
+
+    public static final String EVICT_PATH = "/internal/product-cache/evict";
+    public static final String SECRET_HEADER = "X-Internal-Secret";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+
+    private ExecutorService executor;
+    private RestClient restClient;
+
+    @Value("${spring.application.name}")
+    private String serviceId;
+
+    @Value("${product.cache.broadcast-enabled:true}")
+    private boolean broadcastEnabled;
+
+    @Value("${product.cache.evict-secret:}")
+    private String evictSecret;
+
+    @PostConstruct
+    public void init() {
+        if (broadcastEnabled && evictSecret.isBlank()) {
+            log.warn("[PRODUCT-CACHE] No evict secret configured, cross-instance invalidation disabled");
+            broadcastEnabled = false;
+        }
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "product-cache-broadcast");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(1));
+        requestFactory.setReadTimeout(Duration.ofSeconds(2));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public void broadcast(Collection<String> productIds) {
+        if (!broadcastEnabled || productIds.isEmpty()) {
+            return;
+        }
+        List<String> payload = List.copyOf(productIds);
+        try {
+            executor.execute(() -> send(payload));
+        } catch (RejectedExecutionException e) {
+            log.warn("[PRODUCT-CACHE] Broadcast queue full, {} products left to TTL expiry", payload.size());
+        }
+    }
+
+    private void send(List<String> productIds) {
+        Registration self = registration.getIfAvailable();
+        String selfId = self != null ? self.getInstanceId() : null;
+
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+            if (instance.getInstanceId() != null && instance.getInstanceId().equals(selfId)) {
+                continue;
+            }
+            try {
+                restClient.post()
+                        .uri(instance.getUri() + EVICT_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(SECRET_HEADER, evictSecret)
+                        .body(new ProductCacheEvictRequest(productIds))
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (Exception e) {
+                log.warn("[PRODUCT-CACHE] Failed to send evictions to {}: {}", instance.getInstanceId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Whether a presented secret matches the configured one (constant time; always false when unset)
+     */
+    public boolean isTrustedPeer(String presentedSecret) {
+        if (evictSecret.isBlank() || presentedSecret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(evictSecret.getBytes(StandardCharsets.UTF_8),
+                presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Request DTO
+     */
+    public record ProductCacheEvictRequest(List<String> productIds) {}
+}
@@ -0,0 +1,72 @@
+package com.sims.simscoreservice.product.cache;
+
+import com.sims.simscoreservice.product.entity.Product;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Product Cache Invalidation Listener
+ * JPA entity listener on Product: updates (ProductServiceImpl.updateProduct, status changes) and deletes
+ * mark the product, and the marked products are evicted from the near-cache once the transaction commits,
+ * locally and on the other instances.
+ * Inserts need nothing, missing products are never cached.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener {
+
+    private final ProductCache productCache;
+    private final ProductCacheBroadcaster productCacheBroadcaster;
+
+    @PostUpdate
+    @PostRemove
+    public void onProductChanged(Product product) {
+        invalidateAfterCommit(List.of(product.getProductId()));
+    }
+
+    /**
+     * Evict the products when the current transaction commits (immediately if there is none).
+     * Also used by set-based SQL updates, which bypass entity callbacks.
+     */
+    public void invalidateAfterCommit(Collection<String> productIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(productIds);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> pendingIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, pendingIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductCacheInvalidationListener.this);
+                    if (status == STATUS_COMMITTED) {
+                        invalidate(pendingIds);
+                    }
+                }
+            });
+            pending = pendingIds;
+        }
+        pending.addAll(productIds);
+    }
+
+    private void invalidate(Collection<String> productIds) {
+        productCache.invalidateAll(productIds);
+        productCacheBroadcaster.broadcast(productIds);
+    }
+}
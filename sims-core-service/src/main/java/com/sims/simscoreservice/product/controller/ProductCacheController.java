@@ -0,0 +1,45 @@
+package com.sims.simscoreservice.product.controller;
+
+import com.sims.common.models.ApiResponse;
+import com.sims.simscoreservice.exceptions.ForbiddenException;
+import com.sims.simscoreservice.product.cache.ProductCache;
+import com.sims.simscoreservice.product.cache.ProductCacheBroadcaster;
+import com.sims.simscoreservice.product.cache.ProductCacheBroadcaster.ProductCacheEvictRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Product Cache Controller
+ * Instance-to-instance endpoint, not routed by the API Gateway.
+ * Callers must present the shared evict secret, since the instance port itself is reachable.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@RestController
+@RequiredArgsConstructor
+public class ProductCacheController {
+
+    private final ProductCache productCache;
+    private final ProductCacheBroadcaster productCacheBroadcaster;
+
+    /**
+     * Evict products written on another instance
+     */
+    @PostMapping(ProductCacheBroadcaster.EVICT_PATH)
+    public ResponseEntity<ApiResponse<Void>> evict(
+            @RequestHeader(value = ProductCacheBroadcaster.SECRET_HEADER, required = false) String secret,
+            @RequestBody ProductCacheEvictRequest request) {
+        if (!productCacheBroadcaster.isTrustedPeer(secret)) {
+            throw new ForbiddenException("Untrusted product cache eviction");
+        }
+        if (request.productIds() != null) {
+            productCache.invalidateAll(request.productIds());
+        }
+        return ResponseEntity.ok(ApiResponse.success("Evicted"));
+    }
+}
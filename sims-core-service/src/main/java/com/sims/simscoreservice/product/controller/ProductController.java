@@ -5,9 +5,14 @@ import com.sims.common.models.ApiResponse;
 import com.sims.common.models.PaginatedResponse;
 import com.sims.simscoreservice.product.dto.BatchProductRequest;
 import com.sims.simscoreservice.product.dto.BatchProductResponse;
+import com.sims.simscoreservice.product.dto.BulkProductUpdateRequest;
+import com.sims.simscoreservice.product.dto.BulkProductUpdateResponse;
+import com.sims.simscoreservice.product.dto.ProductImportRequest;
 import com.sims.simscoreservice.product.dto.ProductRequest;
 import com.sims.simscoreservice.product.dto.ProductResponse;
 import com.sims.simscoreservice.product.services.ProductService;
+import com.sims.simscoreservice.product.services.bulkService.ProductBulkUpdateService;
+import com.sims.simscoreservice.product.services.importService.ProductImportService;
 import com.sims.simscoreservice.shared.util.RoleValidator;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -36,6 +41,8 @@ import static com.sims.common.constants.AppConstants.DEFAULT_PAGE_NUMBER;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductBulkUpdateService productBulkUpdateService;
     private final RoleValidator roleValidator;
 
     /**
@@ -115,6 +122,76 @@ public class ProductController {
                 .body(ApiResponse.success(message, response));
     }
 
+    /**
+     * Bulk import products (large catalogs)
+     * Invalid rows are reported per index, valid rows are imported
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<BatchProductResponse>> importProducts(
+            @Valid @RequestBody ProductImportRequest request,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[PRODUCT-CONTROLLER] Import {} products by user: {}", request.getProducts().size(), userId);
+
+        // Check authorization
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        BatchProductResponse response = productImportService.importProducts(request.getProducts(), userId);
+
+        HttpStatus status = response.getFailureCount() > 0
+                ? HttpStatus.MULTI_STATUS  // 207: Partial success
+                : HttpStatus.CREATED;       // 201: All succeeded
+
+        String message = String.format("Imported %d/%d products successfully",
+                response.getSuccessCount(),
+                response.getTotalRequested());
+
+        return ResponseEntity.status(status)
+                .body(ApiResponse.success(message, response));
+    }
+
+    /**
+     * Bulk reprice products of a category or an ID list
+     * Products whose new price would leave the allowed range are skipped
+     */
+    @PatchMapping("/bulk/price")
+    public ResponseEntity<ApiResponse<BulkProductUpdateResponse>> bulkUpdatePrice(
+            @Valid @RequestBody BulkProductUpdateRequest request,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[PRODUCT-CONTROLLER] Bulk price update by user: {}", userId);
+
+        // Check authorization
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        BulkProductUpdateResponse response = productBulkUpdateService.updatePrices(request, userId);
+
+        String message = String.format("Repriced %d/%d products", response.getUpdatedCount(), response.getMatchedCount());
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+
+    /**
+     * Bulk status change (e.g. archive a category), inventory follows the new status
+     */
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkProductUpdateResponse>> bulkUpdateStatus(
+            @Valid @RequestBody BulkProductUpdateRequest request,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[PRODUCT-CONTROLLER] Bulk status update by user: {}", userId);
+
+        // Check authorization
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        BulkProductUpdateResponse response = productBulkUpdateService.updateStatus(request, userId);
+
+        String message = String.format("Updated status of %d/%d products", response.getUpdatedCount(), response.getMatchedCount());
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> updateProduct(
             @PathVariable String id,
@@ -0,0 +1,40 @@
+package com.sims.simscoreservice.product.dto;
+
+import com.sims.simscoreservice.product.enums.ProductCategories;
+import com.sims.simscoreservice.product.enums.ProductStatus;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Bulk Product Update Request DTO
+ * Selects products by ID list or by category (exactly one of them)
+ * and applies a price multiplier or a new status to all of them
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkProductUpdateRequest {
+
+    @Size(max = 10000, message = "Cannot update more than 10000 products by ID at once")
+    private List<String> productIds;
+
+    private ProductCategories category;
+
+    // Price updates: new price = old price × multiplier (e.g. 1.05 for +5%)
+    @DecimalMin(value = "0.01", message = "Price multiplier must be positive")
+    @DecimalMax(value = "10.00", message = "Price multiplier cannot exceed 10")
+    private BigDecimal priceMultiplier;
+
+    // Status updates
+    private ProductStatus status;
+}
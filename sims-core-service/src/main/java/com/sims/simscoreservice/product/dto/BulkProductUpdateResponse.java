@@ -0,0 +1,25 @@
+package com.sims.simscoreservice.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Product Update Response DTO
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkProductUpdateResponse {
+    private int matchedCount;            // Products selected
+    private int updatedCount;            // Products changed
+    private int skippedCount;            // Selected but left unchanged (e.g. price out of range)
+    private int inventoryUpdatedCount;   // Inventory rows whose status was synced
+    private int inventoryCreatedCount;   // Inventory rows added for products that became sellable
+    private long durationMs;
+}
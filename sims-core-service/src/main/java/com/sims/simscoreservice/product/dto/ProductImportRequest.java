@@ -0,0 +1,27 @@
+package com.sims.simscoreservice.product.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Product Import Request DTO
+ * Used for bulk catalog imports; rows are validated by the import itself
+ * so invalid rows are reported instead of rejecting the whole request
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductImportRequest {
+
+    @NotEmpty(message = "Products list cannot be empty")
+    @Size(max = 50000, message = "Import size cannot exceed 50000 products")
+    private List<ProductRequest> products;
+}
@@ -1,5 +1,6 @@
 package com.sims.simscoreservice.product.entity;
 
+import com.sims.simscoreservice.product.cache.ProductCacheInvalidationListener;
 import com.sims.simscoreservice.product.enums.ProductCategories;
 import com.sims.simscoreservice.product.enums.ProductStatus;
 import jakarta.persistence.*;
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
  * @since 2025-01-23
  */
 @Entity
+@EntityListeners(ProductCacheInvalidationListener.class)
 @Table(name = "products")
 @Data
 @AllArgsConstructor
@@ -0,0 +1,31 @@
+package com.sims.simscoreservice.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Product ID Sequence
+ * Next free numeric part of product IDs (PRD001, ...), handed out in blocks by ProductIdAllocator
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Entity
+@Table(name = "product_id_sequence")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductIdSequence {
+
+    @Id
+    @Column(name = "prefix", length = 10)
+    private String prefix;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,25 @@
+package com.sims.simscoreservice.product.repository;
+
+import com.sims.simscoreservice.product.entity.ProductIdSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Product ID Sequence Repository
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Repository
+public interface ProductIdSequenceRepository extends JpaRepository<ProductIdSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductIdSequence s WHERE s.prefix = :prefix")
+    Optional<ProductIdSequence> findForUpdate(@Param("prefix") String prefix);
+}
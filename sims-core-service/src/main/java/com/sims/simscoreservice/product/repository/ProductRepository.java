@@ -2,6 +2,7 @@ package com.sims.simscoreservice.product.repository;
 
 import com.sims.simscoreservice.product.dto.ProductReportMetrics;
 import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.product.enums.ProductCategories;
 import com.sims.simscoreservice.product.enums.ProductStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,11 +26,17 @@ public interface ProductRepository extends JpaRepository<Product, String>, JpaSp
 
     /**
      * Get last product ID for auto-increment
+     * Ordered by length first so PRD1000 sorts after PRD999
      */
-    // TODO: Update if not working
-    @Query("SELECT p.productId FROM Product p ORDER BY p.productId DESC LIMIT 1")
+    @Query("SELECT p.productId FROM Product p ORDER BY LENGTH(p.productId) DESC, p.productId DESC LIMIT 1")
     Optional<String> findLastProductId();
 
+    /**
+     * Product IDs of a category, in ID order (bulk updates)
+     */
+    @Query("SELECT p.productId FROM Product p WHERE p.category = :category ORDER BY p.productId")
+    List<String> findProductIdsByCategory(@Param("category") ProductCategories category);
+
     /**
      * Search products by text (across multiple fields)
      */
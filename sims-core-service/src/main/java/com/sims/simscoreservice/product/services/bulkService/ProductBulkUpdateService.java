@@ -0,0 +1,270 @@
+package com.sims.simscoreservice.product.services.bulkService;
+
+import com.sims.common.exceptions.DatabaseException;
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.inventory.cache.InventoryCacheInvalidationListener;
+import com.sims.simscoreservice.inventory.helper.InventoryHelper;
+import com.sims.simscoreservice.product.cache.ProductCacheInvalidationListener;
+import com.sims.simscoreservice.product.dto.BulkProductUpdateRequest;
+import com.sims.simscoreservice.product.dto.BulkProductUpdateResponse;
+import com.sims.simscoreservice.product.enums.ProductCategories;
+import com.sims.simscoreservice.product.enums.ProductStatus;
+import com.sims.simscoreservice.product.helper.ProductHelper;
+import com.sims.simscoreservice.product.repository.ProductRepository;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Product Bulk Update Service
+ * Reprices or changes the status of many products with set-based SQL instead of one
+ * load/save cycle per product. Products are processed in chunks, one transaction per chunk.
+ *
+ * Status changes keep inventory in sync in the same transaction, following updateProduct:
+ * - RESTRICTED / ARCHIVED / DISCONTINUED: inventory becomes INVALID
+ * - ACTIVE / ON_ORDER: INVALID inventory gets its stock based status back; missing inventory rows are created
+ *   (batch insert, SKU from InventoryHelper) for products ProductHelper.validateStatusBeforeAdding allows
+ * - PLANNING: inventory is left as is
+ *
+ * SQL bypasses entity callbacks, so the product and inventory caches are invalidated explicitly,
+ * in bulk, after each chunk commits.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductBulkUpdateService {
+
+    private static final String SELECT_EXISTING_IDS_SQL =
+            "SELECT product_id FROM products WHERE product_id IN (:ids)";
+
+    private static final String UPDATE_PRICE_SQL = """
+            UPDATE products
+            SET price = ROUND(price * :multiplier, 2), updated_at = :now
+            WHERE product_id IN (:ids)
+              AND ROUND(price * :multiplier, 2) BETWEEN 0.01 AND 99999.99
+            """;
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE products
+            SET status = :status, updated_at = :now
+            WHERE product_id IN (:ids) AND status <> :status
+            """;
+
+    private static final String INVALIDATE_INVENTORY_SQL = """
+            UPDATE inventory
+            SET status = 'INVALID', low_stock = FALSE, critical_stock = FALSE, stock_ratio = NULL, last_update = :now
+            WHERE product_id IN (:ids) AND status <> 'INVALID'
+            """;
+
+    // Same derivation as InventoryHelper.determineInventoryStatus and Inventory.refreshLowStockIndex
+    private static final String REVALIDATE_INVENTORY_SQL = """
+            UPDATE inventory
+            SET status = CASE WHEN current_stock <= min_level THEN 'LOW_STOCK' ELSE 'IN_STOCK' END,
+                low_stock = current_stock <= min_level,
+                critical_stock = current_stock <= min_level AND current_stock <= 0.25 * min_level,
+                stock_ratio = CASE WHEN current_stock <= min_level AND min_level > 0
+                                   THEN current_stock * 100.0 / min_level END,
+                last_update = :now
+            WHERE product_id IN (:ids) AND status = 'INVALID'
+            """;
+
+    // Read before the status update, so the previous status decides whether a row may be created
+    private static final String SELECT_MISSING_INVENTORY_SQL = """
+            SELECT p.product_id, p.category, p.location, p.status
+            FROM products p
+            LEFT JOIN inventory i ON i.product_id = p.product_id
+            WHERE p.product_id IN (:ids) AND i.sku IS NULL
+            """;
+
+    // Same initial row as InventoryService.addProduct
+    private static final String INSERT_INVENTORY_SQL = """
+            INSERT INTO inventory
+                (sku, product_id, location, current_stock, min_level, reserved_stock, status,
+                 low_stock, critical_stock, stock_ratio, last_update)
+            VALUES (:sku, :productId, :location, 0, 0, 0, 'LOW_STOCK', TRUE, TRUE, NULL, :now)
+            """;
+
+    private static final String SELECT_SKUS_SQL =
+            "SELECT sku FROM inventory WHERE product_id IN (:ids)";
+
+    private final Clock clock;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ProductRepository productRepository;
+    private final ProductHelper productHelper;
+    private final InventoryHelper inventoryHelper;
+    private final ProductCacheInvalidationListener productCacheInvalidationListener;
+    private final InventoryCacheInvalidationListener inventoryCacheInvalidationListener;
+
+    @Value("${product.bulk-update.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Multiply the price of all selected products; products whose new price would leave
+     * the allowed range (0.01 - 99999.99) are skipped
+     */
+    public BulkProductUpdateResponse updatePrices(BulkProductUpdateRequest request, String userId) {
+        if (request.getPriceMultiplier() == null) {
+            throw new ValidationException("Price multiplier is required");
+        }
+        BigDecimal multiplier = request.getPriceMultiplier();
+
+        log.info("[PRODUCT-BULK] Price x{} requested by user: {}", multiplier, userId);
+        return run(request, (ids, now, result) -> {
+            int updated = jdbcTemplate.update(UPDATE_PRICE_SQL, params(ids, now).addValue("multiplier", multiplier));
+            result.updatedCount += updated;
+            productCacheInvalidationListener.invalidateAfterCommit(ids);
+        });
+    }
+
+    /**
+     * Set the status of all selected products and sync their inventory
+     */
+    public BulkProductUpdateResponse updateStatus(BulkProductUpdateRequest request, String userId) {
+        if (request.getStatus() == null) {
+            throw new ValidationException("Status is required");
+        }
+        ProductStatus status = request.getStatus();
+
+        log.info("[PRODUCT-BULK] Status {} requested by user: {}", status, userId);
+        return run(request, (ids, now, result) -> {
+            MapSqlParameterSource params = params(ids, now).addValue("status", status.name());
+            boolean becomesValid = status == ProductStatus.ACTIVE || status == ProductStatus.ON_ORDER;
+            List<MissingInventory> missingInventory = becomesValid
+                    ? jdbcTemplate.query(SELECT_MISSING_INVENTORY_SQL, params, MISSING_INVENTORY_MAPPER)
+                    : List.of();
+
+            result.updatedCount += jdbcTemplate.update(UPDATE_STATUS_SQL, params);
+
+            if (GlobalServiceHelper.amongInvalidStatus(status)) {
+                result.inventoryUpdatedCount += jdbcTemplate.update(INVALIDATE_INVENTORY_SQL, params);
+            } else if (becomesValid) {
+                result.inventoryUpdatedCount += jdbcTemplate.update(REVALIDATE_INVENTORY_SQL, params);
+                result.inventoryCreatedCount += insertMissingInventory(missingInventory, status, now);
+            }
+
+            productCacheInvalidationListener.invalidateAfterCommit(ids);
+            jdbcTemplate.queryForList(SELECT_SKUS_SQL, params, String.class)
+                    .forEach(inventoryCacheInvalidationListener::invalidateAfterCommit);
+        });
+    }
+
+    /**
+     * Create the initial inventory rows in one JDBC batch, for the products whose
+     * previous status allows adding them to inventory (same rule as updateProduct)
+     */
+    private int insertMissingInventory(List<MissingInventory> missingInventory, ProductStatus newStatus, Timestamp now) {
+        SqlParameterSource[] rows = missingInventory.stream()
+                .filter(missing -> productHelper.validateStatusBeforeAdding(missing.status(), newStatus))
+                .map(missing -> new MapSqlParameterSource()
+                        .addValue("sku", inventoryHelper.generateSku(missing.productId(), missing.category()))
+                        .addValue("productId", missing.productId())
+                        .addValue("location", missing.location())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+
+        if (rows.length > 0) {
+            jdbcTemplate.batchUpdate(INSERT_INVENTORY_SQL, rows);
+        }
+        return rows.length;
+    }
+
+    private BulkProductUpdateResponse run(BulkProductUpdateRequest request, ChunkUpdate update) {
+        long startTime = System.currentTimeMillis();
+        List<String> productIds = selectProductIds(request);
+        Timestamp now = Timestamp.valueOf(GlobalServiceHelper.now(clock));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Result result = new Result();
+
+        try {
+            for (int from = 0; from < productIds.size(); from += chunkSize) {
+                List<String> chunk = productIds.subList(from, Math.min(from + chunkSize, productIds.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<String> existing = jdbcTemplate.queryForList(
+                            SELECT_EXISTING_IDS_SQL, params(chunk, now), String.class);
+                    if (existing.isEmpty()) {
+                        return;
+                    }
+                    result.matchedCount += existing.size();
+                    update.apply(existing, now, result);
+                });
+            }
+        } catch (DataAccessException e) {
+            log.error("[PRODUCT-BULK] Database error after {} updated products: {}", result.updatedCount, e.getMessage());
+            throw new DatabaseException("Bulk update failed after " + result.updatedCount + " products were updated", e);
+        }
+
+        long durationMs = System.currentTimeMillis() - startTime;
+        log.info("[PRODUCT-BULK] Updated {}/{} products in {}ms", result.updatedCount, result.matchedCount, durationMs);
+
+        return BulkProductUpdateResponse.builder()
+                .matchedCount(result.matchedCount)
+                .updatedCount(result.updatedCount)
+                .skippedCount(result.matchedCount - result.updatedCount)
+                .inventoryUpdatedCount(result.inventoryUpdatedCount)
+                .inventoryCreatedCount(result.inventoryCreatedCount)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private List<String> selectProductIds(BulkProductUpdateRequest request) {
+        boolean byIds = request.getProductIds() != null && !request.getProductIds().isEmpty();
+        boolean byCategory = request.getCategory() != null;
+        if (byIds == byCategory) {
+            throw new ValidationException("Select products either by productIds or by category");
+        }
+
+        if (byCategory) {
+            return productRepository.findProductIdsByCategory(request.getCategory());
+        }
+        List<String> productIds = new ArrayList<>(new LinkedHashSet<>(request.getProductIds()));
+        productIds.replaceAll(String::toUpperCase);
+        return productIds;
+    }
+
+    private static MapSqlParameterSource params(List<String> ids, Timestamp now) {
+        return new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", now);
+    }
+
+    private static final RowMapper<MissingInventory> MISSING_INVENTORY_MAPPER = (rs, rowNum) -> new MissingInventory(
+            rs.getString("product_id"),
+            ProductCategories.valueOf(rs.getString("category")),
+            rs.getString("location"),
+            ProductStatus.valueOf(rs.getString("status")));
+
+    private record MissingInventory(String productId, ProductCategories category, String location,
+                                    ProductStatus status) {}
+
+    @FunctionalInterface
+    private interface ChunkUpdate {
+        void apply(List<String> productIds, Timestamp now, Result result);
+    }
+
+    private static final class Result {
+        private int matchedCount;
+        private int updatedCount;
+        private int inventoryUpdatedCount;
+        private int inventoryCreatedCount;
+    }
+}
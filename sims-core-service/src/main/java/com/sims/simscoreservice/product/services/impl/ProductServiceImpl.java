@@ -21,6 +21,7 @@ import com.sims.simscoreservice.product.helper.ProductHelper;
 import com.sims.simscoreservice.product.mapper.ProductMapper;
 import com.sims.simscoreservice.product.repository.ProductRepository;
 import com.sims.simscoreservice.product.services.ProductService;
+import com.sims.simscoreservice.product.services.importService.ProductIdAllocator;
 import com.sims.simscoreservice.product.services.queryService.ProductQueryService;
 import com.sims.simscoreservice.product.services.searchService.ProductSearchService;
 import com.sims.simscoreservice.salesOrder.queryService.SalesOrderQueryService;
@@ -53,6 +54,7 @@ public class ProductServiceImpl implements ProductService {
     // ========== Components ==========
     private final ProductMapper productMapper;
     private final ProductHelper productHelper;
+    private final ProductIdAllocator productIdAllocator;
 
     // ========== Services ==========
     private final ProductQueryService productQueryService;
@@ -385,14 +387,9 @@ public class ProductServiceImpl implements ProductService {
 
     /**
      * Generate unique product ID (PRD001, PRD002, ...)
+     * Taken from the same locked sequence as imports, so concurrent adds never receive the same ID
      */
-    @Transactional(readOnly = true)
     public String generateProductId() {
-        return productRepository.findLastProductId()
-                .map(lastId -> {
-                    int lastNumber = Integer.parseInt(lastId.substring(3));
-                    return String.format("PRD%03d", lastNumber + 1);
-                })
-                .orElse("PRD001");
+        return productIdAllocator.allocate(1).get(0);
     }
 }
@@ -0,0 +1,88 @@
+package com.sims.simscoreservice.product.services.importService;
+
+import com.sims.simscoreservice.product.entity.ProductIdSequence;
+import com.sims.simscoreservice.product.repository.ProductIdSequenceRepository;
+import com.sims.simscoreservice.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Product ID Allocator
+ * Reserves a contiguous block of product IDs in one short transaction, so a bulk import
+ * needs one round trip for all its IDs and two concurrent imports never receive the same ID.
+ *
+ * The sequence row is locked while the block is taken and the block always starts after the
+ * highest existing product ID, so IDs created through the single add path are never reused.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductIdAllocator {
+
+    public static final String PREFIX = "PRD";
+
+    private final ProductIdSequenceRepository productIdSequenceRepository;
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Allocate count consecutive product IDs (committed independently of the caller's transaction)
+     */
+    public List<String> allocate(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        long first;
+        try {
+            first = allocateBlock(count);
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            // Another instance created the sequence row at the same moment, the row exists now
+            log.debug("[PRODUCT-ID-ALLOCATOR] Retrying block allocation: {}", e.getMessage());
+            first = allocateBlock(count);
+        }
+
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(format(first + i));
+        }
+        log.info("[PRODUCT-ID-ALLOCATOR] Allocated {} product IDs: {} - {}", count, ids.get(0), ids.get(count - 1));
+        return ids;
+    }
+
+    public static String format(long number) {
+        return String.format(PREFIX + "%03d", number);
+    }
+
+    private long allocateBlock(int count) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return transactionTemplate.execute(status -> {
+            // Lock first, so the product ID read below is not older than the lock
+            ProductIdSequence sequence = productIdSequenceRepository.findForUpdate(PREFIX)
+                    .orElseGet(() -> new ProductIdSequence(PREFIX, 1L));
+
+            long nextAfterExisting = productRepository.findLastProductId()
+                    .map(lastId -> Long.parseLong(lastId.substring(PREFIX.length())) + 1)
+                    .orElse(1L);
+
+            long first = Math.max(sequence.getNextValue(), nextAfterExisting);
+            sequence.setNextValue(first + count);
+            productIdSequenceRepository.saveAndFlush(sequence);
+            return first;
+        });
+    }
+}
@@ -0,0 +1,264 @@
+package com.sims.simscoreservice.product.services.importService;
+
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.helper.InventoryHelper;
+import com.sims.simscoreservice.product.dto.BatchProductResponse;
+import com.sims.simscoreservice.product.dto.ProductRequest;
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.product.enums.ProductStatus;
+import com.sims.simscoreservice.product.helper.ProductHelper;
+import com.sims.simscoreservice.product.mapper.ProductMapper;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Product Import Service
+ * Bulk product import for large catalogs (tens of thousands of rows):
+ * 1. Rows are validated in parallel, invalid rows are reported and skipped
+ * 2. One contiguous block of product IDs is allocated for all valid rows
+ * 3. Products and inventory rows are inserted with JDBC batches, one transaction per chunk
+ *
+ * A failing chunk is retried row by row, so one bad row only costs its own insert and is reported
+ * with its index instead of failing the whole chunk.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportService {
+
+    private static final String INSERT_PRODUCT_SQL = """
+            INSERT INTO products
+                (product_id, name, location, category, price, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_INVENTORY_SQL = """
+            INSERT INTO inventory
+                (sku, product_id, location, current_stock, min_level, reserved_stock, status,
+                 low_stock, critical_stock, stock_ratio, last_update)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final Clock clock;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ProductIdAllocator productIdAllocator;
+    private final ProductMapper productMapper;
+    private final ProductHelper productHelper;
+    private final InventoryHelper inventoryHelper;
+
+    private ExecutorService executor;
+
+    @Value("${product.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${product.import.validation-threads:4}")
+    private int validationThreads;
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newFixedThreadPool(validationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "product-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Import products; row indexes in the response refer to positions in the given list
+     */
+    public BatchProductResponse importProducts(List<ProductRequest> requests, String userId) {
+        long startTime = System.currentTimeMillis();
+        log.info("[PRODUCT-IMPORT] Importing {} products by user: {}", requests.size(), userId);
+
+        // 1. Validate and map in parallel
+        Product[] products = new Product[requests.size()];
+        List<BatchProductResponse.ProductError> errors = new ArrayList<>(validateAll(requests, products));
+        Set<Integer> invalidIndexes = new HashSet<>();
+        errors.forEach(error -> invalidIndexes.add(error.getIndex()));
+
+        List<Integer> validIndexes = new ArrayList<>(requests.size() - invalidIndexes.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (!invalidIndexes.contains(i)) {
+                validIndexes.add(i);
+            }
+        }
+
+        // 2. One ID block for all valid rows
+        List<String> productIds = productIdAllocator.allocate(validIndexes.size());
+
+        // 3. Build rows
+        Timestamp now = Timestamp.valueOf(GlobalServiceHelper.now(clock));
+        List<ImportRow> rows = new ArrayList<>(validIndexes.size());
+        for (int i = 0; i < validIndexes.size(); i++) {
+            int index = validIndexes.get(i);
+            rows.add(toImportRow(index, requests.get(index), products[index], productIds.get(i)));
+        }
+
+        // 4. Insert chunk by chunk
+        List<String> successfulIds = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<ImportRow> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            insertChunk(chunk, now, successfulIds, errors);
+        }
+
+        errors.sort(Comparator.comparingInt(BatchProductResponse.ProductError::getIndex));
+        BatchProductResponse response = BatchProductResponse.builder()
+                .totalRequested(requests.size())
+                .successCount(successfulIds.size())
+                .failureCount(errors.size())
+                .successfulProductIds(successfulIds)
+                .errors(errors)
+                .build();
+
+        log.info("[PRODUCT-IMPORT] Import completed - {}/{} successful in {}ms",
+                response.getSuccessCount(), response.getTotalRequested(), System.currentTimeMillis() - startTime);
+        return response;
+    }
+
+    /**
+     * Validate every row and map the valid ones into products (each slice fills its own indexes)
+     */
+    private List<BatchProductResponse.ProductError> validateAll(List<ProductRequest> requests, Product[] products) {
+        int sliceSize = Math.max(1, (requests.size() + validationThreads - 1) / validationThreads);
+
+        List<CompletableFuture<List<BatchProductResponse.ProductError>>> slices = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += sliceSize) {
+            int start = from;
+            int end = Math.min(from + sliceSize, requests.size());
+            slices.add(CompletableFuture.supplyAsync(() -> validateSlice(requests, products, start, end), executor));
+        }
+
+        List<BatchProductResponse.ProductError> errors = new ArrayList<>();
+        slices.forEach(slice -> errors.addAll(slice.join()));
+        return errors;
+    }
+
+    private List<BatchProductResponse.ProductError> validateSlice(List<ProductRequest> requests, Product[] products,
+                                                                  int start, int end) {
+        List<BatchProductResponse.ProductError> errors = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            ProductRequest request = requests.get(i);
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("Empty row");
+                }
+                productHelper.validateProduct(request);
+                products[i] = productMapper.toEntity(request);
+            } catch (Exception e) {
+                errors.add(new BatchProductResponse.ProductError(i, request, e.getMessage()));
+            }
+        }
+        return errors;
+    }
+
+    private ImportRow toImportRow(int index, ProductRequest request, Product product, String productId) {
+        product.setProductId(productId);
+
+        Inventory inventory = null;
+        if (!ProductStatus.PLANNING.equals(request.getStatus())) {
+            // Same initial state as InventoryService.addProduct
+            inventory = new Inventory();
+            inventory.setSku(inventoryHelper.generateSku(productId, product.getCategory()));
+            inventory.setProduct(product);
+            inventory.setLocation(product.getLocation());
+            inventory.setCurrentStock(0);
+            inventory.setMinLevel(0);
+            inventory.setReservedStock(0);
+            inventory.setStatus(inventoryHelper.determineInventoryStatus(product, 0, 0, false));
+            inventory.refreshLowStockIndex();
+        }
+        return new ImportRow(index, request, product, inventory);
+    }
+
+    private void insertChunk(List<ImportRow> chunk, Timestamp now,
+                             List<String> successfulIds, List<BatchProductResponse.ProductError> errors) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(chunk, now));
+            chunk.forEach(row -> successfulIds.add(row.product().getProductId()));
+            log.debug("[PRODUCT-IMPORT] Inserted chunk of {} products", chunk.size());
+        } catch (DataAccessException chunkError) {
+            log.warn("[PRODUCT-IMPORT] Chunk of {} products failed, retrying row by row: {}",
+                    chunk.size(), chunkError.getMessage());
+
+            for (ImportRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertRows(List.of(row), now));
+                    successfulIds.add(row.product().getProductId());
+                } catch (DataAccessException rowError) {
+                    String message = NestedExceptionUtils.getMostSpecificCause(rowError).getMessage();
+                    errors.add(new BatchProductResponse.ProductError(row.index(), row.request(), message));
+                }
+            }
+        }
+    }
+
+    private void insertRows(List<ImportRow> rows, Timestamp now) {
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, rows, rows.size(), (ps, row) -> {
+            Product product = row.product();
+            ps.setString(1, product.getProductId());
+            ps.setString(2, product.getName());
+            ps.setString(3, product.getLocation());
+            ps.setString(4, product.getCategory().name());
+            ps.setBigDecimal(5, product.getPrice());
+            ps.setString(6, product.getStatus().name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+
+        List<Inventory> inventories = rows.stream()
+                .map(ImportRow::inventory)
+                .filter(Objects::nonNull)
+                .toList();
+        if (inventories.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_INVENTORY_SQL, inventories, inventories.size(), (ps, inventory) -> {
+            ps.setString(1, inventory.getSku());
+            ps.setString(2, inventory.getProduct().getProductId());
+            ps.setString(3, inventory.getLocation());
+            ps.setInt(4, inventory.getCurrentStock());
+            ps.setInt(5, inventory.getMinLevel());
+            ps.setInt(6, inventory.getReservedStock());
+            ps.setString(7, inventory.getStatus().name());
+            ps.setBoolean(8, inventory.getLowStockFlag());
+            ps.setBoolean(9, inventory.getCriticalStockFlag());
+            if (inventory.getStockRatio() != null) {
+                ps.setDouble(10, inventory.getStockRatio());
+            } else {
+                ps.setNull(10, Types.DOUBLE);
+            }
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    private record ImportRow(int index, ProductRequest request, Product product, Inventory inventory) {}
+}
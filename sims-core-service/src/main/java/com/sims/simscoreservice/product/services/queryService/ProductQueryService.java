@@ -5,6 +5,7 @@ import com.sims.common.exceptions.DatabaseException;
 import com.sims.common.exceptions.ResourceNotFoundException;
 import com.sims.common.exceptions.ServiceException;
 import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.product.cache.ProductCache;
 import com.sims.simscoreservice.product.dto.ProductReportMetrics;
 import com.sims.simscoreservice.product.entity.Product;
 import com.sims.simscoreservice.product.enums.ProductStatus;
@@ -19,7 +20,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Shared query service for product-related read operations
@@ -33,6 +39,7 @@ public class ProductQueryService {
 
     private final ProductRepository productRepository;
     private final GlobalServiceHelper globalServiceHelper;
+    private final ProductCache productCache;
 
     /**
      * Find product by ID - throws exception if not found
@@ -44,6 +51,46 @@ public class ProductQueryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
     }
 
+    /**
+     * Find product by ID through the near-cache - throws exception if not found
+     * Returns a detached copy: read it, never save it (use findById for updates)
+     */
+    public Product findCachedById(String productId) {
+        Product product = productCache.get(productId, id -> productRepository.findById(id).orElse(null));
+        if (product == null) {
+            throw new ResourceNotFoundException("Product not found with ID: " + productId);
+        }
+        return product;
+    }
+
+    /**
+     * Find all products by ID through the near-cache, misses are loaded with one query
+     * Used by: SalesOrderService (all lines of an order at once)
+     *
+     * @return detached copies keyed by product ID
+     */
+    public Map<String, Product> findAllCachedByIds(Collection<String> productIds) {
+        Map<String, Product> products = productCache.getAll(productIds, missing ->
+                productRepository.findAllById(missing).stream()
+                        .collect(Collectors.toMap(Product::getProductId, Function.identity())));
+
+        if (products.size() < new HashSet<>(productIds).size()) {
+            List<String> notFound = productIds.stream()
+                    .filter(productId -> !products.containsKey(productId))
+                    .distinct()
+                    .toList();
+            throw new ResourceNotFoundException("Product not found with ID: " + String.join(", ", notFound));
+        }
+        return products;
+    }
+
+    /**
+     * Reference to a product for entity associations, without loading the row
+     */
+    public Product getReference(String productId) {
+        return productRepository.getReferenceById(productId);
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll(Sort.by("productId").ascending());
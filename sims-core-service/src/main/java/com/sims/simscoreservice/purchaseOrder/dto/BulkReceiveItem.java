@@ -0,0 +1,31 @@
+package com.sims.simscoreservice.purchaseOrder.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Bulk Receive Item
+ * Single (order, received quantity) line of a bulk receive request
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkReceiveItem {
+
+    @NotNull(message = "Order ID is required")
+    private Long orderId;
+
+    @NotNull(message = "Received quantity is required")
+    @Min(value = 0, message = "Received quantity must be at least 0")
+    private Integer receivedQuantity;
+
+    private LocalDate actualArrivalDate;
+}
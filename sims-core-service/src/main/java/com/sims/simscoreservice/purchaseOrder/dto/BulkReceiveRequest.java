@@ -0,0 +1,27 @@
+package com.sims.simscoreservice.purchaseOrder.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk Receive Request
+ * Used when receiving many Purchase Orders at once (e.g. a full truck at the dock)
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkReceiveRequest {
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 500, message = "Cannot receive more than 500 orders at once")
+    private List<@Valid BulkReceiveItem> items;
+}
@@ -0,0 +1,24 @@
+package com.sims.simscoreservice.purchaseOrder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk Receive Response
+ * Per-line results of a bulk receive, in request order
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkReceiveResponse {
+    private int totalLines;
+    private int received;
+    private int failed;
+    private List<ReceiveLineResult> results;
+}
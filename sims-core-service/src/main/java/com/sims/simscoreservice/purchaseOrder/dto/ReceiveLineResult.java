@@ -0,0 +1,28 @@
+package com.sims.simscoreservice.purchaseOrder.dto;
+
+import com.sims.simscoreservice.purchaseOrder.enums.PurchaseOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Receive Line Result
+ * Outcome of a single line of a bulk receive request
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReceiveLineResult {
+    private Long orderId;
+    private String poNumber;
+    private boolean success;
+    private PurchaseOrderStatus status;
+    private String message;
+
+    public static ReceiveLineResult failed(Long orderId, String poNumber, String message) {
+        return new ReceiveLineResult(orderId, poNumber, false, null, message);
+    }
+}
@@ -5,12 +5,16 @@ import com.sims.simscoreservice.analytics.dto.PurchaseOrderSummary;
 import com.sims.simscoreservice.purchaseOrder.entity.PurchaseOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -74,6 +78,32 @@ public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Lo
             "AND po.expectedArrivalDate < CURRENT_DATE")
     Page<PurchaseOrder> findAllOverdueOrders(Pageable pageable);
 
+    /**
+     * Find orders by IDs with pessimistic write lock, in ascending ID order (bulk receiving)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT po FROM PurchaseOrder po JOIN FETCH po.product WHERE po.id IN :ids ORDER BY po.id")
+    List<PurchaseOrder> findAllByIdInWithLock(@Param("ids") List<Long> ids);
+
+    /**
+     * Mark the orders of the given confirmation tokens as FAILED in one statement
+     * Finalized orders are left untouched; the version is bumped so stale JPA copies fail on save
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE purchase_orders po
+        JOIN confirmation_tokens ct ON ct.purchase_order_id = po.id
+        SET po.status = 'FAILED',
+            po.updated_by = :updatedBy,
+            po.last_updated = :now,
+            po.version = COALESCE(po.version, 0) + 1
+        WHERE ct.id IN (:tokenIds)
+        AND po.status NOT IN ('RECEIVED', 'CANCELLED', 'FAILED')
+    """, nativeQuery = true)
+    int markFailedByConfirmationTokenIds(@Param("tokenIds") List<Long> tokenIds,
+                                         @Param("updatedBy") String updatedBy,
+                                         @Param("now") LocalDateTime now);
+
     /**
      * Find by product ID
      */
@@ -0,0 +1,39 @@
+package com.sims.simscoreservice.salesOrder.dto;
+
+import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Bulk Cancel Sales Order Request
+ * Selects orders either by ID list or by filter (customer, product, status, order date range).
+ * Only PENDING / PARTIALLY_APPROVED orders are cancelled, others are reported as skipped.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkCancelSalesOrderRequest {
+
+    @Size(max = 5000, message = "Cannot cancel more than 5000 orders at once")
+    private List<Long> orderIds;
+
+    // ========== Filter (used when no order IDs are given) ==========
+    private String customerName;
+    private String productId;
+    private SalesOrderStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * Report the impact without cancelling anything
+     */
+    private boolean dryRun;
+}
@@ -0,0 +1,36 @@
+package com.sims.simscoreservice.salesOrder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk Cancel Sales Order Response
+ * Impact of a bulk cancel; for a dry run the counts are what would have been cancelled/released
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkCancelSalesOrderResponse {
+    private boolean dryRun;
+    private int cancelledOrders;
+    private int cancelledItems;
+    private List<Long> cancelledOrderIds;
+    private List<Long> skippedOrderIds;     // Requested IDs that do not exist or cannot be cancelled
+    private List<StockRelease> releases;    // Per SKU, in product ID order
+
+    public record StockRelease(
+            String productId,
+            String sku,
+            int releasedQuantity,
+            int reservedBefore,
+            int reservedAfter
+    ) {}
+}
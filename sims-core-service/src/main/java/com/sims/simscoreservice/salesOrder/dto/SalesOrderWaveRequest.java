@@ -0,0 +1,27 @@
+package com.sims.simscoreservice.salesOrder.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Sales Order Wave Request
+ * A pick wave: many sales orders with their approved (shipped) quantities, stocked out together
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesOrderWaveRequest {
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 1000, message = "Cannot process more than 1000 orders in one wave")
+    private List<@Valid ProcessSalesOrderRequestDto> orders;
+}
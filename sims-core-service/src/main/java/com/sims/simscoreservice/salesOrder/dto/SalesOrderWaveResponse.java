@@ -0,0 +1,41 @@
+package com.sims.simscoreservice.salesOrder.dto;
+
+import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Sales Order Wave Response
+ * Per-order outcomes of a pick wave, in request order
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesOrderWaveResponse {
+    private int totalOrders;
+    private int processed;
+    private int failed;
+    private int partitions;     // Independent SKU groups processed in parallel
+    private long durationMs;
+    private List<WaveOrderResult> results;
+
+    public record WaveOrderResult(
+            Long orderId,
+            String orderReference,
+            boolean success,
+            SalesOrderStatus status,
+            String message
+    ) {
+        public static WaveOrderResult failed(Long orderId, String orderReference, String message) {
+            return new WaveOrderResult(orderId, orderReference, false, null, message);
+        }
+    }
+}
@@ -52,9 +52,17 @@ public class OrderItem {
      * Constructor for creating new order item
      */
     public OrderItem(Product product, Integer quantity) {
+        this(product, quantity, product.getPrice());
+    }
+
+    /**
+     * Constructor for creating new order item with a known unit price
+     * (the product may be an uninitialized reference)
+     */
+    public OrderItem(Product product, Integer quantity, BigDecimal unitPrice) {
         this.quantity = quantity;
         this.product = product;
-        this.orderPrice = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+        this.orderPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
         this.approvedQuantity = 0;
     }
 
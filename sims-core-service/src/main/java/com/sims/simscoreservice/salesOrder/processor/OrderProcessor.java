@@ -11,6 +11,7 @@ import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
 import com.sims.simscoreservice.salesOrder.enums.OrderItemStatus;
 import com.sims.simscoreservice.salesOrder.helper.SalesOrderHelper;
 import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import com.sims.simscoreservice.stockMovement.entity.StockMovement;
 import com.sims.simscoreservice.stockMovement.enums.StockMovementReferenceType;
 import com.sims.simscoreservice.stockMovement.enums.StockMovementType;
 import com.sims.simscoreservice.stockMovement.service.StockMovementService;
@@ -19,6 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -59,7 +63,9 @@ public abstract class OrderProcessor {
             salesOrder.setConfirmedBy(approvedPerson);
             salesOrder.setLastUpdate(GlobalServiceHelper.now(clock));
 
-            // Process each order item
+            // 1. Validate every item and aggregate the approved quantities per product
+            Map<String, Integer> approvedByProduct = new LinkedHashMap<>();
+            List<OrderItem> approvedItems = new ArrayList<>();
             for (OrderItem item : salesOrder.getItems()) {
                 String productId = item.getProduct().getProductId();
                 Integer approvedQty = approvedQuantities.get(productId);
@@ -73,22 +79,29 @@ public abstract class OrderProcessor {
                 // Validate approved quantity
                 validateApprovedQuantity(item, approvedQty, productId);
 
-                // Fulfill reservation (deduct from inventory)
-                stockManagementService.fulfillReservation(productId, approvedQty);
+                approvedByProduct.merge(productId, approvedQty, Integer::sum);
+                approvedItems.add(item);
+            }
+
+            // 2. Fulfill reservations of all items with one locking read (deduct from inventory)
+            stockManagementService.fulfillReservations(approvedByProduct);
 
-                // Update order item status
-                updateOrderItemFulfillStatus(item, approvedQty);
+            // 3. Update items in memory and log all movements in one batch
+            List<StockMovement> movements = new ArrayList<>(approvedItems.size());
+            for (OrderItem item : approvedItems) {
+                String productId = item.getProduct().getProductId();
+                int approvedQty = approvedQuantities.get(productId);
 
-                // Update approved quantity
+                // Update approved quantity and order item status
                 item.setApprovedQuantity(item.getApprovedQuantity() + approvedQty);
+                updateOrderItemFulfillStatus(item);
 
-                 stockMovementService.logMovement(
-                     item.getProduct(), StockMovementType.OUT, approvedQty,
-                     salesOrder.getOrderReference(), StockMovementReferenceType.SALES_ORDER, approvedPerson
-                 );
+                movements.add(new StockMovement(item.getProduct(), approvedQty, StockMovementType.OUT,
+                        salesOrder.getOrderReference(), StockMovementReferenceType.SALES_ORDER, approvedPerson));
 
                 log.info("[ORDER-PROCESSOR] Processed item {} - approved: {}", productId, approvedQty);
             }
+            stockMovementService.logMovements(movements);
 
             // Update overall order status based on items
             salesOrderHelper.updateSoStatusBasedOnItemQuantity(salesOrder);
@@ -121,17 +134,17 @@ public abstract class OrderProcessor {
             throw new InventoryException("Cannot approve negative stock for item: " + productId);
         }
 
-        if (approvedQty > item.getQuantity()) {
+        if (approvedQty > item.getQuantity() - item.getApprovedQuantity()) {
             log.error("[ORDER-PROCESSOR] Approved quantity exceeds ordered quantity for: {}", productId);
             throw new InventoryException("Cannot approve more than ordered quantity for item: " + productId);
         }
     }
 
     /**
-     * Update order item fulfillment status
+     * Update order item fulfillment status (from the total approved quantity)
      */
-    private void updateOrderItemFulfillStatus(OrderItem orderItem, int approvedQuantity) {
-        if (approvedQuantity < orderItem.getQuantity()) {
+    private void updateOrderItemFulfillStatus(OrderItem orderItem) {
+        if (orderItem.getApprovedQuantity() < orderItem.getQuantity()) {
             orderItem.setStatus(OrderItemStatus.PARTIALLY_APPROVED);
             log.info("[ORDER-PROCESSOR] Order Item ID: {} set to PARTIALLY_APPROVED for productID: {}", orderItem.getId(), orderItem.getProduct().getProductId());
         } else {
@@ -0,0 +1,330 @@
+package com.sims.simscoreservice.salesOrder.processor;
+
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.inventory.service.InventoryStatusService;
+import com.sims.simscoreservice.salesOrder.dto.ProcessSalesOrderRequestDto;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse.WaveOrderResult;
+import com.sims.simscoreservice.salesOrder.entity.OrderItem;
+import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
+import com.sims.simscoreservice.salesOrder.enums.OrderItemStatus;
+import com.sims.simscoreservice.salesOrder.helper.SalesOrderHelper;
+import com.sims.simscoreservice.salesOrder.repository.SalesOrderRepository;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import com.sims.simscoreservice.stockMovement.entity.StockMovement;
+import com.sims.simscoreservice.stockMovement.enums.StockMovementReferenceType;
+import com.sims.simscoreservice.stockMovement.enums.StockMovementType;
+import com.sims.simscoreservice.stockMovement.service.StockMovementService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wave Stock Out Processor
+ * Stocks out a whole pick wave (hundreds of orders) instead of one processSalesOrder call per order:
+ * 1. Orders are grouped by shared products; groups never touch the same inventory rows
+ * 2. Groups are packed into partitions that run in parallel, one transaction each
+ * 3. Per partition, orders and inventory rows are locked once in ascending ID order,
+ *    demand is aggregated per product and applied with batched updates, movements are inserted in one batch
+ *
+ * Each order succeeds or fails as a whole (like processSalesOrder); a failing order does not affect the others
+ * unless its whole partition fails on a database error. Partitions that do not fit in the executor queue are
+ * rejected without being started, their orders fail and can be resubmitted in a later wave.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaveStockOutProcessor {
+
+    private final Clock clock;
+    private final PlatformTransactionManager transactionManager;
+    private final SalesOrderRepository salesOrderRepository;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStatusService inventoryStatusService;
+    private final StockMovementService stockMovementService;
+    private final SalesOrderHelper salesOrderHelper;
+
+    private ExecutorService executor;
+
+    @Value("${sales-order.wave.threads:4}")
+    private int threads;
+
+    @Value("${sales-order.wave.max-queued-partitions:16}")
+    private int maxQueuedPartitions;
+
+    @PostConstruct
+    public void init() {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxQueuedPartitions),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stock-out-wave");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public SalesOrderWaveResponse processWave(List<ProcessSalesOrderRequestDto> orders, String username) {
+        long startTime = System.currentTimeMillis();
+        Map<Long, WaveOrderResult> results = new HashMap<>();
+
+        // 1. Drop duplicates, the first occurrence of an order wins
+        Map<Long, Map<String, Integer>> quantitiesByOrder = new LinkedHashMap<>();
+        for (ProcessSalesOrderRequestDto order : orders) {
+            if (quantitiesByOrder.putIfAbsent(order.getOrderId(), order.getItemQuantities()) != null) {
+                log.warn("[WAVE-STOCK-OUT] Order {} appears more than once, only the first line is used", order.getOrderId());
+            }
+        }
+
+        // 2. Partition into independent product groups and process them in parallel
+        List<List<Long>> partitions = partition(quantitiesByOrder);
+        List<CompletableFuture<Map<Long, WaveOrderResult>>> futures = partitions.stream()
+                .map(orderIds -> submitPartition(orderIds, quantitiesByOrder, username))
+                .toList();
+        futures.forEach(future -> results.putAll(future.join()));
+
+        // 3. Report in request order
+        List<WaveOrderResult> ordered = new ArrayList<>(orders.size());
+        Set<Long> reported = new HashSet<>();
+        for (ProcessSalesOrderRequestDto order : orders) {
+            ordered.add(reported.add(order.getOrderId())
+                    ? results.get(order.getOrderId())
+                    : WaveOrderResult.failed(order.getOrderId(), null, "Duplicate order in wave"));
+        }
+
+        int processed = (int) ordered.stream().filter(WaveOrderResult::success).count();
+        long durationMs = System.currentTimeMillis() - startTime;
+        log.info("[WAVE-STOCK-OUT] Wave by {}: {} of {} orders processed in {} partitions, {}ms",
+                username, processed, orders.size(), partitions.size(), durationMs);
+
+        return SalesOrderWaveResponse.builder()
+                .totalOrders(orders.size())
+                .processed(processed)
+                .failed(orders.size() - processed)
+                .partitions(partitions.size())
+                .durationMs(durationMs)
+                .results(ordered)
+                .build();
+    }
+
+    /**
+     * Union orders that share a product, then pack the groups into at most `threads` partitions
+     * (largest group first, into the partition with the fewest orders)
+     */
+    private List<List<Long>> partition(Map<Long, Map<String, Integer>> quantitiesByOrder) {
+        List<Long> orderIds = new ArrayList<>(quantitiesByOrder.keySet());
+        int[] parent = new int[orderIds.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        Map<String, Integer> firstOrderByProduct = new HashMap<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            for (String productId : quantitiesByOrder.get(orderIds.get(i)).keySet()) {
+                Integer first = firstOrderByProduct.putIfAbsent(productId, i);
+                if (first != null) {
+                    parent[find(parent, i)] = find(parent, first);
+                }
+            }
+        }
+
+        Map<Integer, List<Long>> groups = new HashMap<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            groups.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(orderIds.get(i));
+        }
+
+        List<List<Long>> sortedGroups = new ArrayList<>(groups.values());
+        sortedGroups.sort(Comparator.comparingInt((List<Long> group) -> group.size()).reversed());
+
+        List<List<Long>> partitions = new ArrayList<>();
+        for (List<Long> group : sortedGroups) {
+            if (partitions.size() < threads) {
+                partitions.add(new ArrayList<>(group));
+            } else {
+                partitions.stream().min(Comparator.comparingInt(List::size)).orElseThrow().addAll(group);
+            }
+        }
+        return partitions;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private CompletableFuture<Map<Long, WaveOrderResult>> submitPartition(List<Long> orderIds,
+                                                                          Map<Long, Map<String, Integer>> quantitiesByOrder,
+                                                                          String username) {
+        try {
+            return CompletableFuture.supplyAsync(() -> processPartition(orderIds, quantitiesByOrder, username), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("[WAVE-STOCK-OUT] Executor queue full, rejected partition of {} orders", orderIds.size());
+            Map<Long, WaveOrderResult> rejected = new HashMap<>();
+            orderIds.forEach(orderId -> rejected.put(orderId,
+                    WaveOrderResult.failed(orderId, null, "Too many waves in progress, try again later")));
+            return CompletableFuture.completedFuture(rejected);
+        }
+    }
+
+    private Map<Long, WaveOrderResult> processPartition(List<Long> orderIds,
+                                                        Map<Long, Map<String, Integer>> quantitiesByOrder,
+                                                        String username) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> fulfillOrders(orderIds, quantitiesByOrder, username));
+        } catch (Exception e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.error("[WAVE-STOCK-OUT] Partition of {} orders failed: {}", orderIds.size(), message);
+
+            Map<Long, WaveOrderResult> failed = new HashMap<>();
+            orderIds.forEach(orderId -> failed.put(orderId,
+                    WaveOrderResult.failed(orderId, null, "Failed to process order: " + message)));
+            return failed;
+        }
+    }
+
+    private Map<Long, WaveOrderResult> fulfillOrders(List<Long> orderIds,
+                                                     Map<Long, Map<String, Integer>> quantitiesByOrder,
+                                                     String username) {
+        Map<Long, WaveOrderResult> results = new HashMap<>();
+
+        // Lock orders, then inventory rows, both in ascending ID order
+        List<SalesOrder> orders = salesOrderRepository.findAllWithItemsByIdInWithLock(orderIds);
+        Set<String> productIds = new TreeSet<>();
+        orders.forEach(order -> productIds.addAll(quantitiesByOrder.get(order.getId()).keySet()));
+
+        Map<String, Inventory> inventoryByProduct = new HashMap<>();
+        if (!productIds.isEmpty()) {
+            inventoryRepository.findAllByProductIdsWithLock(productIds)
+                    .forEach(inventory -> inventoryByProduct.put(inventory.getProduct().getProductId(), inventory));
+        }
+
+        // Reserved stock still available to this wave, consumed in order ID order
+        Map<String, Integer> remainingReserved = new HashMap<>();
+        inventoryByProduct.forEach((productId, inventory) -> remainingReserved.put(productId, inventory.getReservedStock()));
+
+        Map<String, Integer> fulfilledByProduct = new TreeMap<>();
+        List<StockMovement> movements = new ArrayList<>();
+
+        for (SalesOrder order : orders) {
+            Map<String, Integer> quantities = quantitiesByOrder.get(order.getId());
+            String error = validateOrder(order, quantities, inventoryByProduct, remainingReserved);
+            if (error != null) {
+                results.put(order.getId(), WaveOrderResult.failed(order.getId(), order.getOrderReference(), error));
+                continue;
+            }
+
+            order.setConfirmedBy(username);
+            order.setLastUpdate(GlobalServiceHelper.now(clock));
+
+            for (OrderItem item : order.getItems()) {
+                String productId = item.getProduct().getProductId();
+                Integer approvedQty = quantities.get(productId);
+                if (approvedQty == null || approvedQty == 0) {
+                    continue;
+                }
+
+                item.setApprovedQuantity(item.getApprovedQuantity() + approvedQty);
+                item.setStatus(item.getApprovedQuantity() < item.getQuantity()
+                        ? OrderItemStatus.PARTIALLY_APPROVED
+                        : OrderItemStatus.APPROVED);
+
+                remainingReserved.merge(productId, -approvedQty, Integer::sum);
+                fulfilledByProduct.merge(productId, approvedQty, Integer::sum);
+                movements.add(new StockMovement(item.getProduct(), approvedQty, StockMovementType.OUT,
+                        order.getOrderReference(), StockMovementReferenceType.SALES_ORDER, username));
+            }
+
+            salesOrderHelper.updateSoStatusBasedOnItemQuantity(order);
+            results.put(order.getId(), new WaveOrderResult(order.getId(), order.getOrderReference(), true,
+                    order.getStatus(), "Order processed successfully"));
+        }
+
+        // Orders that do not exist were not returned by the locking query
+        orderIds.stream()
+                .filter(orderId -> !results.containsKey(orderId))
+                .forEach(orderId -> results.put(orderId,
+                        WaveOrderResult.failed(orderId, null, "Sales order not found with ID: " + orderId)));
+
+        // Apply aggregated demand once per inventory row
+        fulfilledByProduct.forEach((productId, fulfilled) -> {
+            Inventory inventory = inventoryByProduct.get(productId);
+            inventory.setCurrentStock(inventory.getCurrentStock() - fulfilled);
+            inventory.setReservedStock(inventory.getReservedStock() - fulfilled);
+            inventoryStatusService.updateInventoryStatus(inventory);
+        });
+
+        // Flush order/item/inventory updates as JDBC batches, then insert all movements in one batch
+        salesOrderRepository.flush();
+        stockMovementService.logMovements(movements);
+
+        log.debug("[WAVE-STOCK-OUT] Partition done: {} orders, {} products fulfilled",
+                orderIds.size(), fulfilledByProduct.size());
+        return results;
+    }
+
+    /**
+     * Same checks as OrderProcessor and fulfillReservation, against the wave's running reserved stock
+     *
+     * @return error message, or null if the order can be fulfilled as a whole
+     */
+    private String validateOrder(SalesOrder order, Map<String, Integer> quantities,
+                                 Map<String, Inventory> inventoryByProduct, Map<String, Integer> remainingReserved) {
+        if (order.isFinalized()) {
+            return "Order is finalized, cannot process: " + order.getOrderReference();
+        }
+
+        Map<String, OrderItem> itemsByProduct = new HashMap<>();
+        order.getItems().forEach(item -> itemsByProduct.put(item.getProduct().getProductId(), item));
+
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            String productId = entry.getKey();
+            Integer approvedQty = entry.getValue();
+            OrderItem item = itemsByProduct.get(productId);
+
+            if (item == null) {
+                return "Product " + productId + " is not part of order " + order.getOrderReference();
+            }
+            if (approvedQty == null || approvedQty < 0) {
+                return "Cannot approve negative stock for item: " + productId;
+            }
+            if (approvedQty > item.getQuantity() - item.getApprovedQuantity()) {
+                return "Cannot approve more than ordered quantity for item: " + productId;
+            }
+            if (approvedQty > 0 && !inventoryByProduct.containsKey(productId)) {
+                return "Inventory not found for product: " + productId;
+            }
+            if (approvedQty > 0 && approvedQty > remainingReserved.get(productId)) {
+                return "Cannot fulfill more than reserved quantity for product " + productId
+                        + ". Reserved: " + remainingReserved.get(productId);
+            }
+        }
+        return null;
+    }
+}
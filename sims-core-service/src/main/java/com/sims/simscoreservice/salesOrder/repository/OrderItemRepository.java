@@ -1,13 +1,18 @@
 package com.sims.simscoreservice.salesOrder.repository;
 
 import com.sims.simscoreservice.salesOrder.entity.OrderItem;
+import com.sims.simscoreservice.salesOrder.enums.OrderItemStatus;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ProductReservedTotal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Order Item Repository
@@ -30,4 +35,70 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     """)
     BigDecimal calculateTotalRevenue(@Param("startDate") LocalDateTime startDate,
                                      @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Quantity still reserved per product by open (not approved/cancelled) order items
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockManagement.reconciliation.dto.ProductReservedTotal(
+            oi.product.productId,
+            CAST(COALESCE(SUM(oi.quantity - oi.approvedQuantity), 0) AS Long)
+        )
+        FROM OrderItem oi
+        WHERE oi.product.productId IN :productIds
+        AND oi.status IN ('PENDING', 'PARTIALLY_APPROVED')
+        GROUP BY oi.product.productId
+    """)
+    List<ProductReservedTotal> sumOpenReservedByProductIds(@Param("productIds") List<String> productIds);
+
+    /**
+     * Quantity still reserved by open order items of a single product
+     */
+    @Query("""
+        SELECT CAST(COALESCE(SUM(oi.quantity - oi.approvedQuantity), 0) AS Long)
+        FROM OrderItem oi
+        WHERE oi.product.productId = :productId
+        AND oi.status IN ('PENDING', 'PARTIALLY_APPROVED')
+    """)
+    Long sumOpenReservedByProductId(@Param("productId") String productId);
+
+    /**
+     * Quantity still reserved per product by the open items of the given orders, in product ID order
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockManagement.reconciliation.dto.ProductReservedTotal(
+            oi.product.productId,
+            CAST(COALESCE(SUM(oi.quantity - oi.approvedQuantity), 0) AS Long)
+        )
+        FROM OrderItem oi
+        WHERE oi.salesOrder.id IN :orderIds
+        AND oi.status IN ('PENDING', 'PARTIALLY_APPROVED')
+        GROUP BY oi.product.productId
+        ORDER BY oi.product.productId
+    """)
+    List<ProductReservedTotal> sumOpenReservedBySalesOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Count open items of the given orders
+     */
+    @Query("""
+        SELECT COUNT(oi)
+        FROM OrderItem oi
+        WHERE oi.salesOrder.id IN :orderIds
+        AND oi.status IN ('PENDING', 'PARTIALLY_APPROVED')
+    """)
+    long countOpenBySalesOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Set-based status update of the open items of the given orders
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE OrderItem oi
+        SET oi.status = :status
+        WHERE oi.salesOrder.id IN :orderIds
+        AND oi.status IN ('PENDING', 'PARTIALLY_APPROVED')
+    """)
+    int updateOpenItemsStatus(@Param("orderIds") Collection<Long> orderIds,
+                              @Param("status") OrderItemStatus status);
 }
@@ -2,17 +2,20 @@ package com.sims.simscoreservice.salesOrder.repository;
 
 import com.sims.simscoreservice.analytics.dto.SalesOrderSummary;
 import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
+import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +42,13 @@ public interface SalesOrderRepository extends JpaRepository<SalesOrder, Long>,
     @Query("SELECT COUNT(so) FROM SalesOrder so WHERE so.status IN ('PARTIALLY_APPROVED', 'PENDING', 'PARTIALLY_DELIVERED')")
     Long countOutgoingSalesOrders();
 
+    /**
+     * Find orders with their items, with pessimistic write lock, in ascending ID order (pick waves)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT DISTINCT so FROM SalesOrder so LEFT JOIN FETCH so.items WHERE so.id IN :ids ORDER BY so.id")
+    List<SalesOrder> findAllWithItemsByIdInWithLock(@Param("ids") Collection<Long> ids);
+
     /**
      * Find all outgoing sales orders
      */
@@ -137,4 +147,58 @@ public interface SalesOrderRepository extends JpaRepository<SalesOrder, Long>,
     FROM SalesOrder so
 """)
     SalesOrderSummary getSalesOrderSummaryMetrics();
-}
\ No newline at end of file
+
+    // *********** Bulk Cancel ***********
+
+    /**
+     * IDs of orders in the given statuses matching the bulk cancel filter, in ID order
+     * Null filter values are ignored; the date range applies to the order date
+     */
+    @Query("""
+        SELECT so.id
+        FROM SalesOrder so
+        WHERE so.status IN :statuses
+        AND (:customerName IS NULL OR LOWER(so.customerName) = LOWER(:customerName))
+        AND (:productId IS NULL OR EXISTS (
+            SELECT 1 FROM OrderItem oi WHERE oi.salesOrder = so AND oi.product.productId = :productId))
+        AND (:from IS NULL OR so.orderDate >= :from)
+        AND (:to IS NULL OR so.orderDate < :to)
+        ORDER BY so.id
+    """)
+    List<Long> findIdsForBulkCancel(@Param("statuses") Collection<SalesOrderStatus> statuses,
+                                    @Param("customerName") String customerName,
+                                    @Param("productId") String productId,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    Pageable limit);
+
+    /**
+     * IDs of the given orders that are in one of the given statuses, in ID order
+     */
+    @Query("SELECT so.id FROM SalesOrder so WHERE so.id IN :ids AND so.status IN :statuses ORDER BY so.id")
+    List<Long> findIdsByIdInAndStatusIn(@Param("ids") Collection<Long> ids,
+                                        @Param("statuses") Collection<SalesOrderStatus> statuses);
+
+    /**
+     * Lock the given orders that are still in one of the given statuses, in ID order
+     * The locking read sees the latest committed status, so concurrent cancels never release twice
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT so FROM SalesOrder so WHERE so.id IN :ids AND so.status IN :statuses ORDER BY so.id")
+    List<SalesOrder> findAllByIdInAndStatusInWithLock(@Param("ids") Collection<Long> ids,
+                                                      @Param("statuses") Collection<SalesOrderStatus> statuses);
+
+    /**
+     * Set-based status update for bulk cancel (bypasses @UpdateTimestamp, so lastUpdate is passed in)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE SalesOrder so
+        SET so.status = :status, so.cancelledBy = :cancelledBy, so.lastUpdate = :now
+        WHERE so.id IN :ids
+    """)
+    int updateStatusForCancel(@Param("ids") Collection<Long> ids,
+                              @Param("status") SalesOrderStatus status,
+                              @Param("cancelledBy") String cancelledBy,
+                              @Param("now") LocalDateTime now);
+}
@@ -5,12 +5,19 @@ import com.sims.simscoreservice.exceptions.InsufficientStockException;
 import com.sims.simscoreservice.inventory.entity.Inventory;
 import com.sims.simscoreservice.inventory.repository.InventoryRepository;
 import com.sims.simscoreservice.inventory.service.InventoryStatusService;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework. stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Stock Management Service
  * Handles stock reservations, fulfillment, and releases
@@ -25,6 +32,7 @@ public class StockManagementService {
 
     private final InventoryRepository inventoryRepository;
     private final InventoryStatusService inventoryStatusService;
+    private final OrderItemRepository orderItemRepository;
 
     /**
      * Reserve stock atomically (with pessimistic lock)
@@ -112,6 +120,68 @@ public class StockManagementService {
         }
     }
 
+    /**
+     * Fulfill reservations of several products at once (all lines of one order)
+     * One locking read for all rows (sorted by product ID), statuses are recomputed in memory
+     * and the rows are written back as one JDBC batch on flush
+     *
+     * @param quantitiesByProduct Product ID -> quantity to fulfill
+     */
+    @Transactional
+    public void fulfillReservations(Map<String, Integer> quantitiesByProduct) {
+        if (quantitiesByProduct.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Inventory> inventories = inventoryRepository.findAllByProductIdsWithLock(quantitiesByProduct.keySet());
+
+            if (inventories.size() < quantitiesByProduct.size()) {
+                Set<String> found = inventories.stream()
+                        .map(inventory -> inventory.getProduct().getProductId())
+                        .collect(Collectors.toSet());
+                quantitiesByProduct.keySet().stream()
+                        .filter(productId -> !found.contains(productId))
+                        .findFirst()
+                        .ifPresent(productId -> {
+                            throw new ResourceNotFoundException("Inventory not found for product: " + productId);
+                        });
+            }
+
+            // Validate every row before changing any of them
+            for (Inventory inventory : inventories) {
+                int approvedQuantity = quantitiesByProduct.get(inventory.getProduct().getProductId());
+                if (approvedQuantity > inventory.getReservedStock()) {
+                    throw new ValidationException(
+                            "Cannot fulfill more than reserved quantity. Reserved: " + inventory.getReservedStock());
+                }
+            }
+
+            for (Inventory inventory : inventories) {
+                int approvedQuantity = quantitiesByProduct.get(inventory.getProduct().getProductId());
+
+                // Deduct from both current and reserved
+                inventory.setCurrentStock(inventory.getCurrentStock() - approvedQuantity);
+                inventory.setReservedStock(inventory.getReservedStock() - approvedQuantity);
+
+                // Update status (might become LOW_STOCK)
+                inventoryStatusService.updateInventoryStatus(inventory);
+            }
+            inventoryRepository.saveAll(inventories);
+
+            log.info("[STOCK-MGMT] Fulfilled reservations for {} products", inventories.size());
+
+        } catch (ResourceNotFoundException | ValidationException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            log.error("[STOCK-MGMT] Database error fulfilling reservations: {}", e.getMessage());
+            throw new DatabaseException("Failed to fulfill reservations", e);
+        } catch (Exception e) {
+            log.error("[STOCK-MGMT] Unexpected error fulfilling reservations: {}", e.getMessage());
+            throw new ServiceException("Failed to fulfill reservations", e);
+        }
+    }
+
     /**
      * Release reservation (when order is cancelled)
      *
@@ -172,4 +242,44 @@ public class StockManagementService {
         inventoryStatusService.updateInventoryStatus(inventory);
         inventoryRepository.save(inventory);
     }
+
+    /**
+     * Reset reserved stock to the quantity still reserved by open order items.
+     * Runs in its own short transaction; the row lock is taken before the order items are summed,
+     * so reservations committed concurrently are always included.
+     *
+     * @param productId Product ID
+     * @return true if the reserved stock was corrected
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean correctReservedStock(String productId) {
+        try {
+            Inventory inventory = inventoryRepository.findByProductIdWithLock(productId);
+
+            if (inventory == null) {
+                throw new ResourceNotFoundException("Inventory not found for product: " + productId);
+            }
+
+            int expectedReserved = orderItemRepository.sumOpenReservedByProductId(productId).intValue();
+            if (inventory.getReservedStock() == expectedReserved) {
+                return false;
+            }
+
+            log.warn("[STOCK-MGMT] Correcting reserved stock for product {} from {} to {}",
+                    productId, inventory.getReservedStock(), expectedReserved);
+
+            inventory.setReservedStock(expectedReserved);
+            inventoryRepository.save(inventory);
+            return true;
+
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            log.error("[STOCK-MGMT] Database error correcting reserved stock: {}", e.getMessage());
+            throw new DatabaseException("Failed to correct reserved stock", e);
+        } catch (Exception e) {
+            log.error("[STOCK-MGMT] Unexpected error correcting reserved stock: {}", e.getMessage());
+            throw new ServiceException("Failed to correct reserved stock", e);
+        }
+    }
 }
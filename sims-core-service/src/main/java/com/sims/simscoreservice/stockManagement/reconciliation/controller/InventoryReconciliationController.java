@@ -0,0 +1,49 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.controller;
+
+import com.sims.common.models.ApiResponse;
+import com.sims.simscoreservice.shared.util.RoleValidator;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ReconciliationReport;
+import com.sims.simscoreservice.stockManagement.reconciliation.service.InventoryReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.sims.common.constants.AppConstants.*;
+
+/**
+ * Inventory Reconciliation Controller
+ * On-demand inventory-vs-ledger reconciliation
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping(BASE_INVENTORY_PATH + "/reconciliation")
+public class InventoryReconciliationController {
+
+    private final InventoryReconciliationService reconciliationService;
+    private final RoleValidator roleValidator;
+
+    /**
+     * Run reconciliation
+     * With autoCorrect=true, drifted reserved stock is reset under row lock
+     * Only ADMIN can run
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReconciliationReport>> reconcile(
+            @RequestParam(defaultValue = "false") boolean autoCorrect,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[RECONCILIATION-CONTROLLER] Reconciliation (autoCorrect={}) requested by user: {}", autoCorrect, userId);
+
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN");
+
+        ReconciliationReport report = reconciliationService.reconcile(autoCorrect);
+
+        return ResponseEntity.ok(ApiResponse.success("Inventory reconciliation completed", report));
+    }
+}
@@ -0,0 +1,14 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.dto;
+
+/**
+ * Current/reserved stock of a single inventory row
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record InventoryBalance(
+        String productId,
+        String sku,
+        Integer currentStock,
+        Integer reservedStock
+) {}
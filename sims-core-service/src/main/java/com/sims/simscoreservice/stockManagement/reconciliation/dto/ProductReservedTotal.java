@@ -0,0 +1,12 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.dto;
+
+/**
+ * Quantity still reserved by open order items of a single product
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record ProductReservedTotal(
+        String productId,
+        Long reservedQuantity
+) {}
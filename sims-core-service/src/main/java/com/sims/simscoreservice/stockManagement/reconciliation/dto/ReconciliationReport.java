@@ -0,0 +1,37 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reconciliation Report DTO
+ * Summary of an inventory-vs-ledger reconciliation run
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReconciliationReport {
+    private LocalDateTime startedAt;
+    private long durationMs;
+    private int productsChecked;
+    private int chunks;
+    private boolean autoCorrect;
+
+    // Snapshot the ledger check started from (null when no snapshot exists yet)
+    private LocalDate baselineSnapshotDate;
+
+    private int reservedStockDiscrepancies;
+    private int currentStockDiscrepancies;
+    private int corrected;
+    private List<StockDiscrepancy> discrepancies;
+}
@@ -0,0 +1,25 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.dto;
+
+import com.sims.simscoreservice.stockManagement.reconciliation.enums.DiscrepancyType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stock Discrepancy DTO
+ * A single mismatch between the inventory table and its expected value
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockDiscrepancy {
+    private String productId;
+    private String sku;
+    private DiscrepancyType type;
+    private Long actual;
+    private Long expected;
+    private boolean corrected;
+}
@@ -0,0 +1,21 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.enums;
+
+import lombok.Getter;
+
+/**
+ * Kind of drift found by the inventory reconciliation
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Getter
+public enum DiscrepancyType {
+    RESERVED_STOCK("Reserved stock does not match open order item quantities"),
+    CURRENT_STOCK("Current stock does not match the movement ledger");
+
+    private final String description;
+
+    DiscrepancyType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.scheduler;
+
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ReconciliationReport;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.StockDiscrepancy;
+import com.sims.simscoreservice.stockManagement.reconciliation.service.InventoryReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inventory Reconciliation Scheduler
+ * Nightly report-only reconciliation, runs after the daily snapshot
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReconciliationScheduler {
+
+    private final InventoryReconciliationService reconciliationService;
+
+    // @Scheduled(cron = "0 */5 * * * ?")
+    @Scheduled(cron = "0 30 1 * * ?")
+    public void reconcileInventory() {
+        log.info("[RECONCILIATION-SCHEDULER] Starting nightly inventory reconciliation...");
+
+        try {
+            ReconciliationReport report = reconciliationService.reconcile(false);
+
+            for (StockDiscrepancy discrepancy : report.getDiscrepancies()) {
+                log.warn("[RECONCILIATION-SCHEDULER] {} drift for {} (SKU {}): actual={}, expected={}",
+                        discrepancy.getType(), discrepancy.getProductId(), discrepancy.getSku(),
+                        discrepancy.getActual(), discrepancy.getExpected());
+            }
+        } catch (Exception e) {
+            log.error("[RECONCILIATION-SCHEDULER] Error reconciling inventory: {}", e.getMessage(), e);
+        }
+    }
+}
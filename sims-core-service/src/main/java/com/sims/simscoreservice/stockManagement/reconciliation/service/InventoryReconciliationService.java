@@ -0,0 +1,265 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.service;
+
+import com.sims.common.exceptions.DatabaseException;
+import com.sims.common.exceptions.ServiceException;
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.inventory.repository.DamageLossRepository;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.*;
+import com.sims.simscoreservice.stockManagement.reconciliation.enums.DiscrepancyType;
+import com.sims.simscoreservice.stockMovement.dto.ProductLossTotal;
+import com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals;
+import com.sims.simscoreservice.stockMovement.entity.InventorySnapshot;
+import com.sims.simscoreservice.stockMovement.repository.InventorySnapshotRepository;
+import com.sims.simscoreservice.stockMovement.repository.StockMovementRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Inventory Reconciliation Service
+ * Verifies that reserved stock matches open order items and current stock matches the movement ledger.
+ *
+ * The product space is split into chunks that are checked in parallel with set-based, non-locking reads,
+ * so reservations are never blocked. Suspected discrepancies are re-checked once to filter out
+ * in-flight orders, and reserved stock can optionally be corrected under a row lock.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReconciliationService {
+
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ExecutorService executor;
+
+    @Value("${inventory.reconciliation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${inventory.reconciliation.threads:4}")
+    private int threads;
+
+    // ========== Repositories ==========
+    private final InventoryRepository inventoryRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final DamageLossRepository damageLossRepository;
+
+    // ========== Services ==========
+    private final StockManagementService stockManagementService;
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "inventory-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run a full reconciliation
+     *
+     * @param autoCorrect reset drifted reserved stock to the open order item quantities
+     * @return report with all confirmed discrepancies
+     */
+    public ReconciliationReport reconcile(boolean autoCorrect) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ValidationException("Inventory reconciliation is already running");
+        }
+
+        LocalDateTime startedAt = GlobalServiceHelper.now(clock);
+        long start = System.nanoTime();
+        try {
+            LocalDate baselineDate = inventorySnapshotRepository.findLatestSnapshotDate().orElse(null);
+            List<String> productIds = inventoryRepository.findAllProductIds();
+            List<List<String>> chunks = partition(productIds, chunkSize);
+
+            // 1. Check all chunks in parallel
+            List<CompletableFuture<List<StockDiscrepancy>>> futures = chunks.stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(() -> checkChunk(chunk, baselineDate), executor))
+                    .toList();
+
+            List<StockDiscrepancy> suspected = futures.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(List::stream)
+                    .toList();
+
+            // 2. Re-check suspects to drop differences caused by in-flight orders
+            List<StockDiscrepancy> confirmed = recheck(suspected, baselineDate);
+
+            // 3. Optionally correct reserved stock under row lock (sorted to keep a consistent lock order)
+            int corrected = 0;
+            if (autoCorrect) {
+                corrected = correctReservedStock(confirmed);
+            }
+
+            ReconciliationReport report = ReconciliationReport.builder()
+                    .startedAt(startedAt)
+                    .durationMs(Duration.ofNanos(System.nanoTime() - start).toMillis())
+                    .productsChecked(productIds.size())
+                    .chunks(chunks.size())
+                    .autoCorrect(autoCorrect)
+                    .baselineSnapshotDate(baselineDate)
+                    .reservedStockDiscrepancies(countByType(confirmed, DiscrepancyType.RESERVED_STOCK))
+                    .currentStockDiscrepancies(countByType(confirmed, DiscrepancyType.CURRENT_STOCK))
+                    .corrected(corrected)
+                    .discrepancies(confirmed)
+                    .build();
+
+            log.info("[RECONCILIATION] Checked {} products in {} chunks ({} ms): {} reserved, {} current stock discrepancies, {} corrected",
+                    report.getProductsChecked(), report.getChunks(), report.getDurationMs(),
+                    report.getReservedStockDiscrepancies(), report.getCurrentStockDiscrepancies(), corrected);
+
+            return report;
+
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("[RECONCILIATION] Error reconciling chunk: {}", cause.getMessage());
+            if (cause instanceof DataAccessException dae) {
+                throw new DatabaseException("Failed to reconcile inventory", dae);
+            }
+            throw new ServiceException("Failed to reconcile inventory", cause);
+        } catch (DataAccessException e) {
+            log.error("[RECONCILIATION] Database error reconciling inventory: {}", e.getMessage());
+            throw new DatabaseException("Failed to reconcile inventory", e);
+        } catch (Exception e) {
+            log.error("[RECONCILIATION] Unexpected error reconciling inventory: {}", e.getMessage());
+            throw new ServiceException("Failed to reconcile inventory", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Compare one chunk of products against open order items and the ledger
+     */
+    private List<StockDiscrepancy> checkChunk(List<String> productIds, LocalDate baselineDate) {
+        List<InventoryBalance> balances = inventoryRepository.findBalancesByProductIds(productIds);
+
+        Map<String, Long> expectedReserved = orderItemRepository.sumOpenReservedByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ProductReservedTotal::productId, ProductReservedTotal::reservedQuantity));
+
+        Map<String, Long> expectedCurrent = baselineDate != null
+                ? expectedCurrentStock(productIds, baselineDate)
+                : Map.of();
+
+        List<StockDiscrepancy> discrepancies = new ArrayList<>();
+        for (InventoryBalance balance : balances) {
+            long reserved = expectedReserved.getOrDefault(balance.productId(), 0L);
+            if (balance.reservedStock() != reserved) {
+                discrepancies.add(new StockDiscrepancy(balance.productId(), balance.sku(),
+                        DiscrepancyType.RESERVED_STOCK, balance.reservedStock().longValue(), reserved, false));
+            }
+
+            Long current = expectedCurrent.get(balance.productId());
+            if (current != null && balance.currentStock().longValue() != current) {
+                discrepancies.add(new StockDiscrepancy(balance.productId(), balance.sku(),
+                        DiscrepancyType.CURRENT_STOCK, balance.currentStock().longValue(), current, false));
+            }
+        }
+        return discrepancies;
+    }
+
+    /**
+     * Expected current stock = baseline snapshot closing + ledger changes since the baseline day
+     */
+    private Map<String, Long> expectedCurrentStock(List<String> productIds, LocalDate baselineDate) {
+        LocalDateTime from = baselineDate.plusDays(1).atStartOfDay();
+        LocalDateTime to = GlobalServiceHelper.now(clock).plusSeconds(1);
+
+        Map<String, Long> expected = inventorySnapshotRepository.findBySnapshotDateAndProductIdIn(baselineDate, productIds)
+                .stream()
+                .collect(Collectors.toMap(InventorySnapshot::getProductId, s -> s.getClosingStock().longValue()));
+
+        for (ProductMovementTotals totals : stockMovementRepository.sumMovementsForProductsBetween(productIds, from, to)) {
+            expected.computeIfPresent(totals.productId(), (id, stock) -> stock + totals.net());
+        }
+        for (ProductLossTotal loss : damageLossRepository.sumQuantityLostForProductsBetween(productIds, from, to)) {
+            expected.computeIfPresent(loss.productId(), (id, stock) -> stock - loss.quantityLost());
+        }
+        return expected;
+    }
+
+    private List<StockDiscrepancy> recheck(List<StockDiscrepancy> suspected, LocalDate baselineDate) {
+        if (suspected.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> productIds = suspected.stream()
+                .map(StockDiscrepancy::getProductId)
+                .distinct()
+                .toList();
+
+        Set<String> suspectedKeys = suspected.stream()
+                .map(d -> d.getProductId() + ":" + d.getType())
+                .collect(Collectors.toSet());
+
+        return partition(productIds, chunkSize).stream()
+                .flatMap(chunk -> checkChunk(chunk, baselineDate).stream())
+                .filter(d -> suspectedKeys.contains(d.getProductId() + ":" + d.getType()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private int correctReservedStock(List<StockDiscrepancy> discrepancies) {
+        int corrected = 0;
+        List<StockDiscrepancy> reserved = discrepancies.stream()
+                .filter(d -> d.getType() == DiscrepancyType.RESERVED_STOCK)
+                .sorted(Comparator.comparing(StockDiscrepancy::getProductId))
+                .toList();
+
+        for (StockDiscrepancy discrepancy : reserved) {
+            try {
+                if (stockManagementService.correctReservedStock(discrepancy.getProductId())) {
+                    discrepancy.setCorrected(true);
+                    corrected++;
+                }
+            } catch (Exception e) {
+                // Keep going: one locked/failed SKU should not abort the whole run
+                log.error("[RECONCILIATION] Failed to correct reserved stock for product {}: {}",
+                        discrepancy.getProductId(), e.getMessage());
+            }
+        }
+        return corrected;
+    }
+
+    private static int countByType(List<StockDiscrepancy> discrepancies, DiscrepancyType type) {
+        return (int) discrepancies.stream().filter(d -> d.getType() == type).count();
+    }
+
+    private static List<List<String>> partition(List<String> values, int size) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            chunks.add(values.subList(i, Math.min(i + size, values.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,90 @@
+package com.sims.simscoreservice.stockMovement.controller;
+
+import com.sims.common.models.ApiResponse;
+import com.sims.simscoreservice.shared.util.RoleValidator;
+import com.sims.simscoreservice.stockMovement.dto.InventorySnapshotResponse;
+import com.sims.simscoreservice.stockMovement.dto.StockPositionResponse;
+import com.sims.simscoreservice.stockMovement.service.InventorySnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.sims.common.constants.AppConstants.*;
+
+/**
+ * Inventory Snapshot Controller
+ * Point-in-time and historical stock positions for auditing
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping(BASE_INVENTORY_PATH + "/snapshots")
+public class InventorySnapshotController {
+
+    private final InventorySnapshotService inventorySnapshotService;
+    private final RoleValidator roleValidator;
+
+    /**
+     * Get stock of a product at a point in time
+     * Example: GET /api/v1/inventory/snapshots/PRD001?asOf=2025-01-20T14:30:00
+     */
+    @GetMapping("/{productId}")
+    public ResponseEntity<ApiResponse<StockPositionResponse>> getStockAt(
+            @PathVariable String productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestHeader(USER_ID_HEADER) String userId) {
+
+        log.info("[SNAPSHOT-CONTROLLER] Get stock of {} as of {} by user: {}", productId, asOf, userId);
+
+        StockPositionResponse position = inventorySnapshotService.getStockAt(productId, asOf);
+
+        return ResponseEntity.ok(ApiResponse.success("Stock position retrieved successfully", position));
+    }
+
+    /**
+     * Get daily closing positions of a product for a date range
+     * Example: GET /api/v1/inventory/snapshots/PRD001/history?startDate=2025-01-01&endDate=2025-01-31
+     */
+    @GetMapping("/{productId}/history")
+    public ResponseEntity<ApiResponse<List<InventorySnapshotResponse>>> getSnapshotHistory(
+            @PathVariable String productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(USER_ID_HEADER) String userId) {
+
+        log.info("[SNAPSHOT-CONTROLLER] Get snapshot history of {} from {} to {} by user: {}",
+                productId, startDate, endDate, userId);
+
+        List<InventorySnapshotResponse> history =
+                inventorySnapshotService.getSnapshotHistory(productId, startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success("Snapshot history retrieved successfully", history));
+    }
+
+    /**
+     * Materialize missing snapshots up to yesterday (normally done by the scheduler)
+     * Only ADMIN can trigger
+     */
+    @PostMapping("/run")
+    public ResponseEntity<ApiResponse<Integer>> createSnapshots(
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[SNAPSHOT-CONTROLLER] Manual snapshot run by user: {}", userId);
+
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN");
+
+        int days = inventorySnapshotService.createDailySnapshots();
+
+        return ResponseEntity.ok(ApiResponse.success("Snapshots created for " + days + " day(s)", days));
+    }
+}
@@ -0,0 +1,36 @@
+package com.sims.simscoreservice.stockMovement.dto;
+
+import com.sims.simscoreservice.stockMovement.entity.InventorySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Inventory Snapshot Response DTO
+ * Daily closing position of a product
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventorySnapshotResponse {
+    private LocalDate date;
+    private Integer closingStock;
+    private Integer quantityIn;
+    private Integer quantityOut;
+    private Integer quantityLost;
+
+    public static InventorySnapshotResponse from(InventorySnapshot snapshot) {
+        return new InventorySnapshotResponse(
+                snapshot.getSnapshotDate(),
+                snapshot.getClosingStock(),
+                snapshot.getQuantityIn(),
+                snapshot.getQuantityOut(),
+                snapshot.getQuantityLost()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.sims.simscoreservice.stockMovement.dto;
+
+/**
+ * Aggregated damage/loss quantity of a single product over a time window
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record ProductLossTotal(
+        String productId,
+        Long quantityLost
+) {}
@@ -0,0 +1,17 @@
+package com.sims.simscoreservice.stockMovement.dto;
+
+/**
+ * Aggregated IN/OUT quantities of a single product over a time window
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record ProductMovementTotals(
+        String productId,
+        Long quantityIn,
+        Long quantityOut
+) {
+    public long net() {
+        return quantityIn - quantityOut;
+    }
+}
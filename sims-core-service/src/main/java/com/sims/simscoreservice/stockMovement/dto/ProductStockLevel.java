@@ -0,0 +1,12 @@
+package com.sims.simscoreservice.stockMovement.dto;
+
+/**
+ * Current stock level of a single product, used to seed snapshots
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record ProductStockLevel(
+        String productId,
+        Integer currentStock
+) {}
@@ -0,0 +1,32 @@
+package com.sims.simscoreservice.stockMovement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Stock Position Response DTO
+ * Stock of a product at a given point in time
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPositionResponse {
+    private String productId;
+    private LocalDateTime asOf;
+    private Integer stock;
+
+    // Snapshot the position was derived from (null when derived from live inventory)
+    private LocalDate baseSnapshotDate;
+
+    // Net quantity replayed on top of the base position
+    private Long replayedQuantity;
+}
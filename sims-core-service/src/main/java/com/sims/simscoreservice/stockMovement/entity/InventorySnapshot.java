@@ -0,0 +1,64 @@
+package com.sims.simscoreservice.stockMovement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Inventory Snapshot Entity
+ * Daily closing stock position per product, materialized from the movement ledger
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Entity
+@Table(name = "inventory_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_snapshot_product_date",
+                columnNames = {"product_id", "snapshot_date"}),
+        indexes = @Index(name = "idx_snapshot_date", columnList = "snapshot_date"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, length = 10)
+    private String productId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "closing_stock", nullable = false)
+    private Integer closingStock;
+
+    @Column(name = "quantity_in", nullable = false)
+    private Integer quantityIn;
+
+    @Column(name = "quantity_out", nullable = false)
+    private Integer quantityOut;
+
+    @Column(name = "quantity_lost", nullable = false)
+    private Integer quantityLost;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public InventorySnapshot(String productId, LocalDate snapshotDate, Integer closingStock,
+                             Integer quantityIn, Integer quantityOut, Integer quantityLost) {
+        this.productId = productId;
+        this.snapshotDate = snapshotDate;
+        this.closingStock = closingStock;
+        this.quantityIn = quantityIn;
+        this.quantityOut = quantityOut;
+        this.quantityLost = quantityLost;
+    }
+}
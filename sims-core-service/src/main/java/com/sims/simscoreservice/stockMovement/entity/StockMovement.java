@@ -13,7 +13,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stock_movements")
+@Table(name = "stock_movements", indexes = {
+        @Index(name = "idx_stock_movement_created_at", columnList = "created_at"),
+        @Index(name = "idx_stock_movement_product_created_at", columnList = "product_id, created_at")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -11,7 +11,8 @@ import lombok.Getter;
 @Getter
 public enum StockMovementReferenceType {
     SALES_ORDER ("Sales Order Type"),
-    PURCHASE_ORDER ("Purchase Order Type");
+    PURCHASE_ORDER ("Purchase Order Type"),
+    STOCK_COUNT ("Stock Count Correction"); // persisted as ordinal: append only, StockMovementSchemaInitializer drops outdated checks
 
     private final String description;
 
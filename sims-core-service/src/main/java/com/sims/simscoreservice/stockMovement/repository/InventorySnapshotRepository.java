@@ -0,0 +1,35 @@
+package com.sims.simscoreservice.stockMovement.repository;
+
+import com.sims.simscoreservice.stockMovement.entity.InventorySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inventory Snapshot Repository
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Repository
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    @Query("SELECT MAX(s.snapshotDate) FROM InventorySnapshot s")
+    Optional<LocalDate> findLatestSnapshotDate();
+
+    boolean existsBySnapshotDate(LocalDate snapshotDate);
+
+    List<InventorySnapshot> findBySnapshotDate(LocalDate snapshotDate);
+
+    Optional<InventorySnapshot> findByProductIdAndSnapshotDate(String productId, LocalDate snapshotDate);
+
+    List<InventorySnapshot> findByProductIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(String productId,
+                                                                                         LocalDate from,
+                                                                                         LocalDate to);
+
+    List<InventorySnapshot> findBySnapshotDateAndProductIdIn(LocalDate snapshotDate, List<String> productIds);
+}
@@ -1,9 +1,68 @@
 package com.sims.simscoreservice.stockMovement.repository;
 
+import com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals;
 import com.sims.simscoreservice.stockMovement.entity.StockMovement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    /**
+     * Sum IN/OUT quantities per product in [start, end)
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals(
+            sm.product.productId,
+            CAST(COALESCE(SUM(CASE WHEN sm.type = 'IN' THEN sm.quantity ELSE 0 END), 0) AS Long),
+            CAST(COALESCE(SUM(CASE WHEN sm.type = 'OUT' THEN sm.quantity ELSE 0 END), 0) AS Long)
+        )
+        FROM StockMovement sm
+        WHERE sm.createdAt >= :start AND sm.createdAt < :end
+        GROUP BY sm.product.productId
+    """)
+    List<ProductMovementTotals> sumMovementsByProductBetween(@Param("start") LocalDateTime start,
+                                                             @Param("end") LocalDateTime end);
+
+    /**
+     * Sum IN/OUT quantities of a single product in [start, end)
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals(
+            sm.product.productId,
+            CAST(COALESCE(SUM(CASE WHEN sm.type = 'IN' THEN sm.quantity ELSE 0 END), 0) AS Long),
+            CAST(COALESCE(SUM(CASE WHEN sm.type = 'OUT' THEN sm.quantity ELSE 0 END), 0) AS Long)
+        )
+        FROM StockMovement sm
+        WHERE sm.product.productId = :productId
+          AND sm.createdAt >= :start AND sm.createdAt < :end
+        GROUP BY sm.product.productId
+    """)
+    Optional<ProductMovementTotals> sumMovementsForProductBetween(@Param("productId") String productId,
+                                                                  @Param("start") LocalDateTime start,
+                                                                  @Param("end") LocalDateTime end);
+
+    /**
+     * Sum IN/OUT quantities per product of the given products in [start, end)
+     */
+    @Query("""
+        SELECT new com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals(
+            sm.product.productId,
+            CAST(COALESCE(SUM(CASE WHEN sm.type = 'IN' THEN sm.quantity ELSE 0 END), 0) AS Long),
+            CAST(COALESCE(SUM(CASE WHEN sm.type = 'OUT' THEN sm.quantity ELSE 0 END), 0) AS Long)
+        )
+        FROM StockMovement sm
+        WHERE sm.product.productId IN :productIds
+          AND sm.createdAt >= :start AND sm.createdAt < :end
+        GROUP BY sm.product.productId
+    """)
+    List<ProductMovementTotals> sumMovementsForProductsBetween(@Param("productIds") List<String> productIds,
+                                                               @Param("start") LocalDateTime start,
+                                                               @Param("end") LocalDateTime end);
 }
@@ -0,0 +1,38 @@
+package com.sims.simscoreservice.stockMovement.scheduler;
+
+import com.sims.simscoreservice.stockMovement.service.InventorySnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inventory Snapshot Scheduler
+ * Materializes the previous day's closing stock positions shortly after midnight
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySnapshotScheduler {
+
+    private final InventorySnapshotService inventorySnapshotService;
+
+    // @Scheduled(cron = "*/30 * * * * ?")
+    @Scheduled(cron = "0 5 0 * * ?")
+    public void createDailySnapshots() {
+        log.info("[SNAPSHOT-SCHEDULER] Creating daily inventory snapshots...");
+
+        try {
+            inventorySnapshotService.createDailySnapshots();
+        } catch (DataIntegrityViolationException e) {
+            // Unique (product, date) constraint: another instance already materialized this day
+            log.info("[SNAPSHOT-SCHEDULER] Snapshots already created by another instance");
+        } catch (Exception e) {
+            log.error("[SNAPSHOT-SCHEDULER] Error creating daily snapshots: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.sims.simscoreservice.stockMovement.service;
+
+import com.sims.common.exceptions.DatabaseException;
+import com.sims.common.exceptions.ResourceNotFoundException;
+import com.sims.common.exceptions.ServiceException;
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.queryService.InventoryQueryService;
+import com.sims.simscoreservice.inventory.repository.DamageLossRepository;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import com.sims.simscoreservice.stockMovement.dto.*;
+import com.sims.simscoreservice.stockMovement.entity.InventorySnapshot;
+import com.sims.simscoreservice.stockMovement.repository.InventorySnapshotRepository;
+import com.sims.simscoreservice.stockMovement.repository.StockMovementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Inventory Snapshot Service
+ * Materializes daily closing positions from the movement ledger (stock movements + damage/loss)
+ * and answers point-in-time stock questions from the nearest snapshot plus at most one day of replay
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySnapshotService {
+
+    private static final int MAX_HISTORY_DAYS = 366;
+
+    private final Clock clock;
+
+    // ========== Repositories ==========
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final DamageLossRepository damageLossRepository;
+    private final InventoryRepository inventoryRepository;
+
+    // ========== Services ==========
+    private final InventoryQueryService inventoryQueryService;
+
+    /**
+     * Create snapshots for every day since the latest snapshot up to (and including) yesterday.
+     * Each day only aggregates that day's movements on top of the previous day's closing positions.
+     *
+     * @return number of days materialized
+     */
+    @Transactional
+    public int createDailySnapshots() {
+        LocalDate targetDate = GlobalServiceHelper.now(clock).toLocalDate().minusDays(1);
+        try {
+            LocalDate latest = inventorySnapshotRepository.findLatestSnapshotDate().orElse(null);
+
+            if (latest == null) {
+                // First run: derive yesterday's closing positions backwards from live inventory
+                seedSnapshots(targetDate);
+                return 1;
+            }
+
+            int days = 0;
+            for (LocalDate date = latest.plusDays(1); !date.isAfter(targetDate); date = date.plusDays(1)) {
+                rollForward(date);
+                days++;
+            }
+
+            log.info("[INVENTORY-SNAPSHOT] Materialized {} day(s) of snapshots up to {}", days, targetDate);
+            return days;
+
+        } catch (DataIntegrityViolationException e) {
+            // Unique (product, date): another instance materialized the day first, let the caller decide
+            throw e;
+        } catch (DataAccessException e) {
+            log.error("[INVENTORY-SNAPSHOT] Database error creating snapshots: {}", e.getMessage());
+            throw new DatabaseException("Failed to create inventory snapshots", e);
+        } catch (Exception e) {
+            log.error("[INVENTORY-SNAPSHOT] Unexpected error creating snapshots: {}", e.getMessage());
+            throw new ServiceException("Failed to create inventory snapshots", e);
+        }
+    }
+
+    /**
+     * Get stock of a product at a given point in time.
+     * Uses the previous day's closing snapshot and replays the movements of the same day up to asOf.
+     * If that snapshot is not available yet, falls back to live inventory minus the movements since asOf
+     * (only allowed within the last day, so a query never scans more than one day of movements).
+     */
+    @Transactional(readOnly = true)
+    public StockPositionResponse getStockAt(String productId, LocalDateTime asOf) {
+        LocalDateTime now = GlobalServiceHelper.now(clock);
+        if (asOf == null || asOf.isAfter(now)) {
+            throw new ValidationException("As-of timestamp must not be in the future");
+        }
+
+        try {
+            Inventory inventory = inventoryQueryService.getInventoryByProductId(productId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Inventory not found for product: " + productId));
+
+            LocalDate previousDay = asOf.toLocalDate().minusDays(1);
+            InventorySnapshot snapshot = inventorySnapshotRepository
+                    .findByProductIdAndSnapshotDate(productId, previousDay)
+                    .orElse(null);
+
+            if (snapshot != null) {
+                long delta = netChangeBetween(productId, asOf.toLocalDate().atStartOfDay(), asOf);
+                return StockPositionResponse.builder()
+                        .productId(productId)
+                        .asOf(asOf)
+                        .stock((int) (snapshot.getClosingStock() + delta))
+                        .baseSnapshotDate(previousDay)
+                        .replayedQuantity(delta)
+                        .build();
+            }
+
+            if (asOf.isBefore(now.minusDays(1))) {
+                throw new ResourceNotFoundException(
+                        "No inventory snapshot available for product " + productId + " on " + previousDay);
+            }
+
+            // Snapshot for yesterday not materialized yet: replay backwards from the live position
+            long delta = netChangeBetween(productId, asOf, now);
+            return StockPositionResponse.builder()
+                    .productId(productId)
+                    .asOf(asOf)
+                    .stock((int) (inventory.getCurrentStock() - delta))
+                    .replayedQuantity(-delta)
+                    .build();
+
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            log.error("[INVENTORY-SNAPSHOT] Database error getting stock at {}: {}", asOf, e.getMessage());
+            throw new DatabaseException("Failed to retrieve point-in-time stock", e);
+        } catch (Exception e) {
+            log.error("[INVENTORY-SNAPSHOT] Unexpected error getting stock at {}: {}", asOf, e.getMessage());
+            throw new ServiceException("Failed to retrieve point-in-time stock", e);
+        }
+    }
+
+    /**
+     * Get daily closing positions of a product for a date range (snapshots only, no replay)
+     */
+    @Transactional(readOnly = true)
+    public List<InventorySnapshotResponse> getSnapshotHistory(String productId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new ValidationException("Start date must be before or equal to end date");
+        }
+        if (from.plusDays(MAX_HISTORY_DAYS).isBefore(to)) {
+            throw new ValidationException("Date range cannot exceed " + MAX_HISTORY_DAYS + " days");
+        }
+
+        try {
+            return inventorySnapshotRepository
+                    .findByProductIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(productId, from, to)
+                    .stream()
+                    .map(InventorySnapshotResponse::from)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.error("[INVENTORY-SNAPSHOT] Database error getting snapshot history: {}", e.getMessage());
+            throw new DatabaseException("Failed to retrieve snapshot history", e);
+        }
+    }
+
+    /**
+     * Roll the previous day's closing positions forward with the movements of the given day
+     */
+    private void rollForward(LocalDate date) {
+        if (inventorySnapshotRepository.existsBySnapshotDate(date)) {
+            log.debug("[INVENTORY-SNAPSHOT] Snapshot for {} already exists, skipping", date);
+            return;
+        }
+
+        Map<String, Integer> previousClosing = inventorySnapshotRepository.findBySnapshotDate(date.minusDays(1))
+                .stream()
+                .collect(Collectors.toMap(InventorySnapshot::getProductId, InventorySnapshot::getClosingStock));
+
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+        Map<String, ProductMovementTotals> movements = movementsByProduct(start, end);
+        Map<String, Long> losses = lossesByProduct(start, end);
+
+        // Products created after the previous snapshot are derived from live inventory
+        Map<String, Long> changesSinceEnd = null;
+
+        List<InventorySnapshot> snapshots = new ArrayList<>();
+        for (ProductStockLevel level : inventoryRepository.getProductStockLevels()) {
+            String productId = level.productId();
+            ProductMovementTotals dayMovements = movements.get(productId);
+            long in = dayMovements != null ? dayMovements.quantityIn() : 0L;
+            long out = dayMovements != null ? dayMovements.quantityOut() : 0L;
+            long lost = losses.getOrDefault(productId, 0L);
+
+            long closing;
+            Integer previous = previousClosing.get(productId);
+            if (previous != null) {
+                closing = previous + in - out - lost;
+            } else {
+                if (changesSinceEnd == null) {
+                    changesSinceEnd = netChangesByProduct(end, GlobalServiceHelper.now(clock));
+                }
+                closing = level.currentStock() - changesSinceEnd.getOrDefault(productId, 0L);
+            }
+
+            snapshots.add(new InventorySnapshot(productId, date, (int) closing, (int) in, (int) out, (int) lost));
+        }
+
+        // Flush here so a duplicate day surfaces as DataIntegrityViolationException inside this method
+        inventorySnapshotRepository.saveAllAndFlush(snapshots);
+        log.info("[INVENTORY-SNAPSHOT] Created {} snapshots for {}", snapshots.size(), date);
+    }
+
+    /**
+     * Seed the first snapshot day by replaying backwards from the live inventory position
+     */
+    private void seedSnapshots(LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+        Map<String, ProductMovementTotals> movements = movementsByProduct(start, end);
+        Map<String, Long> losses = lossesByProduct(start, end);
+        Map<String, Long> changesSinceEnd = netChangesByProduct(end, GlobalServiceHelper.now(clock));
+
+        List<InventorySnapshot> snapshots = new ArrayList<>();
+        for (ProductStockLevel level : inventoryRepository.getProductStockLevels()) {
+            String productId = level.productId();
+            ProductMovementTotals dayMovements = movements.get(productId);
+            long closing = level.currentStock() - changesSinceEnd.getOrDefault(productId, 0L);
+
+            snapshots.add(new InventorySnapshot(productId, date, (int) closing,
+                    dayMovements != null ? dayMovements.quantityIn().intValue() : 0,
+                    dayMovements != null ? dayMovements.quantityOut().intValue() : 0,
+                    losses.getOrDefault(productId, 0L).intValue()));
+        }
+
+        inventorySnapshotRepository.saveAllAndFlush(snapshots);
+        log.info("[INVENTORY-SNAPSHOT] Seeded {} snapshots for {}", snapshots.size(), date);
+    }
+
+    /**
+     * Net stock change (IN - OUT - lost) of a single product in [start, end)
+     */
+    private long netChangeBetween(String productId, LocalDateTime start, LocalDateTime end) {
+        long net = stockMovementRepository.sumMovementsForProductBetween(productId, start, end)
+                .map(ProductMovementTotals::net)
+                .orElse(0L);
+        Long lost = damageLossRepository.sumQuantityLostForProductBetween(productId, start, end);
+        return net - (lost != null ? lost : 0L);
+    }
+
+    /**
+     * Net stock change (IN - OUT - lost) per product in [start, end)
+     */
+    private Map<String, Long> netChangesByProduct(LocalDateTime start, LocalDateTime end) {
+        Map<String, Long> changes = new HashMap<>();
+        movementsByProduct(start, end).forEach((productId, totals) -> changes.merge(productId, totals.net(), Long::sum));
+        lossesByProduct(start, end).forEach((productId, lost) -> changes.merge(productId, -lost, Long::sum));
+        return changes;
+    }
+
+    private Map<String, ProductMovementTotals> movementsByProduct(LocalDateTime start, LocalDateTime end) {
+        return stockMovementRepository.sumMovementsByProductBetween(start, end).stream()
+                .collect(Collectors.toMap(ProductMovementTotals::productId, totals -> totals));
+    }
+
+    private Map<String, Long> lossesByProduct(LocalDateTime start, LocalDateTime end) {
+        return damageLossRepository.sumQuantityLostByProductBetween(start, end).stream()
+                .collect(Collectors.toMap(ProductLossTotal::productId, ProductLossTotal::quantityLost));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sims.simscoreservice.stockMovement.service;
+
+import com.sims.simscoreservice.stockMovement.enums.StockMovementReferenceType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Stock Movement Schema Initializer
+ * reference_type is stored as an ordinal, and Hibernate creates the column with a
+ * "reference_type between 0 and N" check that ddl-auto=update never widens. Databases created
+ * before the last StockMovementReferenceType was added would reject it, so a check whose range
+ * no longer matches the enum is dropped. New databases get the right range from Hibernate.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockMovementSchemaInitializer {
+
+    private static final String FIND_CHECKS_SQL = """
+            SELECT cc.CONSTRAINT_NAME, cc.CHECK_CLAUSE
+            FROM information_schema.CHECK_CONSTRAINTS cc
+            JOIN information_schema.TABLE_CONSTRAINTS tc
+                ON tc.CONSTRAINT_SCHEMA = cc.CONSTRAINT_SCHEMA AND tc.CONSTRAINT_NAME = cc.CONSTRAINT_NAME
+            WHERE tc.TABLE_SCHEMA = DATABASE()
+                AND tc.TABLE_NAME = 'stock_movements'
+                AND tc.CONSTRAINT_TYPE = 'CHECK'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropStaleReferenceTypeCheck() {
+        try {
+            String expected = normalize("reference_type between 0 and " + (StockMovementReferenceType.values().length - 1));
+            List<String> stale = jdbcTemplate.query(FIND_CHECKS_SQL, (rs, rowNum) -> {
+                String clause = normalize(rs.getString("CHECK_CLAUSE"));
+                return clause.contains("reference_type") && !clause.equals(expected)
+                        ? rs.getString("CONSTRAINT_NAME")
+                        : null;
+            });
+
+            for (String name : stale) {
+                if (name != null) {
+                    jdbcTemplate.execute("ALTER TABLE stock_movements DROP CHECK `" + name.replace("`", "``") + "`");
+                    log.info("[STOCK-MOVEMENT-SCHEMA] Dropped outdated reference_type check {}", name);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[STOCK-MOVEMENT-SCHEMA] Failed to check the reference_type constraint: {}", e.getMessage());
+        }
+    }
+
+    // MySQL reports the clause as "(`reference_type` between 0 and 1)"
+    private static String normalize(String clause) {
+        return clause == null ? "" : clause.replaceAll("[`()\\s]", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -9,14 +9,28 @@ import com.sims.simscoreservice.stockMovement.repository.StockMovementRepository
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class StockMovementService {
 
+    private static final String INSERT_MOVEMENT_SQL = """
+            INSERT INTO stock_movements
+                (product_id, quantity, type, reference_id, reference_type, created_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final Clock clock;
     private final StockMovementRepository stockMovementRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public void logMovement(Product product, StockMovementType type, Integer quantity,
@@ -26,4 +40,28 @@ public class StockMovementService {
         StockMovement movement = new StockMovement(product, quantity, type, referenceId, referenceType, createdBy);
         stockMovementRepository.save(movement);
     }
+
+    /**
+     * Log many movements with a single JDBC batch
+     * (IDENTITY ids prevent Hibernate from batching inserts, so this goes through JDBC directly)
+     */
+    @Transactional
+    public void logMovements(List<StockMovement> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, movements, movements.size(), (ps, movement) -> {
+            ps.setString(1, movement.getProduct().getProductId());
+            ps.setInt(2, movement.getQuantity());
+            ps.setString(3, movement.getType().name());
+            ps.setString(4, movement.getReferenceId());
+            ps.setInt(5, movement.getReferenceType().ordinal()); // mapped without @Enumerated -> ordinal
+            ps.setString(6, movement.getCreatedBy());
+            ps.setTimestamp(7, createdAt);
+        });
+
+        log.info("Logged {} stock movements in one batch", movements.size());
+    }
 }
@@ -0,0 +1,97 @@
+package com.sims.simscoreservice.upload.controller;
+
+import com.sims.common.models.ApiResponse;
+import com.sims.simscoreservice.shared.util.RoleValidator;
+import com.sims.simscoreservice.upload.dto.UploadJobResponse;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import com.sims.simscoreservice.upload.service.UploadJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import static com.sims.common.constants.AppConstants.*;
+
+/**
+ * Upload Controller
+ * Spreadsheet (XLSX/CSV) uploads for the catalog team and cycle counters.
+ * Uploads are processed in the background: the POST returns a job, poll the job for progress.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class UploadController {
+
+    private static final String PRODUCT_UPLOAD_PATH = BASE_PRODUCTS_PATH + "/upload";
+    private static final String STOCK_COUNT_UPLOAD_PATH = BASE_INVENTORY_PATH + "/total/stock-count/upload";
+
+    private final UploadJobService uploadJobService;
+    private final RoleValidator roleValidator;
+
+    /**
+     * Upload new products
+     * Columns: name, location, category, price, status
+     */
+    @PostMapping(value = PRODUCT_UPLOAD_PATH, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<UploadJobResponse>> uploadProducts(
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[UPLOAD-CONTROLLER] Product upload {} by user: {}", file.getOriginalFilename(), userId);
+
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        UploadJobResponse job = uploadJobService.submit(UploadJobType.PRODUCT_IMPORT, file, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Product upload accepted", job));
+    }
+
+    @GetMapping(PRODUCT_UPLOAD_PATH + "/{jobId}")
+    public ResponseEntity<ApiResponse<UploadJobResponse>> getProductUpload(
+            @PathVariable String jobId,
+            @RequestHeader(USER_ID_HEADER) String userId) {
+
+        UploadJobResponse job = uploadJobService.getJob(jobId, UploadJobType.PRODUCT_IMPORT);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success("Upload job retrieved", job));
+    }
+
+    /**
+     * Upload stock count corrections
+     * Columns: sku, currentStock and/or minLevel
+     */
+    @PostMapping(value = STOCK_COUNT_UPLOAD_PATH, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<UploadJobResponse>> uploadStockCounts(
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader(USER_ID_HEADER) String userId,
+            @RequestHeader(USER_ROLES_HEADER) String roles) {
+
+        log.info("[UPLOAD-CONTROLLER] Stock count upload {} by user: {}", file.getOriginalFilename(), userId);
+
+        roleValidator.requireAnyRole(roles, "ROLE_ADMIN", "ROLE_MANAGER");
+
+        UploadJobResponse job = uploadJobService.submit(UploadJobType.STOCK_COUNT, file, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Stock count upload accepted", job));
+    }
+
+    @GetMapping(STOCK_COUNT_UPLOAD_PATH + "/{jobId}")
+    public ResponseEntity<ApiResponse<UploadJobResponse>> getStockCountUpload(
+            @PathVariable String jobId,
+            @RequestHeader(USER_ID_HEADER) String userId) {
+
+        UploadJobResponse job = uploadJobService.getJob(jobId, UploadJobType.STOCK_COUNT);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success("Upload job retrieved", job));
+    }
+}
@@ -0,0 +1,37 @@
+package com.sims.simscoreservice.upload.dto;
+
+import com.sims.simscoreservice.upload.enums.UploadJobStatus;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Upload Job Response DTO
+ * Progress of an upload; errors holds the first rejected rows
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadJobResponse {
+    private String jobId;
+    private UploadJobType type;
+    private UploadJobStatus status;
+    private String fileName;
+    private int processedRows;
+    private int successCount;
+    private int failureCount;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<UploadRowError> errors;
+}
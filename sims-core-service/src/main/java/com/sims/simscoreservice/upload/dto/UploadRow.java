@@ -0,0 +1,30 @@
+package com.sims.simscoreservice.upload.dto;
+
+import java.util.Map;
+
+/**
+ * One data row of an uploaded spreadsheet
+ *
+ * @param rowNumber row number as shown in the spreadsheet (header is row 1)
+ * @param values cell values keyed by normalized column name (see UploadRow#normalize)
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record UploadRow(int rowNumber, Map<String, String> values) {
+
+    /**
+     * Trimmed cell value, null if the column is missing or the cell is blank
+     */
+    public String get(String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * "Current Stock", "current_stock" and "currentStock" all become "currentstock"
+     */
+    public static String normalize(String header) {
+        return header == null ? "" : header.replaceAll("[^A-Za-z0-9]", "").toLowerCase();
+    }
+}
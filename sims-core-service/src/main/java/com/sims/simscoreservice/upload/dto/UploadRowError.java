@@ -0,0 +1,9 @@
+package com.sims.simscoreservice.upload.dto;
+
+/**
+ * Rejected upload row
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public record UploadRowError(int rowNumber, String message) {}
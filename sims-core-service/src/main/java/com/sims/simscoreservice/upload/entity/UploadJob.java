@@ -0,0 +1,76 @@
+package com.sims.simscoreservice.upload.entity;
+
+import com.sims.simscoreservice.upload.enums.UploadJobStatus;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Upload Job Entity
+ * Progress of a spreadsheet upload, persisted so any instance can answer status requests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Entity
+@Table(name = "upload_jobs")
+@Data
+@NoArgsConstructor
+public class UploadJob {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private UploadJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private UploadJobStatus status;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "processed_rows", nullable = false)
+    private int processedRows;
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @Column(name = "created_by", nullable = false, length = 100)
+    private String createdBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Refreshed while the owning instance holds the job; a stale value means the instance is gone
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    public UploadJob(String jobId, UploadJobType type, String fileName, String createdBy) {
+        this.jobId = jobId;
+        this.type = type;
+        this.status = UploadJobStatus.QUEUED;
+        this.fileName = fileName;
+        this.createdBy = createdBy;
+    }
+}
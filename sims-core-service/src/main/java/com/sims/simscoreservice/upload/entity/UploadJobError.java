@@ -0,0 +1,40 @@
+package com.sims.simscoreservice.upload.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Upload Job Error Entity
+ * A rejected row of an upload (row number as shown in the spreadsheet)
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Entity
+@Table(name = "upload_job_errors", indexes = {
+        @Index(name = "idx_upload_job_errors_job", columnList = "job_id, row_number")
+})
+@Data
+@NoArgsConstructor
+public class UploadJobError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Column(name = "row_number", nullable = false)
+    private int rowNumber;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    public UploadJobError(String jobId, int rowNumber, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.message = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sims.simscoreservice.upload.enums;
+
+/**
+ * Upload Job Status
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public enum UploadJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,  // All rows processed (row errors are reported separately)
+    FAILED      // File could not be read or processing stopped
+}
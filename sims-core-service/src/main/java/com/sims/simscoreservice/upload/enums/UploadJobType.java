@@ -0,0 +1,12 @@
+package com.sims.simscoreservice.upload.enums;
+
+/**
+ * Upload Job Type
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public enum UploadJobType {
+    PRODUCT_IMPORT,   // New products (and their inventory rows)
+    STOCK_COUNT       // Cycle count corrections of current stock / min level
+}
@@ -0,0 +1,172 @@
+package com.sims.simscoreservice.upload.parser;
+
+import com.sims.common.exceptions.ValidationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Spreadsheet Row Reader
+ * Streams the rows of an XLSX (first sheet) or CSV file to a handler in constant memory:
+ * XLSX is read with POI's SAX event API instead of loading an XSSFWorkbook,
+ * CSV is read line by line (RFC 4180 quoting, quoted fields may span lines).
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public final class SpreadsheetRowReader {
+
+    private SpreadsheetRowReader() {
+    }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNumber 1-based row number as shown in the spreadsheet
+         */
+        void onRow(int rowNumber, List<String> cells);
+    }
+
+    public static boolean isSupported(String fileName) {
+        return isXlsx(fileName) || isCsv(fileName);
+    }
+
+    public static void read(Path file, String fileName, RowHandler handler) throws IOException {
+        if (isXlsx(fileName)) {
+            readXlsx(file, handler);
+        } else if (isCsv(fileName)) {
+            readCsv(file, handler);
+        } else {
+            throw new ValidationException("Unsupported file type, expected .xlsx or .csv: " + fileName);
+        }
+    }
+
+    private static void readXlsx(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new ValidationException("Invalid XLSX file: " + e.getMessage());
+        }
+    }
+
+    private static void readCsv(Path file, RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int rowNumber = 0;
+            List<String> cells = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (rowNumber == 0 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1); // UTF-8 BOM written by Excel
+                }
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        cells.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+
+                if (quoted) {
+                    // Quoted field continues on the next line
+                    field.append('\n');
+                    continue;
+                }
+                cells.add(field.toString());
+                field.setLength(0);
+                handler.onRow(++rowNumber, cells);
+                cells = new ArrayList<>();
+            }
+        }
+    }
+
+    private static boolean isXlsx(String fileName) {
+        return fileName != null && fileName.toLowerCase().endsWith(".xlsx");
+    }
+
+    private static boolean isCsv(String fileName) {
+        return fileName != null && fileName.toLowerCase().endsWith(".csv");
+    }
+
+    /**
+     * Collects the cells of one row; blank cells are skipped by POI, so gaps are filled by column index
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private List<String> cells = new ArrayList<>();
+
+        private RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.onRow(rowNum + 1, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sims.simscoreservice.upload.processor;
+
+import com.sims.simscoreservice.product.dto.BatchProductResponse;
+import com.sims.simscoreservice.product.dto.ProductRequest;
+import com.sims.simscoreservice.product.services.importService.ProductImportService;
+import com.sims.simscoreservice.shared.converters.ProductCategoriesConverter;
+import com.sims.simscoreservice.shared.converters.ProductStatusConverter;
+import com.sims.simscoreservice.upload.dto.UploadRow;
+import com.sims.simscoreservice.upload.dto.UploadRowError;
+import com.sims.simscoreservice.upload.entity.UploadJob;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Product Upload Processor
+ * Columns: name, location, category, price, status
+ * Each chunk goes through the bulk import pipeline (one ID block, JDBC batches, one transaction)
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductUploadProcessor implements UploadRowProcessor {
+
+    private final ProductImportService productImportService;
+    private final ProductCategoriesConverter productCategoriesConverter;
+    private final ProductStatusConverter productStatusConverter;
+
+    @Override
+    public UploadJobType type() {
+        return UploadJobType.PRODUCT_IMPORT;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("name", "location", "category", "price", "status");
+    }
+
+    @Override
+    public List<UploadRowError> processChunk(List<UploadRow> rows, UploadJob job) {
+        List<UploadRowError> errors = new ArrayList<>();
+        List<ProductRequest> requests = new ArrayList<>(rows.size());
+        List<Integer> rowNumbers = new ArrayList<>(rows.size());
+
+        for (UploadRow row : rows) {
+            try {
+                requests.add(toRequest(row));
+                rowNumbers.add(row.rowNumber());
+            } catch (Exception e) {
+                errors.add(new UploadRowError(row.rowNumber(), e.getMessage()));
+            }
+        }
+
+        if (!requests.isEmpty()) {
+            BatchProductResponse response = productImportService.importProducts(requests, job.getCreatedBy());
+            for (BatchProductResponse.ProductError error : response.getErrors()) {
+                errors.add(new UploadRowError(rowNumbers.get(error.getIndex()), error.getErrorMessage()));
+            }
+        }
+        return errors;
+    }
+
+    private ProductRequest toRequest(UploadRow row) {
+        ProductRequest request = new ProductRequest();
+        request.setName(row.get("name"));
+        request.setLocation(row.get("location"));
+
+        String category = row.get("category");
+        request.setCategory(category != null ? productCategoriesConverter.convert(category) : null);
+
+        String status = row.get("status");
+        request.setStatus(status != null ? productStatusConverter.convert(status) : null);
+
+        String price = row.get("price");
+        if (price != null) {
+            try {
+                request.setPrice(new BigDecimal(price.replace(",", "")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid price: '" + price + "'");
+            }
+        }
+        return request;
+    }
+}
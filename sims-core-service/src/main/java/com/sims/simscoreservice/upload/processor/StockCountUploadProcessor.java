@@ -0,0 +1,165 @@
+package com.sims.simscoreservice.upload.processor;
+
+import com.sims.simscoreservice.inventory.dto.InventoryRequest;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.helper.InventoryHelper;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockMovement.entity.StockMovement;
+import com.sims.simscoreservice.stockMovement.enums.StockMovementReferenceType;
+import com.sims.simscoreservice.stockMovement.enums.StockMovementType;
+import com.sims.simscoreservice.stockMovement.service.StockMovementService;
+import com.sims.simscoreservice.upload.dto.UploadRow;
+import com.sims.simscoreservice.upload.dto.UploadRowError;
+import com.sims.simscoreservice.upload.entity.UploadJob;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stock Count Upload Processor
+ * Columns: sku, currentStock and/or minLevel (cycle count results)
+ *
+ * Each chunk locks its inventory rows in SKU order and applies the counts with the same semantics as
+ * StockManagementService.updateStockLevels (status refresh, low stock events). The difference to the
+ * previous current stock is logged as an IN/OUT movement, so the movement ledger stays reconcilable.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockCountUploadProcessor implements UploadRowProcessor {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryHelper inventoryHelper;
+    private final StockManagementService stockManagementService;
+    private final StockMovementService stockMovementService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public UploadJobType type() {
+        return UploadJobType.STOCK_COUNT;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("sku");
+    }
+
+    @Override
+    public List<UploadRowError> processChunk(List<UploadRow> rows, UploadJob job) {
+        List<UploadRowError> errors = new ArrayList<>();
+        List<StockCount> counts = new ArrayList<>(rows.size());
+
+        for (UploadRow row : rows) {
+            try {
+                counts.add(toStockCount(row));
+            } catch (Exception e) {
+                errors.add(new UploadRowError(row.rowNumber(), e.getMessage()));
+            }
+        }
+        if (counts.isEmpty()) {
+            return errors;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            List<UploadRowError> chunkErrors = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> chunkErrors.addAll(applyCounts(counts, job)));
+            errors.addAll(chunkErrors);
+        } catch (RuntimeException chunkError) {
+            log.warn("[STOCK-COUNT-UPLOAD] Chunk of {} rows failed, retrying row by row: {}",
+                    counts.size(), chunkError.getMessage());
+
+            for (StockCount count : counts) {
+                try {
+                    List<UploadRowError> rowErrors = new ArrayList<>();
+                    transactionTemplate.executeWithoutResult(status -> rowErrors.addAll(applyCounts(List.of(count), job)));
+                    errors.addAll(rowErrors);
+                } catch (RuntimeException rowError) {
+                    errors.add(new UploadRowError(count.rowNumber(),
+                            NestedExceptionUtils.getMostSpecificCause(rowError).getMessage()));
+                }
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Apply counts inside the caller's transaction
+     */
+    private List<UploadRowError> applyCounts(List<StockCount> counts, UploadJob job) {
+        Set<String> skus = counts.stream().map(StockCount::sku).collect(Collectors.toSet());
+        Map<String, Inventory> inventories = inventoryRepository.findAllBySkusWithLock(skus).stream()
+                .collect(Collectors.toMap(Inventory::getSku, Function.identity()));
+
+        List<UploadRowError> errors = new ArrayList<>();
+        List<StockMovement> movements = new ArrayList<>();
+        String referenceId = "UPLOAD-" + job.getJobId();
+
+        for (StockCount count : counts) {
+            Inventory inventory = inventories.get(count.sku());
+            if (inventory == null) {
+                errors.add(new UploadRowError(count.rowNumber(), "Inventory not found with SKU: " + count.sku()));
+                continue;
+            }
+
+            int previousStock = inventory.getCurrentStock();
+            stockManagementService.updateStockLevels(inventory, count.currentStock(), count.minLevel());
+
+            int difference = inventory.getCurrentStock() - previousStock;
+            if (difference != 0) {
+                movements.add(new StockMovement(
+                        inventory.getProduct(),
+                        Math.abs(difference),
+                        difference > 0 ? StockMovementType.IN : StockMovementType.OUT,
+                        referenceId,
+                        StockMovementReferenceType.STOCK_COUNT,
+                        job.getCreatedBy()
+                ));
+            }
+        }
+
+        stockMovementService.logMovements(movements);
+        return errors;
+    }
+
+    private StockCount toStockCount(UploadRow row) {
+        String sku = row.get("sku");
+        if (sku == null) {
+            throw new IllegalArgumentException("SKU is required");
+        }
+
+        InventoryRequest request = new InventoryRequest(
+                parseInteger(row.get("currentstock"), "current stock"),
+                parseInteger(row.get("minlevel"), "minimum level"));
+        inventoryHelper.validateUpdateRequest(request);
+
+        return new StockCount(row.rowNumber(), sku.toUpperCase(), request.getCurrentStock(), request.getMinLevel());
+    }
+
+    private static Integer parseInteger(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            // Excel formats whole numbers as "12" but may write "12.0" for computed cells
+            return new BigDecimal(value.replace(",", "")).intValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": '" + value + "'");
+        }
+    }
+
+    private record StockCount(int rowNumber, String sku, Integer currentStock, Integer minLevel) {}
+}
@@ -0,0 +1,32 @@
+package com.sims.simscoreservice.upload.processor;
+
+import com.sims.simscoreservice.upload.dto.UploadRow;
+import com.sims.simscoreservice.upload.dto.UploadRowError;
+import com.sims.simscoreservice.upload.entity.UploadJob;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+
+import java.util.List;
+
+/**
+ * Upload Row Processor
+ * Applies the rows of one upload type, a chunk at a time
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+public interface UploadRowProcessor {
+
+    UploadJobType type();
+
+    /**
+     * Normalized column names the header row must contain
+     */
+    List<String> requiredColumns();
+
+    /**
+     * Validate and apply one chunk of rows
+     *
+     * @return rejected rows; every other row of the chunk was applied
+     */
+    List<UploadRowError> processChunk(List<UploadRow> rows, UploadJob job);
+}
@@ -0,0 +1,20 @@
+package com.sims.simscoreservice.upload.repository;
+
+import com.sims.simscoreservice.upload.entity.UploadJobError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Upload Job Error Repository
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Repository
+public interface UploadJobErrorRepository extends JpaRepository<UploadJobError, Long> {
+
+    List<UploadJobError> findByJobIdOrderByRowNumberAsc(String jobId, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.sims.simscoreservice.upload.repository;
+
+import com.sims.simscoreservice.upload.entity.UploadJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Upload Job Repository
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Repository
+public interface UploadJobRepository extends JpaRepository<UploadJob, String> {
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UploadJob j SET j.heartbeatAt = :now WHERE j.jobId IN :jobIds")
+    int touchHeartbeat(@Param("jobIds") Collection<String> jobIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Fail unfinished jobs whose owner stopped sending heartbeats (jobs from before the heartbeat use created_at)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE UploadJob j
+        SET j.status = 'FAILED', j.message = :message, j.finishedAt = :now
+        WHERE j.status IN ('QUEUED', 'RUNNING')
+          AND COALESCE(j.heartbeatAt, j.createdAt) < :staleBefore
+    """)
+    int failStaleJobs(@Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("message") String message,
+                      @Param("now") LocalDateTime now);
+}
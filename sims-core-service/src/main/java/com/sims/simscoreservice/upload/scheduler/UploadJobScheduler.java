@@ -0,0 +1,44 @@
+package com.sims.simscoreservice.upload.scheduler;
+
+import com.sims.simscoreservice.upload.service.UploadJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upload Job Scheduler
+ * Keeps the heartbeat of this instance's upload jobs fresh and fails jobs orphaned by a crashed
+ * or restarted instance, once on startup and then periodically
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UploadJobScheduler {
+
+    private final UploadJobService uploadJobService;
+
+    @Scheduled(fixedDelayString = "${upload.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        try {
+            uploadJobService.heartbeat();
+        } catch (Exception e) {
+            log.error("[UPLOAD-JOB-SCHEDULER] Error refreshing job heartbeats: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${upload.orphan-sweep-interval-ms:300000}", initialDelayString = "${upload.orphan-sweep-interval-ms:300000}")
+    public void failOrphanedJobs() {
+        try {
+            uploadJobService.failOrphanedJobs();
+        } catch (Exception e) {
+            log.error("[UPLOAD-JOB-SCHEDULER] Error failing orphaned jobs: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.sims.simscoreservice.upload.service;
+
+import com.sims.common.exceptions.ResourceNotFoundException;
+import com.sims.common.exceptions.ServiceException;
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.shared.util.GlobalServiceHelper;
+import com.sims.simscoreservice.upload.dto.UploadJobResponse;
+import com.sims.simscoreservice.upload.dto.UploadRow;
+import com.sims.simscoreservice.upload.dto.UploadRowError;
+import com.sims.simscoreservice.upload.entity.UploadJob;
+import com.sims.simscoreservice.upload.entity.UploadJobError;
+import com.sims.simscoreservice.upload.enums.UploadJobStatus;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import com.sims.simscoreservice.upload.parser.SpreadsheetRowReader;
+import com.sims.simscoreservice.upload.processor.UploadRowProcessor;
+import com.sims.simscoreservice.upload.repository.UploadJobErrorRepository;
+import com.sims.simscoreservice.upload.repository.UploadJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Upload Job Service
+ * Accepts spreadsheet uploads and processes them in the background, so large files
+ * do not hold a request thread; callers poll the job for progress.
+ *
+ * The file is streamed row by row and applied in chunks, so memory use does not grow with the file.
+ * Progress and rejected rows are persisted after every chunk.
+ *
+ * Jobs only live in the memory (and temp directory) of the instance that accepted them, so that
+ * instance keeps a heartbeat on them; jobs whose heartbeat goes stale (instance crashed or was
+ * restarted) are marked FAILED by the sweep in UploadJobScheduler so they do not sit QUEUED/RUNNING forever.
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadJobService {
+
+    private static final int RESPONSE_ERROR_LIMIT = 100;
+    private static final String ORPHANED_MESSAGE = "Processing was interrupted by a service restart, please upload the file again";
+
+    private final Clock clock;
+    private final UploadJobRepository uploadJobRepository;
+    private final UploadJobErrorRepository uploadJobErrorRepository;
+    private final List<UploadRowProcessor> processors;
+
+    private final Map<UploadJobType, UploadRowProcessor> processorsByType = new EnumMap<>(UploadJobType.class);
+    private final Set<String> activeJobIds = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+
+    @Value("${upload.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${upload.threads:2}")
+    private int threads;
+
+    @Value("${upload.max-queued-jobs:20}")
+    private int maxQueuedJobs;
+
+    @Value("${upload.max-stored-errors:1000}")
+    private int maxStoredErrors;
+
+    @Value("${upload.orphan-timeout-minutes:5}")
+    private long orphanTimeoutMinutes;
+
+    @PostConstruct
+    public void init() {
+        processors.forEach(processor -> processorsByType.put(processor.type(), processor));
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxQueuedJobs),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "upload-job");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Store the file and queue it for processing
+     */
+    public UploadJobResponse submit(UploadJobType type, MultipartFile file, String userId) {
+        String fileName = file.getOriginalFilename();
+        if (file.isEmpty()) {
+            throw new ValidationException("Uploaded file is empty");
+        }
+        if (!SpreadsheetRowReader.isSupported(fileName)) {
+            throw new ValidationException("Unsupported file type, expected .xlsx or .csv");
+        }
+
+        // The multipart file is deleted when the request ends, keep a copy for the job
+        Path copy;
+        try {
+            copy = Files.createTempFile("sims-upload-", fileName.substring(fileName.lastIndexOf('.')));
+            file.transferTo(copy);
+        } catch (IOException e) {
+            log.error("[UPLOAD-JOB] Failed to store upload {}: {}", fileName, e.getMessage());
+            throw new ServiceException("Failed to store uploaded file", e);
+        }
+
+        UploadJob newJob = new UploadJob(UUID.randomUUID().toString(), type, fileName, userId);
+        newJob.setHeartbeatAt(GlobalServiceHelper.now(clock));
+        UploadJob job = uploadJobRepository.save(newJob);
+        activeJobIds.add(job.getJobId());
+        try {
+            executor.execute(() -> run(job, copy));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(copy);
+            finish(job, UploadJobStatus.FAILED, "Too many uploads in progress, try again later");
+            throw new ServiceException("Too many uploads in progress, try again later");
+        }
+
+        log.info("[UPLOAD-JOB] Queued {} job {} for file {} by user: {}", type, job.getJobId(), fileName, userId);
+        return toResponse(job, List.of());
+    }
+
+    public UploadJobResponse getJob(String jobId, UploadJobType type) {
+        UploadJob job = uploadJobRepository.findById(jobId)
+                .filter(found -> found.getType() == type)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload job not found: " + jobId));
+
+        List<UploadRowError> errors = uploadJobErrorRepository
+                .findByJobIdOrderByRowNumberAsc(jobId, PageRequest.of(0, RESPONSE_ERROR_LIMIT)).stream()
+                .map(error -> new UploadRowError(error.getRowNumber(), error.getMessage()))
+                .toList();
+        return toResponse(job, errors);
+    }
+
+    /**
+     * Refresh the heartbeat of the jobs this instance holds (queued or running)
+     */
+    public void heartbeat() {
+        if (!activeJobIds.isEmpty()) {
+            uploadJobRepository.touchHeartbeat(Set.copyOf(activeJobIds), GlobalServiceHelper.now(clock));
+        }
+    }
+
+    /**
+     * Mark jobs left QUEUED/RUNNING by an instance that is gone as FAILED; their temp file went with it
+     *
+     * @return number of jobs failed
+     */
+    public int failOrphanedJobs() {
+        LocalDateTime now = GlobalServiceHelper.now(clock);
+        int failed = uploadJobRepository.failStaleJobs(now.minusMinutes(orphanTimeoutMinutes), ORPHANED_MESSAGE, now);
+        if (failed > 0) {
+            log.warn("[UPLOAD-JOB] Marked {} orphaned upload jobs as FAILED", failed);
+        }
+        return failed;
+    }
+
+    private void run(UploadJob job, Path file) {
+        UploadRowProcessor processor = processorsByType.get(job.getType());
+        job.setStatus(UploadJobStatus.RUNNING);
+        job.setStartedAt(GlobalServiceHelper.now(clock));
+        job.setHeartbeatAt(job.getStartedAt());
+        uploadJobRepository.save(job);
+
+        try {
+            ChunkingRowHandler handler = new ChunkingRowHandler(job, processor);
+            SpreadsheetRowReader.read(file, job.getFileName(), handler);
+            handler.flush();
+
+            finish(job, UploadJobStatus.COMPLETED, handler.headerSeen ? null : "File contains no rows");
+            log.info("[UPLOAD-JOB] Job {} completed - {}/{} rows applied",
+                    job.getJobId(), job.getSuccessCount(), job.getProcessedRows());
+        } catch (Exception e) {
+            log.error("[UPLOAD-JOB] Job {} failed after {} rows: {}", job.getJobId(), job.getProcessedRows(), e.getMessage());
+            finish(job, UploadJobStatus.FAILED, e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void finish(UploadJob job, UploadJobStatus status, String message) {
+        activeJobIds.remove(job.getJobId());
+        job.setStatus(status);
+        job.setMessage(message != null && message.length() > 500 ? message.substring(0, 500) : message);
+        job.setFinishedAt(GlobalServiceHelper.now(clock));
+        uploadJobRepository.save(job);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[UPLOAD-JOB] Failed to delete temp file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static UploadJobResponse toResponse(UploadJob job, List<UploadRowError> errors) {
+        return UploadJobResponse.builder()
+                .jobId(job.getJobId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .processedRows(job.getProcessedRows())
+                .successCount(job.getSuccessCount())
+                .failureCount(job.getFailureCount())
+                .message(job.getMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Maps cells to the header columns, buffers rows and hands full chunks to the processor
+     */
+    private class ChunkingRowHandler implements SpreadsheetRowReader.RowHandler {
+
+        private final UploadJob job;
+        private final UploadRowProcessor processor;
+        private final List<UploadRow> chunk = new ArrayList<>(chunkSize);
+        private List<String> columns;
+        private boolean headerSeen;
+
+        private ChunkingRowHandler(UploadJob job, UploadRowProcessor processor) {
+            this.job = job;
+            this.processor = processor;
+        }
+
+        @Override
+        public void onRow(int rowNumber, List<String> cells) {
+            if (cells.stream().allMatch(cell -> cell == null || cell.isBlank())) {
+                return;
+            }
+
+            if (!headerSeen) {
+                columns = cells.stream().map(UploadRow::normalize).toList();
+                List<String> missing = processor.requiredColumns().stream()
+                        .filter(column -> !columns.contains(column))
+                        .toList();
+                if (!missing.isEmpty()) {
+                    throw new ValidationException("Missing columns: " + String.join(", ", missing));
+                }
+                headerSeen = true;
+                return;
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < columns.size() && i < cells.size(); i++) {
+                values.put(columns.get(i), cells.get(i));
+            }
+            chunk.add(new UploadRow(rowNumber, values));
+
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<UploadRowError> errors = processor.processChunk(chunk, job);
+
+            job.setProcessedRows(job.getProcessedRows() + chunk.size());
+            job.setFailureCount(job.getFailureCount() + errors.size());
+            job.setSuccessCount(job.getProcessedRows() - job.getFailureCount());
+            storeErrors(errors);
+            job.setHeartbeatAt(GlobalServiceHelper.now(clock));
+            uploadJobRepository.save(job);
+
+            chunk.clear();
+        }
+
+        private void storeErrors(List<UploadRowError> errors) {
+            int stored = job.getFailureCount() - errors.size();
+            int capacity = Math.max(0, maxStoredErrors - stored);
+            if (errors.isEmpty() || capacity == 0) {
+                return;
+            }
+            uploadJobErrorRepository.saveAll(errors.stream()
+                    .sorted(Comparator.comparingInt(UploadRowError::rowNumber))
+                    .limit(capacity)
+                    .map(error -> new UploadJobError(job.getJobId(), error.rowNumber(), error.message()))
+                    .toList());
+        }
+    }
+}
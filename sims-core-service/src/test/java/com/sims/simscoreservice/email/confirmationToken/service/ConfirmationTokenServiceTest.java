@@ -0,0 +1,142 @@
+package com.sims.simscoreservice.email.confirmationToken.service;
+
+import com.sims.simscoreservice.email.confirmationToken.repository.ConfirmationTokenRepository;
+import com.sims.simscoreservice.purchaseOrder.repository.PurchaseOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Confirmation Token Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Confirmation Token Service Tests")
+class ConfirmationTokenServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final String EXPIRED_BY = "System - Token Expired";
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ConfirmationTokenRepository tokenRepository;
+
+    @Mock
+    private PurchaseOrderRepository purchaseOrderRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConfirmationTokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenService = new ConfirmationTokenService(CLOCK, new TransactionTemplate(transactionManager), meterRegistry,
+                tokenRepository, purchaseOrderRepository);
+        ReflectionTestUtils.setField(tokenService, "expiryChunkSize", 2);
+    }
+
+    // ==== EXPIRY TESTS ====
+
+    @Test
+    @DisplayName("Each chunk is locked, applied and deleted in its own transaction")
+    void expireTokens_ChunkPerTransaction() {
+        // Arrange
+        when(tokenRepository.lockExpiredAndUnusedIds(NOW, 2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+        when(purchaseOrderRepository.markFailedByConfirmationTokenIds(anyList(), eq(EXPIRED_BY), eq(NOW)))
+                .thenReturn(2, 0);
+        when(tokenRepository.deleteAllByIdIn(anyList())).thenReturn(2, 1);
+
+        // Act
+        tokenService.expireTokens();
+
+        // Assert - the short second chunk ends the loop without another lock query
+        verify(tokenRepository, times(2)).lockExpiredAndUnusedIds(NOW, 2);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+
+        InOrder inOrder = inOrder(tokenRepository, purchaseOrderRepository, transactionManager);
+        inOrder.verify(purchaseOrderRepository).markFailedByConfirmationTokenIds(List.of(1L, 2L), EXPIRED_BY, NOW);
+        inOrder.verify(tokenRepository).deleteAllByIdIn(List.of(1L, 2L));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(purchaseOrderRepository).markFailedByConfirmationTokenIds(List.of(3L), EXPIRED_BY, NOW);
+        inOrder.verify(tokenRepository).deleteAllByIdIn(List.of(3L));
+
+        assertThat(meterRegistry.counter("sims.confirmation.tokens.expired").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("sims.purchase.orders.failed", "reason", "token_expired").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A full chunk is followed by another lock query until nothing is left")
+    void expireTokens_FullChunkContinues() {
+        // Arrange
+        when(tokenRepository.lockExpiredAndUnusedIds(NOW, 2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of());
+        when(purchaseOrderRepository.markFailedByConfirmationTokenIds(anyList(), eq(EXPIRED_BY), eq(NOW))).thenReturn(1);
+        when(tokenRepository.deleteAllByIdIn(anyList())).thenReturn(2);
+
+        // Act
+        tokenService.expireTokens();
+
+        // Assert
+        verify(tokenRepository, times(2)).lockExpiredAndUnusedIds(NOW, 2);
+        verify(tokenRepository, times(1)).deleteAllByIdIn(anyList());
+        assertThat(meterRegistry.counter("sims.confirmation.tokens.expired").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Nothing is updated when no token has expired")
+    void expireTokens_NothingExpired() {
+        // Arrange
+        when(tokenRepository.lockExpiredAndUnusedIds(NOW, 2)).thenReturn(List.of());
+
+        // Act
+        tokenService.expireTokens();
+
+        // Assert
+        verifyNoInteractions(purchaseOrderRepository);
+        verify(tokenRepository, never()).deleteAllByIdIn(anyList());
+        assertThat(meterRegistry.find("sims.confirmation.tokens.expired").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("A failing chunk is rolled back while earlier chunks stay committed")
+    void expireTokens_FailingChunkRollsBack() {
+        // Arrange
+        when(tokenRepository.lockExpiredAndUnusedIds(NOW, 2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L, 4L));
+        when(purchaseOrderRepository.markFailedByConfirmationTokenIds(anyList(), eq(EXPIRED_BY), eq(NOW)))
+                .thenReturn(2)
+                .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+        when(tokenRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokenService.expireTokens()).isInstanceOf(QueryTimeoutException.class);
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(tokenRepository, never()).deleteAllByIdIn(List.of(3L, 4L));
+        assertThat(meterRegistry.counter("sims.confirmation.tokens.expired").count()).isEqualTo(2);
+    }
+}
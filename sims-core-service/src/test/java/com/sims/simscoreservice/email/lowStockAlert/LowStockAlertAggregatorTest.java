@@ -0,0 +1,218 @@
+package com.sims.simscoreservice.email.lowStockAlert;
+
+import com.sims.simscoreservice.email.EmailService;
+import com.sims.simscoreservice.email.dto.LowStockAlertDto;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import com.sims.simscoreservice.inventory.event.LowStockTransitionEvent;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.product.util.ProductTestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Low Stock Alert Aggregator Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Low Stock Alert Aggregator Tests")
+class LowStockAlertAggregatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private AnnotationConfigApplicationContext context;
+    private LowStockAlertAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        // Real event infrastructure, so the AFTER_COMMIT listener binding is exercised
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(InventoryRepository.class, () -> inventoryRepository);
+        context.registerBean(EmailService.class, () -> emailService);
+        context.registerBean(LowStockAlertAggregator.class);
+        context.refresh();
+        aggregator = context.getBean(LowStockAlertAggregator.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        context.close();
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    private static LowStockTransitionEvent transition(String productId, int currentStock) {
+        return new LowStockTransitionEvent(productId, "ELE-" + productId, currentStock, 10, NOW);
+    }
+
+    private static Inventory lowStockInventory(Product product, int currentStock) {
+        Inventory inventory = new Inventory();
+        inventory.setSku("ELE-" + product.getProductId());
+        inventory.setProduct(product);
+        inventory.setCurrentStock(currentStock);
+        inventory.setReservedStock(0);
+        inventory.setMinLevel(10);
+        inventory.setStatus(InventoryStatus.LOW_STOCK);
+        return inventory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> requestedProductIds() {
+        ArgumentCaptor<Collection<String>> productIds = ArgumentCaptor.forClass(Collection.class);
+        verify(inventoryRepository, atLeastOnce()).findLowStockByProductIds(productIds.capture());
+        return List.copyOf(productIds.getValue());
+    }
+
+    // ==== AFTER COMMIT TESTS ====
+
+    @Test
+    @DisplayName("Transition is queued only once its transaction commits")
+    void transitionIsQueuedAfterCommit() {
+        // Arrange
+        Product product = ProductTestUtils.createProductA();
+        when(inventoryRepository.findLowStockByProductIds(anyCollection()))
+                .thenReturn(List.of(lowStockInventory(product, 3)));
+        beginTransaction();
+
+        // Act
+        context.publishEvent(transition(product.getProductId(), 3));
+        aggregator.sendDigest();
+
+        // Assert - nothing visible before the commit
+        verifyNoInteractions(inventoryRepository, emailService);
+
+        completeTransaction(true);
+        aggregator.sendDigest();
+        assertThat(requestedProductIds()).containsExactly(product.getProductId());
+        verify(emailService).sendLowStockAlert(anyList());
+    }
+
+    @Test
+    @DisplayName("Rolled back transition is never alerted")
+    void rolledBackTransitionIsDropped() {
+        // Arrange
+        beginTransaction();
+
+        // Act
+        context.publishEvent(transition("PRD001", 3));
+        completeTransaction(false);
+        aggregator.sendDigest();
+
+        // Assert
+        verifyNoInteractions(inventoryRepository, emailService);
+    }
+
+    // ==== DIGEST TESTS ====
+
+    @Test
+    @DisplayName("Repeated transitions collapse into one digest line per product")
+    @SuppressWarnings("unchecked")
+    void repeatedTransitionsCollapse() {
+        // Arrange
+        Product productA = ProductTestUtils.createProductA();
+        Product productB = ProductTestUtils.createProductB();
+        when(inventoryRepository.findLowStockByProductIds(anyCollection()))
+                .thenReturn(List.of(lowStockInventory(productA, 2), lowStockInventory(productB, 4)));
+
+        // Act
+        context.publishEvent(transition(productA.getProductId(), 5));
+        context.publishEvent(transition(productB.getProductId(), 4));
+        context.publishEvent(transition(productA.getProductId(), 2));
+        aggregator.sendDigest();
+
+        // Assert
+        assertThat(requestedProductIds()).containsExactlyInAnyOrder(productA.getProductId(), productB.getProductId());
+        ArgumentCaptor<List<LowStockAlertDto>> alerts = ArgumentCaptor.forClass(List.class);
+        verify(emailService, times(1)).sendLowStockAlert(alerts.capture());
+        assertThat(alerts.getValue()).extracting(LowStockAlertDto::getProductId)
+                .containsExactlyInAnyOrder(productA.getProductId(), productB.getProductId());
+    }
+
+    @Test
+    @DisplayName("Items restocked before the window closes are not alerted")
+    void restockedItemsAreSkipped() {
+        // Arrange
+        when(inventoryRepository.findLowStockByProductIds(anyCollection())).thenReturn(List.of());
+
+        // Act
+        context.publishEvent(transition("PRD001", 3));
+        aggregator.sendDigest();
+        aggregator.sendDigest();
+
+        // Assert - the window was drained even though no digest was sent
+        verify(inventoryRepository, times(1)).findLowStockByProductIds(anyCollection());
+        verifyNoInteractions(emailService);
+    }
+
+    // ==== RETRY TESTS ====
+
+    @Test
+    @DisplayName("Failed digest keeps its transitions for the next window")
+    void failedDigestIsRetried() {
+        // Arrange
+        Product product = ProductTestUtils.createProductA();
+        when(inventoryRepository.findLowStockByProductIds(anyCollection()))
+                .thenReturn(List.of(lowStockInventory(product, 3)));
+        doThrow(new MailSendException("SMTP unavailable")).doNothing()
+                .when(emailService).sendLowStockAlert(anyList());
+
+        // Act
+        context.publishEvent(transition(product.getProductId(), 3));
+        aggregator.sendDigest();
+        aggregator.sendDigest();
+        aggregator.sendDigest();
+
+        // Assert - failed once, sent on the next window, then nothing left
+        verify(emailService, times(2)).sendLowStockAlert(anyList());
+        verify(inventoryRepository, times(2)).findLowStockByProductIds(anyCollection());
+    }
+}
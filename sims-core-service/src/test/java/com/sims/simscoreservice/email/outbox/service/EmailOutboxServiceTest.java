@@ -0,0 +1,193 @@
+package com.sims.simscoreservice.email.outbox.service;
+
+import com.sims.simscoreservice.email.outbox.entity.EmailOutbox;
+import com.sims.simscoreservice.email.outbox.enums.EmailOutboxStatus;
+import com.sims.simscoreservice.email.outbox.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Email Outbox Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Email Outbox Service Tests")
+class EmailOutboxServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private final List<MimeMessage> createdMessages = Collections.synchronizedList(new ArrayList<>());
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxService = new EmailOutboxService(CLOCK, mailSender, new TransactionTemplate(transactionManager),
+                meterRegistry, emailOutboxRepository);
+        ReflectionTestUtils.setField(outboxService, "senderEmail", "sims@example.com");
+        ReflectionTestUtils.setField(outboxService, "senderThreads", 2);
+        ReflectionTestUtils.setField(outboxService, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "backoffSeconds", 30L);
+        ReflectionTestUtils.setField(outboxService, "sendingTimeoutMinutes", 10L);
+        outboxService.init();
+
+        lenient().when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
+            MimeMessage message = new MimeMessage((Session) null);
+            createdMessages.add(message);
+            return message;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxService.shutdown();
+    }
+
+    private List<EmailOutbox> stubClaim(int count, int attempts) {
+        List<EmailOutbox> emails = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            EmailOutbox email = new EmailOutbox("user" + i + "@example.com", "Subject " + i, "<p>Body</p>", NOW);
+            email.setId((long) i);
+            email.setStatus(EmailOutboxStatus.SENDING);
+            email.setAttempts(attempts);
+            emails.add(email);
+        }
+        List<Long> ids = emails.stream().map(EmailOutbox::getId).toList();
+        when(emailOutboxRepository.lockDueIds(eq(NOW), eq(NOW.minusMinutes(10)), anyInt())).thenReturn(ids);
+        when(emailOutboxRepository.findAllById(ids)).thenReturn(emails);
+        return emails;
+    }
+
+    // ==== DISPATCH TESTS ====
+
+    @Test
+    @DisplayName("Due emails are claimed up to the idle sender capacity and sent in one call per batch")
+    void dispatchSendsBatches() {
+        // Arrange
+        List<EmailOutbox> emails = stubClaim(3, 0);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> batchSizes.add(invocation.getArguments().length))
+                .when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        int dispatched = outboxService.dispatchDueEmails();
+
+        // Assert
+        assertThat(dispatched).isEqualTo(3);
+        verify(emailOutboxRepository).lockDueIds(NOW, NOW.minusMinutes(10), 4);
+        verify(emailOutboxRepository).markSending(List.of(1L, 2L, 3L), NOW);
+        verify(emailOutboxRepository, timeout(5000).times(2)).saveAll(anyList());
+        assertThat(batchSizes).containsExactlyInAnyOrder(2, 1);
+
+        assertThat(emails).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+            assertThat(email.getSentAt()).isEqualTo(NOW);
+        });
+        assertThat(meterRegistry.counter("sims.email.outbox.sent").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Nothing due releases the senders for the next poll")
+    void nothingDueReleasesSenders() {
+        // Arrange
+        when(emailOutboxRepository.lockDueIds(any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        int first = outboxService.dispatchDueEmails();
+        int second = outboxService.dispatchDueEmails();
+
+        // Assert
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        verify(emailOutboxRepository, times(2)).lockDueIds(NOW, NOW.minusMinutes(10), 4);
+        verify(emailOutboxRepository, never()).markSending(anyList(), any());
+        verifyNoInteractions(mailSender);
+    }
+
+    // ==== RETRY TESTS ====
+
+    @Test
+    @DisplayName("Only the rejected message of a batch is retried with backoff")
+    void partialBatchFailureIsRetried() {
+        // Arrange
+        List<EmailOutbox> emails = stubClaim(2, 0);
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            failed.put(createdMessages.get(1), new IllegalStateException("550 Mailbox unavailable"));
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        outboxService.dispatchDueEmails();
+
+        // Assert
+        verify(emailOutboxRepository, timeout(5000)).saveAll(anyList());
+        assertThat(emails.get(0).getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        EmailOutbox rejected = emails.get(1);
+        assertThat(rejected.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(rejected.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(rejected.getLastError()).isEqualTo("550 Mailbox unavailable");
+    }
+
+    @Test
+    @DisplayName("Connection failure retries the whole batch and gives up at the attempt limit")
+    void connectionFailureBacksOffThenGivesUp() {
+        // Arrange
+        List<EmailOutbox> emails = stubClaim(2, 1);
+        emails.get(1).setAttempts(2);
+        doThrow(new MailAuthenticationException("Authentication failed"))
+                .when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        outboxService.dispatchDueEmails();
+
+        // Assert
+        verify(emailOutboxRepository, timeout(5000)).saveAll(anyList());
+        assertThat(emails.get(0).getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(emails.get(0).getAttempts()).isEqualTo(2);
+        assertThat(emails.get(0).getNextAttemptAt()).isEqualTo(NOW.plusSeconds(60));
+        assertThat(emails.get(1).getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(emails.get(1).getAttempts()).isEqualTo(3);
+        assertThat(meterRegistry.counter("sims.email.outbox.retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("sims.email.outbox.failed").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sims.simscoreservice.email.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compiled Email Template Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@DisplayName("Compiled Email Template Tests")
+class CompiledEmailTemplateTest {
+
+    // ==== RENDER TESTS ====
+
+    @Test
+    @DisplayName("Placeholders are replaced in a single pass, including repeated keys")
+    void rendersPlaceholders() {
+        // Arrange
+        CompiledEmailTemplate template = CompiledEmailTemplate.compile(
+                "<p>Order {{PO_NUMBER}} for {{ SUPPLIER }}</p><a href=\"{{LINK}}\">{{PO_NUMBER}}</a>");
+
+        // Act
+        String html = template.render(Map.of("PO_NUMBER", "PO-001", "SUPPLIER", "Acme", "LINK", "https://sims/confirm"));
+
+        // Assert
+        assertThat(html).isEqualTo("<p>Order PO-001 for Acme</p><a href=\"https://sims/confirm\">PO-001</a>");
+    }
+
+    @Test
+    @DisplayName("Values are inserted literally and never re-expanded")
+    void valuesAreNotReExpanded() {
+        // Arrange
+        CompiledEmailTemplate template = CompiledEmailTemplate.compile("{{A}}-{{B}}");
+
+        // Act
+        String html = template.render(Map.of("A", "{{B}}", "B", "b"));
+
+        // Assert
+        assertThat(html).isEqualTo("{{B}}-b");
+    }
+
+    @Test
+    @DisplayName("Unknown keys are left in place")
+    void unknownKeysAreKept() {
+        // Arrange
+        CompiledEmailTemplate template = CompiledEmailTemplate.compile("Hello {{NAME}}, see {{MISSING}}");
+
+        // Act
+        String html = template.render(Map.of("NAME", "Jane"));
+
+        // Assert
+        assertThat(html).isEqualTo("Hello Jane, see {{MISSING}}");
+    }
+
+    @Test
+    @DisplayName("Unterminated placeholder and plain text are kept as literal text")
+    void unterminatedPlaceholderIsLiteral() {
+        // Act & Assert
+        assertThat(CompiledEmailTemplate.compile("Total: {{AMOUNT").render(Map.of("AMOUNT", "10"))).isEqualTo("Total: {{AMOUNT");
+        assertThat(CompiledEmailTemplate.compile("<p>No placeholders</p>").render(Map.of())).isEqualTo("<p>No placeholders</p>");
+        assertThat(CompiledEmailTemplate.compile("").render(Map.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Placeholders at the start and end of the template are rendered")
+    void placeholdersAtEdges() {
+        // Arrange
+        CompiledEmailTemplate template = CompiledEmailTemplate.compile("{{A}}{{B}}");
+
+        // Act
+        String html = template.render(Map.of("A", "x", "B", "y"));
+
+        // Assert
+        assertThat(html).isEqualTo("xy");
+    }
+}
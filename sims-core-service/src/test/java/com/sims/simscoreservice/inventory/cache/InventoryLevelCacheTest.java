@@ -0,0 +1,144 @@
+package com.sims.simscoreservice.inventory.cache;
+
+import com.sims.simscoreservice.inventory.dto.StockLevelResponse;
+import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inventory Level Cache Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@DisplayName("Inventory Level Cache Tests")
+class InventoryLevelCacheTest {
+
+    private static final String SKU = "NIN-SWI-001";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private InventoryLevelCache inventoryLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        inventoryLevelCache = cacheWithMaxSize(100);
+    }
+
+    private static InventoryLevelCache cacheWithMaxSize(long maxSize) {
+        InventoryLevelCache cache = new InventoryLevelCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "maxSize", maxSize);
+        cache.init();
+        return cache;
+    }
+
+    private static StockLevelResponse level(String sku, int currentStock) {
+        return new StockLevelResponse(sku, "PRD001", currentStock, 0, currentStock, 10,
+                InventoryStatus.IN_STOCK, LocalDateTime.now());
+    }
+
+    private Supplier<StockLevelResponse> loader(int currentStock) {
+        return () -> {
+            loads.incrementAndGet();
+            return level(SKU, currentStock);
+        };
+    }
+
+    // ==== READ-THROUGH TESTS ====
+
+    @Test
+    @DisplayName("Loaded level is served from the cache until invalidated")
+    void loadedLevelIsCachedUntilInvalidated() {
+        // Act
+        inventoryLevelCache.get(SKU, loader(50));
+        StockLevelResponse cached = inventoryLevelCache.get(SKU, loader(40));
+        inventoryLevelCache.invalidate(SKU);
+        StockLevelResponse reloaded = inventoryLevelCache.get(SKU, loader(40));
+
+        // Assert
+        assertThat(cached.currentStock()).isEqualTo(50);
+        assertThat(reloaded.currentStock()).isEqualTo(40);
+        assertThat(loads).hasValue(2);
+    }
+
+    // ==== STALE-WRITE GUARD TESTS ====
+
+    @Test
+    @DisplayName("Load that overlaps an invalidation is returned but not cached")
+    void loadOverlappingInvalidationIsNotCached() {
+        // Act - the row changes (and is invalidated) while the first read is still running
+        StockLevelResponse stale = inventoryLevelCache.get(SKU, () -> {
+            loads.incrementAndGet();
+            inventoryLevelCache.invalidate(SKU);
+            return level(SKU, 50);
+        });
+        StockLevelResponse fresh = inventoryLevelCache.get(SKU, loader(45));
+
+        // Assert
+        assertThat(stale.currentStock()).isEqualTo(50);
+        assertThat(fresh.currentStock()).isEqualTo(45);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Load started after an invalidation is cached")
+    void loadAfterInvalidationIsCached() {
+        // Arrange
+        inventoryLevelCache.invalidate(SKU);
+
+        // Act
+        inventoryLevelCache.get(SKU, loader(30));
+        inventoryLevelCache.get(SKU, loader(20));
+
+        // Assert
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Evicted tombstone of an in-flight load keeps that load out of the cache")
+    void evictedTombstoneBlocksInFlightLoad() {
+        // Arrange
+        InventoryLevelCache tinyCache = cacheWithMaxSize(1);
+
+        // Act - invalidation tombstone is pushed out by other SKUs while the read is running
+        tinyCache.get(SKU, () -> {
+            loads.incrementAndGet();
+            tinyCache.invalidate(SKU);
+            for (int i = 0; i < 50; i++) {
+                tinyCache.invalidate("OTHER-" + i);
+            }
+            return level(SKU, 50);
+        });
+        tinyCache.get(SKU, loader(45));
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    // ==== BOUNDS TESTS ====
+
+    @Test
+    @DisplayName("Levels and invalidation tombstones share one bounded cache")
+    void tombstonesAreBoundedWithLevels() {
+        // Arrange
+        InventoryLevelCache boundedCache = cacheWithMaxSize(10);
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            String sku = "SKU-" + i;
+            boundedCache.get(sku, () -> level(sku, 1));
+            boundedCache.invalidate(sku);
+        }
+
+        // Assert
+        assertThat(boundedCache.estimatedSize()).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sims.simscoreservice.inventory.controller;
+
+import com.sims.simscoreservice.exceptions.ForbiddenException;
+import com.sims.simscoreservice.inventory.cache.InventoryCacheBroadcaster;
+import com.sims.simscoreservice.inventory.cache.InventoryCacheBroadcaster.InventoryCacheEvictRequest;
+import com.sims.simscoreservice.inventory.cache.InventoryLevelCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Inventory Cache Controller Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Inventory Cache Controller Tests")
+class InventoryCacheControllerTest {
+
+    private static final InventoryCacheEvictRequest REQUEST = new InventoryCacheEvictRequest(List.of("NIN-SWI-001"));
+
+    @Mock
+    private InventoryLevelCache inventoryLevelCache;
+
+    @Mock
+    private DiscoveryClient discoveryClient;
+
+    @Mock
+    private ObjectProvider<Registration> registration;
+
+    private InventoryCacheController controllerWithSecret(String secret) {
+        InventoryCacheBroadcaster broadcaster = new InventoryCacheBroadcaster(discoveryClient, registration);
+        ReflectionTestUtils.setField(broadcaster, "evictSecret", secret);
+        return new InventoryCacheController(inventoryLevelCache, broadcaster);
+    }
+
+    @Test
+    @DisplayName("Peer presenting the shared secret evicts the SKUs")
+    void trustedPeerEvicts() {
+        // Act
+        controllerWithSecret("s3cret").evict("s3cret", REQUEST);
+
+        // Assert
+        verify(inventoryLevelCache).invalidateAll(REQUEST.skus());
+    }
+
+    @Test
+    @DisplayName("Missing or wrong secret is rejected")
+    void untrustedCallerIsRejected() {
+        // Arrange
+        InventoryCacheController controller = controllerWithSecret("s3cret");
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.evict(null, REQUEST)).isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> controller.evict("guess", REQUEST)).isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(inventoryLevelCache);
+    }
+
+    @Test
+    @DisplayName("Without a configured secret every eviction is rejected")
+    void unsetSecretRejectsEverything() {
+        // Arrange
+        InventoryCacheController controller = controllerWithSecret("");
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.evict("", REQUEST)).isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(inventoryLevelCache);
+    }
+}
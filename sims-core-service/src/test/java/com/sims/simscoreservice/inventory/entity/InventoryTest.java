@@ -0,0 +1,127 @@
+package com.sims.simscoreservice.inventory.entity;
+
+import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import com.sims.simscoreservice.product.util.ProductTestUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Inventory Entity Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@DisplayName("Inventory Entity Tests")
+class InventoryTest {
+
+    private static Inventory createInventory(int currentStock, int minLevel, InventoryStatus status) {
+        Inventory inventory = new Inventory();
+        inventory.setSku("ELE-001");
+        inventory.setProduct(ProductTestUtils.createProductA());
+        inventory.setCurrentStock(currentStock);
+        inventory.setReservedStock(0);
+        inventory.setMinLevel(minLevel);
+        inventory.setStatus(status);
+        inventory.refreshLowStockIndex();
+        return inventory;
+    }
+
+    // ==== LOW STOCK INDEX TESTS ====
+
+    @Test
+    @DisplayName("Stock above the min level is not indexed as low")
+    void aboveMinLevel() {
+        // Act
+        Inventory inventory = createInventory(11, 10, InventoryStatus.IN_STOCK);
+
+        // Assert
+        assertThat(inventory.getLowStockFlag()).isFalse();
+        assertThat(inventory.getCriticalStockFlag()).isFalse();
+        assertThat(inventory.getStockRatio()).isNull();
+    }
+
+    @Test
+    @DisplayName("Stock equal to the min level is low but not critical")
+    void atMinLevel() {
+        // Act
+        Inventory inventory = createInventory(10, 10, InventoryStatus.LOW_STOCK);
+
+        // Assert
+        assertThat(inventory.getLowStockFlag()).isTrue();
+        assertThat(inventory.getCriticalStockFlag()).isFalse();
+        assertThat(inventory.getStockRatio()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Critical threshold is inclusive at a quarter of the min level")
+    void criticalThreshold() {
+        // Act
+        Inventory atQuarter = createInventory(5, 20, InventoryStatus.LOW_STOCK);
+        Inventory aboveQuarter = createInventory(6, 20, InventoryStatus.LOW_STOCK);
+        Inventory fractionalQuarter = createInventory(2, 10, InventoryStatus.LOW_STOCK);
+        Inventory aboveFractionalQuarter = createInventory(3, 10, InventoryStatus.LOW_STOCK);
+
+        // Assert
+        assertThat(atQuarter.getCriticalStockFlag()).isTrue();
+        assertThat(atQuarter.getStockRatio()).isEqualTo(25.0);
+        assertThat(aboveQuarter.getCriticalStockFlag()).isFalse();
+        assertThat(fractionalQuarter.getCriticalStockFlag()).isTrue();
+        assertThat(aboveFractionalQuarter.getCriticalStockFlag()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Ratio keeps fractional percentages")
+    void fractionalRatio() {
+        // Act
+        Inventory inventory = createInventory(1, 3, InventoryStatus.LOW_STOCK);
+
+        // Assert
+        assertThat(inventory.getStockRatio()).isCloseTo(33.333, within(0.001));
+    }
+
+    @Test
+    @DisplayName("Zero min level with no stock is low and critical without a ratio")
+    void zeroMinLevel() {
+        // Act
+        Inventory empty = createInventory(0, 0, InventoryStatus.LOW_STOCK);
+        Inventory stocked = createInventory(1, 0, InventoryStatus.IN_STOCK);
+
+        // Assert
+        assertThat(empty.getLowStockFlag()).isTrue();
+        assertThat(empty.getCriticalStockFlag()).isTrue();
+        assertThat(empty.getStockRatio()).isNull();
+        assertThat(stocked.getLowStockFlag()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Invalid items are never indexed as low stock")
+    void invalidStatusIsExcluded() {
+        // Act
+        Inventory inventory = createInventory(0, 10, InventoryStatus.INVALID);
+
+        // Assert
+        assertThat(inventory.getLowStockFlag()).isFalse();
+        assertThat(inventory.getCriticalStockFlag()).isFalse();
+        assertThat(inventory.getStockRatio()).isNull();
+    }
+
+    @Test
+    @DisplayName("Index follows stock changes when refreshed again")
+    void refreshAfterRestock() {
+        // Arrange
+        Inventory inventory = createInventory(2, 10, InventoryStatus.LOW_STOCK);
+
+        // Act
+        inventory.setCurrentStock(50);
+        inventory.setStatus(InventoryStatus.IN_STOCK);
+        inventory.refreshLowStockIndex();
+
+        // Assert
+        assertThat(inventory.getLowStockFlag()).isFalse();
+        assertThat(inventory.getCriticalStockFlag()).isFalse();
+        assertThat(inventory.getStockRatio()).isNull();
+    }
+}
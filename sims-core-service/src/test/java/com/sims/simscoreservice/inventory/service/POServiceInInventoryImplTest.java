@@ -0,0 +1,220 @@
+package com.sims.simscoreservice.inventory.service;
+
+import com.sims.common.models.ApiResponse;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.queryService.InventoryQueryService;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.inventory.service.impl.POServiceInInventoryImpl;
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.product.helper.ProductStatusModifier;
+import com.sims.simscoreservice.product.util.ProductTestUtils;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveItem;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveRequest;
+import com.sims.simscoreservice.purchaseOrder.dto.BulkReceiveResponse;
+import com.sims.simscoreservice.purchaseOrder.dto.ReceiveLineResult;
+import com.sims.simscoreservice.purchaseOrder.entity.PurchaseOrder;
+import com.sims.simscoreservice.purchaseOrder.enums.PurchaseOrderStatus;
+import com.sims.simscoreservice.purchaseOrder.queryService.PurchaseOrderQueryService;
+import com.sims.simscoreservice.purchaseOrder.repository.PurchaseOrderRepository;
+import com.sims.simscoreservice.purchaseOrder.strategy.PurchaseOrderSearchService;
+import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockMovement.entity.StockMovement;
+import com.sims.simscoreservice.stockMovement.service.StockMovementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Purchase Order Receiving (Inventory) Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PO Service In Inventory Tests")
+class POServiceInInventoryImplTest {
+
+    private static final LocalDate ARRIVAL = LocalDate.of(2025, 1, 20);
+    private static final String USERNAME = "clerk";
+
+    @Mock
+    private ProductStatusModifier productStatusModifier;
+
+    @Mock
+    private PurchaseOrderQueryService purchaseOrderQueryService;
+
+    @Mock
+    private PurchaseOrderSearchService purchaseOrderSearchService;
+
+    @Mock
+    private InventoryQueryService inventoryQueryService;
+
+    @Mock
+    private StockManagementService stockManagementService;
+
+    @Mock
+    private InventoryStatusService inventoryStatusService;
+
+    @Mock
+    private StockMovementService stockMovementService;
+
+    @Mock
+    private PurchaseOrderRepository purchaseOrderRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private POServiceInInventoryImpl poServiceInInventory;
+    private Product productA;
+    private Product productB;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(ARRIVAL.atTime(10, 0).atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        poServiceInInventory = new POServiceInInventoryImpl(clock, productStatusModifier, purchaseOrderQueryService,
+                purchaseOrderSearchService, inventoryQueryService, stockManagementService, inventoryStatusService,
+                stockMovementService, purchaseOrderRepository, inventoryRepository);
+
+        productA = ProductTestUtils.createProductA();
+        productB = ProductTestUtils.createProductB();
+    }
+
+    private static PurchaseOrder order(long id, Product product, int orderedQuantity) {
+        PurchaseOrder order = new PurchaseOrder();
+        order.setId(id);
+        order.setPoNumber("PO-" + id);
+        order.setProduct(product);
+        order.setOrderedQuantity(orderedQuantity);
+        order.setReceivedQuantity(0);
+        order.setStatus(PurchaseOrderStatus.AWAITING_APPROVAL);
+        return order;
+    }
+
+    private static Inventory inventory(Product product, int currentStock) {
+        Inventory inventory = new Inventory();
+        inventory.setSku("SKU-" + product.getProductId());
+        inventory.setProduct(product);
+        inventory.setCurrentStock(currentStock);
+        return inventory;
+    }
+
+    private static BulkReceiveItem item(long orderId, int receivedQuantity) {
+        return new BulkReceiveItem(orderId, receivedQuantity, ARRIVAL);
+    }
+
+    private BulkReceiveResponse receive(BulkReceiveItem... items) {
+        ApiResponse<BulkReceiveResponse> response =
+                poServiceInInventory.receivePurchaseOrders(new BulkReceiveRequest(List.of(items)), USERNAME);
+        return response.getData();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StockMovement> loggedMovements() {
+        ArgumentCaptor<List<StockMovement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementService).logMovements(captor.capture());
+        return captor.getValue();
+    }
+
+    // ==== BULK RECEIVE TESTS ====
+
+    @Test
+    @DisplayName("Mixed batch applies valid lines and reports the others as failed")
+    void mixedBatch() {
+        // Arrange
+        PurchaseOrder orderA = order(1L, productA, 10);
+        PurchaseOrder finalized = order(2L, productA, 5);
+        finalized.setStatus(PurchaseOrderStatus.RECEIVED);
+        Inventory inventoryA = inventory(productA, 3);
+        when(purchaseOrderRepository.findAllByIdInWithLock(List.of(1L, 2L, 99L))).thenReturn(List.of(orderA, finalized));
+        when(inventoryRepository.findAllByProductIdsWithLock(any())).thenReturn(List.of(inventoryA));
+
+        // Act
+        BulkReceiveResponse response = receive(item(1L, 4), item(2L, 1), item(99L, 1), new BulkReceiveItem(null, 1, ARRIVAL));
+
+        // Assert
+        assertThat(response.getReceived()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(ReceiveLineResult::isSuccess)
+                .containsExactly(true, false, false, false);
+        assertThat(orderA.getStatus()).isEqualTo(PurchaseOrderStatus.PARTIALLY_RECEIVED);
+        assertThat(inventoryA.getCurrentStock()).isEqualTo(7);
+        verify(inventoryStatusService).updateInventoryStatus(inventoryA);
+    }
+
+    @Test
+    @DisplayName("Line whose product has no inventory row fails and leaves the order untouched")
+    void missingInventoryRowFailsLine() {
+        // Arrange
+        PurchaseOrder orderA = order(1L, productA, 10);
+        PurchaseOrder orderB = order(2L, productB, 10);
+        when(purchaseOrderRepository.findAllByIdInWithLock(List.of(1L, 2L))).thenReturn(List.of(orderA, orderB));
+        when(inventoryRepository.findAllByProductIdsWithLock(any())).thenReturn(List.of(inventory(productA, 0)));
+
+        // Act
+        BulkReceiveResponse response = receive(item(1L, 5), item(2L, 5));
+
+        // Assert
+        assertThat(response.getResults().get(0).isSuccess()).isTrue();
+        ReceiveLineResult missing = response.getResults().get(1);
+        assertThat(missing.isSuccess()).isFalse();
+        assertThat(missing.getMessage()).contains("No inventory record");
+        assertThat(orderB.getReceivedQuantity()).isZero();
+        assertThat(orderB.getStatus()).isEqualTo(PurchaseOrderStatus.AWAITING_APPROVAL);
+        assertThat(loggedMovements()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Duplicate order ID is received once and the repeat is reported")
+    void duplicateOrderIds() {
+        // Arrange
+        PurchaseOrder orderA = order(1L, productA, 10);
+        Inventory inventoryA = inventory(productA, 0);
+        when(purchaseOrderRepository.findAllByIdInWithLock(List.of(1L))).thenReturn(List.of(orderA));
+        when(inventoryRepository.findAllByProductIdsWithLock(any())).thenReturn(List.of(inventoryA));
+
+        // Act
+        BulkReceiveResponse response = receive(item(1L, 4), item(1L, 4));
+
+        // Assert
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("Duplicate order ID in request");
+        assertThat(orderA.getReceivedQuantity()).isEqualTo(4);
+        assertThat(inventoryA.getCurrentStock()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Movements of all lines are logged in one batch after the flush")
+    void movementsAreBatched() {
+        // Arrange
+        PurchaseOrder first = order(1L, productA, 10);
+        PurchaseOrder second = order(2L, productA, 10);
+        PurchaseOrder third = order(3L, productB, 10);
+        Inventory inventoryA = inventory(productA, 0);
+        Inventory inventoryB = inventory(productB, 0);
+        when(purchaseOrderRepository.findAllByIdInWithLock(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second, third));
+        when(inventoryRepository.findAllByProductIdsWithLock(any())).thenReturn(List.of(inventoryA, inventoryB));
+
+        // Act
+        receive(item(1L, 10), item(2L, 3), item(3L, 0));
+
+        // Assert
+        var inOrder = inOrder(purchaseOrderRepository, stockMovementService);
+        inOrder.verify(purchaseOrderRepository).flush();
+        inOrder.verify(stockMovementService).logMovements(any());
+        assertThat(loggedMovements()).extracting(StockMovement::getReferenceId).containsExactly("PO-1", "PO-2");
+        assertThat(inventoryA.getCurrentStock()).isEqualTo(13);
+        verify(inventoryStatusService, times(1)).updateInventoryStatus(inventoryA);
+        verify(inventoryStatusService, never()).updateInventoryStatus(inventoryB);
+        verify(productStatusModifier).updateIncomingProductStatusInPm(productA);
+    }
+}
@@ -0,0 +1,253 @@
+package com.sims.simscoreservice.inventory.service;
+
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.inventory.service.impl.SOServiceInInventoryImpl;
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.product.util.ProductTestUtils;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderRequest;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderResponse;
+import com.sims.simscoreservice.salesOrder.dto.BulkCancelSalesOrderResponse.StockRelease;
+import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
+import com.sims.simscoreservice.salesOrder.enums.OrderItemStatus;
+import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
+import com.sims.simscoreservice.salesOrder.processor.StockOutProcessor;
+import com.sims.simscoreservice.salesOrder.processor.WaveStockOutProcessor;
+import com.sims.simscoreservice.salesOrder.queryService.SalesOrderQueryService;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
+import com.sims.simscoreservice.salesOrder.repository.SalesOrderRepository;
+import com.sims.simscoreservice.salesOrder.strategy.SalesOrderSearchService;
+import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.InventoryBalance;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ProductReservedTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.*;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Sales Order Bulk Cancel (Inventory) Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SO Service In Inventory Tests")
+class SOServiceInInventoryImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 20, 10, 0);
+    private static final String USERNAME = "manager";
+    private static final List<SalesOrderStatus> CANCELLABLE =
+            List.of(SalesOrderStatus.PENDING, SalesOrderStatus.PARTIALLY_APPROVED);
+
+    @Mock
+    private StockOutProcessor stockOutProcessor;
+
+    @Mock
+    private WaveStockOutProcessor waveStockOutProcessor;
+
+    @Mock
+    private StockManagementService stockManagementService;
+
+    @Mock
+    private SalesOrderQueryService salesOrderQueryService;
+
+    @Mock
+    private SalesOrderSearchService salesOrderSearchService;
+
+    @Mock
+    private SalesOrderRepository salesOrderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private SOServiceInInventoryImpl soServiceInInventory;
+    private Product productA;
+    private Product productB;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        soServiceInInventory = new SOServiceInInventoryImpl(clock, stockOutProcessor, waveStockOutProcessor,
+                stockManagementService, salesOrderQueryService, salesOrderSearchService,
+                salesOrderRepository, orderItemRepository, inventoryRepository);
+        ReflectionTestUtils.setField(soServiceInInventory, "bulkCancelMaxOrders", 3);
+
+        productA = ProductTestUtils.createProductA();
+        productB = ProductTestUtils.createProductB();
+    }
+
+    private static SalesOrder order(long id) {
+        SalesOrder order = new SalesOrder();
+        order.setId(id);
+        order.setStatus(SalesOrderStatus.PENDING);
+        return order;
+    }
+
+    private static Inventory inventory(Product product, int reservedStock) {
+        Inventory inventory = new Inventory();
+        inventory.setSku("SKU-" + product.getProductId());
+        inventory.setProduct(product);
+        inventory.setCurrentStock(100);
+        inventory.setReservedStock(reservedStock);
+        return inventory;
+    }
+
+    private static BulkCancelSalesOrderRequest byIds(boolean dryRun, Long... orderIds) {
+        BulkCancelSalesOrderRequest request = new BulkCancelSalesOrderRequest();
+        request.setOrderIds(List.of(orderIds));
+        request.setDryRun(dryRun);
+        return request;
+    }
+
+    private BulkCancelSalesOrderResponse cancel(BulkCancelSalesOrderRequest request) {
+        return soServiceInInventory.bulkCancelSalesOrders(request, USERNAME).getData();
+    }
+
+    private void stubOpenReservations() {
+        // Returned out of product order on purpose
+        when(orderItemRepository.sumOpenReservedBySalesOrderIds(List.of(1L, 2L))).thenReturn(List.of(
+                new ProductReservedTotal(productB.getProductId(), 4L),
+                new ProductReservedTotal(productA.getProductId(), 6L)));
+    }
+
+    // ==== DRY RUN TESTS ====
+
+    @Test
+    @DisplayName("Dry run reports the impact without locks or writes")
+    void dryRun_NoLocksOrWrites() {
+        // Arrange
+        when(salesOrderRepository.findIdsByIdInAndStatusIn(List.of(1L, 2L, 3L), CANCELLABLE)).thenReturn(List.of(1L, 2L));
+        stubOpenReservations();
+        when(orderItemRepository.countOpenBySalesOrderIds(List.of(1L, 2L))).thenReturn(3L);
+        when(inventoryRepository.findBalancesByProductIds(anyList())).thenReturn(List.of(
+                new InventoryBalance(productB.getProductId(), "SKU-PRD002", 100, 10),
+                new InventoryBalance(productA.getProductId(), "SKU-PRD001", 100, 5)));
+
+        // Act
+        BulkCancelSalesOrderResponse response = cancel(byIds(true, 1L, 2L, 3L));
+
+        // Assert
+        assertThat(response.isDryRun()).isTrue();
+        assertThat(response.getCancelledOrderIds()).containsExactly(1L, 2L);
+        assertThat(response.getSkippedOrderIds()).containsExactly(3L);
+        assertThat(response.getCancelledItems()).isEqualTo(3);
+        assertThat(response.getReleases()).containsExactly(
+                new StockRelease("PRD001", "SKU-PRD001", 6, 5, 0),
+                new StockRelease("PRD002", "SKU-PRD002", 4, 10, 6));
+
+        verify(salesOrderRepository, never()).findAllByIdInAndStatusInWithLock(anyCollection(), anyCollection());
+        verify(inventoryRepository, never()).findAllByProductIdsWithLock(anyCollection());
+        verify(orderItemRepository, never()).updateOpenItemsStatus(anyCollection(), any());
+        verify(salesOrderRepository, never()).updateStatusForCancel(anyCollection(), any(), anyString(), any());
+    }
+
+    // ==== CANCEL TESTS ====
+
+    @Test
+    @DisplayName("Real cancel locks orders, then inventory in product order, then writes")
+    @SuppressWarnings("unchecked")
+    void cancel_LockOrderingAndRelease() {
+        // Arrange
+        when(salesOrderRepository.findIdsByIdInAndStatusIn(List.of(2L, 1L), CANCELLABLE)).thenReturn(List.of(1L, 2L));
+        when(salesOrderRepository.findAllByIdInAndStatusInWithLock(List.of(1L, 2L), CANCELLABLE))
+                .thenReturn(List.of(order(1L), order(2L)));
+        stubOpenReservations();
+        Inventory inventoryA = inventory(productA, 10);
+        Inventory inventoryB = inventory(productB, 3);
+        when(inventoryRepository.findAllByProductIdsWithLock(anyCollection())).thenReturn(List.of(inventoryA, inventoryB));
+        when(orderItemRepository.updateOpenItemsStatus(List.of(1L, 2L), OrderItemStatus.CANCELLED)).thenReturn(3);
+
+        // Act
+        BulkCancelSalesOrderResponse response = cancel(byIds(false, 2L, 1L));
+
+        // Assert
+        InOrder inOrder = inOrder(salesOrderRepository, orderItemRepository, inventoryRepository);
+        inOrder.verify(salesOrderRepository).findAllByIdInAndStatusInWithLock(List.of(1L, 2L), CANCELLABLE);
+        inOrder.verify(orderItemRepository).sumOpenReservedBySalesOrderIds(List.of(1L, 2L));
+        ArgumentCaptor<Collection<String>> lockedProducts = ArgumentCaptor.forClass(Collection.class);
+        inOrder.verify(inventoryRepository).findAllByProductIdsWithLock(lockedProducts.capture());
+        inOrder.verify(orderItemRepository).updateOpenItemsStatus(List.of(1L, 2L), OrderItemStatus.CANCELLED);
+        inOrder.verify(salesOrderRepository).updateStatusForCancel(List.of(1L, 2L), SalesOrderStatus.CANCELLED, USERNAME, NOW);
+
+        assertThat(lockedProducts.getValue()).containsExactly("PRD001", "PRD002");
+        verify(inventoryRepository, never()).findByProductIdWithLock(anyString());
+        verifyNoInteractions(stockManagementService);
+
+        // Over-release is clamped at zero
+        assertThat(inventoryA.getReservedStock()).isEqualTo(4);
+        assertThat(inventoryB.getReservedStock()).isZero();
+        assertThat(response.isDryRun()).isFalse();
+        assertThat(response.getCancelledOrders()).isEqualTo(2);
+        assertThat(response.getCancelledItems()).isEqualTo(3);
+        assertThat(response.getReleases()).extracting(StockRelease::reservedAfter).containsExactly(4, 0);
+    }
+
+    @Test
+    @DisplayName("Orders that change status before the lock are skipped")
+    void cancel_OrderChangedBeforeLock() {
+        // Arrange
+        when(salesOrderRepository.findIdsByIdInAndStatusIn(List.of(1L, 2L), CANCELLABLE)).thenReturn(List.of(1L, 2L));
+        when(salesOrderRepository.findAllByIdInAndStatusInWithLock(List.of(1L, 2L), CANCELLABLE))
+                .thenReturn(List.of(order(1L)));
+        when(orderItemRepository.sumOpenReservedBySalesOrderIds(List.of(1L))).thenReturn(List.of());
+
+        // Act
+        BulkCancelSalesOrderResponse response = cancel(byIds(false, 1L, 2L));
+
+        // Assert
+        assertThat(response.getCancelledOrderIds()).containsExactly(1L);
+        assertThat(response.getSkippedOrderIds()).containsExactly(2L);
+        assertThat(response.getReleases()).isEmpty();
+        verify(inventoryRepository, never()).findAllByProductIdsWithLock(anyCollection());
+        verify(salesOrderRepository).updateStatusForCancel(List.of(1L), SalesOrderStatus.CANCELLED, USERNAME, NOW);
+    }
+
+    // ==== VALIDATION TESTS ====
+
+    @Test
+    @DisplayName("Request without IDs or filter is rejected")
+    void cancel_RequiresSelection() {
+        // Act & Assert
+        assertThatThrownBy(() -> cancel(new BulkCancelSalesOrderRequest()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Either order IDs or at least one filter is required");
+        verifyNoInteractions(salesOrderRepository, orderItemRepository, inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Filter matching more than the limit is rejected before any lock")
+    void cancel_FilterTooBroad() {
+        // Arrange
+        BulkCancelSalesOrderRequest request = new BulkCancelSalesOrderRequest();
+        request.setProductId("prd001");
+        when(salesOrderRepository.findIdsForBulkCancel(eq(CANCELLABLE), isNull(), eq("PRD001"), isNull(), isNull(),
+                any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L, 4L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cancel(request))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("more than 3 sales orders");
+        verify(salesOrderRepository, never()).findAllByIdInAndStatusInWithLock(anyCollection(), anyCollection());
+        verifyNoInteractions(inventoryRepository);
+    }
+}
@@ -0,0 +1,102 @@
+package com.sims.simscoreservice.product.cache;
+
+import com.sims.simscoreservice.product.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Product Cache Invalidation Listener Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product Cache Invalidation Listener Tests")
+class ProductCacheInvalidationListenerTest {
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductCacheBroadcaster productCacheBroadcaster;
+
+    @InjectMocks
+    private ProductCacheInvalidationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Product product(String productId) {
+        Product product = new Product();
+        product.setProductId(productId);
+        return product;
+    }
+
+    @Test
+    @DisplayName("Products changed in one transaction are evicted and broadcast once after commit")
+    void evictsOnceAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        listener.onProductChanged(product("PRD001"));
+        listener.invalidateAfterCommit(List.of("PRD002", "PRD001"));
+
+        // Assert - nothing before commit
+        verifyNoInteractions(productCache, productCacheBroadcaster);
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        verify(productCache).invalidateAll(Set.of("PRD001", "PRD002"));
+        verify(productCacheBroadcaster).broadcast(Set.of("PRD001", "PRD002"));
+        assertThat(TransactionSynchronizationManager.getResource(listener)).isNull();
+    }
+
+    @Test
+    @DisplayName("Rolled back changes are neither evicted nor broadcast")
+    void rollbackEvictsNothing() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        listener.onProductChanged(product("PRD001"));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verifyNoInteractions(productCache, productCacheBroadcaster);
+        assertThat(TransactionSynchronizationManager.getResource(listener)).isNull();
+    }
+
+    @Test
+    @DisplayName("Without a transaction the products are evicted and broadcast immediately")
+    void noTransactionEvictsImmediately() {
+        // Act
+        listener.onProductChanged(product("PRD001"));
+
+        // Assert
+        verify(productCache).invalidateAll(List.of("PRD001"));
+        verify(productCacheBroadcaster).broadcast(List.of("PRD001"));
+    }
+}
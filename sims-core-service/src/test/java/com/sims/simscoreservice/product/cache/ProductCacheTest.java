@@ -0,0 +1,139 @@
+package com.sims.simscoreservice.product.cache;
+
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.product.util.ProductTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Product Cache Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@DisplayName("Product Cache Tests")
+class ProductCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private ProductCache productCache;
+    private Product managedProduct;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(productCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(productCache, "maxSize", 100L);
+        productCache.init();
+
+        // Stands in for the entity managed by the loader's persistence context
+        managedProduct = ProductTestUtils.createProductA();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Function<String, Product> loader() {
+        return id -> {
+            loads.incrementAndGet();
+            return managedProduct;
+        };
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // ==== COPY ISOLATION TESTS ====
+
+    @Test
+    @DisplayName("Changes to the loaded entity do not reach the cache")
+    void loadedEntityChangesDoNotLeak() {
+        // Act
+        productCache.get("PRD001", loader());
+        managedProduct.setName("Changed in transaction");
+        Product cached = productCache.get("PRD001", loader());
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        assertThat(cached.getName()).isEqualTo("Nintendo Switch");
+        assertThat(cached).isNotSameAs(managedProduct);
+    }
+
+    @Test
+    @DisplayName("Changes to a returned copy do not reach the cache")
+    void returnedCopyChangesDoNotLeak() {
+        // Act
+        productCache.get("PRD001", loader()).setName("Changed by caller");
+        Product cached = productCache.get("PRD001", loader());
+
+        // Assert
+        assertThat(cached.getName()).isEqualTo("Nintendo Switch");
+    }
+
+    @Test
+    @DisplayName("getAll stores copies of the loaded entities")
+    void getAllStoresCopies() {
+        // Act
+        Map<String, Product> first = productCache.getAll(List.of("PRD001"), missing -> Map.of("PRD001", managedProduct));
+        managedProduct.setName("Changed in transaction");
+        first.get("PRD001").setName("Changed by caller");
+        Map<String, Product> second = productCache.getAll(List.of("PRD001"), missing -> Map.of());
+
+        // Assert
+        assertThat(second.get("PRD001").getName()).isEqualTo("Nintendo Switch");
+    }
+
+    // ==== TRANSACTION TESTS ====
+
+    @Test
+    @DisplayName("Products loaded in a rolled back transaction are dropped")
+    void rollbackDropsLoadedProducts() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        managedProduct.setName("Uncommitted name");
+        productCache.get("PRD001", loader());
+
+        // Act
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        managedProduct.setName("Nintendo Switch");
+        Product afterRollback = productCache.get("PRD001", loader());
+
+        // Assert
+        assertThat(loads).hasValue(2);
+        assertThat(afterRollback.getName()).isEqualTo("Nintendo Switch");
+    }
+
+    @Test
+    @DisplayName("Products loaded in a committed transaction stay cached")
+    void commitKeepsLoadedProducts() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        productCache.getAll(List.of("PRD001"), missing -> Map.of("PRD001", managedProduct));
+
+        // Act
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        productCache.get("PRD001", loader());
+
+        // Assert
+        assertThat(loads).hasValue(0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sims.simscoreservice.product.controller;
+
+import com.sims.simscoreservice.exceptions.ForbiddenException;
+import com.sims.simscoreservice.product.cache.ProductCache;
+import com.sims.simscoreservice.product.cache.ProductCacheBroadcaster;
+import com.sims.simscoreservice.product.cache.ProductCacheBroadcaster.ProductCacheEvictRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Product Cache Controller Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product Cache Controller Tests")
+class ProductCacheControllerTest {
+
+    private static final ProductCacheEvictRequest REQUEST = new ProductCacheEvictRequest(List.of("PRD001", "PRD002"));
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private DiscoveryClient discoveryClient;
+
+    @Mock
+    private ObjectProvider<Registration> registration;
+
+    private ProductCacheController controllerWithSecret(String secret) {
+        ProductCacheBroadcaster broadcaster = new ProductCacheBroadcaster(discoveryClient, registration);
+        ReflectionTestUtils.setField(broadcaster, "evictSecret", secret);
+        return new ProductCacheController(productCache, broadcaster);
+    }
+
+    @Test
+    @DisplayName("Peer presenting the shared secret evicts the products")
+    void trustedPeerEvicts() {
+        // Act
+        controllerWithSecret("s3cret").evict("s3cret", REQUEST);
+
+        // Assert
+        verify(productCache).invalidateAll(REQUEST.productIds());
+    }
+
+    @Test
+    @DisplayName("Missing or wrong secret is rejected")
+    void untrustedCallerIsRejected() {
+        // Arrange
+        ProductCacheController controller = controllerWithSecret("s3cret");
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.evict(null, REQUEST)).isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> controller.evict("guess", REQUEST)).isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(productCache);
+    }
+
+    @Test
+    @DisplayName("Without a configured secret every eviction is rejected")
+    void unsetSecretRejectsEverything() {
+        // Arrange
+        ProductCacheController controller = controllerWithSecret("");
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.evict("", REQUEST)).isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(productCache);
+    }
+}
@@ -12,6 +12,7 @@ import com.sims.simscoreservice.product.enums.ProductStatus;
 import com.sims.simscoreservice.product.mapper.ProductMapper;
 import com.sims.simscoreservice.product.repository.ProductRepository;
 import com.sims.simscoreservice.product.helper.ProductHelper;
+import com.sims.simscoreservice.product.services.importService.ProductIdAllocator;
 import com.sims.simscoreservice.product.services.impl.ProductServiceImpl;
 import com.sims.simscoreservice.product.services.queryService.ProductQueryService;
 import com.sims.simscoreservice.product.services.searchService.ProductSearchService;
@@ -30,7 +31,6 @@ import org.springframework.data.domain.PageRequest;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -71,6 +71,9 @@ public class ProductServiceImplTest {
     @Mock
     private ProductSearchService productSearchService;
 
+    @Mock
+    private ProductIdAllocator productIdAllocator;
+
     @InjectMocks
     private ProductServiceImpl serviceUnderTest;
 
@@ -163,7 +166,7 @@ public class ProductServiceImplTest {
         // Stubbing
         doNothing().when(productHelper).validateProduct(planningRequest);
         when(productMapper.toEntity(planningRequest)).thenReturn(savedProduct);
-        when(productRepository.findLastProductId()).thenReturn(Optional.empty());
+        when(productIdAllocator.allocate(1)).thenReturn(List.of("PRD001"));
         when(productRepository.save(any(Product.class))).thenReturn(savedProduct);
         when(productMapper.toResponse(savedProduct)).thenReturn(expectedResponse);
 
@@ -201,7 +204,7 @@ public class ProductServiceImplTest {
         // Arrange
         doNothing().when(productHelper).validateProduct(validRequest);
         when(productMapper.toEntity(validRequest)).thenReturn(productA);
-        when(productRepository.findLastProductId()).thenReturn(Optional.of("PRD005"));
+        when(productIdAllocator.allocate(1)).thenReturn(List.of("PRD006"));
         when(productRepository.save(any(Product.class)))
                 .thenThrow(new DataIntegrityViolationException("Duplicate key"));
 
@@ -228,7 +231,7 @@ public class ProductServiceImplTest {
 
         // Stubbing
         when(productMapper.toEntity(any())).thenReturn(savedProduct);
-        when(productRepository.findLastProductId()). thenReturn(Optional.empty());
+        when(productIdAllocator.allocate(1)).thenReturn(List.of("PRD001")).thenReturn(List.of("PRD002"));
         when(productRepository. save(any(Product.class))).thenReturn(savedProduct);
 
         // Act
@@ -308,41 +311,29 @@ public class ProductServiceImplTest {
     // ========================================
 
     @Test
-    @DisplayName("Should generate PRD001 when no products exist")
-    void testGenerateProductId_FirstProduct() {
+    @DisplayName("Should take the product ID from the allocator")
+    void testGenerateProductId_FromAllocator() {
         // Arrange
-        when(productRepository.findLastProductId()).thenReturn(Optional.empty());
+        when(productIdAllocator.allocate(1)).thenReturn(List.of("PRD006"));
 
         // Act
         String result = serviceUnderTest.generateProductId();
 
         // Assert
-        assertThat(result).isEqualTo("PRD001");
+        assertThat(result).isEqualTo("PRD006");
+        verify(productRepository, never()).findLastProductId();
     }
 
     @Test
-    @DisplayName("Should generate next sequential product ID")
-    void testGenerateProductId_Sequential() {
-        // Arrange
-        when(productRepository.findLastProductId()).thenReturn(Optional.of("PRD005"));
-
-        // Act
-        String result = serviceUnderTest.generateProductId();
-
-        // Assert
-        assertThat(result).isEqualTo("PRD006");
+    @DisplayName("Should format sequential product IDs")
+    void testGenerateProductId_Format() {
+        assertThat(ProductIdAllocator.format(1)).isEqualTo("PRD001");
+        assertThat(ProductIdAllocator.format(6)).isEqualTo("PRD006");
     }
 
     @Test
     @DisplayName("Should handle large product ID numbers")
     void testGenerateProductId_LargeNumber() {
-        // Arrange
-        when(productRepository.findLastProductId()).thenReturn(Optional.of("PRD999"));
-
-        // Act
-        String result = serviceUnderTest.generateProductId();
-
-        // Assert
-        assertThat(result).isEqualTo("PRD1000");
+        assertThat(ProductIdAllocator.format(1000)).isEqualTo("PRD1000");
     }
 }
@@ -0,0 +1,175 @@
+package com.sims.simscoreservice.product.services.bulkService;
+
+import com.sims.simscoreservice.inventory.cache.InventoryCacheInvalidationListener;
+import com.sims.simscoreservice.inventory.helper.InventoryHelper;
+import com.sims.simscoreservice.inventory.mapper.InventoryMapper;
+import com.sims.simscoreservice.product.cache.ProductCacheInvalidationListener;
+import com.sims.simscoreservice.product.dto.BulkProductUpdateRequest;
+import com.sims.simscoreservice.product.dto.BulkProductUpdateResponse;
+import com.sims.simscoreservice.product.enums.ProductStatus;
+import com.sims.simscoreservice.product.helper.ProductHelper;
+import com.sims.simscoreservice.product.mapper.ProductMapper;
+import com.sims.simscoreservice.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Product Bulk Update Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product Bulk Update Service Tests")
+class ProductBulkUpdateServiceTest {
+
+    private static final List<String> PRODUCT_IDS = List.of("PRD001", "PRD002", "PRD003");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCacheInvalidationListener productCacheInvalidationListener;
+
+    @Mock
+    private InventoryCacheInvalidationListener inventoryCacheInvalidationListener;
+
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+        productBulkUpdateService = new ProductBulkUpdateService(clock, jdbcTemplate, transactionManager,
+                productRepository, new ProductHelper(mock(ProductMapper.class)),
+                new InventoryHelper(mock(InventoryMapper.class)),
+                productCacheInvalidationListener, inventoryCacheInvalidationListener);
+        ReflectionTestUtils.setField(productBulkUpdateService, "chunkSize", 1000);
+
+        when(jdbcTemplate.queryForList(startsWith("SELECT product_id"), any(SqlParameterSource.class), eq(String.class)))
+                .thenReturn(PRODUCT_IDS);
+    }
+
+    private static BulkProductUpdateRequest statusRequest(ProductStatus status) {
+        BulkProductUpdateRequest request = new BulkProductUpdateRequest();
+        request.setProductIds(PRODUCT_IDS);
+        request.setStatus(status);
+        return request;
+    }
+
+    /**
+     * Products without inventory rows: {productId, category, location, current status}
+     */
+    @SuppressWarnings("unchecked")
+    private void missingInventory(String[]... rows) {
+        Answer<List<Object>> mapRows = invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(2);
+            List<Object> mapped = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("product_id")).thenReturn(rows[i][0]);
+                when(rs.getString("category")).thenReturn(rows[i][1]);
+                when(rs.getString("location")).thenReturn(rows[i][2]);
+                when(rs.getString("status")).thenReturn(rows[i][3]);
+                mapped.add(mapper.mapRow(rs, i));
+            }
+            return mapped;
+        };
+        when(jdbcTemplate.query(contains("LEFT JOIN inventory"), any(SqlParameterSource.class), ArgumentMatchers.<RowMapper<Object>>any()))
+                .thenAnswer(mapRows);
+    }
+
+    // ==== STATUS UPDATE TESTS ====
+
+    @Test
+    @DisplayName("Missing inventory is batch inserted only for products allowed to enter inventory")
+    void activatingInsertsAllowedMissingInventory() {
+        // Arrange
+        missingInventory(
+                new String[]{"PRD001", "ELECTRONIC", "A1-101", "PLANNING"},
+                new String[]{"PRD002", "EDUCATION", "B2-202", "RESTRICTED"},
+                new String[]{"PRD003", "DOLLS", "C3-303", "ARCHIVED"});
+
+        // Act
+        BulkProductUpdateResponse response = productBulkUpdateService.updateStatus(statusRequest(ProductStatus.ACTIVE), "admin");
+
+        // Assert
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO inventory"), captor.capture());
+        SqlParameterSource[] rows = captor.getValue();
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows[0].getValue("sku")).isEqualTo("ELE-001");
+        assertThat(rows[0].getValue("location")).isEqualTo("A1-101");
+        assertThat(rows[1].getValue("sku")).isEqualTo("DOL-003");
+        assertThat(response.getInventoryCreatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Missing inventory is read before the product status changes")
+    void missingInventoryIsReadBeforeStatusUpdate() {
+        // Arrange
+        missingInventory(new String[]{"PRD001", "ELECTRONIC", "A1-101", "PLANNING"});
+
+        // Act
+        productBulkUpdateService.updateStatus(statusRequest(ProductStatus.ON_ORDER), "admin");
+
+        // Assert
+        var inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).query(contains("LEFT JOIN inventory"), any(SqlParameterSource.class), ArgumentMatchers.<RowMapper<Object>>any());
+        inOrder.verify(jdbcTemplate).update(startsWith("UPDATE products"), any(SqlParameterSource.class));
+        inOrder.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO inventory"), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("No insert batch is sent when every product already has inventory")
+    void noMissingInventoryNoBatch() {
+        // Arrange
+        missingInventory();
+
+        // Act
+        BulkProductUpdateResponse response = productBulkUpdateService.updateStatus(statusRequest(ProductStatus.ACTIVE), "admin");
+
+        // Assert
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        assertThat(response.getInventoryCreatedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Invalidating status never looks for missing inventory")
+    void invalidatingStatusSkipsMissingInventory() {
+        // Act
+        productBulkUpdateService.updateStatus(statusRequest(ProductStatus.DISCONTINUED), "admin");
+
+        // Assert
+        verify(jdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), ArgumentMatchers.<RowMapper<Object>>any());
+        verify(jdbcTemplate).update(contains("SET status = 'INVALID'"), any(SqlParameterSource.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+}
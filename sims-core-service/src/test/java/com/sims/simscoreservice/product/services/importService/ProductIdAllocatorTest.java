@@ -0,0 +1,145 @@
+package com.sims.simscoreservice.product.services.importService;
+
+import com.sims.simscoreservice.product.entity.ProductIdSequence;
+import com.sims.simscoreservice.product.repository.ProductIdSequenceRepository;
+import com.sims.simscoreservice.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Product ID Allocator Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product ID Allocator Tests")
+class ProductIdAllocatorTest {
+
+    @Mock
+    private ProductIdSequenceRepository productIdSequenceRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ProductIdAllocator productIdAllocator;
+
+    // next_value written by each saveAndFlush
+    private final List<Long> savedNextValues = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(productIdSequenceRepository.saveAndFlush(any(ProductIdSequence.class))).thenAnswer(invocation -> {
+            ProductIdSequence sequence = invocation.getArgument(0);
+            savedNextValues.add(sequence.getNextValue());
+            return sequence;
+        });
+    }
+
+    // ========================================
+    // ALLOCATION TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should start the block after the highest existing product ID when the sequence is behind")
+    void allocate_StartsAfterExistingProducts() {
+        // Arrange - products created through the single add path moved past the sequence
+        when(productIdSequenceRepository.findForUpdate("PRD")).thenReturn(Optional.of(new ProductIdSequence("PRD", 5L)));
+        when(productRepository.findLastProductId()).thenReturn(Optional.of("PRD120"));
+
+        // Act
+        List<String> ids = productIdAllocator.allocate(3);
+
+        // Assert
+        assertThat(ids).containsExactly("PRD121", "PRD122", "PRD123");
+        assertThat(savedNextValues).containsExactly(124L);
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should continue from the sequence when it is ahead of the existing products")
+    void allocate_ContinuesFromSequence() {
+        // Arrange
+        when(productIdSequenceRepository.findForUpdate("PRD")).thenReturn(Optional.of(new ProductIdSequence("PRD", 200L)));
+        when(productRepository.findLastProductId()).thenReturn(Optional.of("PRD120"));
+
+        // Act
+        List<String> ids = productIdAllocator.allocate(2);
+
+        // Assert
+        assertThat(ids).containsExactly("PRD200", "PRD201");
+        assertThat(savedNextValues).containsExactly(202L);
+    }
+
+    @Test
+    @DisplayName("Should create the sequence row and start at 1 in an empty catalog")
+    void allocate_CreatesSequenceRow() {
+        // Arrange
+        when(productIdSequenceRepository.findForUpdate("PRD")).thenReturn(Optional.empty());
+        when(productRepository.findLastProductId()).thenReturn(Optional.empty());
+
+        // Act
+        List<String> ids = productIdAllocator.allocate(2);
+
+        // Assert
+        assertThat(ids).containsExactly("PRD001", "PRD002");
+        verify(productIdSequenceRepository).saveAndFlush(argThat(sequence ->
+                sequence.getPrefix().equals("PRD") && sequence.getNextValue() == 3L));
+    }
+
+    @Test
+    @DisplayName("Should retry once when another instance creates the sequence row at the same moment")
+    void allocate_RetriesWhenSequenceRowIsCreatedConcurrently() {
+        // Arrange - first attempt sees no row, its insert collides with the other instance's row
+        when(productIdSequenceRepository.findForUpdate("PRD"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new ProductIdSequence("PRD", 51L)));
+        when(productRepository.findLastProductId()).thenReturn(Optional.of("PRD040"));
+        when(productIdSequenceRepository.saveAndFlush(any(ProductIdSequence.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'PRD' for key 'PRIMARY'"))
+                .thenAnswer(invocation -> {
+                    ProductIdSequence sequence = invocation.getArgument(0);
+                    savedNextValues.add(sequence.getNextValue());
+                    return sequence;
+                });
+
+        // Act
+        List<String> ids = productIdAllocator.allocate(2);
+
+        // Assert
+        assertThat(ids).containsExactly("PRD051", "PRD052");
+        assertThat(savedNextValues).containsExactly(53L);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should return no IDs without touching the sequence for an empty request")
+    void allocate_NothingToAllocate() {
+        // Act & Assert
+        assertThat(productIdAllocator.allocate(0)).isEmpty();
+        verifyNoInteractions(productIdSequenceRepository, productRepository, transactionManager);
+    }
+}
@@ -0,0 +1,225 @@
+package com.sims.simscoreservice.product.services.importService;
+
+import com.sims.simscoreservice.inventory.helper.InventoryHelper;
+import com.sims.simscoreservice.inventory.mapper.InventoryMapper;
+import com.sims.simscoreservice.product.dto.BatchProductResponse;
+import com.sims.simscoreservice.product.dto.ProductRequest;
+import com.sims.simscoreservice.product.enums.ProductCategories;
+import com.sims.simscoreservice.product.enums.ProductStatus;
+import com.sims.simscoreservice.product.helper.ProductHelper;
+import com.sims.simscoreservice.product.mapper.ProductMapper;
+import com.sims.simscoreservice.product.mapper.ProductMapperImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Product Import Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product Import Service Tests")
+class ProductImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProductIdAllocator productIdAllocator;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    // Product IDs bound by each product batch, and SKUs bound by each inventory batch
+    private final List<List<String>> productBatches = new ArrayList<>();
+    private final List<List<String>> inventoryBatches = new ArrayList<>();
+    private final Set<String> failingProductIds = new HashSet<>();
+    private List<String> currentBatch;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+        ProductMapper productMapper = new ProductMapperImpl();
+        productImportService = new ProductImportService(clock, jdbcTemplate, transactionManager, productIdAllocator,
+                productMapper, new ProductHelper(productMapper), new InventoryHelper(mock(InventoryMapper.class)));
+        ReflectionTestUtils.setField(productImportService, "chunkSize", 1000);
+        ReflectionTestUtils.setField(productImportService, "validationThreads", 3);
+        productImportService.init();
+
+        lenient().when(productIdAllocator.allocate(anyInt())).thenAnswer(invocation ->
+                IntStream.range(0, invocation.<Integer>getArgument(0))
+                        .mapToObj(i -> ProductIdAllocator.format(101 + i))
+                        .toList());
+
+        // Record the first bound column (product ID / SKU) of every row
+        lenient().doAnswer(invocation -> {
+            if (invocation.<Integer>getArgument(0) == 1) {
+                currentBatch.add(invocation.getArgument(1));
+            }
+            return null;
+        }).when(preparedStatement).setString(anyInt(), anyString());
+
+        lenient().doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Collection<Object> rows = invocation.getArgument(1);
+            ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+
+            currentBatch = new ArrayList<>();
+            for (Object row : rows) {
+                setter.setValues(preparedStatement, row);
+            }
+            if (sql.contains("INTO products")) {
+                if (currentBatch.stream().anyMatch(failingProductIds::contains)) {
+                    throw new DuplicateKeyException("Duplicate entry for key 'products.uk_name'");
+                }
+                productBatches.add(currentBatch);
+            } else {
+                inventoryBatches.add(currentBatch);
+            }
+            return new int[][]{};
+        }).when(jdbcTemplate).<Object>batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productImportService.shutdown();
+    }
+
+    // ========================================
+    // IMPORT TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should insert valid rows chunk by chunk with one allocated ID block")
+    void importProducts_InsertsInChunks() {
+        // Arrange
+        ReflectionTestUtils.setField(productImportService, "chunkSize", 2);
+        List<ProductRequest> requests = List.of(
+                request("Robot", ProductStatus.ACTIVE), request("Drum", ProductStatus.ACTIVE),
+                request("Kite", ProductStatus.PLANNING), request("Puzzle", ProductStatus.ACTIVE),
+                request("Doll", ProductStatus.ON_ORDER));
+
+        // Act
+        BatchProductResponse response = productImportService.importProducts(requests, "manager");
+
+        // Assert
+        verify(productIdAllocator).allocate(5);
+        assertThat(response.getSuccessCount()).isEqualTo(5);
+        assertThat(response.getFailureCount()).isZero();
+        assertThat(response.getSuccessfulProductIds()).containsExactly("PRD101", "PRD102", "PRD103", "PRD104", "PRD105");
+        assertThat(productBatches).containsExactly(
+                List.of("PRD101", "PRD102"), List.of("PRD103", "PRD104"), List.of("PRD105"));
+
+        // Planning products get no inventory row
+        assertThat(inventoryBatches).containsExactly(
+                List.of("ELE-101", "ELE-102"), List.of("ELE-104"), List.of("ELE-105"));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should skip invalid rows found by parallel validation and report their indexes")
+    void importProducts_SkipsInvalidRows() {
+        // Arrange - spread over three validation slices
+        ProductRequest badLocation = request("Robot", ProductStatus.ACTIVE);
+        badLocation.setLocation("nowhere");
+        ProductRequest noPrice = request("Drum", ProductStatus.ACTIVE);
+        noPrice.setPrice(null);
+        List<ProductRequest> requests = Arrays.asList(
+                request("Kite", ProductStatus.ACTIVE), badLocation, request("Puzzle", ProductStatus.ACTIVE),
+                null, request("Doll", ProductStatus.ACTIVE), noPrice);
+
+        // Act
+        BatchProductResponse response = productImportService.importProducts(requests, "manager");
+
+        // Assert
+        verify(productIdAllocator).allocate(3);
+        assertThat(response.getTotalRequested()).isEqualTo(6);
+        assertThat(response.getSuccessfulProductIds()).containsExactly("PRD101", "PRD102", "PRD103");
+        assertThat(response.getErrors()).extracting(BatchProductResponse.ProductError::getIndex).containsExactly(1, 3, 5);
+        assertThat(response.getErrors().get(0).getErrorMessage()).contains("Invalid location format");
+        assertThat(response.getErrors().get(1).getErrorMessage()).isEqualTo("Empty row");
+        assertThat(response.getErrors().get(2).getErrorMessage()).contains("Valid price is required");
+        assertThat(productBatches).containsExactly(List.of("PRD101", "PRD102", "PRD103"));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk row by row and report the original row index")
+    void importProducts_FailedChunkFallsBackToRows() {
+        // Arrange - row 1 is invalid, so the failing row 3 is the third allocated ID
+        failingProductIds.add("PRD103");
+        ProductRequest invalid = request("Robot", ProductStatus.ACTIVE);
+        invalid.setName(" ");
+        List<ProductRequest> requests = List.of(
+                request("Kite", ProductStatus.ACTIVE), invalid, request("Puzzle", ProductStatus.ACTIVE),
+                request("Duplicate", ProductStatus.ACTIVE), request("Doll", ProductStatus.ACTIVE));
+
+        // Act
+        BatchProductResponse response = productImportService.importProducts(requests, "manager");
+
+        // Assert
+        assertThat(response.getSuccessfulProductIds()).containsExactly("PRD101", "PRD102", "PRD104");
+        assertThat(response.getFailureCount()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(BatchProductResponse.ProductError::getIndex).containsExactly(1, 3);
+        BatchProductResponse.ProductError duplicate = response.getErrors().get(1);
+        assertThat(duplicate.getProduct().getName()).isEqualTo("Duplicate");
+        assertThat(duplicate.getErrorMessage()).isEqualTo("Duplicate entry for key 'products.uk_name'");
+        assertThat(productBatches).containsExactly(List.of("PRD101"), List.of("PRD102"), List.of("PRD104"));
+
+        // Whole chunk plus the failing row rolled back
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should not insert anything when every row is invalid")
+    void importProducts_AllInvalid() {
+        // Arrange
+        ProductRequest invalid = request("Robot", ProductStatus.ACTIVE);
+        invalid.setCategory(null);
+
+        // Act
+        BatchProductResponse response = productImportService.importProducts(List.of(invalid), "manager");
+
+        // Assert
+        assertThat(response.getSuccessCount()).isZero();
+        assertThat(response.getFailureCount()).isEqualTo(1);
+        verify(productIdAllocator).allocate(0);
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private static ProductRequest request(String name, ProductStatus status) {
+        return new ProductRequest(name, "A1-101", ProductCategories.ELECTRONIC, new BigDecimal("19.99"), status);
+    }
+}
@@ -0,0 +1,297 @@
+package com.sims.simscoreservice.salesOrder.processor;
+
+import com.sims.common.exceptions.ServiceException;
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.exceptions.InventoryException;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.inventory.service.InventoryStatusService;
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.salesOrder.entity.OrderItem;
+import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
+import com.sims.simscoreservice.salesOrder.enums.OrderItemStatus;
+import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
+import com.sims.simscoreservice.salesOrder.helper.SalesOrderHelper;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
+import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockMovement.entity.StockMovement;
+import com.sims.simscoreservice.stockMovement.enums.StockMovementReferenceType;
+import com.sims.simscoreservice.stockMovement.enums.StockMovementType;
+import com.sims.simscoreservice.stockMovement.repository.StockMovementRepository;
+import com.sims.simscoreservice.stockMovement.service.StockMovementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bulk Stock Out Processor Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk Stock Out Processor Tests")
+class BulkStockOutProcessorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryStatusService inventoryStatusService;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private StockMovementService stockMovementService;
+
+    private BulkStockOutProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        StockManagementService stockManagementService =
+                new StockManagementService(inventoryRepository, inventoryStatusService, orderItemRepository);
+        processor = new BulkStockOutProcessor(CLOCK, new SalesOrderHelper(), stockManagementService, stockMovementService);
+    }
+
+    // ========================================
+    // FULFILLMENT TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should fulfill all items with one locking read and one movement batch")
+    @SuppressWarnings("unchecked")
+    void processStockOut_SingleRoundTrip() {
+        // Arrange
+        SalesOrder order = createOrder(3, 10);
+        List<Inventory> inventories = createInventories(3, 100, 10);
+        when(inventoryRepository.findAllByProductIdsWithLock(anyCollection())).thenReturn(inventories);
+
+        Map<String, Integer> approved = Map.of("PRD000", 10, "PRD001", 4, "PRD002", 10);
+
+        // Act
+        SalesOrder result = processor.processStockOut(order, approved, "manager");
+
+        // Assert
+        verify(inventoryRepository, times(1)).findAllByProductIdsWithLock(anyCollection());
+        verify(inventoryRepository, never()).findByProductIdWithLock(anyString());
+        verify(inventoryRepository, times(1)).saveAll(inventories);
+        verify(inventoryStatusService, times(3)).updateInventoryStatus(any(Inventory.class));
+
+        assertThat(inventories).extracting(Inventory::getCurrentStock).containsExactly(90, 96, 90);
+        assertThat(inventories).extracting(Inventory::getReservedStock).containsExactly(0, 6, 0);
+
+        assertThat(result.getItems()).extracting(OrderItem::getStatus).containsExactly(
+                OrderItemStatus.APPROVED, OrderItemStatus.PARTIALLY_APPROVED, OrderItemStatus.APPROVED);
+        assertThat(result.getStatus()).isEqualTo(SalesOrderStatus.PARTIALLY_APPROVED);
+        assertThat(result.getConfirmedBy()).isEqualTo("manager");
+
+        ArgumentCaptor<List<StockMovement>> movements = ArgumentCaptor.forClass(List.class);
+        verify(stockMovementService, times(1)).logMovements(movements.capture());
+        verify(stockMovementService, never()).logMovement(any(), any(), any(), any(), any(), any());
+        assertThat(movements.getValue()).hasSize(3)
+                .allMatch(movement -> movement.getType() == StockMovementType.OUT
+                        && movement.getReferenceType() == StockMovementReferenceType.SALES_ORDER
+                        && "SO-TEST".equals(movement.getReferenceId()));
+    }
+
+    @Test
+    @DisplayName("Should count earlier approvals when completing a partially approved item")
+    void processStockOut_CompletesPartiallyApprovedItem() {
+        // Arrange
+        SalesOrder order = createOrder(1, 10);
+        OrderItem item = order.getItems().get(0);
+        item.setApprovedQuantity(6);
+        item.setStatus(OrderItemStatus.PARTIALLY_APPROVED);
+        order.setStatus(SalesOrderStatus.PARTIALLY_APPROVED);
+
+        when(inventoryRepository.findAllByProductIdsWithLock(anyCollection()))
+                .thenReturn(createInventories(1, 100, 4));
+
+        // Act
+        SalesOrder result = processor.processStockOut(order, Map.of("PRD000", 4), "manager");
+
+        // Assert
+        assertThat(item.getApprovedQuantity()).isEqualTo(10);
+        assertThat(item.getStatus()).isEqualTo(OrderItemStatus.APPROVED);
+        assertThat(result.getStatus()).isEqualTo(SalesOrderStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Should reject the whole order without changes when one item exceeds the reserved stock")
+    void processStockOut_ExceedsReserved() {
+        // Arrange
+        SalesOrder order = createOrder(2, 10);
+        List<Inventory> inventories = createInventories(2, 100, 10);
+        inventories.get(1).setReservedStock(5);
+        when(inventoryRepository.findAllByProductIdsWithLock(anyCollection())).thenReturn(inventories);
+
+        // Act & Assert
+        assertThatThrownBy(() -> processor.processStockOut(order, Map.of("PRD000", 10, "PRD001", 10), "manager"))
+                .isInstanceOf(ServiceException.class)
+                .hasRootCauseInstanceOf(ValidationException.class)
+                .hasRootCauseMessage("Cannot fulfill more than reserved quantity. Reserved: 5");
+
+        assertThat(inventories).extracting(Inventory::getCurrentStock).containsExactly(100, 100);
+        assertThat(order.getItems()).extracting(OrderItem::getApprovedQuantity).containsExactly(0, 0);
+        verify(inventoryRepository, never()).saveAll(anyList());
+        verifyNoInteractions(stockMovementService);
+    }
+
+    @Test
+    @DisplayName("Should reject approving more than the remaining ordered quantity")
+    void processStockOut_ExceedsOrdered() {
+        // Arrange
+        SalesOrder order = createOrder(1, 10);
+        order.getItems().get(0).setApprovedQuantity(8);
+
+        // Act & Assert
+        assertThatThrownBy(() -> processor.processStockOut(order, Map.of("PRD000", 5), "manager"))
+                .isInstanceOf(InventoryException.class)
+                .hasMessageContaining("Cannot approve more than ordered quantity");
+
+        verifyNoInteractions(inventoryRepository, stockMovementService);
+    }
+
+    // ========================================
+    // BENCHMARK
+    // ========================================
+
+    /**
+     * Processing time versus order line count, per-item fulfillment (before) against one batched
+     * round trip per order (after). Every repository/JDBC call costs a simulated database round trip.
+     * Run with: mvn -pl sims-core-service test -Dtest=BulkStockOutProcessorTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark: processing time vs order line count")
+    void benchmark_ProcessingTimeVsLineCount() {
+        long roundTripMicros = Long.getLong("benchmark.round-trip-micros", 500);
+        Answer<Object> roundTrip = invocation -> {
+            TimeUnit.MICROSECONDS.sleep(roundTripMicros);
+            return null;
+        };
+
+        InventoryRepository slowInventoryRepository = mock(InventoryRepository.class);
+        StockMovementRepository slowMovementRepository = mock(StockMovementRepository.class, roundTrip);
+        JdbcTemplate slowJdbcTemplate = mock(JdbcTemplate.class, roundTrip);
+        StockManagementService stockManagementService = new StockManagementService(
+                slowInventoryRepository, mock(InventoryStatusService.class), orderItemRepository);
+        StockMovementService movementService = new StockMovementService(CLOCK, slowMovementRepository, slowJdbcTemplate);
+        BulkStockOutProcessor batchedProcessor =
+                new BulkStockOutProcessor(CLOCK, new SalesOrderHelper(), stockManagementService, movementService);
+
+        System.out.printf("%n%-6s %12s %12s %9s%n", "lines", "before (ms)", "after (ms)", "speedup");
+        for (int lines : new int[]{1, 5, 10, 25, 50, 100}) {
+            Map<String, Integer> approved = new HashMap<>();
+            for (int i = 0; i < lines; i++) {
+                approved.put(String.format("PRD%03d", i), 10);
+            }
+
+            List<Inventory> inventories = createInventories(lines, 1000, 1000);
+            Map<String, Inventory> byProduct = new HashMap<>();
+            inventories.forEach(inventory -> byProduct.put(inventory.getProduct().getProductId(), inventory));
+            reset(slowInventoryRepository);
+            when(slowInventoryRepository.findByProductIdWithLock(anyString())).thenAnswer(invocation -> {
+                roundTrip.answer(invocation);
+                return byProduct.get(invocation.<String>getArgument(0));
+            });
+            when(slowInventoryRepository.findAllByProductIdsWithLock(anyCollection())).thenAnswer(invocation -> {
+                roundTrip.answer(invocation);
+                return inventories;
+            });
+            when(slowInventoryRepository.save(any(Inventory.class))).thenAnswer(roundTrip);
+            when(slowInventoryRepository.saveAll(anyList())).thenAnswer(roundTrip);
+
+            // Before: one locked read + save per item, one movement insert per item
+            long before = median(() -> {
+                SalesOrder order = createOrder(lines, 1000);
+                for (OrderItem item : order.getItems()) {
+                    String productId = item.getProduct().getProductId();
+                    stockManagementService.fulfillReservation(productId, approved.get(productId));
+                    movementService.logMovement(item.getProduct(), StockMovementType.OUT, approved.get(productId),
+                            order.getOrderReference(), StockMovementReferenceType.SALES_ORDER, "bench");
+                }
+            });
+
+            // After: one locked read, one batched update, one movement batch
+            long after = median(() -> batchedProcessor.processStockOut(createOrder(lines, 1000), approved, "bench"));
+
+            System.out.printf("%-6d %12.2f %12.2f %8.1fx%n",
+                    lines, before / 1e6, after / 1e6, (double) before / Math.max(1, after));
+            if (lines >= 10) {
+                // Same number of round trips for a single line, a clear gap from ten lines on
+                assertThat(after).isLessThan(before);
+            }
+        }
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private static long median(Runnable run) {
+        long[] samples = new long[7];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            run.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static SalesOrder createOrder(int lines, int quantity) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            items.add(new OrderItem(createProduct(i), quantity));
+        }
+        SalesOrder order = new SalesOrder("SO-TEST", "Warehouse 1", SalesOrderStatus.PENDING, items);
+        order.setId(1L);
+        return order;
+    }
+
+    private static List<Inventory> createInventories(int count, int currentStock, int reservedStock) {
+        List<Inventory> inventories = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Inventory inventory = new Inventory();
+            inventory.setSku(String.format("ELE-%03d", i));
+            inventory.setProduct(createProduct(i));
+            inventory.setCurrentStock(currentStock);
+            inventory.setReservedStock(reservedStock);
+            inventory.setMinLevel(5);
+            inventory.setStatus(InventoryStatus.IN_STOCK);
+            inventories.add(inventory);
+        }
+        return inventories;
+    }
+
+    private static Product createProduct(int index) {
+        Product product = new Product();
+        product.setProductId(String.format("PRD%03d", index));
+        product.setName("Product " + index);
+        product.setPrice(new BigDecimal("10.00"));
+        return product;
+    }
+}
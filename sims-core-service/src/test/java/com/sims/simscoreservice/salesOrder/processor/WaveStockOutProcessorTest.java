@@ -0,0 +1,279 @@
+package com.sims.simscoreservice.salesOrder.processor;
+
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.enums.InventoryStatus;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.inventory.service.InventoryStatusService;
+import com.sims.simscoreservice.product.entity.Product;
+import com.sims.simscoreservice.salesOrder.dto.ProcessSalesOrderRequestDto;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse;
+import com.sims.simscoreservice.salesOrder.dto.SalesOrderWaveResponse.WaveOrderResult;
+import com.sims.simscoreservice.salesOrder.entity.OrderItem;
+import com.sims.simscoreservice.salesOrder.entity.SalesOrder;
+import com.sims.simscoreservice.salesOrder.enums.SalesOrderStatus;
+import com.sims.simscoreservice.salesOrder.helper.SalesOrderHelper;
+import com.sims.simscoreservice.salesOrder.repository.SalesOrderRepository;
+import com.sims.simscoreservice.stockMovement.service.StockMovementService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Wave Stock Out Processor Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Wave Stock Out Processor Tests")
+class WaveStockOutProcessorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SalesOrderRepository salesOrderRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryStatusService inventoryStatusService;
+
+    @Mock
+    private StockMovementService stockMovementService;
+
+    private final Map<Long, SalesOrder> ordersById = new HashMap<>();
+    private final Map<String, Inventory> inventoryByProduct = new HashMap<>();
+    private WaveStockOutProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new WaveStockOutProcessor(CLOCK, transactionManager, salesOrderRepository, inventoryRepository,
+                inventoryStatusService, stockMovementService, new SalesOrderHelper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    private void start(int threads, int maxQueuedPartitions) {
+        ReflectionTestUtils.setField(processor, "threads", threads);
+        ReflectionTestUtils.setField(processor, "maxQueuedPartitions", maxQueuedPartitions);
+        processor.init();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLockingReads() {
+        lenient().when(salesOrderRepository.findAllWithItemsByIdInWithLock(anyCollection())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream().sorted()
+                        .map(ordersById::get).filter(Objects::nonNull).toList());
+        lenient().when(inventoryRepository.findAllByProductIdsWithLock(anyCollection())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).stream()
+                        .map(inventoryByProduct::get).filter(Objects::nonNull).toList());
+    }
+
+    // ========================================
+    // ORDERING TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should report results in request order and fail later duplicates")
+    void processWave_ResultsInRequestOrder() {
+        // Arrange
+        start(2, 4);
+        addOrder(1L, 0, 10);
+        addOrder(2L, 1, 10);
+        addOrder(3L, 2, 10);
+        addInventory(0, 100, 10);
+        addInventory(1, 100, 10);
+        addInventory(2, 100, 10);
+        stubLockingReads();
+
+        List<ProcessSalesOrderRequestDto> wave = List.of(
+                request(3L, 2, 5), request(1L, 0, 10), request(3L, 2, 7), request(2L, 1, 10));
+
+        // Act
+        SalesOrderWaveResponse response = processor.processWave(wave, "manager");
+
+        // Assert
+        assertThat(response.getResults()).extracting(WaveOrderResult::orderId).containsExactly(3L, 1L, 3L, 2L);
+        assertThat(response.getResults()).extracting(WaveOrderResult::success).containsExactly(true, true, false, true);
+        assertThat(response.getResults().get(2).message()).isEqualTo("Duplicate order in wave");
+        assertThat(response.getProcessed()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(1);
+
+        // The first occurrence of order 3 is the one applied
+        assertThat(inventoryByProduct.get("PRD002").getCurrentStock()).isEqualTo(95);
+        assertThat(ordersById.get(3L).getStatus()).isEqualTo(SalesOrderStatus.PARTIALLY_APPROVED);
+        assertThat(ordersById.get(1L).getStatus()).isEqualTo(SalesOrderStatus.APPROVED);
+    }
+
+    // ========================================
+    // PARTIAL FAILURE TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should fail only the orders that exceed the reserved stock or do not exist")
+    void processWave_FailsInvalidOrdersOnly() {
+        // Arrange
+        start(2, 4);
+        addOrder(1L, 0, 10);
+        addOrder(2L, 0, 10);
+        addInventory(0, 100, 10);
+        stubLockingReads();
+
+        // Act
+        SalesOrderWaveResponse response = processor.processWave(
+                List.of(request(1L, 0, 6), request(2L, 0, 6), request(4L, 0, 1)), "manager");
+
+        // Assert
+        List<WaveOrderResult> results = response.getResults();
+        assertThat(results).extracting(WaveOrderResult::success).containsExactly(true, false, false);
+        assertThat(results.get(1).message()).startsWith("Cannot fulfill more than reserved quantity for product PRD000");
+        assertThat(results.get(2).message()).isEqualTo("Sales order not found with ID: 4");
+
+        // Only the successful order touched stock
+        Inventory inventory = inventoryByProduct.get("PRD000");
+        assertThat(inventory.getCurrentStock()).isEqualTo(94);
+        assertThat(inventory.getReservedStock()).isEqualTo(4);
+        assertThat(ordersById.get(2L).getItems().get(0).getApprovedQuantity()).isZero();
+        verify(stockMovementService, times(1)).logMovements(argThat(movements -> movements.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should fail only the partition whose transaction hits a database error")
+    void processWave_DatabaseErrorFailsOwnPartition() {
+        // Arrange
+        start(2, 4);
+        addOrder(1L, 0, 10);
+        addOrder(2L, 1, 10);
+        addInventory(0, 100, 10);
+        addInventory(1, 100, 10);
+        stubLockingReads();
+        when(salesOrderRepository.findAllWithItemsByIdInWithLock(argThat(ids -> ids != null && ids.contains(2L))))
+                .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+
+        // Act
+        SalesOrderWaveResponse response = processor.processWave(
+                List.of(request(1L, 0, 10), request(2L, 1, 10)), "manager");
+
+        // Assert
+        assertThat(response.getPartitions()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(WaveOrderResult::success).containsExactly(true, false);
+        assertThat(response.getResults().get(1).message()).isEqualTo("Failed to process order: Lock wait timeout exceeded");
+        assertThat(inventoryByProduct.get("PRD000").getCurrentStock()).isEqualTo(90);
+        assertThat(inventoryByProduct.get("PRD001").getCurrentStock()).isEqualTo(100);
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    // ========================================
+    // EXECUTOR TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should reject partitions that do not fit in the executor queue without running them")
+    void processWave_RejectsWhenQueueIsFull() throws Exception {
+        // Arrange - one worker and one queue slot
+        start(1, 1);
+        addOrder(1L, 0, 10);
+        addOrder(2L, 1, 10);
+        addOrder(3L, 2, 10);
+        addInventory(0, 100, 10);
+        addInventory(1, 100, 10);
+        addInventory(2, 100, 10);
+        stubLockingReads();
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(salesOrderRepository.findAllWithItemsByIdInWithLock(argThat(ids -> ids != null && ids.contains(1L))))
+                .thenAnswer(invocation -> {
+                    running.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(ordersById.get(1L));
+                });
+
+        CompletableFuture<SalesOrderWaveResponse> first = CompletableFuture.supplyAsync(
+                () -> processor.processWave(List.of(request(1L, 0, 10)), "manager"));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<SalesOrderWaveResponse> second = CompletableFuture.supplyAsync(
+                () -> processor.processWave(List.of(request(2L, 1, 10)), "manager"));
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(processor, "executor");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getQueue().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Act
+        SalesOrderWaveResponse rejected = processor.processWave(List.of(request(3L, 2, 10)), "manager");
+        release.countDown();
+
+        // Assert
+        assertThat(rejected.getResults()).singleElement().satisfies(result -> {
+            assertThat(result.success()).isFalse();
+            assertThat(result.message()).isEqualTo("Too many waves in progress, try again later");
+        });
+        assertThat(inventoryByProduct.get("PRD002").getCurrentStock()).isEqualTo(100);
+        assertThat(first.get(5, TimeUnit.SECONDS).getProcessed()).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS).getProcessed()).isEqualTo(1);
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private static ProcessSalesOrderRequestDto request(Long orderId, int productIndex, int quantity) {
+        return new ProcessSalesOrderRequestDto(orderId, Map.of(String.format("PRD%03d", productIndex), quantity));
+    }
+
+    private void addOrder(Long id, int productIndex, int quantity) {
+        List<OrderItem> items = new ArrayList<>();
+        items.add(new OrderItem(createProduct(productIndex), quantity));
+        SalesOrder order = new SalesOrder("SO-" + id, "Warehouse 1", SalesOrderStatus.PENDING, items);
+        order.setId(id);
+        ordersById.put(id, order);
+    }
+
+    private void addInventory(int productIndex, int currentStock, int reservedStock) {
+        Inventory inventory = new Inventory();
+        inventory.setSku(String.format("ELE-%03d", productIndex));
+        inventory.setProduct(createProduct(productIndex));
+        inventory.setCurrentStock(currentStock);
+        inventory.setReservedStock(reservedStock);
+        inventory.setMinLevel(5);
+        inventory.setStatus(InventoryStatus.IN_STOCK);
+        inventoryByProduct.put(inventory.getProduct().getProductId(), inventory);
+    }
+
+    private static Product createProduct(int index) {
+        Product product = new Product();
+        product.setProductId(String.format("PRD%03d", index));
+        product.setName("Product " + index);
+        product.setPrice(new BigDecimal("10.00"));
+        return product;
+    }
+}
@@ -0,0 +1,122 @@
+package com.sims.simscoreservice.stockManagement;
+
+import com.sims.common.exceptions.DatabaseException;
+import com.sims.common.exceptions.ResourceNotFoundException;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.inventory.service.InventoryStatusService;
+import com.sims.simscoreservice.product.util.ProductTestUtils;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Stock Management Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stock Management Service Tests")
+class StockManagementServiceTest {
+
+    private static final String PRODUCT_ID = "PRD001";
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryStatusService inventoryStatusService;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private StockManagementService stockManagementService;
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new Inventory();
+        inventory.setSku("ELE-001");
+        inventory.setProduct(ProductTestUtils.createProductA());
+        inventory.setCurrentStock(50);
+        inventory.setReservedStock(8);
+        inventory.setMinLevel(5);
+    }
+
+    // ==== CORRECT RESERVED STOCK TESTS ====
+
+    @Test
+    @DisplayName("Drifted reserved stock is reset to the open order item quantities")
+    void correctReservedStock_ResetsDrift() {
+        // Arrange
+        when(inventoryRepository.findByProductIdWithLock(PRODUCT_ID)).thenReturn(inventory);
+        when(orderItemRepository.sumOpenReservedByProductId(PRODUCT_ID)).thenReturn(5L);
+
+        // Act
+        boolean corrected = stockManagementService.correctReservedStock(PRODUCT_ID);
+
+        // Assert
+        assertThat(corrected).isTrue();
+        assertThat(inventory.getReservedStock()).isEqualTo(5);
+        assertThat(inventory.getCurrentStock()).isEqualTo(50);
+        verify(inventoryRepository).save(inventory);
+    }
+
+    @Test
+    @DisplayName("Row lock is taken before the open order items are summed")
+    void correctReservedStock_LocksBeforeSumming() {
+        // Arrange
+        when(inventoryRepository.findByProductIdWithLock(PRODUCT_ID)).thenReturn(inventory);
+        when(orderItemRepository.sumOpenReservedByProductId(PRODUCT_ID)).thenReturn(8L);
+
+        // Act
+        boolean corrected = stockManagementService.correctReservedStock(PRODUCT_ID);
+
+        // Assert
+        assertThat(corrected).isFalse();
+        InOrder inOrder = inOrder(inventoryRepository, orderItemRepository);
+        inOrder.verify(inventoryRepository).findByProductIdWithLock(PRODUCT_ID);
+        inOrder.verify(orderItemRepository).sumOpenReservedByProductId(PRODUCT_ID);
+        verify(inventoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Missing inventory row is reported as not found")
+    void correctReservedStock_MissingInventory() {
+        // Arrange
+        when(inventoryRepository.findByProductIdWithLock(PRODUCT_ID)).thenReturn(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> stockManagementService.correctReservedStock(PRODUCT_ID))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(PRODUCT_ID);
+        verifyNoInteractions(orderItemRepository);
+    }
+
+    @Test
+    @DisplayName("Lock timeout is wrapped in a database exception")
+    void correctReservedStock_LockTimeout() {
+        // Arrange
+        when(inventoryRepository.findByProductIdWithLock(PRODUCT_ID))
+                .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> stockManagementService.correctReservedStock(PRODUCT_ID))
+                .isInstanceOf(DatabaseException.class);
+    }
+}
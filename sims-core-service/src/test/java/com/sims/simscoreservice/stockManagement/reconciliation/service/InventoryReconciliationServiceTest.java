@@ -0,0 +1,238 @@
+package com.sims.simscoreservice.stockManagement.reconciliation.service;
+
+import com.sims.common.exceptions.DatabaseException;
+import com.sims.simscoreservice.inventory.repository.DamageLossRepository;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.salesOrder.repository.OrderItemRepository;
+import com.sims.simscoreservice.stockManagement.StockManagementService;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.InventoryBalance;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ProductReservedTotal;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.ReconciliationReport;
+import com.sims.simscoreservice.stockManagement.reconciliation.dto.StockDiscrepancy;
+import com.sims.simscoreservice.stockManagement.reconciliation.enums.DiscrepancyType;
+import com.sims.simscoreservice.stockMovement.dto.ProductLossTotal;
+import com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals;
+import com.sims.simscoreservice.stockMovement.entity.InventorySnapshot;
+import com.sims.simscoreservice.stockMovement.repository.InventorySnapshotRepository;
+import com.sims.simscoreservice.stockMovement.repository.StockMovementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Inventory Reconciliation Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Inventory Reconciliation Service Tests")
+class InventoryReconciliationServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-20T10:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDate BASELINE = LocalDate.of(2025, 1, 19);
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private InventorySnapshotRepository inventorySnapshotRepository;
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private DamageLossRepository damageLossRepository;
+
+    @Mock
+    private StockManagementService stockManagementService;
+
+    private final Map<String, InventoryBalance> balances = new LinkedHashMap<>();
+    private InventoryReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new InventoryReconciliationService(CLOCK, inventoryRepository, orderItemRepository,
+                inventorySnapshotRepository, stockMovementRepository, damageLossRepository, stockManagementService);
+        ReflectionTestUtils.setField(reconciliationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reconciliationService, "threads", 2);
+        reconciliationService.init();
+
+        balances.put("PRD001", new InventoryBalance("PRD001", "ELE-001", 50, 5));
+        balances.put("PRD002", new InventoryBalance("PRD002", "ELE-002", 40, 3));
+        balances.put("PRD003", new InventoryBalance("PRD003", "ELE-003", 30, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationService.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBalances(LocalDate baselineDate) {
+        when(inventorySnapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.ofNullable(baselineDate));
+        when(inventoryRepository.findAllProductIds()).thenReturn(new ArrayList<>(balances.keySet()));
+        when(inventoryRepository.findBalancesByProductIds(anyList())).thenAnswer(invocation ->
+                ((List<String>) invocation.getArgument(0)).stream().map(balances::get).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubOpenReserved(Map<String, Long> reserved) {
+        when(orderItemRepository.sumOpenReservedByProductIds(anyList())).thenAnswer(invocation ->
+                ((List<String>) invocation.getArgument(0)).stream()
+                        .filter(reserved::containsKey)
+                        .map(productId -> new ProductReservedTotal(productId, reserved.get(productId)))
+                        .toList());
+    }
+
+    // ==== RESERVED STOCK TESTS ====
+
+    @Test
+    @DisplayName("Reserved stock drift is reported without correction in report-only mode")
+    void reservedDriftIsReported() {
+        // Arrange
+        stubBalances(null);
+        stubOpenReserved(Map.of("PRD001", 5L, "PRD002", 1L));
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile(false);
+
+        // Assert
+        assertThat(report.getProductsChecked()).isEqualTo(3);
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(report.getReservedStockDiscrepancies()).isEqualTo(1);
+        assertThat(report.getCurrentStockDiscrepancies()).isZero();
+        assertThat(report.getDiscrepancies()).singleElement().satisfies(discrepancy -> {
+            assertThat(discrepancy.getProductId()).isEqualTo("PRD002");
+            assertThat(discrepancy.getActual()).isEqualTo(3L);
+            assertThat(discrepancy.getExpected()).isEqualTo(1L);
+            assertThat(discrepancy.isCorrected()).isFalse();
+        });
+        verifyNoInteractions(stockManagementService, stockMovementRepository, damageLossRepository);
+    }
+
+    @Test
+    @DisplayName("Difference that disappears on the re-check is treated as an in-flight order")
+    @SuppressWarnings("unchecked")
+    void inFlightOrderIsDropped() {
+        // Arrange - PRD002 differs on the first pass only
+        stubBalances(null);
+        when(orderItemRepository.sumOpenReservedByProductIds(anyList())).thenAnswer(invocation -> {
+            List<String> productIds = invocation.getArgument(0);
+            boolean recheck = productIds.equals(List.of("PRD002"));
+            return productIds.stream()
+                    .map(productId -> new ProductReservedTotal(productId,
+                            balances.get(productId).reservedStock().longValue() + (!recheck && productId.equals("PRD002") ? 1 : 0)))
+                    .toList();
+        });
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile(true);
+
+        // Assert
+        assertThat(report.getDiscrepancies()).isEmpty();
+        verify(orderItemRepository).sumOpenReservedByProductIds(List.of("PRD002"));
+        verifyNoInteractions(stockManagementService);
+    }
+
+    @Test
+    @DisplayName("Auto-correct resets drifted SKUs in product order and skips a failing one")
+    void autoCorrectInProductOrder() {
+        // Arrange
+        stubBalances(null);
+        stubOpenReserved(Map.of());
+        when(stockManagementService.correctReservedStock("PRD001"))
+                .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+        when(stockManagementService.correctReservedStock("PRD002")).thenReturn(true);
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile(true);
+
+        // Assert
+        assertThat(report.getCorrected()).isEqualTo(1);
+        assertThat(report.getDiscrepancies())
+                .extracting(StockDiscrepancy::getProductId, StockDiscrepancy::isCorrected)
+                .containsExactlyInAnyOrder(tuple("PRD001", false), tuple("PRD002", true));
+
+        InOrder inOrder = inOrder(stockManagementService);
+        inOrder.verify(stockManagementService).correctReservedStock("PRD001");
+        inOrder.verify(stockManagementService).correctReservedStock("PRD002");
+        verifyNoMoreInteractions(stockManagementService);
+    }
+
+    // ==== CURRENT STOCK TESTS ====
+
+    @Test
+    @DisplayName("Current stock is compared with the snapshot closing plus ledger changes since")
+    void currentStockAgainstLedger() {
+        // Arrange
+        stubBalances(BASELINE);
+        stubOpenReserved(Map.of("PRD001", 5L, "PRD002", 3L));
+        when(inventorySnapshotRepository.findBySnapshotDateAndProductIdIn(eq(BASELINE), anyList()))
+                .thenAnswer(invocation -> List.<String>copyOf(invocation.getArgument(1)).stream()
+                        .map(productId -> new InventorySnapshot(productId, BASELINE, 40, 0, 0, 0))
+                        .toList());
+        when(stockMovementRepository.sumMovementsForProductsBetween(anyList(),
+                eq(BASELINE.plusDays(1).atStartOfDay()), any()))
+                .thenAnswer(invocation -> List.<String>copyOf(invocation.getArgument(0)).contains("PRD001")
+                        ? List.of(new ProductMovementTotals("PRD001", 20L, 8L))
+                        : List.of());
+        when(damageLossRepository.sumQuantityLostForProductsBetween(anyList(), any(), any()))
+                .thenAnswer(invocation -> List.<String>copyOf(invocation.getArgument(0)).contains("PRD001")
+                        ? List.of(new ProductLossTotal("PRD001", 2L))
+                        : List.of());
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile(false);
+
+        // Assert - PRD001: 40 + 12 - 2 = 50 matches, PRD002 matches, PRD003: 30 vs 40
+        assertThat(report.getBaselineSnapshotDate()).isEqualTo(BASELINE);
+        assertThat(report.getReservedStockDiscrepancies()).isZero();
+        assertThat(report.getDiscrepancies()).singleElement().satisfies(discrepancy -> {
+            assertThat(discrepancy.getProductId()).isEqualTo("PRD003");
+            assertThat(discrepancy.getType()).isEqualTo(DiscrepancyType.CURRENT_STOCK);
+            assertThat(discrepancy.getActual()).isEqualTo(30L);
+            assertThat(discrepancy.getExpected()).isEqualTo(40L);
+        });
+    }
+
+    // ==== ERROR TESTS ====
+
+    @Test
+    @DisplayName("Database error in a chunk fails the run and releases the running flag")
+    void chunkErrorFailsRun() {
+        // Arrange
+        stubBalances(null);
+        when(orderItemRepository.sumOpenReservedByProductIds(anyList()))
+                .thenThrow(new QueryTimeoutException("Statement timeout"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> reconciliationService.reconcile(false)).isInstanceOf(DatabaseException.class);
+
+        reset(orderItemRepository);
+        stubOpenReserved(Map.of("PRD001", 5L, "PRD002", 3L));
+        assertThat(reconciliationService.reconcile(false).getDiscrepancies()).isEmpty();
+    }
+}
@@ -0,0 +1,202 @@
+package com.sims.simscoreservice.stockMovement.service;
+
+import com.sims.common.exceptions.ResourceNotFoundException;
+import com.sims.common.exceptions.ValidationException;
+import com.sims.simscoreservice.inventory.entity.Inventory;
+import com.sims.simscoreservice.inventory.queryService.InventoryQueryService;
+import com.sims.simscoreservice.inventory.repository.DamageLossRepository;
+import com.sims.simscoreservice.inventory.repository.InventoryRepository;
+import com.sims.simscoreservice.stockMovement.dto.ProductLossTotal;
+import com.sims.simscoreservice.stockMovement.dto.ProductMovementTotals;
+import com.sims.simscoreservice.stockMovement.dto.ProductStockLevel;
+import com.sims.simscoreservice.stockMovement.dto.StockPositionResponse;
+import com.sims.simscoreservice.stockMovement.entity.InventorySnapshot;
+import com.sims.simscoreservice.stockMovement.repository.InventorySnapshotRepository;
+import com.sims.simscoreservice.stockMovement.repository.StockMovementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.*;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Inventory Snapshot Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Inventory Snapshot Service Tests")
+class InventorySnapshotServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    @Mock
+    private InventorySnapshotRepository inventorySnapshotRepository;
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private DamageLossRepository damageLossRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryQueryService inventoryQueryService;
+
+    private InventorySnapshotService inventorySnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        inventorySnapshotService = new InventorySnapshotService(clock, inventorySnapshotRepository,
+                stockMovementRepository, damageLossRepository, inventoryRepository, inventoryQueryService);
+    }
+
+    // ========================================
+    // SNAPSHOT CREATION TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should roll previous closing forward with the day's movements and losses")
+    void createDailySnapshots_RollForward() {
+        // Arrange
+        LocalDate yesterday = NOW.toLocalDate().minusDays(1);
+        LocalDate dayBefore = yesterday.minusDays(1);
+
+        when(inventorySnapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.of(dayBefore));
+        when(inventorySnapshotRepository.existsBySnapshotDate(yesterday)).thenReturn(false);
+        when(inventorySnapshotRepository.findBySnapshotDate(dayBefore))
+                .thenReturn(List.of(new InventorySnapshot("PRD001", dayBefore, 100, 0, 0, 0)));
+        when(stockMovementRepository.sumMovementsByProductBetween(any(), any()))
+                .thenReturn(List.of(new ProductMovementTotals("PRD001", 20L, 5L)));
+        when(damageLossRepository.sumQuantityLostByProductBetween(any(), any()))
+                .thenReturn(List.of(new ProductLossTotal("PRD001", 3L)));
+        when(inventoryRepository.getProductStockLevels())
+                .thenReturn(List.of(new ProductStockLevel("PRD001", 112)));
+
+        // Act
+        int days = inventorySnapshotService.createDailySnapshots();
+
+        // Assert
+        assertThat(days).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InventorySnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inventorySnapshotRepository).saveAllAndFlush(captor.capture());
+
+        InventorySnapshot snapshot = captor.getValue().get(0);
+        assertThat(snapshot.getSnapshotDate()).isEqualTo(yesterday);
+        assertThat(snapshot.getClosingStock()).isEqualTo(112); // 100 + 20 - 5 - 3
+        assertThat(snapshot.getQuantityLost()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should seed first snapshot backwards from live inventory")
+    void createDailySnapshots_Seed() {
+        // Arrange
+        LocalDateTime startOfToday = NOW.toLocalDate().atStartOfDay();
+
+        when(inventorySnapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.empty());
+        when(stockMovementRepository.sumMovementsByProductBetween(any(), any())).thenReturn(List.of());
+        when(stockMovementRepository.sumMovementsByProductBetween(eq(startOfToday), any()))
+                .thenReturn(List.of(new ProductMovementTotals("PRD001", 10L, 0L)));
+        when(damageLossRepository.sumQuantityLostByProductBetween(any(), any())).thenReturn(List.of());
+        when(inventoryRepository.getProductStockLevels())
+                .thenReturn(List.of(new ProductStockLevel("PRD001", 50)));
+
+        // Act
+        inventorySnapshotService.createDailySnapshots();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InventorySnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inventorySnapshotRepository).saveAllAndFlush(captor.capture());
+        assertThat(captor.getValue().get(0).getClosingStock()).isEqualTo(40); // 50 - 10 received today
+    }
+
+    @Test
+    @DisplayName("Should propagate duplicate-day violation so the scheduler can treat it as already done")
+    void createDailySnapshots_DuplicateDay_PropagatesViolation() {
+        // Arrange
+        LocalDate yesterday = NOW.toLocalDate().minusDays(1);
+        LocalDate dayBefore = yesterday.minusDays(1);
+
+        when(inventorySnapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.of(dayBefore));
+        when(inventorySnapshotRepository.existsBySnapshotDate(yesterday)).thenReturn(false);
+        when(inventorySnapshotRepository.findBySnapshotDate(dayBefore)).thenReturn(List.of());
+        when(stockMovementRepository.sumMovementsByProductBetween(any(), any())).thenReturn(List.of());
+        when(damageLossRepository.sumQuantityLostByProductBetween(any(), any())).thenReturn(List.of());
+        when(inventoryRepository.getProductStockLevels()).thenReturn(List.of());
+        when(inventorySnapshotRepository.saveAllAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry 'PRD001-2025-01-19'"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> inventorySnapshotService.createDailySnapshots())
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    // ========================================
+    // POINT-IN-TIME TESTS
+    // ========================================
+
+    @Test
+    @DisplayName("Should combine previous day's snapshot with same-day replay")
+    void getStockAt_FromSnapshot() {
+        // Arrange
+        LocalDateTime asOf = LocalDateTime.of(2025, 1, 15, 12, 0);
+        LocalDate previousDay = asOf.toLocalDate().minusDays(1);
+
+        when(inventoryQueryService.getInventoryByProductId("PRD001")).thenReturn(Optional.of(new Inventory()));
+        when(inventorySnapshotRepository.findByProductIdAndSnapshotDate("PRD001", previousDay))
+                .thenReturn(Optional.of(new InventorySnapshot("PRD001", previousDay, 80, 0, 0, 0)));
+        when(stockMovementRepository.sumMovementsForProductBetween("PRD001", asOf.toLocalDate().atStartOfDay(), asOf))
+                .thenReturn(Optional.of(new ProductMovementTotals("PRD001", 0L, 30L)));
+        when(damageLossRepository.sumQuantityLostForProductBetween("PRD001", asOf.toLocalDate().atStartOfDay(), asOf))
+                .thenReturn(2L);
+
+        // Act
+        StockPositionResponse result = inventorySnapshotService.getStockAt("PRD001", asOf);
+
+        // Assert
+        assertThat(result.getStock()).isEqualTo(48);
+        assertThat(result.getBaseSnapshotDate()).isEqualTo(previousDay);
+        assertThat(result.getReplayedQuantity()).isEqualTo(-32L);
+    }
+
+    @Test
+    @DisplayName("Should throw when no snapshot exists for an older date")
+    void getStockAt_NoSnapshot_ThrowsException() {
+        // Arrange
+        LocalDateTime asOf = LocalDateTime.of(2025, 1, 10, 12, 0);
+        when(inventoryQueryService.getInventoryByProductId("PRD001")).thenReturn(Optional.of(new Inventory()));
+        when(inventorySnapshotRepository.findByProductIdAndSnapshotDate(eq("PRD001"), any()))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> inventorySnapshotService.getStockAt("PRD001", asOf))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(stockMovementRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject future as-of timestamps")
+    void getStockAt_Future_ThrowsException() {
+        assertThatThrownBy(() -> inventorySnapshotService.getStockAt("PRD001", NOW.plusHours(1)))
+                .isInstanceOf(ValidationException.class);
+    }
+}
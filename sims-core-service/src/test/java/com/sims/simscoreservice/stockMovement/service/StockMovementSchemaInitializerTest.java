@@ -0,0 +1,100 @@
+package com.sims.simscoreservice.stockMovement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Stock Movement Schema Initializer Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stock Movement Schema Initializer Tests")
+class StockMovementSchemaInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private StockMovementSchemaInitializer initializer;
+
+    /**
+     * information_schema returns the given (name, clause) check constraints
+     */
+    private void existingChecks(String... nameAndClause) {
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<String>>any())).thenAnswer(invocation -> {
+            RowMapper<String> rowMapper = invocation.getArgument(1);
+            List<String> rows = new ArrayList<>();
+            for (int i = 0; i < nameAndClause.length; i += 2) {
+                rows.add(rowMapper.mapRow(row(nameAndClause[i], nameAndClause[i + 1]), i / 2));
+            }
+            return rows;
+        });
+    }
+
+    private static ResultSet row(String name, String clause) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(rs.getString("CONSTRAINT_NAME")).thenReturn(name);
+        when(rs.getString("CHECK_CLAUSE")).thenReturn(clause);
+        return rs;
+    }
+
+    @Test
+    @DisplayName("Check created for fewer reference types is dropped")
+    void dropsOutdatedCheck() {
+        // Arrange - created before STOCK_COUNT existed
+        existingChecks(
+                "stock_movements_chk_1", "(`reference_type` between 0 and 1)",
+                "stock_movements_chk_2", "(`quantity` > 0)");
+
+        // Act
+        initializer.dropStaleReferenceTypeCheck();
+
+        // Assert
+        verify(jdbcTemplate).execute("ALTER TABLE stock_movements DROP CHECK `stock_movements_chk_1`");
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Check that covers every reference type is kept")
+    void keepsCurrentCheck() {
+        // Arrange
+        existingChecks("stock_movements_chk_1", "(`reference_type` between 0 and 2)");
+
+        // Act
+        initializer.dropStaleReferenceTypeCheck();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Databases without check constraint metadata only log the failure")
+    void metadataFailureIsSwallowed() {
+        // Arrange - MySQL before 8.0.16 has no CHECK_CONSTRAINTS view
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<String>>any()))
+                .thenThrow(new BadSqlGrammarException("query", "SELECT", new SQLException("Unknown table 'CHECK_CONSTRAINTS'")));
+
+        // Act & Assert
+        assertThatCode(() -> initializer.dropStaleReferenceTypeCheck()).doesNotThrowAnyException();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,77 @@
+package com.sims.simscoreservice.upload.parser;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Spreadsheet Row Reader Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@DisplayName("Spreadsheet Row Reader Tests")
+class SpreadsheetRowReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should parse quoted CSV fields, including commas, quotes and line breaks")
+    void testReadCsv_QuotedFields() throws Exception {
+        Path file = tempDir.resolve("products.csv");
+        Files.writeString(file, "\uFEFFname,location,price\n"
+                + "\"Desk, oak\",A1-101,\"1,250.00\"\n"
+                + "\"Lamp \"\"XL\"\"\",B2-202,19.99\n"
+                + "\"Two\nlines\",C3-303,5\n", StandardCharsets.UTF_8);
+
+        List<List<String>> rows = read(file, "products.csv");
+
+        assertThat(rows).containsExactly(
+                List.of("name", "location", "price"),
+                List.of("Desk, oak", "A1-101", "1,250.00"),
+                List.of("Lamp \"XL\"", "B2-202", "19.99"),
+                List.of("Two\nlines", "C3-303", "5"));
+    }
+
+    @Test
+    @DisplayName("Should stream XLSX rows and keep blank cells in their column")
+    void testReadXlsx_BlankCells() throws Exception {
+        Path file = tempDir.resolve("counts.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            XSSFSheet sheet = workbook.createSheet();
+            XSSFRow header = sheet.createRow(0);
+            header.createCell(0).setCellValue("sku");
+            header.createCell(1).setCellValue("currentStock");
+            header.createCell(2).setCellValue("minLevel");
+            XSSFRow row = sheet.createRow(1);
+            row.createCell(0).setCellValue("ELE-001");
+            row.createCell(2).setCellValue(5);
+            workbook.write(out);
+        }
+
+        List<List<String>> rows = read(file, "counts.xlsx");
+
+        assertThat(rows).containsExactly(
+                List.of("sku", "currentStock", "minLevel"),
+                List.of("ELE-001", "", "5"));
+    }
+
+    private static List<List<String>> read(Path file, String fileName) throws Exception {
+        List<List<String>> rows = new ArrayList<>();
+        SpreadsheetRowReader.read(file, fileName, (rowNumber, cells) -> rows.add(cells));
+        return rows;
+    }
+}
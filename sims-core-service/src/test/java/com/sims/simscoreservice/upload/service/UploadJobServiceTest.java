@@ -0,0 +1,123 @@
+package com.sims.simscoreservice.upload.service;
+
+import com.sims.simscoreservice.upload.dto.UploadJobResponse;
+import com.sims.simscoreservice.upload.entity.UploadJob;
+import com.sims.simscoreservice.upload.enums.UploadJobStatus;
+import com.sims.simscoreservice.upload.enums.UploadJobType;
+import com.sims.simscoreservice.upload.processor.UploadRowProcessor;
+import com.sims.simscoreservice.upload.repository.UploadJobErrorRepository;
+import com.sims.simscoreservice.upload.repository.UploadJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Upload Job Service Tests
+ *
+ * @author LastCoderBoy
+ * @since 2025-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Upload Job Service Tests")
+class UploadJobServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    @Mock
+    private UploadJobRepository uploadJobRepository;
+
+    @Mock
+    private UploadJobErrorRepository uploadJobErrorRepository;
+
+    @Mock
+    private UploadRowProcessor processor;
+
+    private UploadJobService uploadJobService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        when(processor.type()).thenReturn(UploadJobType.STOCK_COUNT);
+
+        uploadJobService = new UploadJobService(clock, uploadJobRepository, uploadJobErrorRepository, List.of(processor));
+        ReflectionTestUtils.setField(uploadJobService, "chunkSize", 500);
+        ReflectionTestUtils.setField(uploadJobService, "threads", 1);
+        ReflectionTestUtils.setField(uploadJobService, "maxQueuedJobs", 5);
+        ReflectionTestUtils.setField(uploadJobService, "maxStoredErrors", 100);
+        ReflectionTestUtils.setField(uploadJobService, "orphanTimeoutMinutes", 5L);
+        uploadJobService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadJobService.shutdown();
+    }
+
+    // ==== ORPHANED JOB TESTS ====
+
+    @Test
+    @DisplayName("Jobs without a heartbeat for the timeout are marked FAILED")
+    void failOrphanedJobsUsesHeartbeatCutoff() {
+        // Arrange
+        when(uploadJobRepository.failStaleJobs(any(), anyString(), any())).thenReturn(2);
+
+        // Act
+        int failed = uploadJobService.failOrphanedJobs();
+
+        // Assert
+        assertThat(failed).isEqualTo(2);
+        verify(uploadJobRepository).failStaleJobs(eq(NOW.minusMinutes(5)), contains("restart"), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("Heartbeat covers jobs held by this instance and stops once they finish")
+    @SuppressWarnings("unchecked")
+    void heartbeatCoversActiveJobsOnly() throws Exception {
+        // Arrange
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(uploadJobRepository.save(any(UploadJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(processor.requiredColumns()).thenReturn(List.of());
+        when(processor.processChunk(anyList(), any())).thenAnswer(invocation -> {
+            processing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        MockMultipartFile file = new MockMultipartFile("file", "count.csv", "text/csv",
+                "sku,current_stock\nELE-001,5\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        UploadJobResponse job = uploadJobService.submit(UploadJobType.STOCK_COUNT, file, "clerk");
+        assertThat(processing.await(5, TimeUnit.SECONDS)).isTrue();
+        uploadJobService.heartbeat();
+
+        // Assert - running job is kept alive
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(uploadJobRepository).touchHeartbeat(ids.capture(), eq(NOW));
+        assertThat(ids.getValue()).containsExactly(job.getJobId());
+
+        // Finished job is no longer touched
+        release.countDown();
+        verify(uploadJobRepository, timeout(5000).atLeastOnce()).save(argThat(saved -> saved.getStatus() == UploadJobStatus.COMPLETED));
+        uploadJobService.heartbeat();
+        verify(uploadJobRepository, times(1)).touchHeartbeat(any(), any());
+    }
+}